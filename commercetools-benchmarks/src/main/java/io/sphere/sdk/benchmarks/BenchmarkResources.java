@@ -0,0 +1,60 @@
+package io.sphere.sdk.benchmarks;
+
+import io.sphere.sdk.models.SphereException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.IntStream.range;
+
+/**
+ * Provides the JSON payloads used by the benchmarks.
+ */
+final class BenchmarkResources {
+    private BenchmarkResources() {
+    }
+
+    static String productProjectionJson() {
+        return readResource("benchmarks/product-projection.json");
+    }
+
+    static String cartJson() {
+        return readResource("benchmarks/cart.json");
+    }
+
+    static String orderJson() {
+        return readResource("benchmarks/order.json");
+    }
+
+    /**
+     * Creates a query result page containing the same product projection {@code count} times.
+     *
+     * @param count the number of results in the page
+     * @return JSON of a paged query result
+     */
+    static String productProjectionPageJson(final int count) {
+        final String productProjection = productProjectionJson();
+        final String results = range(0, count).mapToObj(i -> productProjection).collect(joining(","));
+        return String.format("{\"limit\":%d,\"offset\":0,\"count\":%d,\"total\":%d,\"results\":[%s]}", count, count, count, results);
+    }
+
+    private static String readResource(final String resourcePath) {
+        try (final InputStream inputStream = BenchmarkResources.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            if (inputStream == null) {
+                throw new SphereException("Resource " + resourcePath + " not found.");
+            }
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new SphereException(e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.sphere.sdk.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.sphere.sdk.carts.Cart;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.orders.Order;
+import io.sphere.sdk.products.ProductProjection;
+import io.sphere.sdk.products.queries.ProductProjectionQuery;
+import io.sphere.sdk.queries.PagedQueryResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the deserialization of typical API responses with {@link SphereJsonUtils#readObject(String, com.fasterxml.jackson.core.type.TypeReference)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonDeserializationBenchmark {
+    private String productProjectionJson;
+    private String cartJson;
+    private String orderJson;
+
+    @Setup
+    public void setup() {
+        productProjectionJson = BenchmarkResources.productProjectionJson();
+        cartJson = BenchmarkResources.cartJson();
+        orderJson = BenchmarkResources.orderJson();
+    }
+
+    @Benchmark
+    public ProductProjection productProjection() {
+        return SphereJsonUtils.readObject(productProjectionJson, ProductProjection.typeReference());
+    }
+
+    @Benchmark
+    public Cart cart() {
+        return SphereJsonUtils.readObject(cartJson, Cart.typeReference());
+    }
+
+    @Benchmark
+    public Order order() {
+        return SphereJsonUtils.readObject(orderJson, Order.typeReference());
+    }
+
+    @Benchmark
+    public PagedQueryResult<ProductProjection> productProjectionPage(final PageState pageState) {
+        return pageState.query.deserialize(pageState.response);
+    }
+
+    /**
+     * Baseline for {@link #productProjectionPage(PageState)}: an object mapper which resolves the generic type of the
+     * type reference and looks up the root deserializer on every call.
+     */
+    @Benchmark
+    public PagedQueryResult<ProductProjection> productProjectionPageWithPlainObjectMapper(final PageState pageState) throws IOException {
+        return pageState.plainObjectMapper.readValue(pageState.response.getResponseBody(), ProductProjectionQuery.resultTypeReference());
+    }
+
+    @State(Scope.Benchmark)
+    public static class PageState {
+        @Param({"20", "500"})
+        private int pageSize;
+        private HttpResponse response;
+        private ProductProjectionQuery query;
+        private ObjectMapper plainObjectMapper;
+
+        @Setup
+        public void setup() {
+            SphereJsonUtils.preResolveModelTypes();
+            plainObjectMapper = SphereJsonUtils.newObjectMapper();
+            final byte[] page = BenchmarkResources.productProjectionPageJson(pageSize).getBytes(StandardCharsets.UTF_8);
+            response = HttpResponse.of(200, page, null, null);
+            query = ProductProjectionQuery.ofStaged();
+        }
+    }
+}
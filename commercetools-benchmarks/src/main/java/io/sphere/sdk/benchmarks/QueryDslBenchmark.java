@@ -0,0 +1,50 @@
+package io.sphere.sdk.benchmarks;
+
+import io.sphere.sdk.client.HttpRequestIntent;
+import io.sphere.sdk.products.queries.ProductProjectionQuery;
+import io.sphere.sdk.queries.QuerySort;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Measures building queries with the query DSL and creating their URLs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryDslBenchmark {
+    private ProductProjectionQuery query;
+
+    @Setup
+    public void setup() {
+        query = createQuery();
+    }
+
+    @Benchmark
+    public HttpRequestIntent httpRequestIntent() {
+        return query.httpRequestIntent();
+    }
+
+    @Benchmark
+    public HttpRequestIntent buildQueryAndHttpRequestIntent() {
+        return createQuery().httpRequestIntent();
+    }
+
+    private static ProductProjectionQuery createQuery() {
+        return ProductProjectionQuery.ofCurrent()
+                .withPredicates(m -> m.slug().locale(Locale.ENGLISH).is("book-1448540608849")
+                        .or(m.masterVariant().sku().isIn(asList("book-black-sku", "book-white-sku"))))
+                .plusPredicates(m -> m.categories().isNotEmpty())
+                .withSort(QuerySort.of("createdAt desc"))
+                .plusSort(QuerySort.of("id asc"))
+                .withLimit(100L)
+                .withOffset(200L);
+    }
+}
@@ -0,0 +1,58 @@
+package io.sphere.sdk.benchmarks;
+
+import io.sphere.sdk.client.SphereAccessTokenSupplier;
+import io.sphere.sdk.client.SphereApiConfig;
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.http.HttpClient;
+import io.sphere.sdk.http.HttpRequest;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.products.ProductProjection;
+import io.sphere.sdk.products.queries.ProductProjectionByIdGet;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole request pipeline of the client, from creating the HTTP request to the deserialized result,
+ * against an HTTP client which answers immediately with a prepared response.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SphereClientBenchmark {
+    private SphereClient client;
+    private ProductProjectionByIdGet request;
+
+    @Setup
+    public void setup() {
+        final byte[] responseBody = BenchmarkResources.productProjectionJson().getBytes(StandardCharsets.UTF_8);
+        final HttpClient httpClient = new HttpClient() {
+            @Override
+            public CompletionStage<HttpResponse> execute(final HttpRequest httpRequest) {
+                return CompletableFuture.completedFuture(HttpResponse.of(200, responseBody, httpRequest));
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        client = SphereClient.of(SphereApiConfig.of("benchmark-project"), httpClient, SphereAccessTokenSupplier.ofConstantToken("token"));
+        request = ProductProjectionByIdGet.ofStaged("24593118-1354-442d-96b7-25f2a408ee41");
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public ProductProjection execute() {
+        return client.execute(request).toCompletableFuture().join();
+    }
+}
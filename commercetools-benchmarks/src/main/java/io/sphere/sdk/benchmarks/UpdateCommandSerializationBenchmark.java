@@ -0,0 +1,60 @@
+package io.sphere.sdk.benchmarks;
+
+import io.sphere.sdk.client.HttpRequestIntent;
+import io.sphere.sdk.commands.UpdateAction;
+import io.sphere.sdk.models.LocalizedString;
+import io.sphere.sdk.models.Versioned;
+import io.sphere.sdk.products.Product;
+import io.sphere.sdk.products.commands.ProductUpdateCommand;
+import io.sphere.sdk.products.commands.updateactions.ChangeName;
+import io.sphere.sdk.products.commands.updateactions.SetAttribute;
+import io.sphere.sdk.products.commands.updateactions.SetDescription;
+import io.sphere.sdk.products.commands.updateactions.SetMetaTitle;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of the request of an update command, which serializes the update actions to the request body.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UpdateCommandSerializationBenchmark {
+    @Param({"1", "20", "100"})
+    private int numberOfActions;
+    private ProductUpdateCommand command;
+
+    @Setup
+    public void setup() {
+        final Versioned<Product> product = Versioned.of("24593118-1354-442d-96b7-25f2a408ee41", 6L);
+        final List<UpdateAction<Product>> updateActions = new ArrayList<>();
+        for (int i = 0; i < numberOfActions; i++) {
+            switch (i % 4) {
+                case 0:
+                    updateActions.add(ChangeName.of(LocalizedString.of(Locale.ENGLISH, "name " + i, Locale.GERMAN, "Name " + i)));
+                    break;
+                case 1:
+                    updateActions.add(SetDescription.of(LocalizedString.of(Locale.ENGLISH, "description " + i)));
+                    break;
+                case 2:
+                    updateActions.add(SetMetaTitle.of(LocalizedString.of(Locale.ENGLISH, "title " + i)));
+                    break;
+                default:
+                    updateActions.add(SetAttribute.ofVariantId(1, "attribute-" + i, "value " + i));
+            }
+        }
+        command = ProductUpdateCommand.of(product, updateActions);
+    }
+
+    @Benchmark
+    public HttpRequestIntent httpRequestIntent() {
+        return command.httpRequestIntent();
+    }
+}
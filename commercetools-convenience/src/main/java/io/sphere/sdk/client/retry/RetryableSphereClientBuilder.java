@@ -1,6 +1,8 @@
 package io.sphere.sdk.client.retry;
 
+import io.sphere.sdk.client.AdaptiveConcurrencyLimit;
 import io.sphere.sdk.client.QueueSphereClientDecorator;
+import io.sphere.sdk.client.QueueSphereClientDecoratorBuilder;
 import io.sphere.sdk.client.RetrySphereClientDecorator;
 import io.sphere.sdk.client.SphereAccessTokenSupplier;
 import io.sphere.sdk.client.SphereClient;
@@ -8,10 +10,13 @@ import io.sphere.sdk.client.SphereClientConfig;
 import io.sphere.sdk.http.HttpClient;
 import io.sphere.sdk.models.Base;
 import io.sphere.sdk.retry.RetryAction;
+import io.sphere.sdk.retry.RetryBudget;
 import io.sphere.sdk.retry.RetryPredicate;
 import io.sphere.sdk.retry.RetryRule;
+import io.sphere.sdk.retry.RetrySupervisorConfigBuilder;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +41,10 @@ public final class RetryableSphereClientBuilder extends Base {
     private int maxRetryAttempt;
     private int maxParallelRequests;
     private List<Integer> statusCodesToRetry;
+    @Nullable
+    private AdaptiveConcurrencyLimit adaptiveLimit;
+    @Nullable
+    private RetryBudget retryBudget;
 
     private RetryableSphereClientBuilder(
             @Nonnull final SphereClientConfig sphereClientConfig,
@@ -126,6 +135,32 @@ public final class RetryableSphereClientBuilder extends Base {
         return this;
     }
 
+    /**
+     * Adapts the number of parallel requests between the given bounds to the latency and the error responses of the platform
+     * instead of using a fixed number, see {@link AdaptiveConcurrencyLimit}. The max parallel requests value is used as initial limit.
+     *
+     * @param minParallelRequests - the lower bound of parallel requests, at least 1.
+     * @param maxParallelRequests - the upper bound of parallel requests, at least minParallelRequests.
+     *                            If the bounds are invalid, a {@link IllegalArgumentException} will be thrown.
+     * @return {@link RetryableSphereClientBuilder} with an adaptive limit of parallel requests.
+     */
+    public RetryableSphereClientBuilder withAdaptiveParallelRequests(final int minParallelRequests, final int maxParallelRequests) {
+        this.adaptiveLimit = AdaptiveConcurrencyLimit.of(minParallelRequests, maxParallelRequests);
+        return this;
+    }
+
+    /**
+     * Limits the retries to a share of the requests, so that retries do not multiply the load while the platform is overloaded.
+     *
+     * @param retryRatio - the maximum number of retries per request, for example 0.1 to retry at most 10% of the requests.
+     *                   If retryRatio is negative then, a {@link IllegalArgumentException} will be thrown.
+     * @return {@link RetryableSphereClientBuilder} with a retry budget.
+     */
+    public RetryableSphereClientBuilder withRetryBudget(final double retryRatio) {
+        this.retryBudget = RetryBudget.of(retryRatio);
+        return this;
+    }
+
     /**
      * Sets the Retry Error Status Codes.
      *
@@ -167,10 +202,15 @@ public final class RetryableSphereClientBuilder extends Base {
         final RetryPredicate http5xxMatcher = RetryPredicate.ofMatchingStatusCodes(
                 errCode -> statusCodesToRetry.stream().anyMatch(i -> i.equals(errCode)));
         final List<RetryRule> retryRules = Collections.singletonList(RetryRule.of(http5xxMatcher, retryAction));
-        return RetrySphereClientDecorator.of(delegate, retryRules);
+        return RetrySphereClientDecorator.of(delegate, retryRules, RetrySupervisorConfigBuilder.of().retryBudget(retryBudget).build());
     }
 
     private SphereClient withLimitedParallelRequests(final SphereClient delegate, final int maxParallelRequests) {
+        if (adaptiveLimit != null) {
+            return QueueSphereClientDecoratorBuilder.of(delegate, maxParallelRequests)
+                    .adaptiveLimit(adaptiveLimit)
+                    .build();
+        }
         return QueueSphereClientDecorator.of(delegate, maxParallelRequests);
     }
 
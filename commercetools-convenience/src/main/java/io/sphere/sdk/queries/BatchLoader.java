@@ -0,0 +1,200 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.models.Identifiable;
+import io.sphere.sdk.utils.SharedScheduler;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static io.sphere.sdk.utils.CompletableFutureUtils.failed;
+
+/**
+ * Loads resources by id or key in batches. Instead of executing one get request per resource, the ids or keys requested
+ * within a short time window are collected and fetched with one query, for example with an {@code id in (...)} predicate.
+ * The results are then passed to the individual callers.
+ *
+ * <p>This is useful for resolving references one by one, like the customer groups of prices or the products of line items:</p>
+ *
+ * <pre>{@code final BatchLoader<CustomerGroup> loader = BatchLoader.ofIds(client, ids -> CustomerGroupQuery.of().withPredicates(m -> m.id().isIn(ids)));
+ * final CompletionStage<CustomerGroup> customerGroup = loader.load(customerGroupId);}</pre>
+ *
+ * <p>A batch is executed if the time window after the first load request has passed, if the batch reached its maximum size or
+ * if {@link #dispatch()} is called. As with get requests the loaded resource is null if it does not exist.
+ * The time windows are scheduled with the {@link SharedScheduler} unless another scheduler is passed to
+ * {@link #of(SphereClient, Function, Function, Duration, int, ScheduledExecutorService)}.
+ * Closing the loader executes the pending load requests, later load requests fail.</p>
+ *
+ * @param <T> type of the loaded resources
+ */
+public final class BatchLoader<T> implements AutoCloseable {
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(5);
+
+    private final SphereClient client;
+    private final Function<List<String>, ? extends QueryDsl<T, ?>> queryFactory;
+    private final Function<T, String> keyExtractor;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private Map<String, CompletableFuture<T>> pendingLoads = new LinkedHashMap<>();
+    @Nullable
+    private ScheduledFuture<?> scheduledDispatch;
+    private boolean closed = false;
+
+    private BatchLoader(final SphereClient client, final Function<List<String>, ? extends QueryDsl<T, ?>> queryFactory,
+                        final Function<T, String> keyExtractor, final Duration window, final int maxBatchSize,
+                        final ScheduledExecutorService scheduler) {
+        if (maxBatchSize < 1 || maxBatchSize > 500) {
+            throw new IllegalArgumentException("maxBatchSize must be between 1 and 500 but was " + maxBatchSize);
+        }
+        this.client = client;
+        this.queryFactory = queryFactory;
+        this.keyExtractor = keyExtractor;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates a loader which collects the requested keys and fetches the matching resources with one query.
+     *
+     * @param client the client to execute the queries
+     * @param queryFactory creates a query for the collected keys, like {@code keys -> ProductQuery.of().withPredicates(m -> m.key().isIn(keys))}
+     * @param keyExtractor provides the key which has been used to load a resource
+     * @param window the duration to wait for further load requests after the first one
+     * @param maxBatchSize the maximum number of keys per query, between 1 and 500
+     * @param <T> type of the loaded resources
+     * @return loader
+     */
+    public static <T> BatchLoader<T> of(final SphereClient client, final Function<List<String>, ? extends QueryDsl<T, ?>> queryFactory,
+                                        final Function<T, String> keyExtractor, final Duration window, final int maxBatchSize) {
+        return of(client, queryFactory, keyExtractor, window, maxBatchSize, SharedScheduler.getInstance());
+    }
+
+    /**
+     * Creates a loader which collects the requested keys and fetches the matching resources with one query.
+     *
+     * @param client the client to execute the queries
+     * @param queryFactory creates a query for the collected keys, like {@code keys -> ProductQuery.of().withPredicates(m -> m.key().isIn(keys))}
+     * @param keyExtractor provides the key which has been used to load a resource
+     * @param window the duration to wait for further load requests after the first one
+     * @param maxBatchSize the maximum number of keys per query, between 1 and 500
+     * @param scheduler the scheduler for the end of the time windows, it is not shut down if the loader is closed
+     * @param <T> type of the loaded resources
+     * @return loader
+     */
+    public static <T> BatchLoader<T> of(final SphereClient client, final Function<List<String>, ? extends QueryDsl<T, ?>> queryFactory,
+                                        final Function<T, String> keyExtractor, final Duration window, final int maxBatchSize,
+                                        final ScheduledExecutorService scheduler) {
+        return new BatchLoader<>(client, queryFactory, keyExtractor, window, maxBatchSize, scheduler);
+    }
+
+    public static <T> BatchLoader<T> ofKeys(final SphereClient client, final Function<List<String>, ? extends QueryDsl<T, ?>> queryFactory,
+                                            final Function<T, String> keyExtractor) {
+        return of(client, queryFactory, keyExtractor, DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public static <T extends Identifiable<?>> BatchLoader<T> ofIds(final SphereClient client, final Function<List<String>, ? extends QueryDsl<T, ?>> queryFactory) {
+        return ofKeys(client, queryFactory, Identifiable::getId);
+    }
+
+    /**
+     * Requests a resource, multiple requests for the same key within one batch share the result.
+     *
+     * @param key the id or key of the resource, depending on the query factory of this loader
+     * @return future of the resource, completed with null if it does not exist,
+     * failed with an {@link IllegalStateException} if the loader is closed
+     */
+    @Nonnull
+    public CompletionStage<T> load(final String key) {
+        final CompletableFuture<T> result;
+        Map<String, CompletableFuture<T>> fullBatch = null;
+        synchronized (this) {
+            if (closed) {
+                return failed(new IllegalStateException("The BatchLoader is already closed."));
+            }
+            final CompletableFuture<T> pendingLoad = pendingLoads.get(key);
+            if (pendingLoad != null) {
+                return pendingLoad;
+            }
+            result = new CompletableFuture<>();
+            pendingLoads.put(key, result);
+            if (pendingLoads.size() >= maxBatchSize) {
+                fullBatch = takeBatch();
+            } else if (scheduledDispatch == null) {
+                scheduledDispatch = scheduler.schedule(this::dispatch, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            execute(fullBatch);
+        }
+        return result;
+    }
+
+    /**
+     * Executes the currently collected load requests without waiting for the end of the time window.
+     */
+    public void dispatch() {
+        final Map<String, CompletableFuture<T>> batch;
+        synchronized (this) {
+            batch = takeBatch();
+        }
+        if (!batch.isEmpty()) {
+            execute(batch);
+        }
+    }
+
+    private Map<String, CompletableFuture<T>> takeBatch() {
+        final Map<String, CompletableFuture<T>> batch = pendingLoads;
+        pendingLoads = new LinkedHashMap<>();
+        if (scheduledDispatch != null) {
+            scheduledDispatch.cancel(false);
+            scheduledDispatch = null;
+        }
+        return batch;
+    }
+
+    private void execute(final Map<String, CompletableFuture<T>> batch) {
+        final List<String> keys = new ArrayList<>(batch.keySet());
+        try {
+            final QueryDsl<T, ?> query = queryFactory.apply(keys)
+                    .withLimit((long) keys.size())
+                    .withFetchTotal(false);
+            client.execute(query).whenComplete((pagedQueryResult, throwable) -> {
+                if (throwable != null) {
+                    batch.values().forEach(future -> future.completeExceptionally(throwable));
+                } else {
+                    final Map<String, T> resultsByKey = new HashMap<>();
+                    pagedQueryResult.getResults().forEach(resource -> resultsByKey.putIfAbsent(keyExtractor.apply(resource), resource));
+                    batch.forEach((key, future) -> future.complete(resultsByKey.get(key)));
+                }
+            });
+        } catch (final RuntimeException e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Executes the pending load requests, later load requests fail.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        dispatch();
+    }
+}
@@ -0,0 +1,182 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.models.Identifiable;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Fetches all elements of a query with a cursor based pagination. The elements are sorted by id and every page after
+ * the first one is queried with the predicate {@code id > "<id of the last element of the previous page>"}, so the
+ * platform does not need to skip elements as it does for deep offsets.
+ *
+ * The pages are fetched one after another, while a page is consumed the next page is already requested.
+ * So at most two pages are held in memory at the same time.
+ *
+ * The page steps are also available with {@link #nextPage(SphereClient, List)} for consumers which drive the pagination
+ * themselves like {@link io.sphere.sdk.reactivestreams.SpherePublishers#ofQuery(SphereClient, QueryDsl, int)}.
+ *
+ * @param <T> type of one query result element
+ * @param <C> type of the query
+ */
+public final class CursorQueryAllImpl<T extends Identifiable<?>, C extends QueryDsl<T, C>> {
+    private final QueryDsl<T, C> baseQuery;
+    private final long pageSize;
+
+    private CursorQueryAllImpl(final QueryDsl<T, C> baseQuery, final long pageSize) {
+        if (pageSize < 1 || pageSize > 500) {
+            throw new IllegalArgumentException("pageSize must be between 1 and 500 but was " + pageSize);
+        }
+        this.baseQuery = baseQuery
+                .withSort(QuerySort.of("id asc"))
+                .withOffset((Long) null)
+                .withLimit(pageSize)
+                .withFetchTotal(false);
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Applies the {@code resultsConsumer} on each element matching {@link #baseQuery}, the elements are passed in the
+     * order of their ids.
+     *
+     * @param client          the CTP client that the query is run on.
+     * @param resultsConsumer the consumer that gets called on each item of results.
+     * @return an empty future which is completed after the {@code resultsConsumer} has been executed on every item
+     */
+    @Nonnull
+    CompletionStage<Void> run(final SphereClient client, final Consumer<T> resultsConsumer) {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        consumePages(client, queryPage(client, null), resultsConsumer, result);
+        return result;
+    }
+
+    /**
+     * Provides a lazy stream of the elements matching {@link #baseQuery}. The next page is only requested when the
+     * stream consumer starts to process the current page, so the speed of the consumer limits the speed of the requests.
+     * Terminal operations of the stream block until the required pages are fetched.
+     *
+     * @param client the CTP client that the query is run on.
+     * @return stream of all elements sorted by id
+     */
+    @Nonnull
+    Stream<T> stream(final SphereClient client) {
+        return StreamSupport.stream(new PageSpliterator(client), false);
+    }
+
+    /**
+     * Consumes the already fetched pages in a loop and continues asynchronously if a page is not yet available.
+     * This avoids a growing stack for clients which return completed futures.
+     */
+    private void consumePages(final SphereClient client, final CompletionStage<PagedQueryResult<T>> firstPage,
+                              final Consumer<T> resultsConsumer, final CompletableFuture<Void> result) {
+        CompletableFuture<PagedQueryResult<T>> page = firstPage.toCompletableFuture();
+        try {
+            while (page != null) {
+                if (!page.isDone()) {
+                    page.whenComplete((pagedQueryResult, throwable) -> {
+                        if (throwable != null) {
+                            result.completeExceptionally(throwable);
+                        } else {
+                            consumePages(client, CompletableFuture.completedFuture(pagedQueryResult), resultsConsumer, result);
+                        }
+                    });
+                    return;
+                }
+                final List<T> results = page.join().getResults();
+                page = queryNextPage(client, results);
+                results.forEach(resultsConsumer);
+            }
+            result.complete(null);
+        } catch (final Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+    }
+
+    /**
+     * Requests the page following {@code previousPage}.
+     *
+     * @param client       the CTP client that the query is run on.
+     * @param previousPage the elements of the previous page or null for the first page
+     * @return the future of the elements of the next page or null if the previous page was the last one
+     */
+    @Nullable
+    public CompletionStage<List<T>> nextPage(final SphereClient client, @Nullable final List<T> previousPage) {
+        final CompletableFuture<PagedQueryResult<T>> page = previousPage == null
+                ? queryPage(client, null)
+                : queryNextPage(client, previousPage);
+        return page == null ? null : page.thenApply(PagedQueryResult::getResults);
+    }
+
+    @Nullable
+    private CompletableFuture<PagedQueryResult<T>> queryNextPage(final SphereClient client, final List<T> results) {
+        return isLastPage(results) ? null : queryPage(client, results.get(results.size() - 1).getId());
+    }
+
+    private boolean isLastPage(final List<T> results) {
+        return results.size() < pageSize;
+    }
+
+    /**
+     * Gets the page containing the elements following the element with the id {@code lastId}.
+     *
+     * @param client the CTP client that the query is run on.
+     * @param lastId the id of the last element of the previous page or null for the first page
+     * @return a future containing the results of the requested page
+     */
+    @Nonnull
+    private CompletableFuture<PagedQueryResult<T>> queryPage(final SphereClient client, @Nullable final String lastId) {
+        final QueryDsl<T, C> query = lastId == null
+                ? baseQuery
+                : baseQuery.plusPredicates(QueryPredicate.of(format("id > \"%s\"", lastId)));
+        return client.execute(query).toCompletableFuture();
+    }
+
+    private final class PageSpliterator extends Spliterators.AbstractSpliterator<T> {
+        private final SphereClient client;
+        private Iterator<T> currentPage = Collections.emptyIterator();
+        @Nullable
+        private CompletableFuture<PagedQueryResult<T>> nextPage;
+        private boolean started = false;
+
+        private PageSpliterator(final SphereClient client) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.client = client;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (!started) {
+                started = true;
+                nextPage = queryPage(client, null);
+            }
+            while (!currentPage.hasNext()) {
+                if (nextPage == null) {
+                    return false;
+                }
+                final List<T> results = nextPage.join().getResults();
+                nextPage = queryNextPage(client, results);
+                currentPage = results.iterator();
+            }
+            action.accept(currentPage.next());
+            return true;
+        }
+    }
+
+    @Nonnull
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> CursorQueryAllImpl<T, C> of(@Nonnull final QueryDsl<T, C> baseQuery, final int pageSize) {
+        return new CursorQueryAllImpl<>(baseQuery, pageSize);
+    }
+}
@@ -1,12 +1,14 @@
 package io.sphere.sdk.queries;
 
 import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.models.Identifiable;
 
 import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Provides facilities to fetch all elements matching a query predicate.
@@ -121,4 +123,80 @@ public final class QueryExecutionUtils {
     queryAll(@Nonnull final SphereClient client, @Nonnull final QueryDsl<T, C> query, @Nonnull final Consumer<T> resultsConsumer, final int pageSize) {
         return QueryAllImpl.of(query, pageSize).run(client, resultsConsumer);
     }
+
+    /**
+     * Queries all elements matching a query by using a cursor based pagination with page size {@value DEFAULT_PAGE_SIZE}.
+     * The elements are sorted by id and the pages are requested one after another with the predicate
+     * {@code id > "<id of the last element of the previous page>"} instead of an offset, an existing sort of the query is replaced.
+     * While the elements of a page are passed to the consumer the next page is already requested, so at most two pages are held in memory.
+     *
+     * @param client          commercetools client
+     * @param query           query containing predicates and expansion paths
+     * @param resultsConsumer that is applied on every element queried.
+     * @param <T>             type of one query result element
+     * @param <C>             type of the query
+     * @return an empty future which is completed after all elements have been consumed
+     */
+    @Nonnull
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> CompletionStage<Void>
+    queryAllWithCursor(@Nonnull final SphereClient client, @Nonnull final QueryDsl<T, C> query, @Nonnull final Consumer<T> resultsConsumer) {
+        return queryAllWithCursor(client, query, resultsConsumer, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Queries all elements matching a query by using a cursor based pagination.
+     * The elements are sorted by id and the pages are requested one after another with the predicate
+     * {@code id > "<id of the last element of the previous page>"} instead of an offset, an existing sort of the query is replaced.
+     * While the elements of a page are passed to the consumer the next page is already requested, so at most two pages are held in memory.
+     *
+     * @param client          commercetools client
+     * @param query           query containing predicates and expansion paths
+     * @param resultsConsumer that is applied on every element queried.
+     * @param <T>             type of one query result element
+     * @param <C>             type of the query
+     * @param pageSize        the page size, between 1 and 500
+     * @return an empty future which is completed after all elements have been consumed
+     */
+    @Nonnull
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> CompletionStage<Void>
+    queryAllWithCursor(@Nonnull final SphereClient client, @Nonnull final QueryDsl<T, C> query, @Nonnull final Consumer<T> resultsConsumer, final int pageSize) {
+        return CursorQueryAllImpl.of(query, pageSize).run(client, resultsConsumer);
+    }
+
+    /**
+     * Provides all elements matching a query as lazy {@link Stream} by using a cursor based pagination with page size {@value DEFAULT_PAGE_SIZE}.
+     * A page is only requested if the stream consumer starts processing the previous page, so the stream does not
+     * fetch faster than it is consumed. Terminal operations block until the required pages are available.
+     *
+     * @param client commercetools client
+     * @param query  query containing predicates and expansion paths
+     * @param <T>    type of one query result element
+     * @param <C>    type of the query
+     * @return stream of all elements sorted by id
+     * @see #queryAllWithCursor(SphereClient, QueryDsl, Consumer)
+     */
+    @Nonnull
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> Stream<T>
+    streamAll(@Nonnull final SphereClient client, @Nonnull final QueryDsl<T, C> query) {
+        return streamAll(client, query, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Provides all elements matching a query as lazy {@link Stream} by using a cursor based pagination.
+     * A page is only requested if the stream consumer starts processing the previous page, so the stream does not
+     * fetch faster than it is consumed. Terminal operations block until the required pages are available.
+     *
+     * @param client   commercetools client
+     * @param query    query containing predicates and expansion paths
+     * @param pageSize the page size, between 1 and 500
+     * @param <T>      type of one query result element
+     * @param <C>      type of the query
+     * @return stream of all elements sorted by id
+     * @see #queryAllWithCursor(SphereClient, QueryDsl, Consumer, int)
+     */
+    @Nonnull
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> Stream<T>
+    streamAll(@Nonnull final SphereClient client, @Nonnull final QueryDsl<T, C> query, final int pageSize) {
+        return CursorQueryAllImpl.of(query, pageSize).stream(client);
+    }
 }
@@ -0,0 +1,23 @@
+package io.sphere.sdk.reactivestreams;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Provides the pages for a {@link PagedPublisher}.
+ *
+ * @param <T> type of one page element
+ */
+@FunctionalInterface
+interface PageSource<T> {
+    /**
+     * Requests the next page.
+     *
+     * @param pageIndex the index of the page to fetch, starting with 0
+     * @param previousPage the elements of the previous page or null for the first page
+     * @return the future of the next page or null if the previous page was the last one
+     */
+    @Nullable
+    CompletionStage<List<T>> nextPage(long pageIndex, @Nullable List<T> previousPage);
+}
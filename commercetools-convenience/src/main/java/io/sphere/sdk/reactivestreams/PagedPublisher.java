@@ -0,0 +1,30 @@
+package io.sphere.sdk.reactivestreams;
+
+import io.sphere.sdk.models.Base;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+import java.util.Objects;
+
+/**
+ * A cold {@link Publisher} which fetches the pages of a {@link PageSource} only if the subscriber requested more elements
+ * than the already fetched pages contain. Every subscriber gets its own sequence of page requests.
+ *
+ * @param <T> type of one element
+ */
+final class PagedPublisher<T> extends Base implements Publisher<T> {
+    private final PageSource<T> pageSource;
+    private final int pageSize;
+
+    PagedPublisher(final PageSource<T> pageSource, final int pageSize) {
+        this.pageSource = pageSource;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+        final PagedSubscription<T> subscription = new PagedSubscription<>(subscriber, pageSource, pageSize);
+        subscriber.onSubscribe(subscription);
+    }
+}
@@ -0,0 +1,147 @@
+package io.sphere.sdk.reactivestreams;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Subscription which emits the elements of the pages of a {@link PageSource} according to the demand of the subscriber.
+ *
+ * All signals to the subscriber are emitted in {@link #drain()} which is entered by only one thread at a time,
+ * requests and page completions from other threads cause another iteration of the drain loop.
+ *
+ * A page with less elements than the page size is the last one, the subscriber is completed as soon as its
+ * elements are emitted, also if the subscriber did not request more elements.
+ *
+ * @param <T> type of one element
+ */
+final class PagedSubscription<T> implements Subscription {
+    private final Subscriber<? super T> subscriber;
+    private final PageSource<T> pageSource;
+    private final int pageSize;
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Queue<T> buffer = new ArrayDeque<>();
+    private volatile boolean cancelled = false;
+    private volatile boolean fetching = false;
+    @Nullable
+    private volatile List<T> arrivedPage;
+    @Nullable
+    private volatile Throwable error;
+    private boolean lastPageFetched = false;
+    private long pageIndex = 0;
+    @Nullable
+    private List<T> previousPage;
+
+    PagedSubscription(final Subscriber<? super T> subscriber, final PageSource<T> pageSource, final int pageSize) {
+        this.subscriber = subscriber;
+        this.pageSource = pageSource;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void request(final long n) {
+        if (n <= 0) {
+            error = new IllegalArgumentException("Rule 3.9: the number of requested elements must be positive but was " + n + ".");
+        } else {
+            requested.accumulateAndGet(n, (current, additional) -> {
+                final long sum = current + additional;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            if (cancelled) {
+                buffer.clear();
+            } else {
+                takeArrivedPage();
+                final Throwable throwable = error;
+                if (throwable != null) {
+                    cancelled = true;
+                    buffer.clear();
+                    subscriber.onError(throwable);
+                    continue;
+                }
+                emitBufferedElements();
+                if (buffer.isEmpty() && !cancelled) {
+                    if (lastPageFetched && !fetching) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    } else if (requested.get() > 0 && !fetching) {
+                        fetchNextPage();
+                    }
+                }
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    private void takeArrivedPage() {
+        final List<T> page = arrivedPage;
+        if (page != null) {
+            arrivedPage = null;
+            buffer.addAll(page);
+            fetching = false;
+            //a short page is the last one, so the subscriber completes without requesting more elements
+            if (page.size() < pageSize) {
+                lastPageFetched = true;
+            }
+        }
+    }
+
+    private void emitBufferedElements() {
+        while (!cancelled && requested.get() > 0 && !buffer.isEmpty()) {
+            final T element = buffer.poll();
+            if (requested.get() != Long.MAX_VALUE) {
+                requested.decrementAndGet();
+            }
+            subscriber.onNext(element);
+        }
+    }
+
+    private void fetchNextPage() {
+        final CompletionStage<List<T>> nextPage;
+        try {
+            nextPage = pageSource.nextPage(pageIndex, previousPage);
+        } catch (final Throwable throwable) {
+            error = throwable;
+            wip.incrementAndGet();
+            return;
+        }
+        if (nextPage == null) {
+            lastPageFetched = true;
+            wip.incrementAndGet();//evaluate completion in the next loop iteration
+        } else {
+            fetching = true;
+            pageIndex++;
+            nextPage.whenComplete((page, throwable) -> {
+                if (throwable != null) {
+                    error = throwable;
+                    fetching = false;
+                } else {
+                    previousPage = page;
+                    arrivedPage = page;
+                }
+                drain();
+            });
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.sphere.sdk.reactivestreams;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.models.Identifiable;
+import io.sphere.sdk.queries.CursorQueryAllImpl;
+import io.sphere.sdk.queries.QueryDsl;
+import io.sphere.sdk.search.SearchDsl;
+import org.reactivestreams.Publisher;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+import static io.sphere.sdk.queries.QueryExecutionUtils.DEFAULT_PAGE_SIZE;
+
+/**
+ * Creates Reactive Streams {@link Publisher}s which emit all elements of a query or a search.
+ *
+ * <p>The publishers are cold: each subscriber triggers its own requests. A page is only requested
+ * if the subscriber signalled demand which cannot be satisfied by the elements of the already fetched pages,
+ * so a slow subscriber limits the number of requests to the platform and at most one page is buffered.</p>
+ *
+ * <p>The publishers are compatible with libraries like Project Reactor or RxJava, for example
+ * {@code Flux.from(SpherePublishers.ofQuery(client, ProductQuery.of()))}.</p>
+ */
+public final class SpherePublishers {
+    private SpherePublishers() {
+    }
+
+    /**
+     * Creates a publisher for all elements matching a query with page size {@value io.sphere.sdk.queries.QueryExecutionUtils#DEFAULT_PAGE_SIZE}.
+     *
+     * @param client the client to execute the requests
+     * @param query the query, its sort, offset and limit are overwritten
+     * @param <T> type of one query result element
+     * @param <C> type of the query
+     * @return publisher emitting the elements ordered by id
+     * @see #ofQuery(SphereClient, QueryDsl, int)
+     */
+    @Nonnull
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> Publisher<T> ofQuery(@Nonnull final SphereClient client,
+                                                                                               @Nonnull final QueryDsl<T, C> query) {
+        return ofQuery(client, query, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Creates a publisher for all elements matching a query. The pages are fetched with a cursor based pagination,
+     * the elements are sorted by id and each page after the first one is queried with the predicate
+     * {@code id > "<id of the last element of the previous page>"}, so deep pages are as cheap as the first one.
+     *
+     * @param client the client to execute the requests
+     * @param query the query, its sort, offset and limit are overwritten
+     * @param pageSize the number of elements fetched with one request, between 1 and 500
+     * @param <T> type of one query result element
+     * @param <C> type of the query
+     * @return publisher emitting the elements ordered by id
+     */
+    @Nonnull
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> Publisher<T> ofQuery(@Nonnull final SphereClient client,
+                                                                                               @Nonnull final QueryDsl<T, C> query,
+                                                                                               final int pageSize) {
+        final CursorQueryAllImpl<T, C> cursorQueryAll = CursorQueryAllImpl.of(query, pageSize);
+        return new PagedPublisher<>((pageIndex, previousPage) -> cursorQueryAll.nextPage(client, previousPage), pageSize);
+    }
+
+    /**
+     * Creates a publisher for all elements of a search with page size {@value io.sphere.sdk.queries.QueryExecutionUtils#DEFAULT_PAGE_SIZE}.
+     *
+     * @param client the client to execute the requests
+     * @param search the search, its offset and limit are overwritten
+     * @param <T> type of one search result element
+     * @param <C> type of the search
+     * @return publisher emitting the elements in the order of the search
+     * @see #ofSearch(SphereClient, SearchDsl, int)
+     */
+    @Nonnull
+    public static <T, C extends SearchDsl<T, C>> Publisher<T> ofSearch(@Nonnull final SphereClient client,
+                                                                      @Nonnull final SearchDsl<T, C> search) {
+        return ofSearch(client, search, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Creates a publisher for all elements of a search. The pages are fetched with an offset based pagination,
+     * so the platform limits for the offset apply.
+     *
+     * @param client the client to execute the requests
+     * @param search the search, its offset and limit are overwritten
+     * @param pageSize the number of elements fetched with one request
+     * @param <T> type of one search result element
+     * @param <C> type of the search
+     * @return publisher emitting the elements in the order of the search
+     */
+    @Nonnull
+    public static <T, C extends SearchDsl<T, C>> Publisher<T> ofSearch(@Nonnull final SphereClient client,
+                                                                      @Nonnull final SearchDsl<T, C> search,
+                                                                      final int pageSize) {
+        return new PagedPublisher<>((pageIndex, previousPage) -> {
+            if (previousPage != null && isLastPage(previousPage, pageSize)) {
+                return null;
+            }
+            final C pageSearch = search.withOffset(pageIndex * pageSize).withLimit(pageSize);
+            return client.execute(pageSearch).thenApply(result -> result.getResults());
+        }, pageSize);
+    }
+
+    private static boolean isLastPage(final List<?> page, final int pageSize) {
+        return page.size() < pageSize;
+    }
+}
@@ -14,13 +14,23 @@ import io.sphere.sdk.utils.CompletableFutureUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  Creates an incremental sequence of BigInteger numbers, storing the last used number in a CustomObject. It is thread safe even across multiple application nodes, by using optimistic concurrency control based on the version of the CustomObject.
  When there is a concurrency exception, it is automatically retries to generate the number (with a maximum number of retries configured in {@link CustomObjectBigIntegerNumberGeneratorConfig}).
 
+ <p>With a {@link CustomObjectBigIntegerNumberGeneratorConfigBuilder#blockSize(int) block size} greater than 1 the generator reserves a block of numbers
+ with one update and hands them out locally, optionally reserving the next block in the background before the current one is used up.
+ The conflicts and reservations can be monitored with {@link #getStatistics()}.</p>
+
  <h3 id="create-type">Create number sequence starting with 1</h3>
 
  <p>Execution example:</p>
@@ -44,6 +54,17 @@ public final class CustomObjectBigIntegerNumberGenerator extends Base implements
     private static final Logger logger = LoggerFactory.getLogger(CustomObjectBigIntegerNumberGenerator.class);
 
     private final CustomObjectBigIntegerNumberGeneratorConfig config;
+    //the counters and blocks are transient, so that equals, hashCode and toString of Base only use the config
+    private final transient LongAdder generatedNumbers = new LongAdder();
+    private final transient LongAdder reservations = new LongAdder();
+    private final transient LongAdder conflicts = new LongAdder();
+    private final transient LongAdder failedReservations = new LongAdder();
+    private final transient LongAdder prefetches = new LongAdder();
+    private final transient AtomicReference<NumberBlock> currentBlock = new AtomicReference<>(NumberBlock.EMPTY);
+    @Nullable
+    private transient volatile NumberBlock prefetchedBlock;
+    @Nullable
+    private transient volatile CompletableFuture<NumberBlock> pendingReservation;
 
     private CustomObjectBigIntegerNumberGenerator(final CustomObjectBigIntegerNumberGeneratorConfig config) {
         this.config = config;
@@ -51,16 +72,98 @@ public final class CustomObjectBigIntegerNumberGenerator extends Base implements
 
     @Override
     public CompletionStage<BigInteger> getNextNumber() {
+        if (config.getBlockSize() > 1) {
+            return getNextNumberFromBlock();
+        }
         final int timeToLive = config.getMaxRetryAttempts();
         final Throwable error = null;
-        return tryGetNextNumber(timeToLive, error);
+        return tryGetNextNumber(this::incrementAndGetSequenceNumber, timeToLive, error)
+                .thenApply(number -> {
+                    generatedNumbers.increment();
+                    return number;
+                });
+    }
+
+    /**
+     * Provides the statistics of the reservations of this generator, for example to monitor the conflicts between application nodes.
+     *
+     * @return statistics
+     */
+    public NumberGeneratorStatistics getStatistics() {
+        return new NumberGeneratorStatistics(generatedNumbers.sum(), reservations.sum(), conflicts.sum(), failedReservations.sum(), prefetches.sum());
+    }
+
+    private CompletionStage<BigInteger> getNextNumberFromBlock() {
+        final NumberBlock block = currentBlock.get();
+        final long index = block.next.getAndIncrement();
+        if (index < block.size) {
+            if (config.getPrefetchThreshold() > 0 && block.size - index - 1 <= config.getPrefetchThreshold()
+                    && prefetchedBlock == null && pendingReservation == null) {
+                prefetchNextBlock();
+            }
+            generatedNumbers.increment();
+            return CompletableFutureUtils.successful(block.first.add(BigInteger.valueOf(index)));
+        }
+        return nextBlock().thenCompose(nextBlock -> getNextNumberFromBlock());
     }
 
-    private CompletionStage<BigInteger> tryGetNextNumber(final int timeToLive, final Throwable throwable) {
+    private synchronized CompletionStage<NumberBlock> nextBlock() {
+        final NumberBlock block = currentBlock.get();
+        if (!block.isUsedUp()) {
+            return CompletableFutureUtils.successful(block);
+        } else if (prefetchedBlock != null) {
+            currentBlock.set(prefetchedBlock);
+            prefetchedBlock = null;
+            return CompletableFutureUtils.successful(currentBlock.get());
+        }
+        return reserveNextBlock();
+    }
+
+    private synchronized void prefetchNextBlock() {
+        if (prefetchedBlock == null && pendingReservation == null) {
+            prefetches.increment();
+            reserveNextBlock();
+        }
+    }
+
+    private synchronized CompletableFuture<NumberBlock> reserveNextBlock() {
+        if (pendingReservation != null) {
+            return pendingReservation;
+        }
+        final CompletableFuture<NumberBlock> reservation = new CompletableFuture<>();
+        pendingReservation = reservation;
+        tryGetNextNumber(this::incrementAndGetSequenceBlock, config.getMaxRetryAttempts(), null).whenComplete((block, error) -> {
+            synchronized (this) {
+                pendingReservation = null;
+                if (block != null) {
+                    if (currentBlock.get().isUsedUp()) {
+                        currentBlock.set(block);
+                    } else {
+                        prefetchedBlock = block;
+                    }
+                }
+            }
+            if (error != null) {
+                logger.warn("Could not reserve a block of sequence numbers.", error);
+                reservation.completeExceptionally(error);
+            } else {
+                reservation.complete(block);
+            }
+        });
+        return reservation;
+    }
+
+    private <T> CompletionStage<T> tryGetNextNumber(final Supplier<CompletionStage<T>> reservation, final int timeToLive, final Throwable throwable) {
         if (timeToLive > 0 && isRecoverableException(throwable)) {
-            final CompletionStage<BigInteger> bigIntegerCompletionStage = incrementAndGetSequenceNumber();
-            return CompletableFutureUtils.recoverWith(bigIntegerCompletionStage, (error) -> tryGetNextNumber(timeToLive - 1, error));
+            final CompletionStage<T> bigIntegerCompletionStage = reservation.get();
+            return CompletableFutureUtils.recoverWith(bigIntegerCompletionStage, (error) -> {
+                if (isRecoverableException(error)) {
+                    conflicts.increment();
+                }
+                return tryGetNextNumber(reservation, timeToLive - 1, error);
+            });
         } else {
+            failedReservations.increment();
             return CompletableFutureUtils.failed(throwable);
         }
     }
@@ -90,16 +193,56 @@ public final class CustomObjectBigIntegerNumberGenerator extends Base implements
         });
     }
 
+    /**
+     * Reserves the next block by storing its last number in the custom object, so the stored value is always the last reserved number
+     * and generators with different block sizes can share the custom object.
+     *
+     * @return the reserved block
+     */
+    private CompletionStage<NumberBlock> incrementAndGetSequenceBlock() {
+        final BigInteger blockSize = BigInteger.valueOf(config.getBlockSize());
+        return getLastUsedOrderNumber(config.getSphereClient()).thenCompose(oldCustomObject -> {
+            final BigInteger first = oldCustomObject != null ? oldCustomObject.getValue().add(BigInteger.ONE) : config.getInitialValue();
+            final long version = oldCustomObject != null ? oldCustomObject.getVersion() : 0;
+            final BigInteger last = first.add(blockSize).subtract(BigInteger.ONE);
+            final CustomObjectDraft<BigInteger> draft = CustomObjectDraft.ofVersionedUpsert(config.getContainer(), config.getKey(), last, version, BigInteger.class);
+            return setLastUsedOrderNumber(config.getSphereClient(), draft).thenApply(customObject -> new NumberBlock(first, config.getBlockSize()));
+        });
+    }
+
     private CompletionStage<CustomObject<BigInteger>> getLastUsedOrderNumber(final SphereClient client) {
         return client.execute(CustomObjectByKeyGet.of(config.getContainer(), config.getKey(), BigInteger.class));
     }
 
     private CompletionStage<CustomObject<BigInteger>> setLastUsedOrderNumber(final SphereClient client, final CustomObjectDraft<BigInteger> draft) {
-        return client.execute(CustomObjectUpsertCommand.of(draft));
+        return client.execute(CustomObjectUpsertCommand.of(draft))
+                .thenApply(customObject -> {
+                    reservations.increment();
+                    return customObject;
+                });
     }
 
     public static CustomObjectBigIntegerNumberGenerator of(final CustomObjectBigIntegerNumberGeneratorConfig config) {
         return new CustomObjectBigIntegerNumberGenerator(config);
     }
 
+    /**
+     * Reserved numbers which are handed out locally.
+     */
+    private static final class NumberBlock {
+        private static final NumberBlock EMPTY = new NumberBlock(BigInteger.ZERO, 0);
+
+        private final BigInteger first;
+        private final int size;
+        private final AtomicLong next = new AtomicLong();
+
+        private NumberBlock(final BigInteger first, final int size) {
+            this.first = first;
+            this.size = size;
+        }
+
+        private boolean isUsedUp() {
+            return next.get() >= size;
+        }
+    }
 }
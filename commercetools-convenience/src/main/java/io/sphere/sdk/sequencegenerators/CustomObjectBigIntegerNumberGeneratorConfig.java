@@ -20,13 +20,18 @@ public final class CustomObjectBigIntegerNumberGeneratorConfig extends Base {
     private final String container;
     private final String key;
     private final BigInteger initialValue;
+    private final int blockSize;
+    private final int prefetchThreshold;
 
-    CustomObjectBigIntegerNumberGeneratorConfig(final SphereClient sphereClient, final int maxRetryAttempts, final String container, final String key, final BigInteger initialValue) {
+    CustomObjectBigIntegerNumberGeneratorConfig(final SphereClient sphereClient, final int maxRetryAttempts, final String container, final String key,
+                                                final BigInteger initialValue, final int blockSize, final int prefetchThreshold) {
         this.sphereClient = sphereClient;
         this.maxRetryAttempts = maxRetryAttempts;
         this.container = container;
         this.key = key;
         this.initialValue = initialValue;
+        this.blockSize = blockSize;
+        this.prefetchThreshold = prefetchThreshold;
     }
 
     public int getMaxRetryAttempts() {
@@ -48,4 +53,22 @@ public final class CustomObjectBigIntegerNumberGeneratorConfig extends Base {
     public BigInteger getInitialValue() {
         return initialValue;
     }
+
+    /**
+     * Number of sequence numbers reserved with one update of the {@link io.sphere.sdk.customobjects.CustomObject}.
+     *
+     * @return block size, 1 if every number is reserved separately
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Number of remaining numbers of the current block at which the next block is reserved in the background.
+     *
+     * @return prefetch threshold, 0 if the next block is reserved when the current one is used up
+     */
+    public int getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
 }
@@ -21,6 +21,8 @@ public final class CustomObjectBigIntegerNumberGeneratorConfigBuilder extends Ba
     private String container = DEFAULT_CONTAINER;
     private String key;
     private BigInteger initialValue = BigInteger.ONE;
+    private int blockSize = 1;
+    private int prefetchThreshold = 0;
 
     CustomObjectBigIntegerNumberGeneratorConfigBuilder(final SphereClient sphereClient, final String key) {
         this.sphereClient = Objects.requireNonNull(sphereClient, "sphereClient");
@@ -64,6 +66,39 @@ public final class CustomObjectBigIntegerNumberGeneratorConfigBuilder extends Ba
         return this;
     }
 
+    /**
+     * Reserves blocks of numbers with one update of the {@link CustomObject} and hands them out locally, so that the platform is called
+     * once per {@code blockSize} numbers instead of once per number. This reduces the conflicts between application nodes.
+     *
+     * <p>The numbers are unique, but they are not generated in order across nodes, and the unused numbers of a block are lost
+     * if the application stops.</p>
+     *
+     * @param blockSize the number of numbers reserved at once. By default it is set to 1 which reserves every number separately.
+     * @return the builder instance
+     */
+    public CustomObjectBigIntegerNumberGeneratorConfigBuilder blockSize(final int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException(String.format("blockSize needs to be positive but was %d", blockSize));
+        }
+        this.blockSize = blockSize;
+        return this;
+    }
+
+    /**
+     * Reserves the next block in the background if the current block has only {@code prefetchThreshold} numbers left,
+     * so that requests for numbers do not wait for the reservation. Only used if the {@link #blockSize(int)} is greater than 1.
+     *
+     * @param prefetchThreshold the number of remaining numbers to start the reservation of the next block. By default it is set to 0 which disables the prefetching.
+     * @return the builder instance
+     */
+    public CustomObjectBigIntegerNumberGeneratorConfigBuilder prefetchThreshold(final int prefetchThreshold) {
+        if (prefetchThreshold < 0) {
+            throw new IllegalArgumentException(String.format("prefetchThreshold needs to be 0 or positive but was %d", prefetchThreshold));
+        }
+        this.prefetchThreshold = prefetchThreshold;
+        return this;
+    }
+
     /**
      * Creates a new builder instance.
      *
@@ -78,6 +113,6 @@ public final class CustomObjectBigIntegerNumberGeneratorConfigBuilder extends Ba
 
     @Override
     public CustomObjectBigIntegerNumberGeneratorConfig build() {
-        return new CustomObjectBigIntegerNumberGeneratorConfig(sphereClient, maxRetryAttempts, container, key, initialValue);
+        return new CustomObjectBigIntegerNumberGeneratorConfig(sphereClient, maxRetryAttempts, container, key, initialValue, blockSize, prefetchThreshold);
     }
 }
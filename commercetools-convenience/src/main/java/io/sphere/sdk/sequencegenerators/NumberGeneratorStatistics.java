@@ -0,0 +1,62 @@
+package io.sphere.sdk.sequencegenerators;
+
+import io.sphere.sdk.models.Base;
+
+/**
+ * Snapshot of the statistics of a {@link CustomObjectBigIntegerNumberGenerator}.
+ */
+public final class NumberGeneratorStatistics extends Base {
+    private final long generatedNumbers;
+    private final long reservations;
+    private final long conflicts;
+    private final long failedReservations;
+    private final long prefetches;
+
+    NumberGeneratorStatistics(final long generatedNumbers, final long reservations, final long conflicts, final long failedReservations, final long prefetches) {
+        this.generatedNumbers = generatedNumbers;
+        this.reservations = reservations;
+        this.conflicts = conflicts;
+        this.failedReservations = failedReservations;
+        this.prefetches = prefetches;
+    }
+
+    public long getGeneratedNumbers() {
+        return generatedNumbers;
+    }
+
+    /**
+     * Number of successful updates of the custom object, each of them reserved a number or a block of numbers.
+     *
+     * @return number of reservations
+     */
+    public long getReservations() {
+        return reservations;
+    }
+
+    /**
+     * Number of updates of the custom object which failed because another generator changed it concurrently. These updates are retried.
+     *
+     * @return number of conflicts
+     */
+    public long getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * Number of reservations which failed after all retries or because of another error.
+     *
+     * @return number of failed reservations
+     */
+    public long getFailedReservations() {
+        return failedReservations;
+    }
+
+    /**
+     * Number of blocks reserved before the current block was used up.
+     *
+     * @return number of prefetches
+     */
+    public long getPrefetches() {
+        return prefetches;
+    }
+}
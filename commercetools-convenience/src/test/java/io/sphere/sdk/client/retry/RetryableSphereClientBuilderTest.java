@@ -102,6 +102,31 @@ public class RetryableSphereClientBuilderTest {
             .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    public void of_WithAdaptiveParallelRequests_ReturnsSphereClient() {
+        final SphereClientConfig clientConfig =
+            SphereClientConfig.of("project-key", "client-id", "client-secret");
+
+        final SphereClient sphereClient = RetryableSphereClientBuilder
+            .of(clientConfig, mock(HttpClient.class))
+            .withAdaptiveParallelRequests(5, 50)
+            .build();
+
+        assertThat(sphereClient).isInstanceOf(QueueSphereClientDecorator.class);
+        assertThat(((QueueSphereClientDecorator) sphereClient).getMaxParallelRequests()).isEqualTo(DEFAULT_MAX_PARALLEL_REQUESTS);
+    }
+
+    @Test
+    public void of_WithAdaptiveParallelRequestsMinGreaterThanMax_ThrowsIllegalArgumentException() {
+        final SphereClientConfig clientConfig =
+            SphereClientConfig.of("project-key", "client-id", "client-secret");
+
+        assertThatThrownBy(() -> RetryableSphereClientBuilder
+            .of(clientConfig, mock(HttpClient.class))
+            .withAdaptiveParallelRequests(10, 5).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     public void of_withRetryDecorator_ShouldRetryWhen500HttpResponse() {
         //preparation
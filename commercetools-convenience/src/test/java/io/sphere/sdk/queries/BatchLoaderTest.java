@@ -0,0 +1,160 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.categories.Category;
+import io.sphere.sdk.categories.queries.CategoryQuery;
+import io.sphere.sdk.client.SphereApiConfig;
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.json.SphereJsonUtils;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BatchLoaderTest {
+    private static final Pattern QUOTED = Pattern.compile("\"([^\"]*)\"");
+    private final List<List<String>> requestedIds = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void loadsInOneQuery() throws Exception {
+        try (final BatchLoader<Category> loader = BatchLoader.of(client(), ids -> CategoryQuery.of().withPredicates(m -> m.id().isIn(ids)),
+                Category::getId, Duration.ofMinutes(1), 10)) {
+            final CompletionStage<Category> a = loader.load("a");
+            final CompletionStage<Category> b = loader.load("b");
+            final CompletionStage<Category> sameA = loader.load("a");
+            final CompletionStage<Category> missing = loader.load("missing");
+            loader.dispatch();
+
+            assertThat(a.toCompletableFuture().join().getId()).isEqualTo("a");
+            assertThat(b.toCompletableFuture().join().getId()).isEqualTo("b");
+            assertThat(sameA).isSameAs(a);
+            assertThat(missing.toCompletableFuture().join()).isNull();
+            assertThat(requestedIds).containsExactly(asList("a", "b", "missing"));
+        }
+    }
+
+    @Test
+    public void executesAfterWindow() throws Exception {
+        try (final BatchLoader<Category> loader = BatchLoader.ofIds(client(), ids -> CategoryQuery.of().withPredicates(m -> m.id().isIn(ids)))) {
+            final CompletionStage<Category> a = loader.load("a");
+            final CompletionStage<Category> b = loader.load("b");
+
+            assertThat(a.toCompletableFuture().join().getId()).isEqualTo("a");
+            assertThat(b.toCompletableFuture().join().getId()).isEqualTo("b");
+            assertThat(requestedIds).containsExactly(asList("a", "b"));
+        }
+    }
+
+    @Test
+    public void executesFullBatches() throws Exception {
+        try (final BatchLoader<Category> loader = BatchLoader.of(client(), ids -> CategoryQuery.of().withPredicates(m -> m.id().isIn(ids)),
+                Category::getId, Duration.ofMinutes(1), 2)) {
+            final CompletionStage<Category> a = loader.load("a");
+            final CompletionStage<Category> b = loader.load("b");
+            final CompletionStage<Category> c = loader.load("c");
+
+            assertThat(a.toCompletableFuture().isDone()).isTrue();
+            assertThat(b.toCompletableFuture().isDone()).isTrue();
+            assertThat(c.toCompletableFuture().isDone()).isFalse();
+            assertThat(requestedIds).containsExactly(asList("a", "b"));
+        }
+    }
+
+    @Test
+    public void failuresArePassedToAllLoads() throws Exception {
+        final RuntimeException exception = new RuntimeException("failed");
+        try (final BatchLoader<Category> loader = BatchLoader.ofIds(failingClient(exception), ids -> CategoryQuery.of().withPredicates(m -> m.id().isIn(ids)))) {
+            final CompletionStage<Category> a = loader.load("a");
+            final CompletionStage<Category> b = loader.load("b");
+            loader.dispatch();
+
+            assertThatThrownBy(() -> a.toCompletableFuture().join()).hasCause(exception);
+            assertThatThrownBy(() -> b.toCompletableFuture().join()).hasCause(exception);
+        }
+    }
+
+    @Test
+    public void usesTheGivenScheduler() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try (final BatchLoader<Category> loader = BatchLoader.of(client(), ids -> CategoryQuery.of().withPredicates(m -> m.id().isIn(ids)),
+                Category::getId, Duration.ofMillis(5), 10, scheduler)) {
+            final CompletionStage<Category> a = loader.load("a");
+
+            assertThat(a.toCompletableFuture().join().getId()).isEqualTo("a");
+        }
+        assertThat(scheduler.isShutdown()).as("the scheduler is not shut down with the loader").isFalse();
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void loadAfterCloseFails() throws Exception {
+        final BatchLoader<Category> loader = BatchLoader.ofIds(client(), ids -> CategoryQuery.of().withPredicates(m -> m.id().isIn(ids)));
+        final CompletionStage<Category> a = loader.load("a");
+        loader.close();
+
+        assertThat(a.toCompletableFuture().join().getId()).isEqualTo("a");
+        assertThatThrownBy(() -> loader.load("b").toCompletableFuture().join()).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<String> asList(final String... ids) {
+        final List<String> list = new ArrayList<>();
+        Collections.addAll(list, ids);
+        return list;
+    }
+
+    private SphereClient client() {
+        return new TestClient() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> CompletionStage<T> execute(final SphereRequest<T> request) {
+                final CategoryQuery query = (CategoryQuery) request;
+                final List<String> ids = new ArrayList<>();
+                final Matcher matcher = QUOTED.matcher(query.predicates().get(0).toSphereQuery());
+                while (matcher.find()) {
+                    ids.add(matcher.group(1));
+                }
+                requestedIds.add(ids);
+                assertThat(query.limit()).isEqualTo(ids.size());
+                final List<Category> results = ids.stream()
+                        .filter(id -> !id.equals("missing"))
+                        .map(id -> SphereJsonUtils.readObject(String.format("{ \"id\" : \"%s\" }", id), Category.class))
+                        .collect(toList());
+                return CompletableFuture.completedFuture((T) PagedQueryResult.of(0L, query.limit(), null, results));
+            }
+        };
+    }
+
+    private SphereClient failingClient(final RuntimeException exception) {
+        return new TestClient() {
+            @Override
+            public <T> CompletionStage<T> execute(final SphereRequest<T> request) {
+                final CompletableFuture<T> result = new CompletableFuture<>();
+                result.completeExceptionally(exception);
+                return result;
+            }
+        };
+    }
+
+    private abstract static class TestClient implements SphereClient {
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public SphereApiConfig getConfig() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.categories.Category;
+import io.sphere.sdk.categories.queries.CategoryQuery;
+import io.sphere.sdk.client.SphereApiConfig;
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.json.SphereJsonUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Answers cursor based {@link CategoryQuery}s with the categories {@code id-0000} to {@code id-<totalResults - 1>}.
+ */
+public final class CursorTestSphereClient implements SphereClient {
+    private final int totalResults;
+    private final AtomicInteger requestCounter;
+    private final boolean async;
+
+    private CursorTestSphereClient(final int totalResults, final AtomicInteger requestCounter, final boolean async) {
+        this.totalResults = totalResults;
+        this.requestCounter = requestCounter;
+        this.async = async;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> request) {
+        requestCounter.incrementAndGet();
+        final CategoryQuery query = (CategoryQuery) request;
+        assertThat(query.sort()).extracting(QuerySort::toSphereSort).containsExactly("id asc");
+        final int firstIndex = query.predicates().stream()
+                .map(predicate -> predicate.toSphereQuery().replaceAll("[^0-9]", ""))
+                .findFirst()
+                .map(lastIndex -> Integer.parseInt(lastIndex) + 1)
+                .orElse(0);
+        final int count = min(query.limit().intValue(), max(totalResults - firstIndex, 0));
+        final List<Category> results = IntStream.range(firstIndex, firstIndex + count)
+                .mapToObj(i -> SphereJsonUtils.readObject(String.format("{ \"id\" : \"id-%04d\", \"slug\" : {\"en\": \"category-%04d\"} }", i, i), Category.class))
+                .collect(toList());
+        final T result = (T) PagedQueryResult.of(0L, query.limit(), null, results);
+        return async ? CompletableFuture.supplyAsync(() -> result) : CompletableFuture.completedFuture(result);
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+    @Override
+    public SphereApiConfig getConfig() {
+        return null;
+    }
+
+    public static SphereClient of(final int totalResults) {
+        return of(totalResults, new AtomicInteger());
+    }
+
+    public static SphereClient of(final int totalResults, final AtomicInteger requestCounter) {
+        return of(totalResults, requestCounter, false);
+    }
+
+    public static SphereClient of(final int totalResults, final AtomicInteger requestCounter, final boolean async) {
+        return new CursorTestSphereClient(totalResults, requestCounter, async);
+    }
+}
@@ -8,18 +8,21 @@ import io.sphere.sdk.client.SphereRequest;
 import io.sphere.sdk.json.SphereJsonUtils;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.LongStream;
 
 import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class QueryExecutionUtilsTest {
     private static final int PAGE_SIZE = 5;
@@ -95,6 +98,54 @@ public class QueryExecutionUtilsTest {
 
     }
 
+    @Test
+    public void cursorOnEmptyResult() throws Exception {
+        assertThat(withCursorAndConsumer(CursorTestSphereClient.of(0))).isEmpty();
+        assertThat(withCursorAndStream(CursorTestSphereClient.of(0))).isEmpty();
+    }
+
+    @Test
+    public void cursorOnMultiplePagesResult() throws Exception {
+        assertThat(withCursorAndConsumer(CursorTestSphereClient.of(16))).isSortedAccordingTo(categoryComparator).hasSize(16);
+        assertThat(withCursorAndStream(CursorTestSphereClient.of(16))).isSortedAccordingTo(categoryComparator).hasSize(16);
+    }
+
+    @Test
+    public void cursorOnExactlyFullPages() throws Exception {
+        assertThat(withCursorAndConsumer(CursorTestSphereClient.of(15))).isSortedAccordingTo(categoryComparator).hasSize(15);
+        assertThat(withCursorAndStream(CursorTestSphereClient.of(15))).isSortedAccordingTo(categoryComparator).hasSize(15);
+    }
+
+    @Test
+    public void cursorRejectsInvalidPageSizes() throws Exception {
+        final SphereClient client = CursorTestSphereClient.of(10);
+        assertThatThrownBy(() -> QueryExecutionUtils.streamAll(client, CategoryQuery.of(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QueryExecutionUtils.queryAllWithCursor(client, CategoryQuery.of(), category -> {}, 501))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void cursorStreamFetchesLazily() throws Exception {
+        final AtomicInteger requestCounter = new AtomicInteger();
+        final List<Category> firstElements = QueryExecutionUtils.streamAll(CursorTestSphereClient.of(100, requestCounter), CategoryQuery.of(), PAGE_SIZE)
+                .limit(2)
+                .collect(toList());
+        assertThat(firstElements).hasSize(2);
+        assertThat(requestCounter.get()).isEqualTo(2);
+    }
+
+    private List<Category> withCursorAndConsumer(final SphereClient client) {
+        final List<Category> categories = new ArrayList<>();
+        QueryExecutionUtils.queryAllWithCursor(client, CategoryQuery.of(), categories::add, PAGE_SIZE)
+                .toCompletableFuture().join();
+        return categories;
+    }
+
+    private List<Category> withCursorAndStream(final SphereClient client) {
+        return QueryExecutionUtils.streamAll(client, CategoryQuery.of(), PAGE_SIZE).collect(toList());
+    }
+
     private List<Category> withClientWithoutFunction(final SphereClient client) {
         return QueryExecutionUtils.queryAll(client, CategoryQuery.of(), PAGE_SIZE)
                 .toCompletableFuture().join();
@@ -0,0 +1,141 @@
+package io.sphere.sdk.reactivestreams;
+
+import io.sphere.sdk.categories.Category;
+import io.sphere.sdk.categories.queries.CategoryQuery;
+import io.sphere.sdk.queries.CursorTestSphereClient;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpherePublishersTest {
+    private static final int PAGE_SIZE = 5;
+
+    @Test
+    public void emitsAllElementsInOrder() throws Exception {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        SpherePublishers.ofQuery(CursorTestSphereClient.of(16), CategoryQuery.of(), PAGE_SIZE).subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+
+        subscriber.awaitTermination();
+        assertThat(subscriber.error).isNull();
+        assertThat(subscriber.ids()).hasSize(16).isSorted().startsWith("id-0000").endsWith("id-0015");
+    }
+
+    @Test
+    public void completesOnEmptyResult() throws Exception {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        SpherePublishers.ofQuery(CursorTestSphereClient.of(0), CategoryQuery.of(), PAGE_SIZE).subscribe(subscriber);
+        subscriber.request(1);
+
+        subscriber.awaitTermination();
+        assertThat(subscriber.completed).isTrue();
+        assertThat(subscriber.ids()).isEmpty();
+    }
+
+    @Test
+    public void completesWithoutDemandAfterAShortLastPage() throws Exception {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        SpherePublishers.ofQuery(CursorTestSphereClient.of(7), CategoryQuery.of(), PAGE_SIZE).subscribe(subscriber);
+        subscriber.request(7);
+
+        subscriber.awaitTermination();
+        assertThat(subscriber.completed).isTrue();
+        assertThat(subscriber.ids()).hasSize(7);
+    }
+
+    @Test
+    public void fetchesPagesOnDemand() throws Exception {
+        final AtomicInteger requestCounter = new AtomicInteger();
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        final Publisher<Category> publisher = SpherePublishers.ofQuery(CursorTestSphereClient.of(100, requestCounter), CategoryQuery.of(), PAGE_SIZE);
+
+        publisher.subscribe(subscriber);
+        assertThat(requestCounter.get()).isEqualTo(0);
+
+        subscriber.request(3);
+        assertThat(subscriber.ids()).hasSize(3);
+        assertThat(requestCounter.get()).isEqualTo(1);
+
+        subscriber.request(3);
+        assertThat(subscriber.ids()).hasSize(6);
+        assertThat(requestCounter.get()).isEqualTo(2);
+
+        subscriber.subscription.cancel();
+        subscriber.request(100);
+        assertThat(subscriber.ids()).hasSize(6);
+        assertThat(requestCounter.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void worksWithAsynchronousResponses() throws Exception {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        SpherePublishers.ofQuery(CursorTestSphereClient.of(23, new AtomicInteger(), true), CategoryQuery.of(), PAGE_SIZE).subscribe(subscriber);
+        subscriber.request(10);
+        subscriber.request(20);
+
+        subscriber.awaitTermination();
+        assertThat(subscriber.ids()).hasSize(23).isSorted();
+    }
+
+    @Test
+    public void nonPositiveRequestSignalsError() throws Exception {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        SpherePublishers.ofQuery(CursorTestSphereClient.of(10), CategoryQuery.of(), PAGE_SIZE).subscribe(subscriber);
+        subscriber.request(0);
+
+        subscriber.awaitTermination();
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class RecordingSubscriber implements Subscriber<Category> {
+        private final List<Category> elements = new CopyOnWriteArrayList<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private volatile Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean completed = false;
+
+        @Override
+        public void onSubscribe(final Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final Category category) {
+            elements.add(category);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        private void request(final long n) {
+            subscription.request(n);
+        }
+
+        private void awaitTermination() throws InterruptedException {
+            assertThat(terminated.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        private List<String> ids() {
+            return elements.stream().map(Category::getId).collect(toList());
+        }
+    }
+}
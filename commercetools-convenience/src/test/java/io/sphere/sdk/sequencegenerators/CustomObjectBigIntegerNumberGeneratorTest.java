@@ -0,0 +1,180 @@
+package io.sphere.sdk.sequencegenerators;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.sphere.sdk.client.ConcurrentModificationException;
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.client.TestDoubleSphereClientFactory;
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpRequestBody;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.http.StringHttpRequestBody;
+import io.sphere.sdk.json.SphereJsonUtils;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class CustomObjectBigIntegerNumberGeneratorTest {
+    private final CustomObjectStore store = new CustomObjectStore();
+
+    @Test
+    public void reservesEveryNumberByDefault() throws Exception {
+        final CustomObjectBigIntegerNumberGenerator generator = generator(CustomObjectBigIntegerNumberGeneratorConfigBuilder.of(store.client(), "orderNumber"));
+
+        assertThat(nextNumbers(generator, 3)).containsExactly(1L, 2L, 3L);
+        assertThat(store.upserts.get()).isEqualTo(3);
+        assertThat(generator.getStatistics().getReservations()).isEqualTo(3);
+    }
+
+    @Test
+    public void reservesBlocks() throws Exception {
+        final CustomObjectBigIntegerNumberGenerator generator = generator(CustomObjectBigIntegerNumberGeneratorConfigBuilder.of(store.client(), "orderNumber")
+                .initialValue(BigInteger.valueOf(1000))
+                .blockSize(10));
+
+        assertThat(nextNumbers(generator, 25)).isEqualTo(range(1000, 1025));
+        assertThat(store.upserts.get()).isEqualTo(3);
+        assertThat(store.value).isEqualTo(BigInteger.valueOf(1029));
+        final NumberGeneratorStatistics statistics = generator.getStatistics();
+        assertThat(statistics.getGeneratedNumbers()).isEqualTo(25);
+        assertThat(statistics.getReservations()).isEqualTo(3);
+        assertThat(statistics.getPrefetches()).isZero();
+    }
+
+    @Test
+    public void generatorsShareTheCustomObject() throws Exception {
+        final CustomObjectBigIntegerNumberGenerator blockGenerator = generator(CustomObjectBigIntegerNumberGeneratorConfigBuilder.of(store.client(), "orderNumber")
+                .blockSize(5));
+        final CustomObjectBigIntegerNumberGenerator singleGenerator = generator(CustomObjectBigIntegerNumberGeneratorConfigBuilder.of(store.client(), "orderNumber"));
+
+        assertThat(nextNumbers(blockGenerator, 2)).containsExactly(1L, 2L);
+        assertThat(nextNumbers(singleGenerator, 1)).containsExactly(6L);
+        assertThat(nextNumbers(blockGenerator, 4)).containsExactly(3L, 4L, 5L, 7L);
+    }
+
+    @Test
+    public void prefetchesTheNextBlock() throws Exception {
+        final CustomObjectBigIntegerNumberGenerator generator = generator(CustomObjectBigIntegerNumberGeneratorConfigBuilder.of(store.client(), "orderNumber")
+                .blockSize(10)
+                .prefetchThreshold(3));
+
+        assertThat(nextNumbers(generator, 7)).isEqualTo(range(1, 8));
+        //the retries of the generator run in the common pool, so the prefetch completes asynchronously
+        for (int i = 0; i < 100 && store.upserts.get() < 2; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(store.upserts.get()).isEqualTo(2);
+        assertThat(store.value).isEqualTo(BigInteger.valueOf(20));
+
+        assertThat(nextNumbers(generator, 4)).isEqualTo(range(8, 12));
+        assertThat(store.upserts.get()).isEqualTo(2);
+        assertThat(generator.getStatistics().getPrefetches()).isEqualTo(1);
+    }
+
+    @Test
+    public void retriesConflicts() throws Exception {
+        final CustomObjectBigIntegerNumberGenerator generator = generator(CustomObjectBigIntegerNumberGeneratorConfigBuilder.of(store.client(), "orderNumber")
+                .blockSize(10));
+        store.concurrentUpdates.set(2);
+
+        assertThat(nextNumbers(generator, 1)).containsExactly(21L);
+        final NumberGeneratorStatistics statistics = generator.getStatistics();
+        assertThat(statistics.getConflicts()).isEqualTo(2);
+        assertThat(statistics.getReservations()).isEqualTo(1);
+        assertThat(statistics.getFailedReservations()).isZero();
+    }
+
+    @Test
+    public void failsAfterMaxRetryAttempts() throws Exception {
+        final CustomObjectBigIntegerNumberGenerator generator = generator(CustomObjectBigIntegerNumberGeneratorConfigBuilder.of(store.client(), "orderNumber")
+                .blockSize(10)
+                .maxRetryAttempts(2));
+        store.concurrentUpdates.set(5);
+
+        final Throwable throwable = catchThrowable(() -> generator.getNextNumber().toCompletableFuture().join());
+
+        assertThat(throwable).hasCauseInstanceOf(ConcurrentModificationException.class);
+        assertThat(generator.getStatistics().getFailedReservations()).isEqualTo(1);
+    }
+
+    @Test
+    public void equalityDependsOnlyOnTheConfig() throws Exception {
+        final CustomObjectBigIntegerNumberGeneratorConfig config = CustomObjectBigIntegerNumberGeneratorConfigBuilder.of(store.client(), "orderNumber")
+                .blockSize(10)
+                .build();
+        final CustomObjectBigIntegerNumberGenerator usedGenerator = CustomObjectBigIntegerNumberGenerator.of(config);
+        final CustomObjectBigIntegerNumberGenerator unusedGenerator = CustomObjectBigIntegerNumberGenerator.of(config);
+
+        nextNumbers(usedGenerator, 3);
+
+        assertThat(usedGenerator).isEqualTo(unusedGenerator);
+        assertThat(usedGenerator.hashCode()).isEqualTo(unusedGenerator.hashCode());
+        assertThat(usedGenerator.toString()).doesNotContain("currentBlock").doesNotContain("generatedNumbers");
+    }
+
+    private static CustomObjectBigIntegerNumberGenerator generator(final CustomObjectBigIntegerNumberGeneratorConfigBuilder builder) {
+        return CustomObjectBigIntegerNumberGenerator.of(builder.build());
+    }
+
+    private static List<Long> nextNumbers(final CustomObjectBigIntegerNumberGenerator generator, final int count) {
+        final List<Long> numbers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            numbers.add(generator.getNextNumber().toCompletableFuture().join().longValue());
+        }
+        return numbers;
+    }
+
+    private static List<Long> range(final long startInclusive, final long endExclusive) {
+        final List<Long> numbers = new ArrayList<>();
+        for (long i = startInclusive; i < endExclusive; i++) {
+            numbers.add(i);
+        }
+        return numbers;
+    }
+
+    /**
+     * Stores one custom object with optimistic concurrency control like the platform.
+     */
+    private static final class CustomObjectStore {
+        private BigInteger value;
+        private long version;
+        private final AtomicInteger upserts = new AtomicInteger();
+        private final AtomicInteger concurrentUpdates = new AtomicInteger();
+
+        private SphereClient client() {
+            return TestDoubleSphereClientFactory.createHttpTestDouble(intent -> {
+                synchronized (this) {
+                    if (intent.getHttpMethod() == HttpMethod.GET) {
+                        return value == null ? HttpResponse.of(404) : HttpResponse.of(200, customObjectJson());
+                    }
+                    if (concurrentUpdates.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                        value = value == null ? BigInteger.TEN : value.add(BigInteger.TEN);
+                        version++;
+                    }
+                    final JsonNode draft = SphereJsonUtils.parse(bodyOf(intent.getBody()));
+                    if (draft.get("version").asLong() != version) {
+                        return HttpResponse.of(409, "{\"statusCode\":409,\"message\":\"conflict\",\"errors\":[{\"code\":\"ConcurrentModification\",\"message\":\"conflict\"}]}");
+                    }
+                    value = draft.get("value").bigIntegerValue();
+                    version++;
+                    upserts.incrementAndGet();
+                    return HttpResponse.of(200, customObjectJson());
+                }
+            });
+        }
+
+        private String customObjectJson() {
+            return "{\"id\":\"id\",\"version\":" + version + ",\"container\":\"container\",\"key\":\"orderNumber\",\"value\":" + value
+                    + ",\"createdAt\":\"2020-01-01T00:00:00.000Z\",\"lastModifiedAt\":\"2020-01-01T00:00:00.000Z\"}";
+        }
+
+        private static String bodyOf(final HttpRequestBody body) {
+            return ((StringHttpRequestBody) body).getString();
+        }
+    }
+}
@@ -3,21 +3,47 @@ package io.sphere.sdk.annotations.processors;
 import com.squareup.javapoet.JavaFile;
 import io.sphere.sdk.annotations.ResourceValue;
 import io.sphere.sdk.annotations.processors.generators.ResourceValueImplGenerator;
+import io.sphere.sdk.annotations.processors.generators.ResourceValueJsonDeserializerGenerator;
+import io.sphere.sdk.annotations.processors.generators.ResourceValueJsonModuleGenerator;
+import io.sphere.sdk.annotations.processors.generators.ResourceValueJsonSerializerGenerator;
 import io.sphere.sdk.annotations.processors.validators.ResourceValueValidator;
+import io.sphere.sdk.json.ResourceValueJsonModule;
 
+import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 @SupportedAnnotationTypes({"io.sphere.sdk.annotations.ResourceValue"})
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
 public final class ResourceValueAnnotationProcessor extends ClassLevelAnnotationProcessor<ResourceValue> {
+    private final List<TypeElement> jsonTypeElements = new ArrayList<>();
+    private boolean jsonModuleWritten = false;
 
     public ResourceValueAnnotationProcessor() {
         super(ResourceValue.class);
     }
 
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final boolean claimed = super.process(annotations, roundEnv);
+        // the resources are only found in the first round, the module is written there so that it is compiled with them
+        if (!jsonModuleWritten && !jsonTypeElements.isEmpty()) {
+            writeJsonModule();
+            jsonModuleWritten = true;
+        }
+        return claimed;
+    }
+
     @Override
     protected void generate(final TypeElement typeElement) {
         final ResourceValueValidator validator = new ResourceValueValidator(processingEnv);
@@ -26,6 +52,31 @@ public final class ResourceValueAnnotationProcessor extends ClassLevelAnnotation
             final JavaFile javaFile = new ResourceValueImplGenerator(processingEnv.getElementUtils(), processingEnv.getTypeUtils(),processingEnv.getMessager()).generate(typeElement);
 
             writeClass(javaFile);
+
+            final ResourceValueJsonDeserializerGenerator deserializerGenerator =
+                    new ResourceValueJsonDeserializerGenerator(processingEnv.getElementUtils(), processingEnv.getTypeUtils(), processingEnv.getMessager());
+            if (deserializerGenerator.isSupported(typeElement)) {
+                writeClass(deserializerGenerator.generate(typeElement));
+                writeClass(new ResourceValueJsonSerializerGenerator(processingEnv.getElementUtils(), processingEnv.getTypeUtils(), processingEnv.getMessager()).generate(typeElement));
+                jsonTypeElements.add(typeElement);
+            }
+        }
+    }
+
+    private void writeJsonModule() {
+        final ResourceValueJsonModuleGenerator moduleGenerator =
+                new ResourceValueJsonModuleGenerator(processingEnv.getElementUtils(), processingEnv.getTypeUtils(), processingEnv.getMessager());
+        final JavaFile javaFile = moduleGenerator.generate(jsonTypeElements);
+        writeClass(javaFile);
+        final String serviceFile = "META-INF/services/" + ResourceValueJsonModule.class.getName();
+        try {
+            final FileObject fileObject = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", serviceFile,
+                    jsonTypeElements.toArray(new TypeElement[0]));
+            try (final Writer writer = fileObject.openWriter()) {
+                writer.write(javaFile.packageName + "." + javaFile.typeSpec.name + "\n");
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,201 @@
+package io.sphere.sdk.annotations.processors.generators;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.squareup.javapoet.*;
+import io.sphere.sdk.annotations.ResourceValue;
+import io.sphere.sdk.annotations.processors.models.PropertyGenModel;
+import io.sphere.sdk.models.Base;
+
+import javax.annotation.Generated;
+import javax.annotation.processing.Messager;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Abstract base class for the generators of the JSON deserializers and serializers of interfaces annotated with {@link ResourceValue}.
+ *
+ * Only types which are mapped by Jackson exclusively with the properties of the generated implementation class are supported,
+ * other types are left to the bean (de)serializers of Jackson.
+ */
+abstract class AbstractResourceValueJsonGenerator extends AbstractGenerator<TypeElement> {
+    private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+    private static final String UNRESOLVED_TYPE = "<error>";
+
+    AbstractResourceValueJsonGenerator(final Elements elements, final Types types, final Messager messager) {
+        super(elements, types, messager);
+    }
+
+    /**
+     * Returns true iff. the generated code maps the given type like Jackson maps the generated implementation class.
+     * This excludes abstract and generic types, custom base classes, types with Jackson annotations in their hierarchy
+     * (except {@link JsonProperty} and {@link JsonIgnore} on methods) and default methods which Jackson would serialize.
+     *
+     * @param typeElement the type annotated with {@link ResourceValue}
+     * @return true iff. a deserializer and a serializer can be generated
+     */
+    public boolean isSupported(final TypeElement typeElement) {
+        final ResourceValue resourceValue = typeElement.getAnnotation(ResourceValue.class);
+        final boolean hasDefaultBaseClass = typeUtils.getAnnotationValue(typeElement, ResourceValue.class, "baseClass")
+                .map(v -> v.getValue().toString())
+                .filter(Base.class.getCanonicalName()::equals)
+                .isPresent();
+        return resourceValue != null && !resourceValue.abstractResourceClass() && hasDefaultBaseClass
+                && typeElement.getTypeParameters().isEmpty()
+                && hasSupportedTypeAnnotations(typeElement)
+                && getSupertypes(typeElement).noneMatch(this::hasJacksonAnnotation)
+                && ElementFilter.methodsIn(elements.getAllMembers(typeElement)).stream().allMatch(this::isSupportedMethod)
+                && getProperties(typeElement).stream().allMatch(this::isSupportedProperty);
+    }
+
+    protected List<PropertyGenModel> getProperties(final TypeElement typeElement) {
+        return getPropertyGenModels(getAllPropertyMethodsSorted(typeElement));
+    }
+
+    protected String getJsonName(final PropertyGenModel property) {
+        return property.getJsonName() != null ? property.getJsonName() : property.getName();
+    }
+
+    protected boolean isString(final PropertyGenModel property) {
+        return property.getType().equals(ClassName.get(String.class));
+    }
+
+    protected AnnotationSpec createGeneratedAnnotation(final TypeElement typeElement) {
+        return AnnotationSpec.builder(Generated.class)
+                .addMember("value", "$S", getClass().getCanonicalName())
+                .addMember("comments", "$S", "Generated from: " + typeElement.getQualifiedName().toString())
+                .build();
+    }
+
+    protected MethodSpec createPropertyTypesMethod(final List<PropertyGenModel> properties) {
+        final CodeBlock javaTypes = properties.stream()
+                .map(property -> createJavaType(property.getType()))
+                .collect(CodeBlock.joining(",\n"));
+        return MethodSpec.methodBuilder("propertyTypes")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(ArrayTypeName.of(JavaType.class))
+                .addParameter(ParameterSpec.builder(TypeFactory.class, "typeFactory", Modifier.FINAL).build())
+                .addCode("return new $T[] {\n$>$L$<\n};\n", JavaType.class, javaTypes)
+                .build();
+    }
+
+    private CodeBlock createJavaType(final TypeName typeName) {
+        if (typeName instanceof ParameterizedTypeName) {
+            final ParameterizedTypeName parameterizedTypeName = (ParameterizedTypeName) typeName;
+            final CodeBlock typeArguments = parameterizedTypeName.typeArguments.stream()
+                    .map(this::createJavaType)
+                    .collect(CodeBlock.joining(", "));
+            return CodeBlock.of("typeFactory.constructParametricType($T.class, $L)", parameterizedTypeName.rawType, typeArguments);
+        }
+        return CodeBlock.of("typeFactory.constructType($T.class)", typeName);
+    }
+
+    private boolean hasSupportedTypeAnnotations(final TypeElement typeElement) {
+        final String implSimpleName = ((ClassName) typeUtils.getResourceValueImplType(typeElement)).simpleName();
+        return getJacksonAnnotations(typeElement).allMatch(annotationMirror -> {
+            final boolean isJsonDeserialize = annotationMirror.getAnnotationType().toString().equals(JsonDeserialize.class.getName());
+            final Map<? extends ExecutableElement, ? extends AnnotationValue> values = annotationMirror.getElementValues();
+            return isJsonDeserialize && values.size() == 1 && values.entrySet().stream()
+                    .allMatch(e -> e.getKey().getSimpleName().contentEquals("as") && isImplType(e.getValue().getValue().toString(), implSimpleName));
+        });
+    }
+
+    /**
+     * The implementation is generated in this round, so javac 8 only reports {@code <error>} for its class literal,
+     * newer compilers report the simple name.
+     */
+    private boolean isImplType(final String typeName, final String implSimpleName) {
+        return typeName.equals(UNRESOLVED_TYPE) || isSimpleNameOf(typeName, implSimpleName);
+    }
+
+    private boolean isSimpleNameOf(final String typeName, final String simpleName) {
+        return typeName.equals(simpleName) || typeName.endsWith("." + simpleName);
+    }
+
+    private Stream<TypeElement> getSupertypes(final TypeElement typeElement) {
+        final Set<TypeElement> supertypes = new LinkedHashSet<>();
+        final Deque<TypeMirror> pending = new ArrayDeque<>(types.directSupertypes(typeElement.asType()));
+        while (!pending.isEmpty()) {
+            final TypeMirror supertype = pending.pop();
+            if (supertype.getKind() == TypeKind.DECLARED && supertypes.add((TypeElement) types.asElement(supertype))) {
+                pending.addAll(types.directSupertypes(supertype));
+            }
+        }
+        return supertypes.stream()
+                .filter(supertype -> !supertype.getQualifiedName().contentEquals(Object.class.getName()));
+    }
+
+    private boolean isSupportedMethod(final ExecutableElement method) {
+        final Set<Modifier> modifiers = method.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || ((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals(Object.class.getName())) {
+            return true;
+        }
+        final boolean hasOnlyPropertyAnnotations = getJacksonAnnotations(method)
+                .map(annotationMirror -> annotationMirror.getAnnotationType().toString())
+                .allMatch(name -> name.equals(JsonProperty.class.getName()) || name.equals(JsonIgnore.class.getName()));
+        final boolean isSerializedDefaultMethod = modifiers.contains(Modifier.DEFAULT)
+                && method.getAnnotation(JsonIgnore.class) == null
+                && (method.getAnnotation(JsonProperty.class) != null || isGetter(method));
+        return hasOnlyPropertyAnnotations && !isSerializedDefaultMethod;
+    }
+
+    private boolean isGetter(final ExecutableElement method) {
+        final String name = method.getSimpleName().toString();
+        final TypeKind returnKind = method.getReturnType().getKind();
+        return method.getParameters().isEmpty() && returnKind != TypeKind.VOID
+                && (name.startsWith("get") && name.length() > 3 || name.startsWith("is") && name.length() > 2 && returnKind == TypeKind.BOOLEAN);
+    }
+
+    /**
+     * Properties without an explicit JSON name need to be found by Jackson with the same name for the getter and the constructor parameter.
+     */
+    private boolean isSupportedProperty(final PropertyGenModel property) {
+        final TypeName type = property.getType();
+        if (!isSupportedType(type)) {
+            return false;
+        } else if (property.getJsonName() != null) {
+            return true;
+        }
+        final String methodName = property.getMethodName();
+        final boolean isGetter = methodName.startsWith("get") || methodName.startsWith("is") && type.equals(TypeName.BOOLEAN);
+        return isGetter && !SourceVersion.isKeyword(property.getName()) && property.getName().equals(toJacksonPropertyName(property.getCapitalizedName()));
+    }
+
+    private boolean isSupportedType(final TypeName type) {
+        if (type instanceof ParameterizedTypeName) {
+            return ((ParameterizedTypeName) type).typeArguments.stream().allMatch(this::isSupportedType);
+        }
+        return type instanceof ClassName || type.isPrimitive();
+    }
+
+    /**
+     * Jackson lower cases all leading upper case characters of the name after the getter prefix.
+     */
+    private String toJacksonPropertyName(final String capitalizedName) {
+        final StringBuilder builder = new StringBuilder(capitalizedName);
+        for (int i = 0; i < builder.length() && Character.isUpperCase(builder.charAt(i)); i++) {
+            builder.setCharAt(i, Character.toLowerCase(builder.charAt(i)));
+        }
+        return builder.toString();
+    }
+
+    private boolean hasJacksonAnnotation(final Element element) {
+        return getJacksonAnnotations(element).findAny().isPresent();
+    }
+
+    private Stream<? extends AnnotationMirror> getJacksonAnnotations(final Element element) {
+        return element.getAnnotationMirrors().stream()
+                .filter(annotationMirror -> annotationMirror.getAnnotationType().toString().startsWith(JACKSON_PACKAGE));
+    }
+}
@@ -0,0 +1,98 @@
+package io.sphere.sdk.annotations.processors.generators;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.squareup.javapoet.*;
+import io.sphere.sdk.annotations.processors.models.PropertyGenModel;
+import io.sphere.sdk.json.ResourceValueJsonDeserializer;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Generates {@link ResourceValueJsonDeserializer}s for interfaces annotated with {@link io.sphere.sdk.annotations.ResourceValue}
+ * which read the fields in a switch on the field name and call the constructor of the implementation class.
+ */
+public class ResourceValueJsonDeserializerGenerator extends AbstractResourceValueJsonGenerator {
+
+    public ResourceValueJsonDeserializerGenerator(final Elements elements, final Types types, final Messager messager) {
+        super(elements, types, messager);
+    }
+
+    @Override
+    public TypeSpec generateType(final TypeElement resourceValueTypeElement) {
+        final ClassName resourceValueType = ClassName.get(resourceValueTypeElement);
+        final TypeName implType = typeUtils.getResourceValueImplType(resourceValueTypeElement);
+        final List<PropertyGenModel> properties = getProperties(resourceValueTypeElement);
+
+        final MethodSpec constructor = MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addCode("super($T.class, $T.class);\n", resourceValueType, implType)
+                .build();
+
+        return TypeSpec.classBuilder(typeUtils.getResourceValueJsonDeserializerType(resourceValueTypeElement))
+                .superclass(ParameterizedTypeName.get(ClassName.get(ResourceValueJsonDeserializer.class), resourceValueType))
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(createGeneratedAnnotation(resourceValueTypeElement))
+                .addMethod(constructor)
+                .addMethod(createPropertyTypesMethod(properties))
+                .addMethod(createDeserializeMethod(resourceValueType, implType, properties))
+                .build();
+    }
+
+    private MethodSpec createDeserializeMethod(final ClassName resourceValueType, final TypeName implType, final List<PropertyGenModel> properties) {
+        final MethodSpec.Builder builder = MethodSpec.methodBuilder("deserialize")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(resourceValueType)
+                .addParameter(ParameterSpec.builder(JsonParser.class, "jsonParser", Modifier.FINAL).build())
+                .addParameter(ParameterSpec.builder(DeserializationContext.class, "deserializationContext", Modifier.FINAL).build())
+                .addException(IOException.class);
+        if (properties.stream().anyMatch(property -> property.getType() instanceof ParameterizedTypeName)) {
+            addSuppressWarnings(builder);
+        }
+        final CodeBlock.Builder body = CodeBlock.builder();
+        properties.forEach(property -> body.addStatement("$T $L = $L", property.getType(), property.getJavaIdentifier(), getDefaultValue(property.getType())));
+
+        body.beginControlFlow("for (String jsonFieldName = firstFieldName(jsonParser, deserializationContext); jsonFieldName != null; jsonFieldName = jsonParser.nextFieldName())")
+                .addStatement("jsonParser.nextToken()")
+                .beginControlFlow("switch (jsonFieldName)");
+        for (int i = 0; i < properties.size(); i++) {
+            final PropertyGenModel property = properties.get(i);
+            body.add("case $S:\n", getJsonName(property)).indent();
+            if (isString(property)) {
+                body.addStatement("$L = readString($L, jsonParser, deserializationContext)", property.getJavaIdentifier(), i);
+            } else {
+                final TypeName type = property.getType();
+                body.addStatement("$L = ($T) readProperty($L, jsonParser, deserializationContext)", property.getJavaIdentifier(), type.isPrimitive() ? type.box() : type, i);
+            }
+            body.addStatement("break").unindent();
+        }
+        body.add("default:\n").indent()
+                .addStatement("jsonParser.skipChildren()").unindent()
+                .endControlFlow()
+                .endControlFlow();
+
+        final String constructorArguments = properties.stream()
+                .map(PropertyGenModel::getJavaIdentifier)
+                .collect(Collectors.joining(", "));
+        body.addStatement("return new $T($L)", implType, constructorArguments);
+        return builder.addCode(body.build())
+                .build();
+    }
+
+    private String getDefaultValue(final TypeName type) {
+        if (type.equals(TypeName.BOOLEAN)) {
+            return "false";
+        } else if (type.equals(TypeName.CHAR)) {
+            return "'\\0'";
+        }
+        return type.isPrimitive() ? "0" : "null";
+    }
+}
@@ -0,0 +1,67 @@
+package io.sphere.sdk.annotations.processors.generators;
+
+import com.squareup.javapoet.*;
+import io.sphere.sdk.json.ResourceValueJsonModule;
+
+import javax.annotation.Generated;
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates the {@link ResourceValueJsonModule} which registers the generated deserializers and serializers of a compilation.
+ * The module is placed in the common package of the given types.
+ */
+public class ResourceValueJsonModuleGenerator extends BaseAbstractGenerator {
+    private static final String MODULE_NAME = "ResourceValueJsonModuleImpl";
+
+    public ResourceValueJsonModuleGenerator(final Elements elements, final Types types, final Messager messager) {
+        super(elements, types, messager);
+    }
+
+    /**
+     * Generates the module for the given types.
+     *
+     * @param resourceValueTypeElements the types with a generated deserializer and serializer
+     * @return the java file to write
+     */
+    public JavaFile generate(final List<TypeElement> resourceValueTypeElements) {
+        final ClassName moduleType = getModuleType(resourceValueTypeElements);
+        final MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC);
+        resourceValueTypeElements.forEach(typeElement -> constructor.addStatement("addResourceValue(new $T(), new $T())",
+                typeUtils.getResourceValueJsonDeserializerType(typeElement), typeUtils.getResourceValueJsonSerializerType(typeElement)));
+
+        final TypeSpec typeSpec = TypeSpec.classBuilder(moduleType)
+                .superclass(ResourceValueJsonModule.class)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(AnnotationSpec.builder(Generated.class)
+                        .addMember("value", "$S", getClass().getCanonicalName())
+                        .build())
+                .addField(FieldSpec.builder(TypeName.LONG, "serialVersionUID", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("0L")
+                        .build())
+                .addMethod(constructor.build())
+                .build();
+        return JavaFile.builder(moduleType.packageName(), typeSpec)
+                .build();
+    }
+
+    public ClassName getModuleType(final List<TypeElement> resourceValueTypeElements) {
+        final String[] commonPackage = getPackageName(resourceValueTypeElements.get(0)).split("\\.");
+        int commonLength = commonPackage.length;
+        for (final TypeElement typeElement : resourceValueTypeElements) {
+            final String[] packageName = getPackageName(typeElement).split("\\.");
+            int i = 0;
+            while (i < commonLength && i < packageName.length && commonPackage[i].equals(packageName[i])) {
+                i++;
+            }
+            commonLength = i;
+        }
+        return ClassName.get(String.join(".", Arrays.copyOf(commonPackage, commonLength)), MODULE_NAME);
+    }
+}
@@ -0,0 +1,67 @@
+package io.sphere.sdk.annotations.processors.generators;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.squareup.javapoet.*;
+import io.sphere.sdk.annotations.processors.models.PropertyGenModel;
+import io.sphere.sdk.json.ResourceValueJsonSerializer;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Generates {@link ResourceValueJsonSerializer}s for interfaces annotated with {@link io.sphere.sdk.annotations.ResourceValue}
+ * which write the properties with the getters of the interface.
+ */
+public class ResourceValueJsonSerializerGenerator extends AbstractResourceValueJsonGenerator {
+
+    public ResourceValueJsonSerializerGenerator(final Elements elements, final Types types, final Messager messager) {
+        super(elements, types, messager);
+    }
+
+    @Override
+    public TypeSpec generateType(final TypeElement resourceValueTypeElement) {
+        final ClassName resourceValueType = ClassName.get(resourceValueTypeElement);
+        final List<PropertyGenModel> properties = getProperties(resourceValueTypeElement);
+
+        final CodeBlock.Builder superCall = CodeBlock.builder().add("super($T.class", resourceValueType);
+        properties.forEach(property -> superCall.add(", $S", getJsonName(property)));
+        final MethodSpec constructor = MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addCode(superCall.add(");\n").build())
+                .build();
+
+        return TypeSpec.classBuilder(typeUtils.getResourceValueJsonSerializerType(resourceValueTypeElement))
+                .superclass(ParameterizedTypeName.get(ClassName.get(ResourceValueJsonSerializer.class), resourceValueType))
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(createGeneratedAnnotation(resourceValueTypeElement))
+                .addMethod(constructor)
+                .addMethod(createPropertyTypesMethod(properties))
+                .addMethod(createSerializePropertiesMethod(resourceValueType, properties))
+                .build();
+    }
+
+    private MethodSpec createSerializePropertiesMethod(final ClassName resourceValueType, final List<PropertyGenModel> properties) {
+        final MethodSpec.Builder builder = MethodSpec.methodBuilder("serializeProperties")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .addParameter(ParameterSpec.builder(resourceValueType, "value", Modifier.FINAL).build())
+                .addParameter(ParameterSpec.builder(JsonGenerator.class, "jsonGenerator", Modifier.FINAL).build())
+                .addParameter(ParameterSpec.builder(SerializerProvider.class, "serializerProvider", Modifier.FINAL).build())
+                .addException(IOException.class);
+        if (properties.stream().anyMatch(PropertyGenModel::isDeprecated)) {
+            builder.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "deprecation").build());
+        }
+        for (int i = 0; i < properties.size(); i++) {
+            final PropertyGenModel property = properties.get(i);
+            final String writeMethod = isString(property) ? "writeString" : "writeProperty";
+            builder.addStatement("$L($L, value.$L(), jsonGenerator, serializerProvider)", writeMethod, i, property.getMethodName());
+        }
+        return builder.build();
+    }
+}
@@ -70,6 +70,16 @@ public class TypeUtils {
                 ParameterizedTypeName.get(resourceValueImpl, typeParameters.toArray(new TypeVariableName[typeParameters.size()]));
     }
 
+    public ClassName getResourceValueJsonDeserializerType(final TypeElement resourceValueTypeElement) {
+        final ClassName resourceValueType = ClassName.get(resourceValueTypeElement);
+        return ClassName.get(resourceValueType.packageName(), resourceValueType.simpleName() + "JsonDeserializer");
+    }
+
+    public ClassName getResourceValueJsonSerializerType(final TypeElement resourceValueTypeElement) {
+        final ClassName resourceValueType = ClassName.get(resourceValueTypeElement);
+        return ClassName.get(resourceValueType.packageName(), resourceValueType.simpleName() + "JsonSerializer");
+    }
+
     /**
      * Returns the type that the builder should return {@link Builder#build()}.
      *
@@ -0,0 +1,44 @@
+package io.sphere.sdk.annotations.processors.generators;
+
+import io.sphere.sdk.annotations.processors.generators.examples.ExampleGenericResource;
+import io.sphere.sdk.annotations.processors.generators.examples.ExampleResource;
+import io.sphere.sdk.annotations.processors.generators.examples.ExampleResourceWithAbstractBaseClass;
+import io.sphere.sdk.annotations.processors.generators.examples.ExampleResourceWithBaseClass;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.lang.model.element.TypeElement;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+/**
+ * Unit tests for {@link ResourceValueJsonDeserializerGenerator}.
+ */
+public class ResourceValueJsonDeserializerGeneratorTest extends AbstractGeneratorTest {
+
+    @Before
+    public void setup() {
+        generator = new ResourceValueJsonDeserializerGenerator(compilationRule.getElements(), compilationRule.getTypes(), messager);
+    }
+
+    @Test
+    public void generateExampleResource() throws Exception {
+        final String content = generateAsString(ExampleResource.class);
+
+        assertThat(content).isEqualTo(expectedContent(ExampleResource.class));
+    }
+
+    @Test
+    public void supportsOnlyConcreteResourcesWithDefaultBaseClass() throws Exception {
+        final ResourceValueJsonDeserializerGenerator deserializerGenerator = (ResourceValueJsonDeserializerGenerator) generator;
+
+        assertThat(deserializerGenerator.isSupported(typeElement(ExampleResource.class))).isTrue();
+        assertThat(deserializerGenerator.isSupported(typeElement(ExampleGenericResource.class))).isFalse();
+        assertThat(deserializerGenerator.isSupported(typeElement(ExampleResourceWithAbstractBaseClass.class))).isFalse();
+        assertThat(deserializerGenerator.isSupported(typeElement(ExampleResourceWithBaseClass.class))).isFalse();
+    }
+
+    private TypeElement typeElement(final Class<?> clazz) {
+        return compilationRule.getElements().getTypeElement(clazz.getCanonicalName());
+    }
+}
@@ -0,0 +1,25 @@
+package io.sphere.sdk.annotations.processors.generators;
+
+import io.sphere.sdk.annotations.processors.generators.examples.ExampleResource;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+/**
+ * Unit tests for {@link ResourceValueJsonSerializerGenerator}.
+ */
+public class ResourceValueJsonSerializerGeneratorTest extends AbstractGeneratorTest {
+
+    @Before
+    public void setup() {
+        generator = new ResourceValueJsonSerializerGenerator(compilationRule.getElements(), compilationRule.getTypes(), messager);
+    }
+
+    @Test
+    public void generateExampleResource() throws Exception {
+        final String content = generateAsString(ExampleResource.class);
+
+        assertThat(content).isEqualTo(expectedContent(ExampleResource.class));
+    }
+}
@@ -4,11 +4,22 @@ import com.ning.http.client.AsyncHttpClient;
 import io.sphere.sdk.http.AsyncHttpClientAdapter;
 import io.sphere.sdk.http.HttpClient;
 
+import java.util.concurrent.Executor;
+
 public final class SphereAsyncHttpClientFactory extends SphereHttpClientFactory{
 
     @Deprecated
     public static HttpClient create() {
-        return AsyncHttpClientAdapter.of(new AsyncHttpClient());
+        return AsyncHttpClientAdapter.of(newAsyncHttpClient());
+    }
+
+    @Override
+    public HttpClient getClient(final Executor executor) {
+        return AsyncHttpClientAdapter.of(newAsyncHttpClient(), executor);
+    }
+
+    private static AsyncHttpClient newAsyncHttpClient() {
+        return new AsyncHttpClient();
     }
 
     @Override
@@ -6,10 +6,21 @@ import io.sphere.sdk.http.HttpClient;
 import io.sphere.sdk.http.AsyncHttpClientAdapter;
 import io.sphere.sdk.models.Base;
 
+import java.util.concurrent.Executor;
+
 public final class SphereAsyncHttpClientFactory extends SphereHttpClientFactory {
     @Deprecated
     public static HttpClient create() {
-        return AsyncHttpClientAdapter.of(new AsyncHttpClient(new AsyncHttpClientConfig.Builder().setEnabledProtocols(new String[]{"TLSv1.1", "TLSv1.2"}).build()));
+        return AsyncHttpClientAdapter.of(newAsyncHttpClient());
+    }
+
+    @Override
+    public HttpClient getClient(final Executor executor) {
+        return AsyncHttpClientAdapter.of(newAsyncHttpClient(), executor);
+    }
+
+    private static AsyncHttpClient newAsyncHttpClient() {
+        return new AsyncHttpClient(new AsyncHttpClientConfig.Builder().setEnabledProtocols(new String[]{"TLSv1.1", "TLSv1.2"}).build());
     }
 
     @Override
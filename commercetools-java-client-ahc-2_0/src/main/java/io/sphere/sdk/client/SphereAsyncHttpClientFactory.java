@@ -3,15 +3,27 @@ package io.sphere.sdk.client;
 import io.sphere.sdk.http.AsyncHttpClientAdapter;
 import io.sphere.sdk.http.HttpClient;
 import io.sphere.sdk.models.Base;
+import org.asynchttpclient.AsyncHttpClient;
 import org.asynchttpclient.DefaultAsyncHttpClient;
 import org.asynchttpclient.DefaultAsyncHttpClientConfig;
 
+import java.util.concurrent.Executor;
+
 /**
  * Creates an {@link HttpClient} with a commercetools configured underlying {@link org.asynchttpclient.AsyncHttpClient}.
  */
 public final class SphereAsyncHttpClientFactory extends SphereHttpClientFactory {
     @Deprecated
     public static HttpClient create() {
+        return AsyncHttpClientAdapter.of(newAsyncHttpClient());
+    }
+
+    @Override
+    public HttpClient getClient(final Executor executor) {
+        return AsyncHttpClientAdapter.of(newAsyncHttpClient(), executor);
+    }
+
+    private static AsyncHttpClient newAsyncHttpClient() {
         /*
         https://static.javadoc.io/org.asynchttpclient/async-http-client/2.0.0-RC9/org/asynchttpclient/AsyncHttpClientConfig.html
          */
@@ -20,7 +32,7 @@ public final class SphereAsyncHttpClientFactory extends SphereHttpClientFactory
                 .setReadTimeout(121000)
                 .setRequestTimeout(121000)
                 .build();
-        return AsyncHttpClientAdapter.of(new DefaultAsyncHttpClient(config));
+        return new DefaultAsyncHttpClient(config);
     }
 
     @Override
@@ -3,20 +3,32 @@ package io.sphere.sdk.client;
 
 import io.sphere.sdk.http.AsyncHttpClientAdapter;
 import io.sphere.sdk.http.HttpClient;
+import org.asynchttpclient.AsyncHttpClient;
 import org.asynchttpclient.DefaultAsyncHttpClient;
 import org.asynchttpclient.DefaultAsyncHttpClientConfig;
 
+import java.util.concurrent.Executor;
+
 
 public final class SphereAsyncHttpClientFactory extends SphereHttpClientFactory {
     @Deprecated
     public static HttpClient create() {
+        return AsyncHttpClientAdapter.of(newAsyncHttpClient());
+    }
+
+    @Override
+    public HttpClient getClient(final Executor executor) {
+        return AsyncHttpClientAdapter.of(newAsyncHttpClient(), executor);
+    }
+
+    private static AsyncHttpClient newAsyncHttpClient() {
 
         final DefaultAsyncHttpClientConfig config = new DefaultAsyncHttpClientConfig.Builder()
                 .setEnabledProtocols(new String[]{"TLSv1.1", "TLSv1.2"})
                 .setReadTimeout(121000)
                 .setRequestTimeout(121000)
                 .build();
-        return AsyncHttpClientAdapter.of(new DefaultAsyncHttpClient(config));
+        return new DefaultAsyncHttpClient(config);
     }
 
     @Override
@@ -1,22 +1,46 @@
 package io.sphere.sdk.client;
 
 import io.sphere.sdk.http.ApacheHttpClientAdapter;
+import io.sphere.sdk.http.ApacheHttpClientConfig;
 import io.sphere.sdk.http.HttpClient;
 import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 
+import java.util.concurrent.Executor;
+
 public final class SphereApacheHttpClientFactory extends SphereHttpClientFactory {
 
     public SphereApacheHttpClientFactory(){
 
     }
 
+    /**
+     * Creates an Apache client with the defaults of {@link HttpAsyncClients#createDefault()}.
+     * Use {@link #create(ApacheHttpClientConfig)} for a client with a tuned connection pool.
+     *
+     * @return http client
+     */
     public static HttpClient create() {
         return ApacheHttpClientAdapter.of(HttpAsyncClients.createDefault());
     }
 
+    /**
+     * Creates an Apache client with a custom connection pool, I/O thread and HTTP/2 configuration.
+     *
+     * @param config the settings of the client
+     * @return http client which also provides {@link ApacheHttpClientAdapter#getPoolStatistics()}
+     */
+    public static ApacheHttpClientAdapter create(final ApacheHttpClientConfig config) {
+        return ApacheHttpClientAdapter.of(config);
+    }
+
     @Override
     public  HttpClient getClient(){
         return create();
     }
 
+    @Override
+    public HttpClient getClient(final Executor executor) {
+        return ApacheHttpClientAdapter.of(HttpAsyncClients.createDefault(), executor);
+    }
+
 }
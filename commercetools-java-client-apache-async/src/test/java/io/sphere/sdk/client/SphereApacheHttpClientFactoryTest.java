@@ -0,0 +1,109 @@
+package io.sphere.sdk.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.sphere.sdk.http.*;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SphereApacheHttpClientFactoryTest {
+    private HttpServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            final byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/gzip", exchange -> {
+            final ByteArrayOutputStream body = new ByteArrayOutputStream();
+            try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(body)) {
+                gzipOutputStream.write("{\"gzip\":true}".getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_ENCODING, "gzip");
+            exchange.sendResponseHeaders(200, body.size());
+            exchange.getResponseBody().write(body.toByteArray());
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.stop(0);
+    }
+
+    @Test
+    public void reportsPoolStatistics() throws Exception {
+        final ApacheHttpClientConfig config = ApacheHttpClientConfigBuilder.of()
+                .maxConnections(8)
+                .ioThreads(1)
+                .build();
+        try (final ApacheHttpClientAdapter httpClient = SphereApacheHttpClientFactory.create(config)) {
+            assertThat(httpClient.getPoolStatistics()).hasValueSatisfying(statistics -> {
+                assertThat(statistics.getMax()).isEqualTo(8);
+                assertThat(statistics.getLeased()).isZero();
+            });
+
+            final String url = "http://localhost:" + server.getAddress().getPort() + "/test";
+            final HttpResponse response = httpClient.execute(HttpRequest.of(HttpMethod.GET, url)).toCompletableFuture().join();
+
+            assertThat(response.getStatusCode()).isEqualTo(200);
+            //the connection is released to the pool after the response has been completed
+            for (int i = 0; i < 100 && httpClient.getPoolStatistics().get().getLeased() > 0; i++) {
+                Thread.sleep(10);
+            }
+            assertThat(httpClient.getPoolStatistics()).hasValueSatisfying(statistics -> {
+                assertThat(statistics.getLeased()).isZero();
+                assertThat(statistics.getPending()).isZero();
+                assertThat(statistics.getAvailable()).isEqualTo(1);
+            });
+        }
+    }
+
+    @Test
+    public void decompressesGzipResponses() throws Exception {
+        final String url = "http://localhost:" + server.getAddress().getPort() + "/gzip";
+        for (final boolean streamResponseBody : new boolean[]{false, true}) {
+            final ApacheHttpClientConfig config = ApacheHttpClientConfigBuilder.of()
+                    .streamResponseBody(streamResponseBody)
+                    .build();
+            try (final ApacheHttpClientAdapter httpClient = SphereApacheHttpClientFactory.create(config)) {
+                final HttpResponse response = httpClient.execute(HttpRequest.of(HttpMethod.GET, url)).toCompletableFuture().join();
+
+                assertThat(IOUtils.toString(response.getResponseBodyAsStream(), StandardCharsets.UTF_8)).isEqualTo("{\"gzip\":true}");
+            }
+        }
+    }
+
+    @Test
+    public void http2ClientsHaveNoStatistics() throws Exception {
+        final ApacheHttpClientConfig config = ApacheHttpClientConfigBuilder.of()
+                .http2(true)
+                .build();
+        try (final ApacheHttpClientAdapter httpClient = SphereApacheHttpClientFactory.create(config)) {
+            assertThat(httpClient.getPoolStatistics()).isEmpty();
+        }
+    }
+
+    @Test
+    public void clientsOfOtherOriginsHaveNoStatistics() throws Exception {
+        final HttpClient httpClient = ApacheHttpClientAdapter.of(org.apache.hc.client5.http.impl.async.HttpAsyncClients.createDefault());
+        try {
+            assertThat(((ApacheHttpClientAdapter) httpClient).getPoolStatistics()).isEmpty();
+        } finally {
+            httpClient.close();
+        }
+    }
+}
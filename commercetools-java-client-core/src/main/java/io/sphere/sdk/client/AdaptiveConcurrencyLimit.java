@@ -0,0 +1,62 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+/**
+ * Configuration to adapt the number of parallel requests of a {@link QueueSphereClientDecorator} to the observed behaviour of the platform
+ * with an additive increase, multiplicative decrease (AIMD) algorithm.
+ *
+ * <p>Every successful response while at least half of the allowed parallel requests are in use increases the limit by one.
+ * If the platform answers with 429, 502, 503 or 504, if a request times out or if the latency of a request exceeds the average latency
+ * times the {@code latencyTolerance}, the limit is multiplied with the {@code backoffRatio}. The limit is decreased at most once per average latency,
+ * so that one burst of failures does not drop it to the minimum immediately.</p>
+ */
+public final class AdaptiveConcurrencyLimit extends Base {
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    public static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+
+    private AdaptiveConcurrencyLimit(final int minLimit, final int maxLimit, final double backoffRatio, final double latencyTolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("The limits must satisfy 1 <= minLimit <= maxLimit but were " + minLimit + " and " + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1 but was " + backoffRatio);
+        }
+        if (latencyTolerance <= 1) {
+            throw new IllegalArgumentException("latencyTolerance must be greater than 1 but was " + latencyTolerance);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    public static AdaptiveConcurrencyLimit of(final int minLimit, final int maxLimit) {
+        return of(minLimit, maxLimit, DEFAULT_BACKOFF_RATIO, DEFAULT_LATENCY_TOLERANCE);
+    }
+
+    public static AdaptiveConcurrencyLimit of(final int minLimit, final int maxLimit, final double backoffRatio, final double latencyTolerance) {
+        return new AdaptiveConcurrencyLimit(minLimit, maxLimit, backoffRatio, latencyTolerance);
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+}
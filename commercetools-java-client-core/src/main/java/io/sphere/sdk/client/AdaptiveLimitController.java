@@ -0,0 +1,74 @@
+package io.sphere.sdk.client;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntConsumer;
+
+/**
+ * Computes the limit of a {@link ConcurrencyLimiter} from the latency and the result of completed requests, see {@link AdaptiveConcurrencyLimit}.
+ */
+final class AdaptiveLimitController {
+    private static final double LATENCY_SMOOTHING = 0.05;
+
+    private final AdaptiveConcurrencyLimit config;
+    private final ConcurrencyLimiter limiter;
+    private final IntConsumer limitListener;
+    private double averageLatencyNanos = 0;
+    private long lastDecreaseNanos = Long.MIN_VALUE;
+
+    AdaptiveLimitController(final AdaptiveConcurrencyLimit config, final ConcurrencyLimiter limiter, final IntConsumer limitListener) {
+        this.config = config;
+        this.limiter = limiter;
+        this.limitListener = limitListener;
+    }
+
+    /**
+     * Adapts the limit after a request completed.
+     *
+     * @param startNanos the {@link System#nanoTime()} when the request has been started
+     * @param endNanos the {@link System#nanoTime()} when the request completed
+     * @param parallelRequests the number of parallel requests when the request has been started, including the request itself
+     * @param throwable the error of the request or null if it was successful
+     */
+    void onComplete(final long startNanos, final long endNanos, final int parallelRequests, @Nullable final Throwable throwable) {
+        final long latencyNanos = endNanos - startNanos;
+        final int oldLimit;
+        final int newLimit;
+        synchronized (this) {
+            oldLimit = limiter.getLimit();
+            boolean overloaded = isOverload(throwable);
+            if (!overloaded) {
+                overloaded = averageLatencyNanos > 0 && latencyNanos > averageLatencyNanos * config.getLatencyTolerance();
+                averageLatencyNanos = averageLatencyNanos == 0
+                        ? latencyNanos
+                        : averageLatencyNanos + (latencyNanos - averageLatencyNanos) * LATENCY_SMOOTHING;
+            }
+            if (overloaded) {
+                final boolean decreasedRecently = lastDecreaseNanos != Long.MIN_VALUE && endNanos - lastDecreaseNanos < averageLatencyNanos;
+                newLimit = decreasedRecently ? oldLimit : Math.max(config.getMinLimit(), (int) (oldLimit * config.getBackoffRatio()));
+                if (newLimit != oldLimit) {
+                    lastDecreaseNanos = endNanos;
+                }
+            } else if (parallelRequests * 2 >= oldLimit) {
+                newLimit = Math.min(config.getMaxLimit(), oldLimit + 1);
+            } else {
+                newLimit = oldLimit;
+            }
+            if (newLimit != oldLimit) {
+                limiter.setLimit(newLimit);
+            }
+        }
+        if (newLimit != oldLimit) {
+            limitListener.accept(newLimit);
+        }
+    }
+
+    private static boolean isOverload(@Nullable final Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        return cause instanceof TooManyRequestsException
+                || cause instanceof BadGatewayException
+                || cause instanceof ServiceUnavailableException
+                || cause instanceof GatewayTimeoutException
+                || cause instanceof SphereTimeoutException;
+    }
+}
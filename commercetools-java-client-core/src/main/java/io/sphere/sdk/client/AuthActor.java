@@ -23,16 +23,19 @@ final class AuthActor extends Actor {
     private final Function<Supplier<CompletionStage<Tokens>>, CompletionStage<Tokens>> supervisedTokenSupplier;
     private final Consumer<Tokens> requestUpdateTokens;
     private final Consumer<Throwable> requestUpdateFailedStatus;
+    private final double refreshRatio;
     private boolean isWaitingForToken = false;
 
     public AuthActor(final TokensSupplier internalTokensSupplier,
                      final Function<Supplier<CompletionStage<Tokens>>, CompletionStage<Tokens>> supervisedTokenSupplier,
                      final Consumer<Tokens> requestUpdateTokens,
-                     final Consumer<Throwable> requestUpdateFailedStatus) {
+                     final Consumer<Throwable> requestUpdateFailedStatus,
+                     final double refreshRatio) {
         this.internalTokensSupplier = internalTokensSupplier;
         this.supervisedTokenSupplier = supervisedTokenSupplier;
         this.requestUpdateTokens = requestUpdateTokens;
         this.requestUpdateFailedStatus = requestUpdateFailedStatus;
+        this.refreshRatio = refreshRatio;
     }
 
     @Override
@@ -73,14 +76,18 @@ final class AuthActor extends Actor {
 
     private void scheduleNextTokenFetchFromSphere(final Tokens tokens) {
         final Long delayInSecondsToFetchNewToken = Optional.ofNullable(tokens.getExpiresIn())
-                .map(ttlInSeconds -> selectNextRetryTime(ttlInSeconds))
+                .map(ttlInSeconds -> selectNextRetryTime(ttlInSeconds, refreshRatio))
                 .orElse(60L);
         schedule(new FetchTokenFromSphereMessage(), delayInSecondsToFetchNewToken, TimeUnit.SECONDS);
     }
 
     static Long selectNextRetryTime(final Long ttlInSeconds) {
+        return selectNextRetryTime(ttlInSeconds, AutoRefreshSphereAccessTokenSupplierImpl.DEFAULT_REFRESH_RATIO);
+    }
+
+    static Long selectNextRetryTime(final Long ttlInSeconds, final double refreshRatio) {
         final long aDay = 60 * 60 * 24L;
-        final long minimum = Math.min(ttlInSeconds / 2, aDay);
+        final long minimum = Math.min((long) (ttlInSeconds * refreshRatio), aDay);
         final long aSecond = 1L;
         return Math.max(minimum, aSecond);
     }
@@ -5,6 +5,7 @@ import io.sphere.sdk.http.HttpException;
 import io.sphere.sdk.retry.*;
 import io.sphere.sdk.utils.CompletableFutureUtils;
 
+import javax.annotation.Nullable;
 import java.net.UnknownHostException;
 import java.time.Duration;
 import java.time.ZonedDateTime;
@@ -12,6 +13,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -20,18 +22,37 @@ import static java.util.Arrays.asList;
 /**
  *  Holds OAuth access tokenCache for accessing protected Sphere HTTP API endpoints.
  *  Refreshes the access token as needed automatically.
+ *
+ *  <p>The token is refreshed in the background after a fraction of its lifetime, requests keep using the current token
+ *  until the new one is available. If the current token has expired anyway, for example since the refresh failed,
+ *  requests wait for a new token instead of failing with an expired one. All callers waiting for a new token
+ *  share the same token fetch.</p>
  */
 final class AutoRefreshSphereAccessTokenSupplierImpl extends AutoCloseableService implements RefreshableSphereAccessTokenSupplier {
+    static final double DEFAULT_REFRESH_RATIO = 0.5;
+    /**
+     * A token is not handed out any more in the last 10% of its lifetime, so it does not expire while a request is on the way.
+     */
+    static final double HAND_OUT_RATIO = 0.9;
+    private static final long NEVER_NANOS = Long.MAX_VALUE / 2;
+
     private final TokensSupplier tokensSupplier;//managed by the authActor
     private volatile CompletableFuture<String> currentAccessTokenFuture = new CompletableFuture<>();
     private volatile Optional<Tokens> currentTokensOption = Optional.empty();
+    private volatile long currentTokenExpiresAtNanos = System.nanoTime() + NEVER_NANOS;
+    private CompletableFuture<String> newTokenFuture;//guarded by this
     private final Actor authActor;
     private final List<RetryRule> retryRules = createRules();
     private final AsyncRetrySupervisor supervisor = AsyncRetrySupervisor.of(retryRules);
 
-    private AutoRefreshSphereAccessTokenSupplierImpl(final SphereAuthConfig config, final HttpClient httpClient, final boolean closeHttpClient) {
+    private AutoRefreshSphereAccessTokenSupplierImpl(final SphereAuthConfig config, final HttpClient httpClient, final boolean closeHttpClient,
+                                                     final double refreshRatio) {
+        if (refreshRatio <= 0 || refreshRatio > HAND_OUT_RATIO) {
+            //with a later refresh requests would wait for a new token between the hand out limit and the refresh
+            throw new IllegalArgumentException("The refresh ratio must be greater than 0 and at most " + HAND_OUT_RATIO + " but was " + refreshRatio);
+        }
         tokensSupplier = TokensSupplierImpl.of(config, httpClient, closeHttpClient);
-        authActor = new AuthActor(tokensSupplier, this::supervisedTokenSupplier, this::requestUpdateTokens, this::requestUpdateFailedStatus);
+        authActor = new AuthActor(tokensSupplier, this::supervisedTokenSupplier, this::requestUpdateTokens, this::requestUpdateFailedStatus, refreshRatio);
         authActor.tell(new AuthActorProtocol.FetchTokenFromSphereMessage());
     }
 
@@ -54,19 +75,30 @@ final class AutoRefreshSphereAccessTokenSupplierImpl extends AutoCloseableServic
     @Override
     public CompletionStage<String> get() {
         rejectExcutionIfClosed("Token supplier is already closed.");
+        if (System.nanoTime() - currentTokenExpiresAtNanos >= 0) {
+            return getNewToken();
+        }
         return currentAccessTokenFuture;
     }
 
     @Override
-    public CompletionStage<String> getNewToken() {
-        authActor.tell(new AuthActorProtocol.FetchTokenFromSphereMessage());
-        /*
-        Two times a token will be fetched, once to update the cached token
-        and the other time to get a new token to the caller.
-        This way it minimizes the possibility of race conditions but is less effective.
-        But this should be okay since it should be a rare case that his happens.
-         */
-        return tokensSupplier.get().thenApplyAsync(tokens -> tokens.getAccessToken());
+    public synchronized CompletionStage<String> getNewToken() {
+        if (newTokenFuture == null) {
+            newTokenFuture = new CompletableFuture<>();
+            authActor.tell(new AuthActorProtocol.FetchTokenFromSphereMessage());
+        }
+        return newTokenFuture;
+    }
+
+    /**
+     * Takes the future of the callers waiting for a new token. It is taken before the current token is updated,
+     * so callers which see the updated token and ask for a new one start another fetch.
+     */
+    @Nullable
+    private synchronized CompletableFuture<String> takeNewTokenFuture() {
+        final CompletableFuture<String> future = newTokenFuture;
+        newTokenFuture = null;
+        return future;
     }
 
     @Override
@@ -76,22 +108,45 @@ final class AutoRefreshSphereAccessTokenSupplierImpl extends AutoCloseableServic
     }
 
     public static SphereAccessTokenSupplier createAndBeginRefreshInBackground(final SphereAuthConfig config, final HttpClient httpClient, final boolean closeHttpClient) {
-        return new AutoRefreshSphereAccessTokenSupplierImpl(config, httpClient, closeHttpClient);
+        return createAndBeginRefreshInBackground(config, httpClient, closeHttpClient, DEFAULT_REFRESH_RATIO);
+    }
+
+    public static SphereAccessTokenSupplier createAndBeginRefreshInBackground(final SphereAuthConfig config, final HttpClient httpClient, final boolean closeHttpClient,
+                                                                              final double refreshRatio) {
+        return new AutoRefreshSphereAccessTokenSupplierImpl(config, httpClient, closeHttpClient, refreshRatio);
     }
 
     private void requestUpdateTokens(final Tokens tokens) {
+        final CompletableFuture<String> newTokenFuture = takeNewTokenFuture();
         if (!currentTokensOption.isPresent() || currentTokenIsOlder(tokens)) {
             currentTokensOption = Optional.ofNullable(tokens);
+            currentTokenExpiresAtNanos = expiresAtNanos(tokens, HAND_OUT_RATIO);
             final String accessToken = tokens.getAccessToken();
             if (currentAccessTokenFuture.isDone()) {
                 currentAccessTokenFuture = CompletableFutureUtils.successful(accessToken);
             } else {
                 currentAccessTokenFuture.complete(accessToken);
             }
+        } else {
+            //the auth server has no newer token, the hand out limit moves with the received token so that not every request fetches again
+            final long receivedTokenExpiresAtNanos = expiresAtNanos(tokens, HAND_OUT_RATIO);
+            if (receivedTokenExpiresAtNanos - currentTokenExpiresAtNanos > 0) {
+                currentTokenExpiresAtNanos = receivedTokenExpiresAtNanos;
+            }
         }
+        if (newTokenFuture != null) {
+            newTokenFuture.complete(tokens.getAccessToken());
+        }
+    }
+
+    private static long expiresAtNanos(final Tokens tokens, final double lifetimeRatio) {
+        return Optional.ofNullable(tokens.getExpiresIn())
+                .map(ttlInSeconds -> (long) (Math.min(TimeUnit.SECONDS.toNanos(ttlInSeconds), NEVER_NANOS) * lifetimeRatio))
+                .orElse(NEVER_NANOS) + System.nanoTime();
     }
 
     private void requestUpdateFailedStatus(final Throwable error) {
+        final CompletableFuture<String> newTokenFuture = takeNewTokenFuture();
         if (!currentTokensOption.isPresent()) {
             currentAccessTokenFuture.completeExceptionally(error);
         } else if (lastTokenIsStillValid()) {
@@ -100,6 +155,9 @@ final class AutoRefreshSphereAccessTokenSupplierImpl extends AutoCloseableServic
             currentTokensOption = Optional.empty();
             currentAccessTokenFuture = CompletableFutureUtils.failed(error);
         }
+        if (newTokenFuture != null) {
+            newTokenFuture.completeExceptionally(error);
+        }
         authActor.tell(new AuthActorProtocol.FetchTokenFromSphereMessage());//
     }
 
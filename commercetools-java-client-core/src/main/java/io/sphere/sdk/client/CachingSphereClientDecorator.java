@@ -0,0 +1,249 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.commands.Command;
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Versioned;
+import io.sphere.sdk.queries.Get;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Wraps a {@link SphereClient} to cache the responses of by-id and by-key gets ({@link Get} requests).
+ *
+ * <p>The cache stores the deserialized results keyed by the request class and the request path, so the same resource fetched
+ * with different reference expansions is cached separately. Only found resources are cached. The cached results are shared
+ * between all callers, which is safe for the resource models of the SDK since they are immutable. The requests are passed
+ * unchanged to the decorated client, so decorators further down the chain see the real request type.</p>
+ *
+ * <p>Entries expire after a time to live which can be configured per resource type, the resource type is the endpoint of the
+ * request like "categories" or "product-projections". If the cache exceeds its maximum size the least recently used entry is evicted.
+ * Successful {@link Command}s executed through this client invalidate the cached entries of the same resource type,
+ * if the command result is {@link Versioned} only the entries of that resource are invalidated. Commands on products also
+ * invalidate cached product projections. Changes made by other clients or by GraphQL mutations are only visible after the time to live,
+ * use {@link #invalidateAll()} if required.</p>
+ *
+ * <p>Resources which belong to a session of a customer like carts, shopping lists, payments and all "/me" endpoints are not cached,
+ * unless a time to live is explicitly configured for them with {@link CachingSphereClientDecoratorBuilder#timeToLive(String, Duration)}.</p>
+ *
+ * @see CachingSphereClientDecoratorBuilder
+ */
+public final class CachingSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    static final List<String> DEFAULT_EXCLUDED_RESOURCE_TYPES = Collections.unmodifiableList(Arrays.asList("carts", "me", "shopping-lists", "payments"));
+    private static final String IN_STORE = "in-store";
+    private static final Map<String, List<String>> DEPENDENT_RESOURCE_TYPES = Collections.singletonMap("products", Collections.singletonList("product-projections"));
+
+    private final long defaultTimeToLiveNanos;
+    private final Map<String, Long> timeToLiveNanosByResourceType;
+    private final LongSupplier nanoTime;
+    private final LruCache cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private long generation = 0;
+
+    CachingSphereClientDecorator(final SphereClient delegate, final int maximumSize, final Duration defaultTimeToLive,
+                                 final Map<String, Duration> timeToLiveByResourceType, final LongSupplier nanoTime) {
+        super(delegate);
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive but was " + maximumSize);
+        }
+        this.defaultTimeToLiveNanos = defaultTimeToLive.toNanos();
+        final Map<String, Long> timeToLiveNanos = new HashMap<>();
+        DEFAULT_EXCLUDED_RESOURCE_TYPES.forEach(resourceType -> timeToLiveNanos.put(resourceType, 0L));
+        timeToLiveByResourceType.forEach((resourceType, timeToLive) -> timeToLiveNanos.put(resourceType, timeToLive.toNanos()));
+        this.timeToLiveNanosByResourceType = timeToLiveNanos;
+        this.nanoTime = nanoTime;
+        this.cache = new LruCache(maximumSize);
+    }
+
+    /**
+     * Creates a caching client with the default settings of {@link CachingSphereClientDecoratorBuilder}.
+     *
+     * @param delegate the client which executes the requests
+     * @return caching client
+     */
+    public static CachingSphereClientDecorator of(final SphereClient delegate) {
+        return CachingSphereClientDecoratorBuilder.of(delegate).build();
+    }
+
+    public static CachingSphereClientDecorator of(final SphereClient delegate, final int maximumSize, final Duration timeToLive) {
+        return CachingSphereClientDecoratorBuilder.of(delegate).maximumSize(maximumSize).timeToLive(timeToLive).build();
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final HttpRequestIntent httpRequestIntent = sphereRequest.httpRequestIntent();
+        final String path = httpRequestIntent.getPath();
+        final String resourceType = resourceType(path);
+        if (sphereRequest instanceof Get && httpRequestIntent.getHttpMethod() == HttpMethod.GET) {
+            final long timeToLiveNanos = timeToLiveNanosByResourceType.getOrDefault(resourceType, defaultTimeToLiveNanos);
+            if (timeToLiveNanos > 0) {
+                return executeCached(sphereRequest, sphereRequest.getClass().getName() + ' ' + path, resourceType, timeToLiveNanos);
+            }
+        } else if (sphereRequest instanceof Command) {
+            return super.execute(sphereRequest).thenApply(result -> {
+                invalidate(resourceType, result instanceof Versioned ? ((Versioned<?>) result).getId() : null);
+                return result;
+            });
+        }
+        return super.execute(sphereRequest);
+    }
+
+    private <T> CompletionStage<T> executeCached(final SphereRequest<T> sphereRequest, final String key,
+                                                 final String resourceType, final long timeToLiveNanos) {
+        final CacheEntry cachedEntry = lookup(key);
+        if (cachedEntry != null) {
+            hits.increment();
+            @SuppressWarnings("unchecked")
+            final T cachedResult = (T) cachedEntry.result;
+            return CompletableFutureUtils.successful(cachedResult);
+        }
+        misses.increment();
+        final long generationAtRequest = currentGeneration();
+        return super.execute(sphereRequest).thenApply(result -> {
+            if (result != null) {
+                final String resourceId = result instanceof Versioned ? ((Versioned<?>) result).getId() : null;
+                store(key, new CacheEntry(result, resourceType, resourceId, nanoTime.getAsLong() + timeToLiveNanos), generationAtRequest);
+            }
+            return result;
+        });
+    }
+
+    @Nullable
+    private synchronized CacheEntry lookup(final String key) {
+        final CacheEntry entry = cache.get(key);
+        if (entry != null && entry.expiresAtNanos - nanoTime.getAsLong() <= 0) {
+            cache.remove(key);
+            evictions.increment();
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private synchronized void store(final String key, final CacheEntry entry, final long generationAtRequest) {
+        //an invalidation happened while the request was running, so the response may already be outdated
+        if (generation == generationAtRequest) {
+            cache.put(key, entry);
+        }
+    }
+
+    private synchronized void invalidate(final String resourceType, @Nullable final String resourceId) {
+        generation++;
+        final List<String> resourceTypes = new ArrayList<>(DEPENDENT_RESOURCE_TYPES.getOrDefault(resourceType, Collections.emptyList()));
+        resourceTypes.add(resourceType);
+        final Iterator<CacheEntry> iterator = cache.values().iterator();
+        while (iterator.hasNext()) {
+            final CacheEntry entry = iterator.next();
+            final boolean affected = resourceTypes.contains(entry.resourceType)
+                    && (resourceId == null || entry.resourceId == null || resourceId.equals(entry.resourceId));
+            if (affected) {
+                iterator.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations.add(cache.size());
+        cache.clear();
+    }
+
+    /**
+     * Provides a snapshot of the cache statistics since the creation of this client.
+     *
+     * @return statistics
+     */
+    public SphereClientCacheStatistics getStatistics() {
+        final int size;
+        synchronized (this) {
+            size = cache.size();
+        }
+        return new SphereClientCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), size);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            cache.clear();
+        }
+        super.close();
+    }
+
+    /**
+     * Extracts the resource type from a path like "/categories/key=foo?expand=parent", in store endpoints are
+     * resolved to the resource type inside of the store.
+     *
+     * @param path the path of an {@link HttpRequestIntent}
+     * @return the resource type, for example "categories"
+     */
+    static String resourceType(final String path) {
+        final String[] segments = pathWithoutQuery(path).split("/");
+        final List<String> nonEmptySegments = new ArrayList<>(segments.length);
+        for (final String segment : segments) {
+            if (!segment.isEmpty()) {
+                nonEmptySegments.add(segment);
+            }
+        }
+        if (nonEmptySegments.isEmpty()) {
+            return "";
+        } else if (IN_STORE.equals(nonEmptySegments.get(0)) && nonEmptySegments.size() > 2) {
+            return nonEmptySegments.get(2);
+        }
+        return nonEmptySegments.get(0);
+    }
+
+    private static String pathWithoutQuery(final String path) {
+        final int queryStart = path.indexOf('?');
+        return queryStart < 0 ? path : path.substring(0, queryStart);
+    }
+
+    private static final class CacheEntry extends Base {
+        private final Object result;
+        private final String resourceType;
+        @Nullable
+        private final String resourceId;
+        private final long expiresAtNanos;
+
+        private CacheEntry(final Object result, final String resourceType, @Nullable final String resourceId, final long expiresAtNanos) {
+            this.result = result;
+            this.resourceType = resourceType;
+            this.resourceId = resourceId;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    private final class LruCache extends LinkedHashMap<String, CacheEntry> {
+        private static final long serialVersionUID = 0L;
+        private final int maximumSize;
+
+        private LruCache(final int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, CacheEntry> eldest) {
+            final boolean tooLarge = size() > maximumSize;
+            if (tooLarge) {
+                evictions.increment();
+            }
+            return tooLarge;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Builder for {@link CachingSphereClientDecorator}.
+ *
+ * <p>By default the cache holds up to 1000 results for one minute each.
+ * Carts, shopping lists, payments and "/me" endpoints are not cached unless a time to live is configured for them.</p>
+ */
+public final class CachingSphereClientDecoratorBuilder extends Base implements Builder<CachingSphereClientDecorator> {
+    private final SphereClient delegate;
+    private int maximumSize = 1000;
+    private Duration timeToLive = Duration.ofMinutes(1);
+    private final Map<String, Duration> timeToLiveByResourceType = new HashMap<>();
+    private LongSupplier nanoTime = System::nanoTime;
+
+    private CachingSphereClientDecoratorBuilder(final SphereClient delegate) {
+        this.delegate = delegate;
+    }
+
+    public static CachingSphereClientDecoratorBuilder of(final SphereClient delegate) {
+        return new CachingSphereClientDecoratorBuilder(delegate);
+    }
+
+    /**
+     * Sets the maximum number of cached results, if exceeded the least recently used result is evicted.
+     *
+     * @param maximumSize maximum number of entries, must be positive
+     * @return this builder
+     */
+    public CachingSphereClientDecoratorBuilder maximumSize(final int maximumSize) {
+        this.maximumSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Sets the time to live for resource types without a specific configuration.
+     *
+     * @param timeToLive duration a result is cached, {@link Duration#ZERO} disables caching
+     * @return this builder
+     */
+    public CachingSphereClientDecoratorBuilder timeToLive(final Duration timeToLive) {
+        this.timeToLive = timeToLive;
+        return this;
+    }
+
+    /**
+     * Sets the time to live for one resource type. This also enables caching for resource types which are not cached by default.
+     *
+     * @param resourceType the endpoint of the resource, for example "categories" or "carts"
+     * @param timeToLive duration a result is cached, {@link Duration#ZERO} disables caching for this resource type
+     * @return this builder
+     */
+    public CachingSphereClientDecoratorBuilder timeToLive(final String resourceType, final Duration timeToLive) {
+        timeToLiveByResourceType.put(resourceType, timeToLive);
+        return this;
+    }
+
+    CachingSphereClientDecoratorBuilder nanoTime(final LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        return this;
+    }
+
+    @Override
+    public CachingSphereClientDecorator build() {
+        return new CachingSphereClientDecorator(delegate, maximumSize, timeToLive, timeToLiveByResourceType, nanoTime);
+    }
+}
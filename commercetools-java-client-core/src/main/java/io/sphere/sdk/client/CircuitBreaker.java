@@ -0,0 +1,163 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.utils.SphereInternalLogger;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * The circuit of one endpoint group. The results of the requests are recorded in a count based sliding window, if the failure rate
+ * or the slow call rate reach their thresholds the circuit opens. After the wait duration a limited number of requests is permitted
+ * in the half-open state, depending on their results the circuit closes or opens again.
+ *
+ * <p>Each state change starts a new generation, results of requests permitted in an earlier generation are ignored.</p>
+ */
+final class CircuitBreaker {
+    private static final SphereInternalLogger logger = SphereInternalLogger.getLogger(CircuitBreakerSphereClientDecorator.class);
+
+    private final String name;
+    private final Config config;
+    private final LongAdder rejectedRequests = new LongAdder();
+    private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    private long generation;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private Window window;
+
+    CircuitBreaker(final String name, final Config config) {
+        this.name = name;
+        this.config = config;
+        this.window = new Window(config.windowSize);
+    }
+
+    /**
+     * Checks if a request can be executed.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the generation to pass to {@link #onResult(long, long, boolean, long)} or -1 if the request is not permitted
+     */
+    synchronized long tryAcquirePermission(final long nowNanos) {
+        if (state == CircuitBreakerState.OPEN) {
+            if (nowNanos - openedAtNanos < config.waitDurationInOpenStateNanos) {
+                rejectedRequests.increment();
+                return -1;
+            }
+            transitionTo(CircuitBreakerState.HALF_OPEN, nowNanos);
+        }
+        if (state == CircuitBreakerState.HALF_OPEN) {
+            if (halfOpenPermits >= config.permittedCallsInHalfOpenState) {
+                rejectedRequests.increment();
+                return -1;
+            }
+            halfOpenPermits++;
+        }
+        return generation;
+    }
+
+    synchronized void onResult(final long permittedGeneration, final long durationNanos, final boolean failure, final long nowNanos) {
+        if (permittedGeneration != generation) {
+            return;
+        }
+        window.record(failure, durationNanos >= config.slowCallDurationNanos);
+        if (state == CircuitBreakerState.CLOSED) {
+            if (window.size >= config.minimumNumberOfCalls && exceedsThresholds()) {
+                transitionTo(CircuitBreakerState.OPEN, nowNanos);
+            }
+        } else if (state == CircuitBreakerState.HALF_OPEN && window.size >= config.permittedCallsInHalfOpenState) {
+            transitionTo(exceedsThresholds() ? CircuitBreakerState.OPEN : CircuitBreakerState.CLOSED, nowNanos);
+        }
+    }
+
+    synchronized CircuitBreakerState getState() {
+        return state;
+    }
+
+    synchronized CircuitBreakerStatistics toStatistics() {
+        return new CircuitBreakerStatistics(name, state, window.size, window.failureRate(), window.slowCallRate(), rejectedRequests.sum());
+    }
+
+    String getName() {
+        return name;
+    }
+
+    private boolean exceedsThresholds() {
+        return window.failureRate() >= config.failureRateThreshold || window.slowCallRate() >= config.slowCallRateThreshold;
+    }
+
+    private void transitionTo(final CircuitBreakerState newState, final long nowNanos) {
+        final CircuitBreakerState oldState = state;
+        final Window oldWindow = window;
+        state = newState;
+        generation++;
+        halfOpenPermits = 0;
+        window = new Window(newState == CircuitBreakerState.HALF_OPEN ? config.permittedCallsInHalfOpenState : config.windowSize);
+        if (newState == CircuitBreakerState.OPEN) {
+            openedAtNanos = nowNanos;
+            logger.warn(() -> format("Circuit %s changed from %s to OPEN with failure rate %.1f%% and slow call rate %.1f%%.",
+                    name, oldState, oldWindow.failureRate(), oldWindow.slowCallRate()));
+        } else {
+            logger.info(() -> format("Circuit %s changed from %s to %s.", name, oldState, newState));
+        }
+    }
+
+    static final class Config {
+        private final int windowSize;
+        private final int minimumNumberOfCalls;
+        private final double failureRateThreshold;
+        private final double slowCallRateThreshold;
+        private final long slowCallDurationNanos;
+        private final long waitDurationInOpenStateNanos;
+        private final int permittedCallsInHalfOpenState;
+
+        Config(final int windowSize, final int minimumNumberOfCalls, final double failureRateThreshold, final double slowCallRateThreshold,
+               final long slowCallDurationNanos, final long waitDurationInOpenStateNanos, final int permittedCallsInHalfOpenState) {
+            this.windowSize = windowSize;
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            this.failureRateThreshold = failureRateThreshold;
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            this.slowCallDurationNanos = slowCallDurationNanos;
+            this.waitDurationInOpenStateNanos = waitDurationInOpenStateNanos;
+            this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        }
+    }
+
+    /**
+     * Ring buffer with the outcomes of the latest requests.
+     */
+    private static final class Window {
+        private final boolean[] failures;
+        private final boolean[] slowCalls;
+        private int next;
+        private int size;
+        private int failureCount;
+        private int slowCallCount;
+
+        private Window(final int capacity) {
+            this.failures = new boolean[capacity];
+            this.slowCalls = new boolean[capacity];
+        }
+
+        private void record(final boolean failure, final boolean slowCall) {
+            if (size == failures.length) {
+                failureCount -= failures[next] ? 1 : 0;
+                slowCallCount -= slowCalls[next] ? 1 : 0;
+            } else {
+                size++;
+            }
+            failures[next] = failure;
+            slowCalls[next] = slowCall;
+            failureCount += failure ? 1 : 0;
+            slowCallCount += slowCall ? 1 : 0;
+            next = (next + 1) % failures.length;
+        }
+
+        private double failureRate() {
+            return size == 0 ? 0 : failureCount * 100.0 / size;
+        }
+
+        private double slowCallRate() {
+            return size == 0 ? 0 : slowCallCount * 100.0 / size;
+        }
+    }
+}
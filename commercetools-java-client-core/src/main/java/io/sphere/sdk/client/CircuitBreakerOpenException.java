@@ -0,0 +1,16 @@
+package io.sphere.sdk.client;
+
+/**
+ * Exception if a request has not been sent to the platform since the circuit of its endpoint group in a
+ * {@link CircuitBreakerSphereClientDecorator} is open.
+ *
+ * <p>It is a {@link ServiceUnavailableException}, so code handling an unavailable platform also handles an open circuit.
+ * The {@link RetrySphereClientDecorator} does not retry requests failing with this exception.</p>
+ */
+public class CircuitBreakerOpenException extends ServiceUnavailableException {
+    static final long serialVersionUID = 0L;
+
+    public CircuitBreakerOpenException(final String message) {
+        super(message);
+    }
+}
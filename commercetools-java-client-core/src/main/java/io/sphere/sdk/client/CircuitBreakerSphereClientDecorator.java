@@ -0,0 +1,119 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.SphereException;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Wraps a {@link SphereClient} to fail fast while an endpoint group of the platform is degraded, instead of sending requests
+ * which most likely run into errors or timeouts.
+ *
+ * <p>Each endpoint group, by default the resource type like "products" or "orders", has its own circuit. While the circuit
+ * is {@link CircuitBreakerState#CLOSED closed} the results of the requests are recorded in a sliding window. If the share of
+ * failed requests or of slow requests reaches its threshold, the circuit {@link CircuitBreakerState#OPEN opens} and the requests
+ * of the group fail immediately with a {@link CircuitBreakerOpenException}. After a wait duration the circuit is
+ * {@link CircuitBreakerState#HALF_OPEN half-open} and permits a few requests to find out if it can be closed again.</p>
+ *
+ * <p>By default server errors, timeouts and connection problems count as failures, client errors like a not found resource
+ * or a concurrent modification do not.</p>
+ *
+ * <p>If requests should be retried, the {@link RetrySphereClientDecorator} should wrap the circuit breaker so that
+ * the retries stop as soon as the circuit is open:</p>
+ *
+ * <pre>{@code final SphereClient client = RetrySphereClientDecorator.of(CircuitBreakerSphereClientDecorator.of(delegate), retryRules);}</pre>
+ *
+ * @see CircuitBreakerSphereClientDecoratorBuilder
+ */
+public final class CircuitBreakerSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final CircuitBreaker.Config config;
+    private final Function<SphereRequest<?>, String> groupSelector;
+    private final Predicate<Throwable> failurePredicate;
+    private final LongSupplier nanoTime;
+
+    CircuitBreakerSphereClientDecorator(final SphereClient delegate, final CircuitBreaker.Config config,
+                                        final Function<SphereRequest<?>, String> groupSelector,
+                                        final Predicate<Throwable> failurePredicate, final LongSupplier nanoTime) {
+        super(delegate);
+        this.config = config;
+        this.groupSelector = groupSelector;
+        this.failurePredicate = failurePredicate;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Creates a circuit breaker with the default thresholds and a circuit per resource type.
+     *
+     * @param delegate the client which executes the requests
+     * @return circuit breaker client
+     */
+    public static CircuitBreakerSphereClientDecorator of(final SphereClient delegate) {
+        return CircuitBreakerSphereClientDecoratorBuilder.of(delegate).build();
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final CircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(groupSelector.apply(sphereRequest), name -> new CircuitBreaker(name, config));
+        final long startNanos = nanoTime.getAsLong();
+        final long generation = circuitBreaker.tryAcquirePermission(startNanos);
+        if (generation < 0) {
+            return CompletableFutureUtils.failed(new CircuitBreakerOpenException("The circuit of the endpoint group "
+                    + circuitBreaker.getName() + " is open."));
+        }
+        final CompletionStage<T> result;
+        try {
+            result = super.execute(sphereRequest);
+        } catch (final RuntimeException e) {
+            onResult(circuitBreaker, generation, startNanos, e);
+            return CompletableFutureUtils.failed(e);
+        }
+        return result.whenComplete((value, throwable) -> onResult(circuitBreaker, generation, startNanos, throwable));
+    }
+
+    private void onResult(final CircuitBreaker circuitBreaker, final long generation, final long startNanos, final Throwable throwable) {
+        final long endNanos = nanoTime.getAsLong();
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        circuitBreaker.onResult(generation, endNanos - startNanos, cause != null && failurePredicate.test(cause), endNanos);
+    }
+
+    /**
+     * Provides the state of the circuit of an endpoint group.
+     *
+     * @param group the name of the endpoint group
+     * @return the state, {@link CircuitBreakerState#CLOSED} if no request of the group has been executed yet
+     */
+    public CircuitBreakerState getState(final String group) {
+        final CircuitBreaker circuitBreaker = circuitBreakers.get(group);
+        return circuitBreaker == null ? CircuitBreakerState.CLOSED : circuitBreaker.getState();
+    }
+
+    /**
+     * Provides a snapshot of the statistics of the circuits of all endpoint groups which have been used so far.
+     *
+     * @return statistics per endpoint group
+     */
+    public List<CircuitBreakerStatistics> getStatistics() {
+        final List<CircuitBreakerStatistics> statistics = new ArrayList<>(circuitBreakers.size());
+        circuitBreakers.values().forEach(circuitBreaker -> statistics.add(circuitBreaker.toStatistics()));
+        return statistics;
+    }
+
+    static String defaultGroup(final SphereRequest<?> sphereRequest) {
+        return CachingSphereClientDecorator.resourceType(sphereRequest.httpRequestIntent().getPath());
+    }
+
+    static boolean isFailure(final Throwable throwable) {
+        return throwable instanceof ServerErrorException
+                || throwable instanceof SphereTimeoutException
+                || !(throwable instanceof SphereException);
+    }
+}
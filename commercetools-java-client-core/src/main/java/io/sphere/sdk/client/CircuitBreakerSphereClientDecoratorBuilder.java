@@ -0,0 +1,158 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Builder for {@link CircuitBreakerSphereClientDecorator}.
+ *
+ * <pre>{@code final SphereClient client = CircuitBreakerSphereClientDecoratorBuilder.of(delegate)
+ *         .failureRateThreshold(50)
+ *         .slowCallRateThreshold(80)
+ *         .slowCallDuration(Duration.ofSeconds(5))
+ *         .waitDurationInOpenState(Duration.ofSeconds(30))
+ *         .build();}</pre>
+ */
+public final class CircuitBreakerSphereClientDecoratorBuilder extends Base implements Builder<CircuitBreakerSphereClientDecorator> {
+    private final SphereClient delegate;
+    private int slidingWindowSize = 100;
+    private int minimumNumberOfCalls = 20;
+    private double failureRateThreshold = 50;
+    private double slowCallRateThreshold = 100;
+    private Duration slowCallDuration = Duration.ofSeconds(10);
+    private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+    private int permittedCallsInHalfOpenState = 5;
+    private Function<SphereRequest<?>, String> groupSelector = CircuitBreakerSphereClientDecorator::defaultGroup;
+    private Predicate<Throwable> failurePredicate = CircuitBreakerSphereClientDecorator::isFailure;
+    private LongSupplier nanoTime = System::nanoTime;
+
+    private CircuitBreakerSphereClientDecoratorBuilder(final SphereClient delegate) {
+        this.delegate = delegate;
+    }
+
+    public static CircuitBreakerSphereClientDecoratorBuilder of(final SphereClient delegate) {
+        return new CircuitBreakerSphereClientDecoratorBuilder(delegate);
+    }
+
+    /**
+     * Sets the number of the latest requests per endpoint group which are used to calculate the failure rate and the slow call rate.
+     *
+     * @param slidingWindowSize the number of requests, 100 by default
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder slidingWindowSize(final int slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+        return this;
+    }
+
+    /**
+     * Sets the number of requests which have to be recorded before the circuit can open.
+     *
+     * @param minimumNumberOfCalls the number of requests, 20 by default
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder minimumNumberOfCalls(final int minimumNumberOfCalls) {
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        return this;
+    }
+
+    /**
+     * Sets the percentage of failed requests which opens the circuit.
+     *
+     * @param failureRateThreshold the percentage between 0 and 100, 50 by default
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder failureRateThreshold(final double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the percentage of slow requests which opens the circuit.
+     *
+     * @param slowCallRateThreshold the percentage between 0 and 100, 100 by default
+     * @return this builder
+     * @see #slowCallDuration(Duration)
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder slowCallRateThreshold(final double slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the duration from which on a request counts as slow, regardless of its result.
+     *
+     * @param slowCallDuration the duration, 10 seconds by default
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder slowCallDuration(final Duration slowCallDuration) {
+        this.slowCallDuration = slowCallDuration;
+        return this;
+    }
+
+    /**
+     * Sets the time the circuit stays open before requests are permitted again.
+     *
+     * @param waitDurationInOpenState the duration, 30 seconds by default
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder waitDurationInOpenState(final Duration waitDurationInOpenState) {
+        this.waitDurationInOpenState = waitDurationInOpenState;
+        return this;
+    }
+
+    /**
+     * Sets the number of requests permitted in the half-open state. If their failure rate and slow call rate are below the
+     * thresholds the circuit closes, otherwise it opens again.
+     *
+     * @param permittedCallsInHalfOpenState the number of requests, 5 by default
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder permittedCallsInHalfOpenState(final int permittedCallsInHalfOpenState) {
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        return this;
+    }
+
+    /**
+     * Sets the function to select the endpoint group of a request, each group has its own circuit.
+     *
+     * @param groupSelector function from a request to the name of its group, by default the resource type of the path
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder groupSelector(final Function<SphereRequest<?>, String> groupSelector) {
+        this.groupSelector = groupSelector;
+        return this;
+    }
+
+    /**
+     * Sets the predicate which decides if an error of a request counts as failure.
+     *
+     * @param failurePredicate predicate for the error, by default true for server errors, timeouts and connection problems
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder failurePredicate(final Predicate<Throwable> failurePredicate) {
+        this.failurePredicate = failurePredicate;
+        return this;
+    }
+
+    CircuitBreakerSphereClientDecoratorBuilder nanoTime(final LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        return this;
+    }
+
+    @Override
+    public CircuitBreakerSphereClientDecorator build() {
+        if (slidingWindowSize < 1 || minimumNumberOfCalls < 1 || permittedCallsInHalfOpenState < 1) {
+            throw new IllegalArgumentException("The sliding window size, the minimum number of calls and the permitted calls in half-open state must be positive.");
+        }
+        final CircuitBreaker.Config config = new CircuitBreaker.Config(slidingWindowSize, Math.min(minimumNumberOfCalls, slidingWindowSize),
+                failureRateThreshold, slowCallRateThreshold, slowCallDuration.toNanos(), waitDurationInOpenState.toNanos(),
+                permittedCallsInHalfOpenState);
+        return new CircuitBreakerSphereClientDecorator(delegate, config, groupSelector, failurePredicate, nanoTime);
+    }
+}
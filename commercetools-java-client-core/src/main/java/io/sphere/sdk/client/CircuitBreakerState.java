@@ -0,0 +1,19 @@
+package io.sphere.sdk.client;
+
+/**
+ * The states of a circuit of a {@link CircuitBreakerSphereClientDecorator}.
+ */
+public enum CircuitBreakerState {
+    /**
+     * Requests are executed and their results are recorded.
+     */
+    CLOSED,
+    /**
+     * Requests fail immediately with a {@link CircuitBreakerOpenException}.
+     */
+    OPEN,
+    /**
+     * A limited number of requests is executed to check if the endpoint group has recovered.
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,69 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+/**
+ * Snapshot of the statistics of the circuit of one endpoint group of a {@link CircuitBreakerSphereClientDecorator}.
+ */
+public final class CircuitBreakerStatistics extends Base {
+    private final String name;
+    private final CircuitBreakerState state;
+    private final int bufferedCalls;
+    private final double failureRate;
+    private final double slowCallRate;
+    private final long rejectedRequests;
+
+    CircuitBreakerStatistics(final String name, final CircuitBreakerState state, final int bufferedCalls, final double failureRate,
+                             final double slowCallRate, final long rejectedRequests) {
+        this.name = name;
+        this.state = state;
+        this.bufferedCalls = bufferedCalls;
+        this.failureRate = failureRate;
+        this.slowCallRate = slowCallRate;
+        this.rejectedRequests = rejectedRequests;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitBreakerState getState() {
+        return state;
+    }
+
+    /**
+     * Number of requests in the sliding window of the current state.
+     *
+     * @return number of recorded requests
+     */
+    public int getBufferedCalls() {
+        return bufferedCalls;
+    }
+
+    /**
+     * Percentage of failed requests in the sliding window.
+     *
+     * @return failure rate between 0 and 100
+     */
+    public double getFailureRate() {
+        return failureRate;
+    }
+
+    /**
+     * Percentage of slow requests in the sliding window.
+     *
+     * @return slow call rate between 0 and 100
+     */
+    public double getSlowCallRate() {
+        return slowCallRate;
+    }
+
+    /**
+     * Number of requests which failed immediately since the circuit was open.
+     *
+     * @return number of rejected requests
+     */
+    public long getRejectedRequests() {
+        return rejectedRequests;
+    }
+}
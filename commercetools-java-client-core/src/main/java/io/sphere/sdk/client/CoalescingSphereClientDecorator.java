@@ -0,0 +1,79 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wraps a {@link SphereClient} to coalesce identical concurrent GET requests. While a GET request is in flight,
+ * every further GET request of the same class with the same path is not sent to the platform but waits for the result of the first one.
+ *
+ * <p>The requests are keyed by the request class and the path, like in {@link CachingSphereClientDecorator}, so the waiting requests
+ * share the deserialized Java object of the request which has been sent. This is safe for the resource models of the SDK since they are immutable.
+ * Failures like network errors or a not found resource are passed to all waiting requests. The requests are passed unchanged to the
+ * decorated client, so decorators further down the chain see the real request type and a streamed response is not buffered.</p>
+ *
+ * <p>Only GET requests without additional HTTP headers are coalesced, requests with other HTTP methods or with headers are
+ * executed directly. A GET request has no body, and the method and the headers are the same for all coalesced requests.
+ * Requests with a body, like searches sent via POST, are never coalesced.</p>
+ */
+public final class CoalescingSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightRequests = new ConcurrentHashMap<>();
+    private final LongAdder coalescedRequests = new LongAdder();
+
+    private CoalescingSphereClientDecorator(final SphereClient delegate) {
+        super(delegate);
+    }
+
+    public static CoalescingSphereClientDecorator of(final SphereClient delegate) {
+        return new CoalescingSphereClientDecorator(delegate);
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final HttpRequestIntent httpRequestIntent = sphereRequest.httpRequestIntent();
+        if (httpRequestIntent.getHttpMethod() != HttpMethod.GET || !httpRequestIntent.getHeaders().isEmpty()) {
+            return super.execute(sphereRequest);
+        }
+        final String key = sphereRequest.getClass().getName() + ' ' + httpRequestIntent.getPath();
+        final CompletableFuture<Object> newResult = new CompletableFuture<>();
+        final CompletableFuture<Object> inFlightResult = inFlightRequests.putIfAbsent(key, newResult);
+        if (inFlightResult == null) {
+            return executeShared(key, newResult, sphereRequest);
+        }
+        coalescedRequests.increment();
+        //a new stage per waiter, so a waiter cannot complete the result of the others
+        return inFlightResult.thenApply(CoalescingSphereClientDecorator::<T>cast);
+    }
+
+    private <T> CompletionStage<T> executeShared(final String key, final CompletableFuture<Object> sharedResult, final SphereRequest<T> sphereRequest) {
+        final CompletionStage<T> result = super.execute(sphereRequest);
+        result.whenComplete((value, throwable) -> {
+            inFlightRequests.remove(key, sharedResult);
+            if (throwable != null) {
+                sharedResult.completeExceptionally(throwable);
+            } else {
+                sharedResult.complete(value);
+            }
+        });
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(final Object value) {
+        return (T) value;
+    }
+
+    /**
+     * Number of requests which have not been sent to the platform since they could wait for an identical request.
+     *
+     * @return count of coalesced requests
+     */
+    public long getCoalescedRequestCount() {
+        return coalescedRequests.sum();
+    }
+}
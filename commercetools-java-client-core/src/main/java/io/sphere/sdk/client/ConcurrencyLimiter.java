@@ -0,0 +1,272 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.utils.CompletableFutureUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of parallel asynchronous tasks without locks. Tasks which cannot be started immediately are queued per
+ * {@link RequestLane} and started in the order of the lane priorities as soon as running tasks complete.
+ *
+ * <p>Permits are acquired with compare-and-set on the counters of the limiter and the lane. Only one thread at a time drains the
+ * queues, threads which complete tasks or enqueue tasks while another thread drains signal it to do another round.</p>
+ */
+final class ConcurrencyLimiter {
+    private final List<Lane> lanes;
+    private final Map<String, Lane> lanesByName;
+    private final AtomicInteger parallelTasks = new AtomicInteger();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private volatile int limit;
+    private volatile boolean closed = false;
+
+    ConcurrencyLimiter(final int limit, final List<RequestLane> requestLanes) {
+        if (requestLanes.isEmpty()) {
+            throw new IllegalArgumentException("at least one lane is required");
+        }
+        this.limit = limit;
+        this.lanes = new ArrayList<>(requestLanes.size());
+        this.lanesByName = new HashMap<>();
+        for (final RequestLane requestLane : requestLanes) {
+            final Lane lane = new Lane(requestLane, lanes.size());
+            lanes.add(lane);
+            lanesByName.putIfAbsent(requestLane.getName(), lane);
+        }
+    }
+
+    /**
+     * Starts the task as soon as the limits allow it.
+     *
+     * @param laneName the lane of the task, tasks of unknown lanes are assigned to the lane with the lowest priority
+     * @param task the task to start
+     * @param <T> the type of the result of the task
+     * @return the result of the task or a {@link RequestRejectedException} if the lane queue is full
+     */
+    <T> CompletionStage<T> submit(final String laneName, final Supplier<? extends CompletionStage<T>> task) {
+        final Lane lane = laneByName(laneName);
+        if (closed) {
+            return CompletableFutureUtils.failed(new RequestRejectedException("The client has been closed."));
+        }
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final QueuedTask queuedTask = new QueuedTask(lane, System.nanoTime()) {
+            @Override
+            void start() {
+                ConcurrencyLimiter.this.start(lane, task, result);
+            }
+
+            @Override
+            void reject(final RequestRejectedException exception) {
+                result.completeExceptionally(exception);
+            }
+        };
+        if (noTasksWaitingWithPriorityOf(lane) && tryAcquire(lane)) {
+            lane.executedTasks.increment();
+            queuedTask.start();
+        } else if (lane.queuedTasks.incrementAndGet() > lane.maxQueueSize) {
+            lane.queuedTasks.decrementAndGet();
+            lane.rejectedTasks.increment();
+            drain();
+            return CompletableFutureUtils.failed(new RequestRejectedException("The queue of the lane " + lane.name + " is full."));
+        } else {
+            lane.queue.offer(queuedTask);
+            drain();
+        }
+        return result;
+    }
+
+    private <T> void start(final Lane lane, final Supplier<? extends CompletionStage<T>> task, final CompletableFuture<T> result) {
+        CompletionStage<T> stage;
+        try {
+            stage = task.get();
+        } catch (final RuntimeException e) {
+            stage = CompletableFutureUtils.failed(e);
+        }
+        stage.whenComplete((value, throwable) -> {
+            release(lane);
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    private Lane laneByName(final String laneName) {
+        final Lane lane = laneName == null ? null : lanesByName.get(laneName);
+        return lane != null ? lane : lanes.get(lanes.size() - 1);
+    }
+
+    private boolean noTasksWaitingWithPriorityOf(final Lane lane) {
+        for (int i = 0; i <= lane.priority; i++) {
+            if (lanes.get(i).queuedTasks.get() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean tryAcquire(final Lane lane) {
+        if (!increment(parallelTasks, limit)) {
+            return false;
+        }
+        if (!increment(lane.parallelTasks, lane.maxParallelTasks)) {
+            parallelTasks.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean increment(final AtomicInteger counter, final int max) {
+        while (true) {
+            final int current = counter.get();
+            if (current >= max) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release(final Lane lane) {
+        lane.parallelTasks.decrementAndGet();
+        parallelTasks.decrementAndGet();
+        drain();
+    }
+
+    /**
+     * Starts queued tasks as long as permits are available. Tasks are only taken from the queues by the thread which
+     * increased {@link #drainRequests} from zero, further calls just cause another round of that thread.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            QueuedTask next;
+            while ((next = pollNext()) != null) {
+                final Lane lane = next.lane;
+                lane.queuedTasks.decrementAndGet();
+                if (closed) {
+                    lane.rejectedTasks.increment();
+                    release(lane);
+                    next.reject(new RequestRejectedException("The client has been closed."));
+                } else {
+                    lane.executedTasks.increment();
+                    final long waitNanos = System.nanoTime() - next.enqueuedAtNanos;
+                    lane.totalQueueWaitNanos.add(waitNanos);
+                    lane.maxQueueWaitNanos.accumulateAndGet(waitNanos, Math::max);
+                    next.start();
+                }
+            }
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private QueuedTask pollNext() {
+        for (final Lane lane : lanes) {
+            if (lane.queue.isEmpty()) {
+                continue;
+            }
+            if (!tryAcquire(lane)) {
+                if (parallelTasks.get() >= limit) {
+                    return null;
+                }
+                continue;
+            }
+            final QueuedTask task = lane.queue.poll();
+            if (task != null) {
+                return task;
+            }
+            lane.parallelTasks.decrementAndGet();
+            parallelTasks.decrementAndGet();
+        }
+        return null;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    void setLimit(final int limit) {
+        final boolean increased = limit > this.limit;
+        this.limit = limit;
+        if (increased) {
+            drain();
+        }
+    }
+
+    int getParallelTasks() {
+        return parallelTasks.get();
+    }
+
+    List<RequestLaneStatistics> getStatistics() {
+        final List<RequestLaneStatistics> statistics = new ArrayList<>(lanes.size());
+        for (final Lane lane : lanes) {
+            statistics.add(new RequestLaneStatistics(lane.name, lane.parallelTasks.get(), lane.queuedTasks.get(),
+                    lane.executedTasks.sum(), lane.rejectedTasks.sum(), lane.totalQueueWaitNanos.sum(), lane.maxQueueWaitNanos.get()));
+        }
+        return statistics;
+    }
+
+    /**
+     * Rejects all queued tasks, running tasks are not affected.
+     */
+    void close() {
+        closed = true;
+        for (final Lane lane : lanes) {
+            QueuedTask task;
+            while ((task = lane.queue.poll()) != null) {
+                lane.queuedTasks.decrementAndGet();
+                lane.rejectedTasks.increment();
+                task.reject(new RequestRejectedException("The client has been closed."));
+            }
+        }
+    }
+
+    private static final class Lane {
+        private final String name;
+        private final int priority;
+        private final int maxParallelTasks;
+        private final int maxQueueSize;
+        private final Queue<QueuedTask> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger parallelTasks = new AtomicInteger();
+        private final AtomicInteger queuedTasks = new AtomicInteger();
+        private final LongAdder executedTasks = new LongAdder();
+        private final LongAdder rejectedTasks = new LongAdder();
+        private final LongAdder totalQueueWaitNanos = new LongAdder();
+        private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+
+        private Lane(final RequestLane requestLane, final int priority) {
+            this.name = requestLane.getName();
+            this.priority = priority;
+            this.maxParallelTasks = requestLane.getMaxParallelRequests();
+            this.maxQueueSize = requestLane.getMaxQueueSize();
+        }
+    }
+
+    private abstract static class QueuedTask {
+        private final Lane lane;
+        private final long enqueuedAtNanos;
+
+        private QueuedTask(final Lane lane, final long enqueuedAtNanos) {
+            this.lane = lane;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+
+        abstract void start();
+
+        abstract void reject(RequestRejectedException exception);
+    }
+}
@@ -52,6 +52,7 @@ final class ExceptionFactory {
                     return new ConcurrentModificationException(errorResponse);
                 })
                 .whenStatus(413, r -> new RequestEntityTooLargeException())
+                .whenStatus(429, r -> new TooManyRequestsException(extractBody(r)))
                 .whenStatus(400, r -> {
                     final String body = extractBody(r);
                     if (body.contains("invalid_scope")) {
@@ -0,0 +1,198 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.retry.RetryBudget;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+import io.sphere.sdk.utils.SharedScheduler;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wraps a {@link SphereClient} to cut the tail latency of reads by hedging. If the response of a GET request takes longer than
+ * the hedge delay, an identical request is sent and the first successful response is used. The other request is cancelled,
+ * which completes its future but does not abort an HTTP request which has already been sent.
+ *
+ * <p>The hedge delay is either fixed or the observed latency percentile per resource type, like the 95th percentile of the
+ * latest product projection searches. Until enough latencies have been observed the fixed delay is used.</p>
+ *
+ * <p>Hedged requests are limited to a share of the GET requests, by default 5%, so that hedging does not put a notable extra
+ * load on the platform, also not while it is slow for all requests. The limit is a {@link RetryBudget} which counts
+ * the hedged requests as retries, its reserve allows a few hedges before enough GET requests have been made.
+ * A max extra load of 0 disables hedging. Requests with other HTTP methods are executed directly.</p>
+ *
+ * <p>The hedges are scheduled with the {@link SharedScheduler}.</p>
+ *
+ * @see HedgingSphereClientDecoratorBuilder
+ */
+public final class HedgingSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private static final int LATENCY_WINDOW_SIZE = 1000;
+    private static final int MIN_LATENCY_SAMPLES = 100;
+
+    private final ConcurrentMap<String, LatencyWindow> latencyWindows = new ConcurrentHashMap<>();
+    private final long delayNanos;
+    private final double percentile;
+    @Nullable
+    private final RetryBudget budget;
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder hedgeWins = new LongAdder();
+    private volatile boolean closed = false;
+
+    HedgingSphereClientDecorator(final SphereClient delegate, final Duration delay, final double percentile, final double maxExtraLoad,
+                                 final int budgetReserve, final ScheduledExecutorService scheduler) {
+        super(delegate);
+        this.delayNanos = delay.toNanos();
+        this.percentile = percentile;
+        this.budget = maxExtraLoad > 0 ? RetryBudget.of(maxExtraLoad, budgetReserve) : null;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates a client which hedges GET requests after a fixed delay, for at most 5% of the requests.
+     *
+     * @param delegate the client which executes the requests
+     * @param delay the time to wait for a response before sending a second request
+     * @return hedging client
+     */
+    public static HedgingSphereClientDecorator of(final SphereClient delegate, final Duration delay) {
+        return HedgingSphereClientDecoratorBuilder.of(delegate).delay(delay).build();
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final HttpRequestIntent httpRequestIntent = sphereRequest.httpRequestIntent();
+        if (budget == null || httpRequestIntent.getHttpMethod() != HttpMethod.GET) {
+            return super.execute(sphereRequest);
+        }
+        final LatencyWindow latencyWindow = percentile > 0
+                ? latencyWindows.computeIfAbsent(CachingSphereClientDecorator.resourceType(httpRequestIntent.getPath()), key -> new LatencyWindow())
+                : null;
+        final long hedgeDelayNanos = latencyWindow == null ? delayNanos : latencyWindow.percentileNanos(delayNanos);
+        budget.onCall();
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final AtomicInteger pendingRequests = new AtomicInteger(1);
+        final long startNanos = System.nanoTime();
+        final CompletionStage<T> primary = super.execute(sphereRequest);
+        primary.whenComplete((value, throwable) -> {
+            if (complete(result, pendingRequests, value, throwable) && throwable == null) {
+                record(latencyWindow, startNanos);
+            }
+        });
+        if (!result.isDone() && !closed) {
+            try {
+                final ScheduledFuture<?> scheduledHedge = scheduler.schedule(() -> {
+                    if (!result.isDone() && !closed && budget.tryRetry()) {
+                        pendingRequests.incrementAndGet();
+                        final long hedgeStartNanos = System.nanoTime();
+                        CompletionStage<T> hedgeStage;
+                        try {
+                            hedgeStage = super.execute(sphereRequest);
+                        } catch (final RuntimeException e) {
+                            hedgeStage = CompletableFutureUtils.failed(e);
+                        }
+                        final CompletionStage<T> hedge = hedgeStage;
+                        hedge.whenComplete((value, throwable) -> {
+                            if (complete(result, pendingRequests, value, throwable) && throwable == null) {
+                                record(latencyWindow, hedgeStartNanos);
+                                hedgeWins.increment();
+                                primary.toCompletableFuture().cancel(false);
+                            }
+                        });
+                        result.whenComplete((value, throwable) -> hedge.toCompletableFuture().cancel(false));
+                    }
+                }, hedgeDelayNanos, TimeUnit.NANOSECONDS);
+                result.whenComplete((value, throwable) -> scheduledHedge.cancel(false));
+            } catch (final RejectedExecutionException e) {
+                //the primary request continues without hedging
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Completes the result with the first successful response or with the error if all sent requests failed.
+     *
+     * @return true if this response completed the result
+     */
+    private static <T> boolean complete(final CompletableFuture<T> result, final AtomicInteger pendingRequests,
+                                        final T value, final Throwable throwable) {
+        if (throwable == null) {
+            return result.complete(value);
+        }
+        return pendingRequests.decrementAndGet() == 0 && result.completeExceptionally(throwable);
+    }
+
+    /**
+     * Records the latency of the request which completed the result. The latency of a request which lost against its hedge
+     * is unknown, it is cancelled at the time the other request responded.
+     */
+    private static void record(@Nullable final LatencyWindow latencyWindow, final long startNanos) {
+        if (latencyWindow != null) {
+            latencyWindow.record(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Number of requests which have been sent a second time.
+     *
+     * @return count of hedged requests
+     */
+    public long getHedgedRequestCount() {
+        return budget == null ? 0 : budget.getRetries();
+    }
+
+    /**
+     * Number of hedged requests whose second request has responded first.
+     *
+     * @return count of successful hedges
+     */
+    public long getHedgeWinCount() {
+        return hedgeWins.sum();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        super.close();
+    }
+
+    /**
+     * The latest latencies of a resource type. The percentile is recalculated after every {@link #MIN_LATENCY_SAMPLES} requests.
+     */
+    private final class LatencyWindow {
+        private final long[] latencies = new long[LATENCY_WINDOW_SIZE];
+        private int next;
+        private int size;
+        private int recordedSinceUpdate;
+        private volatile long percentileNanos = -1;
+
+        private long percentileNanos(final long fallbackNanos) {
+            final long nanos = percentileNanos;
+            return nanos < 0 ? fallbackNanos : nanos;
+        }
+
+        private synchronized void record(final long latencyNanos) {
+            latencies[next] = latencyNanos;
+            next = (next + 1) % latencies.length;
+            size = Math.min(size + 1, latencies.length);
+            if (++recordedSinceUpdate >= MIN_LATENCY_SAMPLES) {
+                recordedSinceUpdate = 0;
+                final long[] sorted = Arrays.copyOf(latencies, size);
+                Arrays.sort(sorted);
+                final int index = (int) Math.ceil(percentile / 100 * size) - 1;
+                percentileNanos = sorted[Math.max(0, Math.min(index, size - 1))];
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+import io.sphere.sdk.retry.RetryBudget;
+import io.sphere.sdk.utils.SharedScheduler;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Builder for {@link HedgingSphereClientDecorator}.
+ *
+ * <pre>{@code final SphereClient client = HedgingSphereClientDecoratorBuilder.of(delegate)
+ *         .delay(Duration.ofMillis(500))
+ *         .percentileDelay(95)
+ *         .maxExtraLoad(0.05)
+ *         .build();}</pre>
+ */
+public final class HedgingSphereClientDecoratorBuilder extends Base implements Builder<HedgingSphereClientDecorator> {
+    private final SphereClient delegate;
+    private Duration delay = Duration.ofSeconds(1);
+    private double percentile = 0;
+    private double maxExtraLoad = 0.05;
+    private int budgetReserve = RetryBudget.DEFAULT_RESERVE;
+    private ScheduledExecutorService scheduler = SharedScheduler.getInstance();
+
+    private HedgingSphereClientDecoratorBuilder(final SphereClient delegate) {
+        this.delegate = delegate;
+    }
+
+    public static HedgingSphereClientDecoratorBuilder of(final SphereClient delegate) {
+        return new HedgingSphereClientDecoratorBuilder(delegate);
+    }
+
+    /**
+     * Sets the time to wait for a response before the request is sent a second time. If a percentile delay is configured,
+     * this delay is only used until enough latencies have been observed.
+     *
+     * @param delay the hedge delay, one second by default
+     * @return this builder
+     */
+    public HedgingSphereClientDecoratorBuilder delay(final Duration delay) {
+        this.delay = Objects.requireNonNull(delay, "delay");
+        return this;
+    }
+
+    /**
+     * Uses the observed latency percentile of the resource type of a request as hedge delay, for example 95 to hedge the
+     * requests which take longer than 95% of the latest requests.
+     *
+     * @param percentile the percentile between 0 and 100, 0 to use the fixed delay which is the default
+     * @return this builder
+     */
+    public HedgingSphereClientDecoratorBuilder percentileDelay(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100 but was " + percentile);
+        }
+        this.percentile = percentile;
+        return this;
+    }
+
+    /**
+     * Limits the hedged requests to a share of the GET requests.
+     *
+     * @param maxExtraLoad the maximum number of hedged requests per GET request, 0.05 by default, 0 disables hedging
+     * @return this builder
+     */
+    public HedgingSphereClientDecoratorBuilder maxExtraLoad(final double maxExtraLoad) {
+        if (maxExtraLoad < 0) {
+            throw new IllegalArgumentException("The max extra load must not be negative but was " + maxExtraLoad);
+        }
+        this.maxExtraLoad = maxExtraLoad;
+        return this;
+    }
+
+    /**
+     * Sets the number of hedged requests which can be saved up, so that some requests can be hedged after a quiet period
+     * or directly after the start.
+     *
+     * @param budgetReserve the maximum number of saved up hedged requests, {@value RetryBudget#DEFAULT_RESERVE} by default
+     * @return this builder
+     */
+    public HedgingSphereClientDecoratorBuilder budgetReserve(final int budgetReserve) {
+        if (budgetReserve < 1) {
+            throw new IllegalArgumentException("The budget reserve must be positive but was " + budgetReserve);
+        }
+        this.budgetReserve = budgetReserve;
+        return this;
+    }
+
+    HedgingSphereClientDecoratorBuilder scheduler(final ScheduledExecutorService scheduler) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        return this;
+    }
+
+    @Override
+    public HedgingSphereClientDecorator build() {
+        return new HedgingSphereClientDecorator(delegate, delay, percentile, maxExtraLoad, budgetReserve, scheduler);
+    }
+}
@@ -1,52 +1,96 @@
 package io.sphere.sdk.client;
 
-import io.sphere.sdk.client.QueueSphereClientDecoratorActor.AsyncTask;
-import io.sphere.sdk.utils.CompletableFutureUtils;
-
-import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
 
 /**
  * Decorates a {@link SphereClient} to limit the amount of parallel requests which await an answer.
- * If {@code maxParallelRequests} are waiting for a response every further request will be added to an unbound queue.
+ * If {@code maxParallelRequests} are waiting for a response every further request will be added to a queue.
  * Then the next answer will cause that the first request in the queue will be executed.
  *
+ * <p>With {@link QueueSphereClientDecoratorBuilder} the requests can be assigned to {@link RequestLane}s with different priorities,
+ * limits and queue sizes, so that for example requests of a checkout are executed before the waiting requests of a background import.
+ * The queue wait times per lane are provided by {@link #getStatistics()}.</p>
+ *
+ * <p>Instead of a fixed number of parallel requests the limit can adapt to the latency and the error responses of the platform,
+ * see {@link AdaptiveConcurrencyLimit}.</p>
+ *
+ * <p>The limiter does not use locks or a dedicated thread, so it does not become a bottleneck for high request rates.</p>
  */
 public final class QueueSphereClientDecorator extends SphereClientDecorator implements SphereClient {
-    private final Actor actor;
+    static final String DEFAULT_LANE = "default";
+
+    private final ConcurrencyLimiter limiter;
+    private final Function<SphereRequest<?>, String> laneSelector;
     private final boolean closeUnderlyingClient;
+    @Nullable
+    private final AdaptiveLimitController adaptiveLimitController;
 
-    private QueueSphereClientDecorator(final SphereClient delegate, final int maxParallelRequests, final boolean closeUnderlyingClient) {
+    QueueSphereClientDecorator(final SphereClient delegate, final int maxParallelRequests, final List<RequestLane> lanes,
+                               final Function<SphereRequest<?>, String> laneSelector, final boolean closeUnderlyingClient,
+                               @Nullable final AdaptiveConcurrencyLimit adaptiveLimit, final IntConsumer limitListener) {
         super(delegate);
+        if (maxParallelRequests < 1) {
+            throw new IllegalArgumentException("maxParallelRequests must be positive but was " + maxParallelRequests);
+        }
+        final int initialLimit = adaptiveLimit == null
+                ? maxParallelRequests
+                : Math.max(adaptiveLimit.getMinLimit(), Math.min(adaptiveLimit.getMaxLimit(), maxParallelRequests));
+        this.limiter = new ConcurrencyLimiter(initialLimit, lanes);
+        this.laneSelector = laneSelector;
         this.closeUnderlyingClient = closeUnderlyingClient;
-        this.actor = new QueueSphereClientDecoratorActor(maxParallelRequests);
+        this.adaptiveLimitController = adaptiveLimit == null ? null : new AdaptiveLimitController(adaptiveLimit, limiter, limitListener);
     }
 
-
     @Override
     public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
-        final CompletableFuture<T> promiseForTheClient = new CompletableFuture<>();
-        final AsyncTask asyncTask = new AsyncTask(() -> {
-            final CompletionStage<T> realFuture = super.execute(sphereRequest);
-            CompletableFutureUtils.transferResult(realFuture, promiseForTheClient);
-            CompletableFuture<String> forHandlerFuture = new CompletableFuture<>();
-            realFuture.whenComplete((v, e) -> forHandlerFuture.complete("done"));
-            return forHandlerFuture;
+        return limiter.submit(laneSelector.apply(sphereRequest), () -> {
+            if (adaptiveLimitController == null) {
+                return super.execute(sphereRequest);
+            }
+            final int parallelRequests = limiter.getParallelTasks();
+            final long startNanos = System.nanoTime();
+            return super.execute(sphereRequest).whenComplete((result, throwable) ->
+                    adaptiveLimitController.onComplete(startNanos, System.nanoTime(), parallelRequests, throwable));
         });
-        actor.tell(asyncTask);
-        return promiseForTheClient;
     }
 
+    /**
+     * Provides a snapshot of the statistics of the lanes in the order of their priority.
+     *
+     * @return statistics per lane
+     */
+    public List<RequestLaneStatistics> getStatistics() {
+        return limiter.getStatistics();
+    }
+
+    /**
+     * The current maximum number of parallel requests, with an {@link AdaptiveConcurrencyLimit} it changes over time.
+     *
+     * @return limit of parallel requests
+     */
+    public int getMaxParallelRequests() {
+        return limiter.getLimit();
+    }
+
+    /**
+     * Rejects the queued requests with a {@link RequestRejectedException} and closes the underlying client if configured.
+     */
     @Override
     public void close() {
-        AutoCloseableService.closeQuietly(actor);
+        limiter.close();
         if (closeUnderlyingClient) {
             super.close();
         }
     }
 
     public static SphereClient of(final SphereClient delegate, final int maxParallelRequests, final boolean closeUnderlyingClient) {
-        return new QueueSphereClientDecorator(delegate, maxParallelRequests, closeUnderlyingClient);
+        return new QueueSphereClientDecorator(delegate, maxParallelRequests, Collections.singletonList(RequestLane.of(DEFAULT_LANE)),
+                sphereRequest -> DEFAULT_LANE, closeUnderlyingClient, null, limit -> {});
     }
 
     public static SphereClient of(final SphereClient delegate, final int maxParallelRequests) {
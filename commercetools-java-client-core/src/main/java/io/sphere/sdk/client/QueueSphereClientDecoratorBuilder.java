@@ -0,0 +1,102 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Builder for {@link QueueSphereClientDecorator} with multiple priority lanes.
+ *
+ * <pre>{@code final QueueSphereClientDecorator client = QueueSphereClientDecoratorBuilder.of(delegate, 20)
+ *         .lane(RequestLane.of("checkout"))
+ *         .lane(RequestLane.of("import", 5, 1000))
+ *         .laneSelector(request -> request instanceof ImportRequest ? "import" : "checkout")
+ *         .build();}</pre>
+ *
+ * <p>If no lane is added all requests share one lane without further limits.</p>
+ */
+public final class QueueSphereClientDecoratorBuilder extends Base implements Builder<QueueSphereClientDecorator> {
+    private final SphereClient delegate;
+    private final int maxParallelRequests;
+    private final List<RequestLane> lanes = new ArrayList<>();
+    private Function<SphereRequest<?>, String> laneSelector = sphereRequest -> QueueSphereClientDecorator.DEFAULT_LANE;
+    private boolean closeUnderlyingClient = true;
+    @Nullable
+    private AdaptiveConcurrencyLimit adaptiveLimit;
+    private IntConsumer limitListener = limit -> {};
+
+    private QueueSphereClientDecoratorBuilder(final SphereClient delegate, final int maxParallelRequests) {
+        this.delegate = delegate;
+        this.maxParallelRequests = maxParallelRequests;
+    }
+
+    public static QueueSphereClientDecoratorBuilder of(final SphereClient delegate, final int maxParallelRequests) {
+        return new QueueSphereClientDecoratorBuilder(delegate, maxParallelRequests);
+    }
+
+    /**
+     * Adds a lane with a lower priority than the lanes added before.
+     *
+     * @param lane the lane to add
+     * @return this builder
+     */
+    public QueueSphereClientDecoratorBuilder lane(final RequestLane lane) {
+        lanes.add(lane);
+        return this;
+    }
+
+    /**
+     * Sets the function which provides the lane name for a request. Requests with an unknown lane name are assigned to the lane with the lowest priority.
+     *
+     * @param laneSelector function from a request to the name of its lane
+     * @return this builder
+     */
+    public QueueSphereClientDecoratorBuilder laneSelector(final Function<SphereRequest<?>, String> laneSelector) {
+        this.laneSelector = laneSelector;
+        return this;
+    }
+
+    public QueueSphereClientDecoratorBuilder closeUnderlyingClient(final boolean closeUnderlyingClient) {
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        return this;
+    }
+
+    /**
+     * Adapts the number of parallel requests to the latency and the error responses of the platform.
+     * The {@code maxParallelRequests} of this builder are used as initial limit.
+     *
+     * @param adaptiveLimit the bounds and parameters of the adaption
+     * @return this builder
+     */
+    public QueueSphereClientDecoratorBuilder adaptiveLimit(@Nullable final AdaptiveConcurrencyLimit adaptiveLimit) {
+        this.adaptiveLimit = adaptiveLimit;
+        return this;
+    }
+
+    /**
+     * Sets a listener which is called with the new limit of parallel requests each time an {@link AdaptiveConcurrencyLimit} changes it,
+     * for example to publish it as metric.
+     *
+     * @param limitListener the listener, it should return fast since it is called on the thread which completes a request
+     * @return this builder
+     */
+    public QueueSphereClientDecoratorBuilder limitListener(final IntConsumer limitListener) {
+        this.limitListener = limitListener;
+        return this;
+    }
+
+    @Override
+    public QueueSphereClientDecorator build() {
+        final List<RequestLane> configuredLanes = new ArrayList<>(lanes);
+        if (configuredLanes.isEmpty()) {
+            configuredLanes.add(RequestLane.of(QueueSphereClientDecorator.DEFAULT_LANE));
+        }
+        return new QueueSphereClientDecorator(delegate, maxParallelRequests, configuredLanes, laneSelector, closeUnderlyingClient,
+                adaptiveLimit, limitListener);
+    }
+}
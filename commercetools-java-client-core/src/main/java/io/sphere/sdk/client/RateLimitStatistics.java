@@ -0,0 +1,79 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.SortedMap;
+
+/**
+ * Snapshot of the statistics of one budget of a {@link RateLimitingSphereClientDecorator}.
+ */
+public final class RateLimitStatistics extends Base {
+    private final String name;
+    private final long requests;
+    private final long delayedRequests;
+    private final long rejectedRequests;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+    private final SortedMap<Duration, Long> waitTimeHistogram;
+
+    RateLimitStatistics(final String name, final long requests, final long delayedRequests, final long rejectedRequests,
+                        final long totalWaitNanos, final long maxWaitNanos, final SortedMap<Duration, Long> waitTimeHistogram) {
+        this.name = name;
+        this.requests = requests;
+        this.delayedRequests = delayedRequests;
+        this.rejectedRequests = rejectedRequests;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+        this.waitTimeHistogram = Collections.unmodifiableSortedMap(waitTimeHistogram);
+    }
+
+    /**
+     * The name of the budget, the path prefix of an endpoint budget or {@link RateLimitingSphereClientDecorator#GLOBAL} for the global budget.
+     *
+     * @return name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Number of executed requests, including the delayed ones.
+     *
+     * @return number of requests
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getDelayedRequests() {
+        return delayedRequests;
+    }
+
+    /**
+     * Number of requests which have not been executed since they would have to wait longer than the maximum wait time.
+     *
+     * @return number of rejected requests
+     */
+    public long getRejectedRequests() {
+        return rejectedRequests;
+    }
+
+    public Duration getAverageWaitTime() {
+        return Duration.ofNanos(requests == 0 ? 0 : totalWaitNanos / requests);
+    }
+
+    public Duration getMaxWaitTime() {
+        return Duration.ofNanos(maxWaitNanos);
+    }
+
+    /**
+     * Number of executed requests per wait time range. The keys are the inclusive lower bounds of the ranges, each range ends at the next key.
+     *
+     * @return histogram of the wait times
+     */
+    public SortedMap<Duration, Long> getWaitTimeHistogram() {
+        return waitTimeHistogram;
+    }
+}
@@ -0,0 +1,209 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.utils.CompletableFutureUtils;
+import io.sphere.sdk.utils.SharedScheduler;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wraps a {@link SphereClient} to limit the rate of requests with token buckets, so that for example a bulk import does not
+ * exceed the rate limits of the project and the requests of a storefront are still answered.
+ *
+ * <p>There can be a global budget for all requests and budgets per endpoint which are selected by the longest matching path prefix
+ * of the {@link HttpRequestIntent}, like "/products" or "/orders/import". A request has to take a token of the global budget
+ * and of its endpoint budget. If a budget is exhausted the request is not blocking a thread but is scheduled to be executed
+ * as soon as the tokens have been refilled. Requests which would have to wait longer than the maximum wait time fail
+ * immediately with a {@link RequestRejectedException}. The delayed requests are scheduled with the {@link SharedScheduler}.</p>
+ *
+ * <p>The wait times per budget are provided by {@link #getStatistics()}.</p>
+ *
+ * @see RateLimitingSphereClientDecoratorBuilder
+ */
+public final class RateLimitingSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    public static final String GLOBAL = "global";
+    private static final long[] HISTOGRAM_LOWER_BOUNDS_NANOS = {0, 1, TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(10),
+            TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.SECONDS.toNanos(1), TimeUnit.SECONDS.toNanos(10)};
+
+    @Nullable
+    private final Budget globalBudget;
+    private final List<Budget> endpointBudgets;
+    private final long maxWaitNanos;
+    private volatile boolean closed = false;
+
+    RateLimitingSphereClientDecorator(final SphereClient delegate, @Nullable final Rate globalRate, final Map<String, Rate> endpointRates,
+                                      final Duration maxWaitTime) {
+        super(delegate);
+        final long nowNanos = System.nanoTime();
+        this.globalBudget = globalRate == null ? null : new Budget(GLOBAL, globalRate, nowNanos);
+        final List<Budget> budgets = new ArrayList<>(endpointRates.size());
+        endpointRates.forEach((pathPrefix, rate) -> budgets.add(new Budget(normalizePathPrefix(pathPrefix), rate, nowNanos)));
+        budgets.sort(Comparator.comparingInt((Budget budget) -> budget.name.length()).reversed());
+        this.endpointBudgets = budgets;
+        this.maxWaitNanos = maxWaitTime.toNanos();
+    }
+
+    /**
+     * Creates a client which sends at most {@code requestsPerSecond} requests per second, with bursts of up to one second of requests.
+     *
+     * @param delegate the client which executes the requests
+     * @param requestsPerSecond the global rate
+     * @return rate limiting client
+     */
+    public static RateLimitingSphereClientDecorator of(final SphereClient delegate, final double requestsPerSecond) {
+        return RateLimitingSphereClientDecoratorBuilder.of(delegate).globalRate(requestsPerSecond).build();
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final Budget endpointBudget = endpointBudget(sphereRequest.httpRequestIntent().getPath());
+        final long nowNanos = System.nanoTime();
+        final long globalWaitNanos = globalBudget == null ? 0 : globalBudget.bucket.reserve(nowNanos);
+        final long endpointWaitNanos = endpointBudget == null ? 0 : endpointBudget.bucket.reserve(nowNanos);
+        final long waitNanos = Math.max(globalWaitNanos, endpointWaitNanos);
+        if (waitNanos > maxWaitNanos) {
+            reject(globalBudget);
+            reject(endpointBudget);
+            return CompletableFutureUtils.failed(new RequestRejectedException("The request would have to wait "
+                    + Duration.ofNanos(waitNanos) + " for the rate limit."));
+        }
+        record(globalBudget, waitNanos);
+        record(endpointBudget, waitNanos);
+        if (waitNanos == 0) {
+            return super.execute(sphereRequest);
+        }
+        if (closed) {
+            return CompletableFutureUtils.failed(new RequestRejectedException("The client has been closed."));
+        }
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            SharedScheduler.getInstance().schedule(() -> {
+                try {
+                    super.execute(sphereRequest).whenComplete((value, throwable) -> {
+                        if (throwable != null) {
+                            result.completeExceptionally(throwable);
+                        } else {
+                            result.complete(value);
+                        }
+                    });
+                } catch (final RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }, waitNanos, TimeUnit.NANOSECONDS);
+        } catch (final RejectedExecutionException e) {
+            result.completeExceptionally(new RequestRejectedException("The request could not be scheduled."));
+        }
+        return result;
+    }
+
+    @Nullable
+    private Budget endpointBudget(final String path) {
+        final int queryStart = path.indexOf('?');
+        final String pathWithoutQuery = queryStart < 0 ? path : path.substring(0, queryStart);
+        for (final Budget budget : endpointBudgets) {
+            if (pathWithoutQuery.startsWith(budget.name)
+                    && (pathWithoutQuery.length() == budget.name.length() || pathWithoutQuery.charAt(budget.name.length()) == '/')) {
+                return budget;
+            }
+        }
+        return null;
+    }
+
+    private static void record(@Nullable final Budget budget, final long waitNanos) {
+        if (budget != null) {
+            budget.requests.increment();
+            if (waitNanos > 0) {
+                budget.delayedRequests.increment();
+                budget.totalWaitNanos.add(waitNanos);
+                budget.maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+            }
+            int bucket = HISTOGRAM_LOWER_BOUNDS_NANOS.length - 1;
+            while (HISTOGRAM_LOWER_BOUNDS_NANOS[bucket] > waitNanos) {
+                bucket--;
+            }
+            budget.waitTimeHistogram[bucket].increment();
+        }
+    }
+
+    private static void reject(@Nullable final Budget budget) {
+        if (budget != null) {
+            budget.bucket.cancel();
+            budget.rejectedRequests.increment();
+        }
+    }
+
+    /**
+     * Provides a snapshot of the statistics of the global budget, if configured, followed by the endpoint budgets.
+     *
+     * @return statistics per budget
+     */
+    public List<RateLimitStatistics> getStatistics() {
+        final List<RateLimitStatistics> statistics = new ArrayList<>(endpointBudgets.size() + 1);
+        if (globalBudget != null) {
+            statistics.add(globalBudget.toStatistics());
+        }
+        endpointBudgets.forEach(budget -> statistics.add(budget.toStatistics()));
+        return statistics;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        super.close();
+    }
+
+    static String normalizePathPrefix(final String pathPrefix) {
+        final String withSlash = pathPrefix.startsWith("/") ? pathPrefix : "/" + pathPrefix;
+        return withSlash.length() > 1 && withSlash.endsWith("/") ? withSlash.substring(0, withSlash.length() - 1) : withSlash;
+    }
+
+    static final class Rate {
+        private final double requestsPerSecond;
+        private final int burst;
+
+        Rate(final double requestsPerSecond, final int burst) {
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+        }
+    }
+
+    private static final class Budget {
+        private final String name;
+        private final TokenBucket bucket;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder delayedRequests = new LongAdder();
+        private final LongAdder rejectedRequests = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final LongAdder[] waitTimeHistogram = new LongAdder[HISTOGRAM_LOWER_BOUNDS_NANOS.length];
+
+        private Budget(final String name, final Rate rate, final long nowNanos) {
+            this.name = name;
+            this.bucket = new TokenBucket(rate.requestsPerSecond, rate.burst, nowNanos);
+            for (int i = 0; i < waitTimeHistogram.length; i++) {
+                waitTimeHistogram[i] = new LongAdder();
+            }
+        }
+
+        private RateLimitStatistics toStatistics() {
+            final SortedMap<Duration, Long> histogram = new TreeMap<>();
+            for (int i = 0; i < waitTimeHistogram.length; i++) {
+                histogram.put(Duration.ofNanos(HISTOGRAM_LOWER_BOUNDS_NANOS[i]), waitTimeHistogram[i].sum());
+            }
+            return new RateLimitStatistics(name, requests.sum(), delayedRequests.sum(), rejectedRequests.sum(),
+                    totalWaitNanos.sum(), maxWaitNanos.get(), histogram);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.client.RateLimitingSphereClientDecorator.Rate;
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builder for {@link RateLimitingSphereClientDecorator}.
+ *
+ * <pre>{@code final SphereClient client = RateLimitingSphereClientDecoratorBuilder.of(delegate)
+ *         .globalRate(100)
+ *         .endpointRate("/orders/import", 20)
+ *         .maxWaitTime(Duration.ofSeconds(10))
+ *         .build();}</pre>
+ *
+ * <p>Without a configured rate no requests are limited. If no burst is given, up to one second of requests can be executed without waiting.</p>
+ */
+public final class RateLimitingSphereClientDecoratorBuilder extends Base implements Builder<RateLimitingSphereClientDecorator> {
+    private final SphereClient delegate;
+    @Nullable
+    private Rate globalRate;
+    private final Map<String, Rate> endpointRates = new LinkedHashMap<>();
+    private Duration maxWaitTime = Duration.ofNanos(Long.MAX_VALUE);
+
+    private RateLimitingSphereClientDecoratorBuilder(final SphereClient delegate) {
+        this.delegate = delegate;
+    }
+
+    public static RateLimitingSphereClientDecoratorBuilder of(final SphereClient delegate) {
+        return new RateLimitingSphereClientDecoratorBuilder(delegate);
+    }
+
+    public RateLimitingSphereClientDecoratorBuilder globalRate(final double requestsPerSecond) {
+        return globalRate(requestsPerSecond, defaultBurst(requestsPerSecond));
+    }
+
+    /**
+     * Limits the rate of all requests.
+     *
+     * @param requestsPerSecond the number of requests per second
+     * @param burst the number of requests which can be executed at once after a period without requests
+     * @return this builder
+     */
+    public RateLimitingSphereClientDecoratorBuilder globalRate(final double requestsPerSecond, final int burst) {
+        this.globalRate = new Rate(requestsPerSecond, burst);
+        return this;
+    }
+
+    public RateLimitingSphereClientDecoratorBuilder endpointRate(final String pathPrefix, final double requestsPerSecond) {
+        return endpointRate(pathPrefix, requestsPerSecond, defaultBurst(requestsPerSecond));
+    }
+
+    /**
+     * Limits the rate of the requests to an endpoint. The path prefix matches whole path segments, so "/products" is used for
+     * "/products/key=foo" but not for "/product-projections". If multiple prefixes match, the longest one is used.
+     *
+     * @param pathPrefix the beginning of the request paths, for example "/products" or "/orders/import"
+     * @param requestsPerSecond the number of requests per second
+     * @param burst the number of requests which can be executed at once after a period without requests
+     * @return this builder
+     */
+    public RateLimitingSphereClientDecoratorBuilder endpointRate(final String pathPrefix, final double requestsPerSecond, final int burst) {
+        endpointRates.put(pathPrefix, new Rate(requestsPerSecond, burst));
+        return this;
+    }
+
+    /**
+     * Sets the maximum time a request waits for the rate limits, requests which would have to wait longer are rejected with a {@link RequestRejectedException}.
+     *
+     * @param maxWaitTime the maximum wait time, unlimited by default
+     * @return this builder
+     */
+    public RateLimitingSphereClientDecoratorBuilder maxWaitTime(final Duration maxWaitTime) {
+        this.maxWaitTime = maxWaitTime;
+        return this;
+    }
+
+    @Override
+    public RateLimitingSphereClientDecorator build() {
+        return new RateLimitingSphereClientDecorator(delegate, globalRate, endpointRates, maxWaitTime);
+    }
+
+    private static int defaultBurst(final double requestsPerSecond) {
+        return (int) Math.max(1, Math.ceil(requestsPerSecond));
+    }
+}
@@ -0,0 +1,64 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+/**
+ * A priority lane of a {@link QueueSphereClientDecorator}. Waiting requests of a lane with a higher priority are executed before
+ * the waiting requests of lanes with a lower priority, the priority is given by the order the lanes are added with
+ * {@link QueueSphereClientDecoratorBuilder#lane(RequestLane)}.
+ *
+ * <p>A lane can limit the number of its parallel requests, so that for example bulk imports cannot occupy all connections,
+ * and the number of its waiting requests. If the queue of a lane is full, further requests of the lane fail immediately
+ * with a {@link RequestRejectedException}.</p>
+ */
+public final class RequestLane extends Base {
+    private final String name;
+    private final int maxParallelRequests;
+    private final int maxQueueSize;
+
+    private RequestLane(final String name, final int maxParallelRequests, final int maxQueueSize) {
+        if (maxParallelRequests < 1) {
+            throw new IllegalArgumentException("maxParallelRequests must be positive but was " + maxParallelRequests);
+        }
+        if (maxQueueSize < 0) {
+            throw new IllegalArgumentException("maxQueueSize must not be negative but was " + maxQueueSize);
+        }
+        this.name = name;
+        this.maxParallelRequests = maxParallelRequests;
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    /**
+     * Creates a lane which is only limited by the overall number of parallel requests and has an unbounded queue.
+     *
+     * @param name the name of the lane
+     * @return lane
+     */
+    public static RequestLane of(final String name) {
+        return of(name, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a lane with limits.
+     *
+     * @param name the name of the lane
+     * @param maxParallelRequests maximum number of requests of this lane waiting for a response
+     * @param maxQueueSize maximum number of requests of this lane waiting to be executed, 0 rejects all requests which cannot be executed immediately
+     * @return lane
+     */
+    public static RequestLane of(final String name, final int maxParallelRequests, final int maxQueueSize) {
+        return new RequestLane(name, maxParallelRequests, maxQueueSize);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxParallelRequests() {
+        return maxParallelRequests;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+}
@@ -0,0 +1,72 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the statistics of one {@link RequestLane} of a {@link QueueSphereClientDecorator}.
+ */
+public final class RequestLaneStatistics extends Base {
+    private final String name;
+    private final int parallelRequests;
+    private final int queuedRequests;
+    private final long executedRequests;
+    private final long rejectedRequests;
+    private final long totalQueueWaitNanos;
+    private final long maxQueueWaitNanos;
+
+    RequestLaneStatistics(final String name, final int parallelRequests, final int queuedRequests, final long executedRequests,
+                          final long rejectedRequests, final long totalQueueWaitNanos, final long maxQueueWaitNanos) {
+        this.name = name;
+        this.parallelRequests = parallelRequests;
+        this.queuedRequests = queuedRequests;
+        this.executedRequests = executedRequests;
+        this.rejectedRequests = rejectedRequests;
+        this.totalQueueWaitNanos = totalQueueWaitNanos;
+        this.maxQueueWaitNanos = maxQueueWaitNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Number of requests of the lane which currently wait for a response.
+     *
+     * @return parallel requests
+     */
+    public int getParallelRequests() {
+        return parallelRequests;
+    }
+
+    /**
+     * Number of requests of the lane which currently wait to be executed.
+     *
+     * @return queued requests
+     */
+    public int getQueuedRequests() {
+        return queuedRequests;
+    }
+
+    public long getExecutedRequests() {
+        return executedRequests;
+    }
+
+    public long getRejectedRequests() {
+        return rejectedRequests;
+    }
+
+    /**
+     * Average time the executed requests waited in the queue, requests which could be executed immediately count with zero.
+     *
+     * @return average wait time
+     */
+    public Duration getAverageQueueWaitTime() {
+        return Duration.ofNanos(executedRequests == 0 ? 0 : totalQueueWaitNanos / executedRequests);
+    }
+
+    public Duration getMaxQueueWaitTime() {
+        return Duration.ofNanos(maxQueueWaitNanos);
+    }
+}
@@ -0,0 +1,15 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.SphereException;
+
+/**
+ * Exception if a request has not been sent to the platform since the queue of its {@link RequestLane} is full
+ * or the client has been closed.
+ */
+public class RequestRejectedException extends SphereException {
+    static final long serialVersionUID = 0L;
+
+    public RequestRejectedException(final String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,7 @@
 package io.sphere.sdk.client;
 
 import io.sphere.sdk.retry.RetryRule;
+import io.sphere.sdk.retry.RetrySupervisorConfig;
 
 import java.util.List;
 
@@ -15,6 +16,18 @@ import java.util.List;
  */
 public interface RetrySphereClientDecorator extends SphereClient {
     static SphereClient of(final SphereClient delegate, final List<RetryRule> retryRules) {
-        return new RetrySphereClientImpl(delegate, retryRules);
+        return new RetrySphereClientImpl(delegate, retryRules, RetrySupervisorConfig.of());
+    }
+
+    /**
+     * Creates a client which retries with the given rules and additional settings like a retry budget or a shared scheduler.
+     *
+     * @param delegate the client which executes the requests
+     * @param retryRules the rules to decide if and when to retry a request
+     * @param config the settings for all rules
+     * @return retrying client
+     */
+    static SphereClient of(final SphereClient delegate, final List<RetryRule> retryRules, final RetrySupervisorConfig config) {
+        return new RetrySphereClientImpl(delegate, retryRules, config);
     }
 }
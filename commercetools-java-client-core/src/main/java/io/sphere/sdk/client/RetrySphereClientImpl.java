@@ -1,17 +1,28 @@
 package io.sphere.sdk.client;
 
 import io.sphere.sdk.retry.AsyncRetrySupervisor;
+import io.sphere.sdk.retry.RetryAction;
 import io.sphere.sdk.retry.RetryRule;
+import io.sphere.sdk.retry.RetrySupervisorConfig;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 final class RetrySphereClientImpl extends SphereClientDecorator {
     private final AsyncRetrySupervisor supervisor;
 
-    RetrySphereClientImpl(final SphereClient delegate, final List<RetryRule> retryRules) {
+    RetrySphereClientImpl(final SphereClient delegate, final List<RetryRule> retryRules, final RetrySupervisorConfig config) {
         super(delegate);
-        this.supervisor = AsyncRetrySupervisor.of(retryRules);
+        this.supervisor = AsyncRetrySupervisor.of(withoutRetriesForOpenCircuits(retryRules), config);
+    }
+
+    private static List<RetryRule> withoutRetriesForOpenCircuits(final List<RetryRule> retryRules) {
+        final List<RetryRule> rules = new ArrayList<>(retryRules.size() + 1);
+        rules.add(RetryRule.of(retryContext -> retryContext.getLatestError() instanceof CircuitBreakerOpenException,
+                RetryAction.ofGiveUpAndSendLatestException()));
+        rules.addAll(retryRules);
+        return rules;
     }
 
     @Override
@@ -29,6 +29,20 @@ public interface SphereAccessTokenSupplier extends AutoCloseable, Supplier<Compl
         return AutoRefreshSphereAccessTokenSupplierImpl.createAndBeginRefreshInBackground(config, httpClient, closeHttpClient);
     }
 
+    /**
+     * Provides a token generator which tries to always provide a valid token and fetches a new token in the background
+     * after the given fraction of the lifetime of the current token, so that requests do not meet an expired token.
+     *
+     * @param config the configuration to fetch a token
+     * @param httpClient used http client
+     * @param closeHttpClient set to true, if the httpClient should be closed with the created SphereAccessTokenSupplier
+     * @param refreshRatio the fraction of the lifetime of a token after which a new token is fetched, greater than 0 and at most 0.9, by default 0.5
+     * @return token service
+     */
+    static SphereAccessTokenSupplier ofAutoRefresh(final SphereAuthConfig config, final HttpClient httpClient, final boolean closeHttpClient, final double refreshRatio) {
+        return AutoRefreshSphereAccessTokenSupplierImpl.createAndBeginRefreshInBackground(config, httpClient, closeHttpClient, refreshRatio);
+    }
+
     /**
      * Provides a token generator which just returns a fixed token, so the client is only usable
      * for the live time of this token.
@@ -0,0 +1,77 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+/**
+ * Snapshot of the statistics of a {@link CachingSphereClientDecorator}.
+ */
+public final class SphereClientCacheStatistics extends Base {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long invalidationCount;
+    private final int size;
+
+    SphereClientCacheStatistics(final long hitCount, final long missCount, final long evictionCount, final long invalidationCount, final int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.invalidationCount = invalidationCount;
+        this.size = size;
+    }
+
+    /**
+     * Number of requests served from the cache.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Number of cacheable requests which have been forwarded to the underlying client.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Number of entries removed because they expired or the cache exceeded its maximum size.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Number of entries removed because of commands executed through the client or {@link CachingSphereClientDecorator#invalidateAll()}.
+     *
+     * @return invalidation count
+     */
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    /**
+     * Number of entries currently in the cache, this may include expired entries which have not yet been requested again.
+     *
+     * @return size of the cache
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Ratio of hits to all cacheable requests.
+     *
+     * @return hit rate between 0 and 1, 0 if there has not been a cacheable request
+     */
+    public double getHitRate() {
+        final long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+}
@@ -9,6 +9,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ServiceLoader;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -19,15 +20,29 @@ import java.util.function.Supplier;
 public interface SphereClientFactory {
     HttpClient createHttpClient();
 
+    /**
+     * Creates an {@link HttpClient} which converts the responses with {@code executor}.
+     * By default the executor is ignored and {@link #createHttpClient()} is used.
+     *
+     * @param executor the executor of the client config
+     * @return http client
+     */
+    default HttpClient createHttpClient(final Executor executor) {
+        return createHttpClient();
+    }
+
     /**
      * Creates a standard client with configurable service URLs. Intended for commercetools staff
      * developing with a custom platform instance.
      *
+     * The responses are converted and deserialized with {@link SphereClientConfig#getExecutor()}, so clients created from configs
+     * with the same executor share their threads.
+     *
      * @param config configuration for the client
      * @return client
      */
     default SphereClient createClient(SphereClientConfig config) {
-        final HttpClient httpClient = createHttpClient();
+        final HttpClient httpClient = createHttpClient(config.getExecutor());
         final SphereAccessTokenSupplier tokenSupplier = SphereAccessTokenSupplier.ofAutoRefresh(config, httpClient, false);
         return SphereClient.of(config, httpClient, tokenSupplier);
     }
@@ -39,7 +54,7 @@ public interface SphereClientFactory {
      * @return client
      */
     default SphereClient createClient(SphereApiConfig config, SphereAccessTokenSupplier tokenSupplier) {
-        return SphereClient.of(config, createHttpClient(), tokenSupplier);
+        return SphereClient.of(config, createHttpClient(config.getExecutor()), tokenSupplier);
     }
 
     /**
@@ -106,7 +121,7 @@ public interface SphereClientFactory {
      * @return client
      */
     default SphereClient createClientOfApiConfigAndAccessToken(SphereApiConfig config, String accessToken) {
-        return SphereClient.of(config, createHttpClient(), SphereAccessTokenSupplier.ofConstantToken(accessToken));
+        return SphereClient.of(config, createHttpClient(config.getExecutor()), SphereAccessTokenSupplier.ofConstantToken(accessToken));
     }
 
     static SphereClientFactory of(final Supplier<HttpClient> httpClientSupplier) {
@@ -120,6 +135,6 @@ public interface SphereClientFactory {
         if(httpClientFactory == null){
             throw new SphereException(new NoClassDefFoundError(SphereHttpClientFactory.class.getCanonicalName()));
         }
-        return of(httpClientFactory::getClient);
+        return new SphereClientFactoryImpl(httpClientFactory::getClient, httpClientFactory::getClient);
     }
 }
@@ -3,17 +3,30 @@ package io.sphere.sdk.client;
 import io.sphere.sdk.http.HttpClient;
 import io.sphere.sdk.models.Base;
 
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 final class SphereClientFactoryImpl extends Base implements SphereClientFactory {
     private final Supplier<HttpClient> httpClientSupplier;
+    private final Function<Executor, HttpClient> httpClientWithExecutorFunction;
 
     SphereClientFactoryImpl(final Supplier<HttpClient> httpClientSupplier) {
+        this(httpClientSupplier, executor -> httpClientSupplier.get());
+    }
+
+    SphereClientFactoryImpl(final Supplier<HttpClient> httpClientSupplier, final Function<Executor, HttpClient> httpClientWithExecutorFunction) {
         this.httpClientSupplier = httpClientSupplier;
+        this.httpClientWithExecutorFunction = httpClientWithExecutorFunction;
     }
 
     @Override
     public HttpClient createHttpClient() {
         return httpClientSupplier.get();
     }
+
+    @Override
+    public HttpClient createHttpClient(final Executor executor) {
+        return httpClientWithExecutorFunction.apply(executor);
+    }
 }
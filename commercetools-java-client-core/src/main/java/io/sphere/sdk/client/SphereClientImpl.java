@@ -10,12 +10,15 @@ import io.sphere.sdk.utils.SphereInternalLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 import static io.sphere.sdk.client.HttpResponseBodyUtils.bytesToString;
 import static io.sphere.sdk.utils.SphereInternalLogger.getLogger;
@@ -28,6 +31,14 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
     private final SphereAccessTokenSupplier tokenSupplier;
     private final String userAgent;
     private final CorrelationIdGenerator correlationIdGenerator;
+    private final String projectUrl;
+    private final HttpHeaders staticHeaders;
+    /**
+     * The executor to deserialize the responses or null if the HTTP client already completes in the threads of the configured executor.
+     */
+    @Nullable
+    private final Executor deserializationExecutor;
+    private volatile TokenHeaders tokenHeaders;
 
     private SphereClientImpl(final SphereApiConfig config, final SphereAccessTokenSupplier tokenSupplier,
                              final HttpClient httpClient, final CorrelationIdGenerator correlationIdGenerator, final List<SolutionInfo> additionalSolutionInfos) {
@@ -36,6 +47,11 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
         this.tokenSupplier = tokenSupplier;
         this.userAgent = UserAgentUtils.obtainUserAgent(httpClient, additionalSolutionInfos);
         this.correlationIdGenerator = correlationIdGenerator;
+        this.projectUrl = config.getApiUrl() + "/" + config.getProjectKey();
+        this.staticHeaders = HttpHeaders.of(HttpHeaders.USER_AGENT, userAgent).plus(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        final Executor executor = config.getExecutor();
+        final boolean completesInExecutor = httpClient instanceof HttpClientAdapterBase && ((HttpClientAdapterBase) httpClient).completesIn(executor);
+        this.deserializationExecutor = completesInExecutor ? null : executor;
     }
 
     @Override
@@ -43,7 +59,7 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
         rejectExcutionIfClosed("Client is already closed.");
         try {
             final int ttl = 1;
-            return tokenSupplier.get().thenComposeAsync(token -> execute(sphereRequest, token, ttl));
+            return tokenSupplier.get().thenCompose(token -> execute(sphereRequest, token, ttl));
         } catch (final Throwable throwable) {
             return CompletableFutureUtils.failed(throwable);
         }
@@ -81,20 +97,25 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
     }
 
     private <T> CompletableFuture<T> executeWithRecover(final SphereRequest<T> sphereRequest, final HttpRequest httpRequest, final int ttl) {
-        final CompletionStage<T> intermediateResult = httpClient.execute(httpRequest).thenApplyAsync(httpResponse -> {
+        final Function<HttpResponse, T> deserialization = httpResponse -> {
             try {
                 return processHttpResponse(sphereRequest, objectMapper, config, httpResponse, httpRequest);
             } catch (final SphereException e) {
                 fillExceptionWithData(sphereRequest, httpResponse, e, config, httpRequest);
                 throw e;
             }
-        });
+        };
+        final CompletionStage<HttpResponse> httpResponseStage = httpClient.execute(httpRequest);
+        //an adapter with the configured executor already completes in its threads, other HTTP clients may complete in their I/O threads
+        final CompletionStage<T> intermediateResult = deserializationExecutor == null
+                ? httpResponseStage.thenApply(deserialization)
+                : httpResponseStage.thenApplyAsync(deserialization, deserializationExecutor);
         final CompletableFuture<T> result = new CompletableFuture<T>();
-        intermediateResult.whenCompleteAsync((value, throwable) -> {
+        intermediateResult.whenComplete((value, throwable) -> {
             if (throwable != null) {
                 if (throwable.getCause() instanceof InvalidTokenException && ttl > 0 && tokenSupplier instanceof RefreshableSphereAccessTokenSupplier) {
                     final RefreshableSphereAccessTokenSupplier supplier = (RefreshableSphereAccessTokenSupplier) tokenSupplier;
-                    final CompletionStage<T> nextAttemptCompletionStage = supplier.getNewToken().thenComposeAsync(token -> execute(sphereRequest, token, ttl - 1));
+                    final CompletionStage<T> nextAttemptCompletionStage = supplier.getNewToken().thenCompose(token -> execute(sphereRequest, token, ttl - 1));
                     CompletableFutureUtils.transferResult(nextAttemptCompletionStage, result);
                 } else {
                     result.completeExceptionally(throwable);
@@ -107,25 +128,32 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
     }
 
     private <T> HttpRequest createHttpRequest(final SphereRequest<T> sphereRequest, final String token) {
-        final String correlationId = correlationIdGenerator.get();
-        return sphereRequest
-                .httpRequestIntent()
-                .plusHeader(HttpHeaders.X_CORRELATION_ID, correlationId)
-                .plusHeader(HttpHeaders.USER_AGENT, userAgent)
-                .plusHeader(HttpHeaders.ACCEPT_ENCODING, "gzip")
-                .plusHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                .prefixPath("/" + config.getProjectKey())
-                .toHttpRequest(config.getApiUrl());
+        final HttpRequestIntent httpRequestIntent = sphereRequest.httpRequestIntent();
+        final HttpHeaders headers = httpRequestIntent.getHeaders()
+                .plusAll(headersForToken(token))
+                .plus(HttpHeaders.X_CORRELATION_ID, correlationIdGenerator.get());
+        return HttpRequest.of(httpRequestIntent.getHttpMethod(), projectUrl + httpRequestIntent.getPath(), headers, httpRequestIntent.getBody());
+    }
+
+    /**
+     * Provides the headers which are the same for all requests with the token, they are only created again if the token changes.
+     */
+    private HttpHeaders headersForToken(final String token) {
+        final TokenHeaders current = tokenHeaders;
+        if (current != null && current.token.equals(token)) {
+            return current.headers;
+        }
+        final TokenHeaders created = new TokenHeaders(token, staticHeaders.plus(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+        tokenHeaders = created;
+        return created.headers;
     }
 
     private static <T> T processHttpResponse(final SphereRequest<T> sphereRequest, final ObjectMapper objectMapper, final SphereApiConfig config, final HttpResponse httpResponse, final HttpRequest httpRequest) {
         final SphereInternalLogger logger = getLogger(httpResponse);
         logger.debug(() -> httpResponse);
         logger.trace(() -> httpResponse.getStatusCode() + "\n" + Optional.ofNullable(httpResponse.getResponseBody()).map(body -> SphereJsonUtils.prettyPrint(bytesToString(body))).orElse("No body present."));
-        final List<String> notices = httpResponse.getHeaders().getHeadersAsMap().get(SphereHttpHeaders.X_DEPRECATION_NOTICE);
-        if (notices != null) {
-            notices.forEach(message -> logger.warn(() -> "Deprecation notice : " + message));
-        }
+        httpResponse.getHeaders().getHeader(SphereHttpHeaders.X_DEPRECATION_NOTICE)
+                .forEach(message -> logger.warn(() -> "Deprecation notice : " + message));
         return parse(sphereRequest, objectMapper, config, httpResponse, httpRequest);
     }
 
@@ -138,8 +166,8 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
             try {
                 result = sphereRequest.deserialize(httpResponse);
             } catch (final JsonException e) {
-                final byte[] bytes = httpResponse.getResponseBody();
-                e.addNote("Cannot parse " + bytesToString(bytes));
+                final String body = Optional.ofNullable(httpResponse.getResponseBody()).map(bytes -> bytesToString(bytes)).orElse("streamed body");
+                e.addNote("Cannot parse " + body);
                 throw e;
             }
         }
@@ -191,4 +219,14 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
     public SphereApiConfig getConfig() {
         return config;
     }
+
+    private static final class TokenHeaders {
+        private final String token;
+        private final HttpHeaders headers;
+
+        private TokenHeaders(final String token, final HttpHeaders headers) {
+            this.token = token;
+            this.headers = headers;
+        }
+    }
 }
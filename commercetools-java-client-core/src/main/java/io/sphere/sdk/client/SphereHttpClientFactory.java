@@ -3,6 +3,8 @@ package io.sphere.sdk.client;
 import io.sphere.sdk.http.HttpClient;
 import io.sphere.sdk.models.Base;
 
+import java.util.concurrent.Executor;
+
 /**
  * In order to work, the sdk needs an {@link HttpClient} provider, this can be done by extending {@link SphereHttpClientFactory}
  * and exposing it as a service
@@ -16,4 +18,15 @@ public abstract class SphereHttpClientFactory extends Base{
      */
      public abstract HttpClient getClient();
 
+    /**
+     * Provides an {@link HttpClient} which converts the responses with {@code executor}.
+     * Factories which cannot use a custom executor provide {@link #getClient()}.
+     *
+     * @param executor the executor configured with {@link SphereClientConfig#getExecutor()}
+     * @return HttpClient implementation
+     */
+    public HttpClient getClient(final Executor executor) {
+        return getClient();
+    }
+
 }
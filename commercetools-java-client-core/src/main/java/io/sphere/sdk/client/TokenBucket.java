@@ -0,0 +1,53 @@
+package io.sphere.sdk.client;
+
+/**
+ * A token bucket which hands out reservations instead of rejecting requests. If no token is available the tokens go into debt
+ * and the reservation provides the time until the token of the request has been refilled, so that requests are spread evenly
+ * with the configured rate.
+ */
+final class TokenBucket {
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(final double tokensPerSecond, final int capacity, final long nowNanos) {
+        if (tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("The rate must be positive but was " + tokensPerSecond);
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive but was " + capacity);
+        }
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.capacity = capacity;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the nanoseconds to wait until the token is available, 0 if it is available immediately
+     */
+    synchronized long reserve(final long nowNanos) {
+        refill(nowNanos);
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+
+    /**
+     * Returns a token of a reservation which will not be used.
+     */
+    synchronized void cancel() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    private void refill(final long nowNanos) {
+        final long elapsedNanos = nowNanos - lastRefillNanos;
+        if (elapsedNanos > 0) {
+            tokens = Math.min(capacity, tokens + elapsedNanos * tokensPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
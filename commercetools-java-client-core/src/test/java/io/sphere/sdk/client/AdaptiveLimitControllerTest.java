@@ -0,0 +1,62 @@
+package io.sphere.sdk.client;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveLimitControllerTest {
+    private final ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, singletonList(RequestLane.of("default")));
+    private final List<Integer> publishedLimits = new ArrayList<>();
+    private final AdaptiveLimitController controller = new AdaptiveLimitController(AdaptiveConcurrencyLimit.of(5, 12), limiter, publishedLimits::add);
+
+    @Test
+    public void increasesWhileTheLimitIsUsed() throws Exception {
+        controller.onComplete(0, 100, 5, null);
+        controller.onComplete(100, 200, 6, null);
+        controller.onComplete(200, 300, 1, null);
+        controller.onComplete(300, 400, 12, null);
+        controller.onComplete(400, 500, 12, null);
+
+        assertThat(limiter.getLimit()).isEqualTo(12);
+        assertThat(publishedLimits).containsExactly(11, 12);
+    }
+
+    @Test
+    public void decreasesOnOverloadResponses() throws Exception {
+        controller.onComplete(0, 100, 10, null);
+        controller.onComplete(100, 200, 10, new CompletionException(new TooManyRequestsException()));
+        controller.onComplete(100, 250, 10, new ServiceUnavailableException("unavailable"));
+        controller.onComplete(1000, 1100, 10, new GatewayTimeoutException("timeout"));
+
+        assertThat(publishedLimits).containsExactly(11, 9, 8);
+    }
+
+    @Test
+    public void decreasesOnIncreasedLatency() throws Exception {
+        controller.onComplete(0, 100, 10, null);
+        controller.onComplete(100, 400, 10, null);
+
+        assertThat(publishedLimits).containsExactly(11, 9);
+    }
+
+    @Test
+    public void ignoresOtherErrors() throws Exception {
+        controller.onComplete(0, 100, 1, new NotFoundException());
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void staysAboveTheMinimum() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            controller.onComplete(i * 1000, i * 1000 + 100, 1, new BadGatewayException("bad gateway"));
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+}
@@ -6,6 +6,9 @@ import io.sphere.sdk.http.HttpResponse;
 import io.sphere.sdk.models.Base;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -31,6 +34,73 @@ public class AutoRefreshSphereAccessTokenSupplierImplTest {
         assertThat(AuthActor.selectNextRetryTime(-100L)).as("at least a second").isEqualTo(1L);
     }
 
+    @Test
+    public void selectNextRetryTimeWithRefreshRatio() {
+        assertThat(AuthActor.selectNextRetryTime(1000L, 0.8)).isEqualTo(800L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refreshRatioAboveHandOutRatioIsRejected() {
+        AutoRefreshSphereAccessTokenSupplierImpl.createAndBeginRefreshInBackground(SphereAuthConfig.of("project-key", "client-id", "clientSecret"), new PendingHttpClient(), true, 0.95);
+    }
+
+    @Test
+    public void callersOfGetNewTokenShareOneTokenFetch() throws Exception {
+        final PendingHttpClient httpClient = new PendingHttpClient();
+        try(final RefreshableSphereAccessTokenSupplier supplier = (RefreshableSphereAccessTokenSupplier)
+                AutoRefreshSphereAccessTokenSupplierImpl.createAndBeginRefreshInBackground(SphereAuthConfig.of("project-key", "client-id", "clientSecret"), httpClient, true)) {
+            httpClient.respond(0, "first", 3600);
+            assertThat(supplier.get().toCompletableFuture().join()).isEqualTo("first");
+
+            final List<CompletableFuture<String>> newTokens = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                newTokens.add(supplier.getNewToken().toCompletableFuture());
+            }
+            httpClient.respond(1, "second", 3600);
+
+            assertThat(newTokens).extracting(CompletableFuture::join).containsOnly("second");
+            assertThat(supplier.get().toCompletableFuture().join()).isEqualTo("second");
+            assertThat(httpClient.requests).hasSize(2);
+        }
+    }
+
+    @Test
+    public void expiredTokenIsNotHandedOut() throws Exception {
+        final PendingHttpClient httpClient = new PendingHttpClient();
+        try(final SphereAccessTokenSupplier supplier =
+                AutoRefreshSphereAccessTokenSupplierImpl.createAndBeginRefreshInBackground(SphereAuthConfig.of("project-key", "client-id", "clientSecret"), httpClient, true)) {
+            httpClient.respond(0, "expired", 0);
+            Thread.sleep(100);
+
+            final CompletableFuture<String> token = supplier.get().toCompletableFuture();
+            httpClient.respond(1, "valid", 3600);
+
+            assertThat(token.join()).isEqualTo("valid");
+        }
+    }
+
+    private static final class PendingHttpClient extends Base implements HttpClient {
+        private final List<CompletableFuture<HttpResponse>> requests = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public CompletionStage<HttpResponse> execute(final HttpRequest httpRequest) {
+            final CompletableFuture<HttpResponse> response = new CompletableFuture<>();
+            requests.add(response);
+            return response;
+        }
+
+        private void respond(final int request, final String accessToken, final long expiresIn) throws InterruptedException {
+            for (int i = 0; i < 500 && requests.size() <= request; i++) {
+                Thread.sleep(10);
+            }
+            requests.get(request).complete(HttpResponse.of(200, "{\"access_token\": \"" + accessToken + "\", \"expires_in\": " + expiresIn + "}"));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
     private TestDoubleHttpClient getHttpClient() {
         return new TestDoubleHttpClient() {
             @Override
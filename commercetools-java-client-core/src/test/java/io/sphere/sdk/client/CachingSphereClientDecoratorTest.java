@@ -0,0 +1,223 @@
+package io.sphere.sdk.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.sphere.sdk.commands.Command;
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Versioned;
+import io.sphere.sdk.queries.Get;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachingSphereClientDecoratorTest {
+    private final List<String> requestedPaths = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final SphereClient delegate = TestDoubleSphereClientFactory.createHttpTestDouble(intent -> {
+        requestedPaths.add(intent.getPath());
+        final String id = idOf(intent.getPath());
+        final String body = "{\"id\":\"" + id + "\",\"version\":1}";
+        return HttpResponse.of(200, body.getBytes(StandardCharsets.UTF_8), null, null);
+    });
+
+    @Test
+    public void cachesGets() throws Exception {
+        final CachingSphereClientDecorator client = client(CachingSphereClientDecoratorBuilder.of(delegate));
+
+        final Versioned<Object> first = execute(client, TestGet.of("/categories/a"));
+        final Versioned<Object> second = execute(client, TestGet.of("/categories/a"));
+
+        assertThat(first.getId()).isEqualTo("a");
+        assertThat(second.getId()).isEqualTo("a");
+        assertThat(requestedPaths).containsExactly("/categories/a");
+        final SphereClientCacheStatistics statistics = client.getStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getMissCount()).isEqualTo(1);
+        assertThat(statistics.getSize()).isEqualTo(1);
+        assertThat(statistics.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void expiresAfterTimeToLive() throws Exception {
+        final CachingSphereClientDecorator client = client(CachingSphereClientDecoratorBuilder.of(delegate)
+                .timeToLive(Duration.ofSeconds(10))
+                .timeToLive("products", Duration.ofSeconds(1)));
+
+        execute(client, TestGet.of("/categories/a"));
+        execute(client, TestGet.of("/products/a"));
+        nanoTime.addAndGet(Duration.ofSeconds(2).toNanos());
+        execute(client, TestGet.of("/categories/a"));
+        execute(client, TestGet.of("/products/a"));
+
+        assertThat(requestedPaths).containsExactly("/categories/a", "/products/a", "/products/a");
+        assertThat(client.getStatistics().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() throws Exception {
+        final CachingSphereClientDecorator client = client(CachingSphereClientDecoratorBuilder.of(delegate).maximumSize(2));
+
+        execute(client, TestGet.of("/categories/a"));
+        execute(client, TestGet.of("/categories/b"));
+        execute(client, TestGet.of("/categories/a"));
+        execute(client, TestGet.of("/categories/c"));
+        execute(client, TestGet.of("/categories/a"));
+        execute(client, TestGet.of("/categories/b"));
+
+        assertThat(requestedPaths).containsExactly("/categories/a", "/categories/b", "/categories/c", "/categories/b");
+        assertThat(client.getStatistics().getSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void commandsInvalidateTheChangedResource() throws Exception {
+        final CachingSphereClientDecorator client = client(CachingSphereClientDecoratorBuilder.of(delegate));
+        execute(client, TestGet.of("/products/a"));
+        execute(client, TestGet.of("/products/b"));
+        execute(client, TestGet.of("/product-projections/a?staged=true"));
+        execute(client, TestGet.of("/categories/a"));
+
+        execute(client, TestCommand.of("/products/a"));
+        requestedPaths.clear();
+        execute(client, TestGet.of("/products/a"));
+        execute(client, TestGet.of("/products/b"));
+        execute(client, TestGet.of("/product-projections/a?staged=true"));
+        execute(client, TestGet.of("/categories/a"));
+
+        assertThat(requestedPaths).containsExactly("/products/a", "/product-projections/a?staged=true");
+        assertThat(client.getStatistics().getInvalidationCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidateAll() throws Exception {
+        final CachingSphereClientDecorator client = client(CachingSphereClientDecoratorBuilder.of(delegate));
+        execute(client, TestGet.of("/categories/a"));
+
+        client.invalidateAll();
+        execute(client, TestGet.of("/categories/a"));
+
+        assertThat(requestedPaths).containsExactly("/categories/a", "/categories/a");
+    }
+
+    @Test
+    public void sessionResourcesAreNotCachedByDefault() throws Exception {
+        final CachingSphereClientDecorator client = client(CachingSphereClientDecoratorBuilder.of(delegate));
+
+        execute(client, TestGet.of("/carts/a"));
+        execute(client, TestGet.of("/carts/a"));
+        execute(client, TestGet.of("/in-store/key=store/carts/a"));
+        execute(client, TestGet.of("/in-store/key=store/carts/a"));
+
+        assertThat(requestedPaths).hasSize(4);
+        assertThat(client.getStatistics().getMissCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void sessionResourcesCanBeCached() throws Exception {
+        final CachingSphereClientDecorator client = client(CachingSphereClientDecoratorBuilder.of(delegate)
+                .timeToLive("carts", Duration.ofSeconds(5)));
+
+        execute(client, TestGet.of("/carts/a"));
+        execute(client, TestGet.of("/carts/a"));
+
+        assertThat(requestedPaths).containsExactly("/carts/a");
+    }
+
+    @Test
+    public void passesTheRequestUnchangedToTheDelegate() throws Exception {
+        final List<SphereRequest<?>> delegateRequests = new ArrayList<>();
+        final SphereClient recordingDelegate = new SphereClientDecorator(delegate) {
+            @Override
+            public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+                delegateRequests.add(sphereRequest);
+                return super.execute(sphereRequest);
+            }
+        };
+        final CachingSphereClientDecorator client = client(CachingSphereClientDecoratorBuilder.of(recordingDelegate));
+        final TestGet get = TestGet.of("/categories/a");
+
+        execute(client, get);
+        execute(client, get);
+
+        assertThat(delegateRequests).containsExactly(get);
+    }
+
+    @Test
+    public void resourceType() throws Exception {
+        assertThat(CachingSphereClientDecorator.resourceType("/categories/key=foo?expand=parent")).isEqualTo("categories");
+        assertThat(CachingSphereClientDecorator.resourceType("/in-store/key=store/orders/a")).isEqualTo("orders");
+        assertThat(CachingSphereClientDecorator.resourceType("/me/carts")).isEqualTo("me");
+        assertThat(CachingSphereClientDecorator.resourceType("/")).isEqualTo("");
+    }
+
+    private CachingSphereClientDecorator client(final CachingSphereClientDecoratorBuilder builder) {
+        return builder.nanoTime(nanoTime::get).build();
+    }
+
+    private static <T> T execute(final SphereClient client, final SphereRequest<T> request) {
+        return client.execute(request).toCompletableFuture().join();
+    }
+
+    private static String idOf(final String path) {
+        final String withoutQuery = path.contains("?") ? path.substring(0, path.indexOf('?')) : path;
+        return withoutQuery.substring(withoutQuery.lastIndexOf('/') + 1);
+    }
+
+    private static Versioned<Object> parse(final HttpResponse httpResponse) {
+        final JsonNode jsonNode = SphereJsonUtils.parse(httpResponse.getResponseBody());
+        return Versioned.of(jsonNode.get("id").asText(), jsonNode.get("version").asLong());
+    }
+
+    private static final class TestGet extends Base implements Get<Versioned<Object>> {
+        private final String path;
+
+        private TestGet(final String path) {
+            this.path = path;
+        }
+
+        static TestGet of(final String path) {
+            return new TestGet(path);
+        }
+
+        @Override
+        public Versioned<Object> deserialize(final HttpResponse httpResponse) {
+            return parse(httpResponse);
+        }
+
+        @Override
+        public HttpRequestIntent httpRequestIntent() {
+            return HttpRequestIntent.of(HttpMethod.GET, path);
+        }
+    }
+
+    private static final class TestCommand extends Base implements Command<Versioned<Object>> {
+        private final String path;
+
+        private TestCommand(final String path) {
+            this.path = path;
+        }
+
+        static TestCommand of(final String path) {
+            return new TestCommand(path);
+        }
+
+        @Override
+        public Versioned<Object> deserialize(final HttpResponse httpResponse) {
+            return parse(httpResponse);
+        }
+
+        @Override
+        public HttpRequestIntent httpRequestIntent() {
+            return HttpRequestIntent.of(HttpMethod.POST, path, "{}");
+        }
+    }
+}
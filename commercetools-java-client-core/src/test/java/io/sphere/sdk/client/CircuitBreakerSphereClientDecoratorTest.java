@@ -0,0 +1,153 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.retry.RetryAction;
+import io.sphere.sdk.retry.RetryPredicate;
+import io.sphere.sdk.retry.RetryRule;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CircuitBreakerSphereClientDecoratorTest {
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final List<String> executedPaths = Collections.synchronizedList(new ArrayList<>());
+    private Function<String, CompletionStage<String>> responder = path -> CompletableFutureUtils.successful("done");
+    private final SphereClient delegate = new SphereClient() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            final String path = sphereRequest.httpRequestIntent().getPath();
+            executedPaths.add(path);
+            return (CompletionStage<T>) responder.apply(path);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public SphereApiConfig getConfig() {
+            return null;
+        }
+    };
+    private final CircuitBreakerSphereClientDecorator client = CircuitBreakerSphereClientDecoratorBuilder.of(delegate)
+            .slidingWindowSize(10)
+            .minimumNumberOfCalls(4)
+            .failureRateThreshold(50)
+            .slowCallRateThreshold(50)
+            .slowCallDuration(Duration.ofSeconds(1))
+            .waitDurationInOpenState(Duration.ofSeconds(30))
+            .permittedCallsInHalfOpenState(2)
+            .nanoTime(nanoTime::get)
+            .build();
+
+    @Test
+    public void opensOnFailureRateAndFailsFast() throws Exception {
+        executeFailing("/products/a");
+        execute("/products/b");
+        executeFailing("/products/c");
+        assertThat(client.getState("products")).isEqualTo(CircuitBreakerState.CLOSED);
+        execute("/products/d");
+
+        assertThat(client.getState("products")).isEqualTo(CircuitBreakerState.OPEN);
+        assertThatThrownBy(() -> execute("/products/e")).hasCauseInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(execute("/orders/a")).isEqualTo("done");
+        assertThat(executedPaths).doesNotContain("/products/e");
+        final CircuitBreakerStatistics statistics = client.getStatistics().stream()
+                .filter(s -> s.getName().equals("products")).findFirst().get();
+        assertThat(statistics.getRejectedRequests()).isEqualTo(1);
+    }
+
+    @Test
+    public void opensOnSlowCallRate() throws Exception {
+        responder = path -> {
+            nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(2));
+            return CompletableFutureUtils.successful("done");
+        };
+        for (int i = 0; i < 4; i++) {
+            execute("/orders/" + i);
+        }
+
+        assertThat(client.getState("orders")).isEqualTo(CircuitBreakerState.OPEN);
+    }
+
+    @Test
+    public void halfOpenClosesAfterSuccessfulRequests() throws Exception {
+        open("/products");
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        execute("/products/a");
+        assertThat(client.getState("products")).isEqualTo(CircuitBreakerState.HALF_OPEN);
+        execute("/products/b");
+
+        assertThat(client.getState("products")).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    public void halfOpenOpensAgainOnFailures() throws Exception {
+        open("/products");
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        executeFailing("/products/a");
+        execute("/products/b");
+
+        assertThat(client.getState("products")).isEqualTo(CircuitBreakerState.OPEN);
+        assertThatThrownBy(() -> execute("/products/c")).hasCauseInstanceOf(CircuitBreakerOpenException.class);
+    }
+
+    @Test
+    public void clientErrorsAreNoFailures() throws Exception {
+        responder = path -> CompletableFutureUtils.failed(new NotFoundException());
+        for (int i = 0; i < 10; i++) {
+            final String path = "/products/" + i;
+            assertThatThrownBy(() -> execute(path)).hasCauseInstanceOf(NotFoundException.class);
+        }
+
+        assertThat(client.getState("products")).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    public void retriesStopWhileTheCircuitIsOpen() throws Exception {
+        final CircuitBreakerSphereClientDecorator circuitBreaker = CircuitBreakerSphereClientDecoratorBuilder.of(delegate)
+                .minimumNumberOfCalls(2)
+                .build();
+        final List<RetryRule> retryRules = singletonList(RetryRule.of(RetryPredicate.ofMatchingStatusCodes(503), RetryAction.ofImmediateRetries(5)));
+        final SphereClient retryClient = RetrySphereClientDecorator.of(circuitBreaker, retryRules);
+        responder = path -> CompletableFutureUtils.failed(new ServiceUnavailableException());
+
+        assertThatThrownBy(() -> retryClient.execute(DummySphereRequest.of(HttpMethod.GET, "/products/a")).toCompletableFuture().join())
+                .hasCauseInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(executedPaths).hasSize(2);
+        retryClient.close();
+    }
+
+    private void open(final String path) {
+        for (int i = 0; i < 4; i++) {
+            executeFailing(path + "/" + i);
+        }
+        assertThat(client.getState(CircuitBreakerSphereClientDecorator.defaultGroup(DummySphereRequest.of(HttpMethod.GET, path)))).isEqualTo(CircuitBreakerState.OPEN);
+    }
+
+    private void executeFailing(final String path) {
+        final Function<String, CompletionStage<String>> previousResponder = responder;
+        responder = p -> CompletableFutureUtils.failed(new ServiceUnavailableException());
+        assertThatThrownBy(() -> execute(path)).hasCauseInstanceOf(ServiceUnavailableException.class);
+        responder = previousResponder;
+    }
+
+    private String execute(final String path) {
+        return client.execute(DummySphereRequest.of(HttpMethod.GET, path)).toCompletableFuture().join();
+    }
+}
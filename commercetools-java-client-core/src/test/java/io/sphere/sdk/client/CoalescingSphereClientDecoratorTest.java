@@ -0,0 +1,132 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.models.Base;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CoalescingSphereClientDecoratorTest {
+    private final List<CompletableFuture<HttpResponse>> pendingResponses = new ArrayList<>();
+    private final List<SphereRequest<?>> delegateRequests = new ArrayList<>();
+    private final SphereClient delegate = new SphereClient() {
+        @Override
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            final CompletableFuture<HttpResponse> response = new CompletableFuture<>();
+            pendingResponses.add(response);
+            delegateRequests.add(sphereRequest);
+            return response.thenApply(httpResponse -> {
+                if (!sphereRequest.canDeserialize(httpResponse)) {
+                    throw new NotFoundException();
+                }
+                return sphereRequest.deserialize(httpResponse);
+            });
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public SphereApiConfig getConfig() {
+            return null;
+        }
+    };
+    private final CoalescingSphereClientDecorator client = CoalescingSphereClientDecorator.of(delegate);
+
+    @Test
+    public void identicalRequestsShareOneHttpRequest() throws Exception {
+        final DummySphereRequest firstRequest = DummySphereRequest.of(HttpMethod.GET, "/categories/a");
+        final CompletionStage<String> first = client.execute(firstRequest);
+        final CompletionStage<String> second = client.execute(DummySphereRequest.of(HttpMethod.GET, "/categories/a"));
+
+        respond(0, "foo");
+
+        assertThat(delegateRequests).containsExactly(firstRequest);
+        assertThat(first.toCompletableFuture().join()).isEqualTo(DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+        assertThat(second.toCompletableFuture().join()).isSameAs(first.toCompletableFuture().join());
+        assertThat(client.getCoalescedRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void requestsOfOtherClassesAreNotShared() throws Exception {
+        final CompletionStage<String> dummyRequest = client.execute(DummySphereRequest.of(HttpMethod.GET, "/categories/a"));
+        final CompletionStage<Integer> lengthRequest = client.execute(LengthRequest.of("/categories/a"));
+
+        respond(0, "foo");
+        respond(1, "foo");
+
+        assertThat(pendingResponses).hasSize(2);
+        assertThat(dummyRequest.toCompletableFuture().join()).isEqualTo(DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+        assertThat(lengthRequest.toCompletableFuture().join()).isEqualTo(3);
+        assertThat(client.getCoalescedRequestCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void completedRequestsAreNotShared() throws Exception {
+        final CompletionStage<String> first = client.execute(DummySphereRequest.of(HttpMethod.GET, "/categories/a"));
+        respond(0, "foo");
+        final CompletionStage<String> second = client.execute(DummySphereRequest.of(HttpMethod.GET, "/categories/a"));
+        respond(1, "bar");
+
+        assertThat(first.toCompletableFuture().join()).isEqualTo(DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+        assertThat(second.toCompletableFuture().join()).isEqualTo(DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+        assertThat(pendingResponses).hasSize(2);
+        assertThat(client.getCoalescedRequestCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void differentPathsAndMethodsAreNotShared() throws Exception {
+        client.execute(DummySphereRequest.of(HttpMethod.GET, "/categories/a"));
+        client.execute(DummySphereRequest.of(HttpMethod.GET, "/categories/b"));
+        client.execute(DummySphereRequest.of(HttpMethod.POST, "/categories/a"));
+        client.execute(DummySphereRequest.of(HttpMethod.POST, "/categories/a"));
+
+        assertThat(pendingResponses).hasSize(4);
+    }
+
+    @Test
+    public void failuresArePassedToAllRequests() throws Exception {
+        final CompletionStage<String> first = client.execute(DummySphereRequest.of(HttpMethod.GET, "/categories/a"));
+        final CompletionStage<String> second = client.execute(DummySphereRequest.of(HttpMethod.GET, "/categories/a"));
+
+        pendingResponses.get(0).complete(HttpResponse.of(404, (byte[]) null, null, null));
+
+        assertThatThrownBy(() -> first.toCompletableFuture().join()).hasCauseInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> second.toCompletableFuture().join()).hasCauseInstanceOf(NotFoundException.class);
+    }
+
+    private void respond(final int index, final String body) {
+        pendingResponses.get(index).complete(HttpResponse.of(200, body.getBytes(StandardCharsets.UTF_8), null, null));
+    }
+
+    private static final class LengthRequest extends Base implements SphereRequest<Integer> {
+        private final String path;
+
+        private LengthRequest(final String path) {
+            this.path = path;
+        }
+
+        static LengthRequest of(final String path) {
+            return new LengthRequest(path);
+        }
+
+        @Override
+        public Integer deserialize(final HttpResponse httpResponse) {
+            return httpResponse.getResponseBody().length;
+        }
+
+        @Override
+        public HttpRequestIntent httpRequestIntent() {
+            return HttpRequestIntent.of(HttpMethod.GET, path);
+        }
+    }
+}
@@ -7,9 +7,13 @@ import io.sphere.sdk.models.Base;
 public class DummySphereRequest extends Base implements SphereRequest<String> {
     public static final String DEFAULT_RESPONSE_OBJECT = "da";
     private final String marker;
+    private final HttpMethod httpMethod;
+    private final String path;
 
-    private DummySphereRequest(final String marker) {
+    private DummySphereRequest(final String marker, final HttpMethod httpMethod, final String path) {
         this.marker = marker;
+        this.httpMethod = httpMethod;
+        this.path = path;
     }
 
     @Override
@@ -19,17 +23,21 @@ public class DummySphereRequest extends Base implements SphereRequest<String> {
 
     @Override
     public HttpRequestIntent httpRequestIntent() {
-        return HttpRequestIntent.of(HttpMethod.GET, "/foo");
+        return HttpRequestIntent.of(httpMethod, path);
     }
 
     public static DummySphereRequest of(final String marker) {
-        return new DummySphereRequest(marker);
+        return new DummySphereRequest(marker, HttpMethod.GET, "/foo");
     }
 
     public static DummySphereRequest of() {
         return of("");
     }
 
+    public static DummySphereRequest of(final HttpMethod httpMethod, final String path) {
+        return new DummySphereRequest("", httpMethod, path);
+    }
+
     public String getMarker() {
         return marker;
     }
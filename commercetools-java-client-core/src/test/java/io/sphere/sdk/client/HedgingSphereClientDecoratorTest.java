@@ -0,0 +1,172 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HedgingSphereClientDecoratorTest {
+    private final List<CompletableFuture<String>> sentRequests = new ArrayList<>();
+    private final SphereClient delegate = new SphereClient() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            final CompletableFuture<String> future = new CompletableFuture<>();
+            sentRequests.add(future);
+            return (CompletionStage<T>) future;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public SphereApiConfig getConfig() {
+            return null;
+        }
+    };
+    private final ManualScheduler scheduler = new ManualScheduler();
+    private HedgingSphereClientDecorator client = builder().delay(Duration.ofMillis(10)).build();
+
+    @After
+    public void tearDown() throws Exception {
+        client.close();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void hedgeWinsAndTheSlowRequestIsCancelled() throws Exception {
+        final CompletionStage<String> result = client.execute(searchRequest(HttpMethod.GET));
+        scheduler.runScheduledTasks();
+
+        assertThat(sentRequests).hasSize(2);
+        sentRequests.get(1).complete("hedge");
+
+        assertThat(result.toCompletableFuture().join()).isEqualTo("hedge");
+        assertThat(sentRequests.get(0).isCancelled()).isTrue();
+        assertThat(client.getHedgedRequestCount()).isEqualTo(1);
+        assertThat(client.getHedgeWinCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void failsIfAllRequestsFail() throws Exception {
+        final CompletionStage<String> result = client.execute(searchRequest(HttpMethod.GET));
+        scheduler.runScheduledTasks();
+
+        sentRequests.get(0).completeExceptionally(new ServiceUnavailableException());
+        assertThat(result.toCompletableFuture().isDone()).isFalse();
+        sentRequests.get(1).completeExceptionally(new GatewayTimeoutException("timeout"));
+
+        assertThatThrownBy(() -> result.toCompletableFuture().join()).hasCauseInstanceOf(GatewayTimeoutException.class);
+    }
+
+    @Test
+    public void otherHttpMethodsAreNotHedged() throws Exception {
+        client.execute(searchRequest(HttpMethod.POST));
+
+        assertThat(scheduler.scheduledTasks).isEmpty();
+        assertThat(sentRequests).hasSize(1);
+    }
+
+    @Test
+    public void closedClientDoesNotHedge() throws Exception {
+        client.close();
+        client.execute(searchRequest(HttpMethod.GET));
+        scheduler.runScheduledTasks();
+
+        assertThat(sentRequests).hasSize(1);
+        assertThat(client.getHedgedRequestCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void hedgingIsLimitedByTheBudget() throws Exception {
+        client.close();
+        client = builder().delay(Duration.ofMillis(1)).maxExtraLoad(0.1).budgetReserve(2).build();
+        for (int i = 0; i < 12; i++) {
+            client.execute(searchRequest(HttpMethod.GET));
+        }
+        scheduler.runScheduledTasks();
+
+        assertThat(sentRequests).hasSize(14);
+        assertThat(client.getHedgedRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void zeroExtraLoadDisablesHedging() throws Exception {
+        client.close();
+        client = builder().delay(Duration.ofMillis(1)).maxExtraLoad(0).build();
+        for (int i = 0; i < 12; i++) {
+            client.execute(searchRequest(HttpMethod.GET));
+        }
+
+        assertThat(scheduler.scheduledTasks).isEmpty();
+        assertThat(sentRequests).hasSize(12);
+        assertThat(client.getHedgedRequestCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void percentileDelayReplacesTheFixedDelay() throws Exception {
+        client.close();
+        client = builder().delay(Duration.ofMinutes(1)).percentileDelay(95).build();
+        for (int i = 0; i < 100; i++) {
+            client.execute(searchRequest(HttpMethod.GET));
+            sentRequests.get(i).complete("done");
+        }
+
+        client.execute(searchRequest(HttpMethod.GET));
+
+        assertThat(scheduler.lastDelayNanos).isLessThan(Duration.ofMinutes(1).toNanos());
+        scheduler.runScheduledTasks();
+        assertThat(sentRequests).hasSize(102);
+        assertThat(client.getHedgedRequestCount()).isEqualTo(1);
+    }
+
+    private HedgingSphereClientDecoratorBuilder builder() {
+        return HedgingSphereClientDecoratorBuilder.of(delegate).scheduler(scheduler);
+    }
+
+    private static DummySphereRequest searchRequest(final HttpMethod httpMethod) {
+        return DummySphereRequest.of(httpMethod, "/product-projections/search");
+    }
+
+    /**
+     * Collects the scheduled hedges, so the test decides when they run instead of waiting for the delay.
+     */
+    private static final class ManualScheduler extends ScheduledThreadPoolExecutor {
+        private final Map<Runnable, ScheduledFuture<?>> scheduledTasks = new LinkedHashMap<>();
+        private long lastDelayNanos = -1;
+
+        private ManualScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+            final ScheduledFuture<?> future = super.schedule(() -> {}, 1, TimeUnit.DAYS);
+            scheduledTasks.put(command, future);
+            lastDelayNanos = unit.toNanos(delay);
+            return future;
+        }
+
+        private void runScheduledTasks() {
+            final List<Map.Entry<Runnable, ScheduledFuture<?>>> tasks = new ArrayList<>(scheduledTasks.entrySet());
+            scheduledTasks.clear();
+            tasks.stream()
+                    .filter(task -> !task.getValue().isCancelled())
+                    .forEach(task -> task.getKey().run());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import io.sphere.sdk.models.Base;
 import io.sphere.sdk.utils.CompletableFutureUtils;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -12,6 +13,7 @@ import java.util.concurrent.CompletionStage;
 
 import static io.sphere.sdk.client.ClientTestWrapper.execute;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class QueueSphereClientDecoratorTest {
 
@@ -59,6 +61,103 @@ public class QueueSphereClientDecoratorTest {
         assertThat(delegate.getUsageCounter()).isEqualTo(numberOfRequests);
     }
 
+    @Test
+    public void queuedRequestsOfHigherPriorityLanesAreExecutedFirst() throws Exception {
+        final PendingSphereClient delegate = new PendingSphereClient();
+        final QueueSphereClientDecorator client = QueueSphereClientDecoratorBuilder.of(delegate, 1)
+                .lane(RequestLane.of("interactive"))
+                .lane(RequestLane.of("bulk"))
+                .laneSelector(request -> ((DummySphereRequest) request).getMarker())
+                .build();
+        client.execute(DummySphereRequest.of("bulk"));
+        client.execute(DummySphereRequest.of("bulk"));
+        client.execute(DummySphereRequest.of("interactive"));
+
+        delegate.completeNext();
+
+        assertThat(delegate.executedMarkers).containsExactly("bulk", "interactive");
+        delegate.completeNext();
+        assertThat(delegate.executedMarkers).containsExactly("bulk", "interactive", "bulk");
+    }
+
+    @Test
+    public void laneLimitsLeaveCapacityForOtherLanes() throws Exception {
+        final PendingSphereClient delegate = new PendingSphereClient();
+        final QueueSphereClientDecorator client = QueueSphereClientDecoratorBuilder.of(delegate, 3)
+                .lane(RequestLane.of("interactive"))
+                .lane(RequestLane.of("bulk", 1, 10))
+                .laneSelector(request -> ((DummySphereRequest) request).getMarker())
+                .build();
+        client.execute(DummySphereRequest.of("bulk"));
+        client.execute(DummySphereRequest.of("bulk"));
+        client.execute(DummySphereRequest.of("interactive"));
+
+        assertThat(delegate.executedMarkers).containsExactly("bulk", "interactive");
+        final RequestLaneStatistics bulkStatistics = client.getStatistics().get(1);
+        assertThat(bulkStatistics.getName()).isEqualTo("bulk");
+        assertThat(bulkStatistics.getParallelRequests()).isEqualTo(1);
+        assertThat(bulkStatistics.getQueuedRequests()).isEqualTo(1);
+    }
+
+    @Test
+    public void fullQueuesRejectRequests() throws Exception {
+        final PendingSphereClient delegate = new PendingSphereClient();
+        final QueueSphereClientDecorator client = QueueSphereClientDecoratorBuilder.of(delegate, 1)
+                .lane(RequestLane.of("bulk", 1, 1))
+                .build();
+        client.execute(DummySphereRequest.of());
+        final CompletionStage<String> queued = client.execute(DummySphereRequest.of());
+        final CompletionStage<String> rejected = client.execute(DummySphereRequest.of());
+
+        assertThatThrownBy(() -> rejected.toCompletableFuture().join()).hasCauseInstanceOf(RequestRejectedException.class);
+        delegate.completeNext();
+        delegate.completeNext();
+        assertThat(queued.toCompletableFuture().join()).isEqualTo(DUMMY_RESULT);
+        final RequestLaneStatistics statistics = client.getStatistics().get(0);
+        assertThat(statistics.getExecutedRequests()).isEqualTo(2);
+        assertThat(statistics.getRejectedRequests()).isEqualTo(1);
+        assertThat(statistics.getMaxQueueWaitTime()).isGreaterThan(statistics.getAverageQueueWaitTime());
+    }
+
+    @Test
+    public void closeRejectsQueuedRequests() throws Exception {
+        final PendingSphereClient delegate = new PendingSphereClient();
+        final SphereClient client = QueueSphereClientDecorator.of(delegate, 1);
+        client.execute(DummySphereRequest.of());
+        final CompletionStage<String> queued = client.execute(DummySphereRequest.of());
+
+        client.close();
+
+        assertThatThrownBy(() -> queued.toCompletableFuture().join()).hasCauseInstanceOf(RequestRejectedException.class);
+    }
+
+    private static class PendingSphereClient extends Base implements SphereClient {
+        private final List<String> executedMarkers = Collections.synchronizedList(new ArrayList<>());
+        private final List<CompletableFuture<String>> pendingResults = Collections.synchronizedList(new LinkedList<>());
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            executedMarkers.add(((DummySphereRequest) sphereRequest).getMarker());
+            final CompletableFuture<String> result = new CompletableFuture<>();
+            pendingResults.add(result);
+            return (CompletionStage<T>) result;
+        }
+
+        void completeNext() {
+            pendingResults.remove(0).complete(DUMMY_RESULT);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public SphereApiConfig getConfig() {
+            return null;
+        }
+    }
+
     private static class FakeSphereClient extends Base implements SphereClient {
         private int usageCounter = 0;
 
@@ -108,8 +207,13 @@ public class QueueSphereClientDecoratorTest {
         }
 
         public void release() {
-            releaseOnCommand.forEach(runnable -> runnable.run());
-            releaseOnCommand.clear();
+            //completing a request starts queued requests on the same thread which register new release commands
+            final List<Runnable> releaseCommands;
+            synchronized (releaseOnCommand) {
+                releaseCommands = new ArrayList<>(releaseOnCommand);
+                releaseOnCommand.clear();
+            }
+            releaseCommands.forEach(runnable -> runnable.run());
         }
 
         public List<CompletionStage<String>> getResponseFutures() {
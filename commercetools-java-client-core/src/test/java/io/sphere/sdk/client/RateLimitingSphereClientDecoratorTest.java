@@ -0,0 +1,92 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RateLimitingSphereClientDecoratorTest {
+    private final List<String> executedPaths = Collections.synchronizedList(new ArrayList<>());
+    private final SphereClient delegate = new SphereClient() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            executedPaths.add(sphereRequest.httpRequestIntent().getPath());
+            return CompletableFutureUtils.successful((T) "done");
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public SphereApiConfig getConfig() {
+            return null;
+        }
+    };
+
+    @Test
+    public void delaysRequestsOverTheRate() throws Exception {
+        final RateLimitingSphereClientDecorator client = RateLimitingSphereClientDecoratorBuilder.of(delegate)
+                .globalRate(20, 1)
+                .build();
+
+        final CompletionStage<String> first = client.execute(DummySphereRequest.of(HttpMethod.GET, "/products/a"));
+        final CompletionStage<String> second = client.execute(DummySphereRequest.of(HttpMethod.GET, "/products/b"));
+
+        assertThat(first.toCompletableFuture().isDone()).isTrue();
+        assertThat(second.toCompletableFuture().isDone()).isFalse();
+        assertThat(second.toCompletableFuture().join()).isEqualTo("done");
+        final RateLimitStatistics statistics = client.getStatistics().get(0);
+        assertThat(statistics.getName()).isEqualTo(RateLimitingSphereClientDecorator.GLOBAL);
+        assertThat(statistics.getRequests()).isEqualTo(2);
+        assertThat(statistics.getDelayedRequests()).isEqualTo(1);
+        assertThat(statistics.getWaitTimeHistogram().get(Duration.ZERO)).isEqualTo(1);
+        assertThat(statistics.getWaitTimeHistogram().get(Duration.ofMillis(10))).isEqualTo(1);
+        client.close();
+    }
+
+    @Test
+    public void rejectsDelayedRequestsAfterClose() throws Exception {
+        final RateLimitingSphereClientDecorator client = RateLimitingSphereClientDecoratorBuilder.of(delegate)
+                .globalRate(20, 1)
+                .build();
+        client.execute(DummySphereRequest.of(HttpMethod.GET, "/products/a"));
+        client.close();
+
+        final CompletionStage<String> delayed = client.execute(DummySphereRequest.of(HttpMethod.GET, "/products/b"));
+
+        assertThatThrownBy(() -> delayed.toCompletableFuture().join()).hasCauseInstanceOf(RequestRejectedException.class);
+    }
+
+    @Test
+    public void endpointBudgetsMatchTheLongestPathPrefix() throws Exception {
+        final RateLimitingSphereClientDecorator client = RateLimitingSphereClientDecoratorBuilder.of(delegate)
+                .endpointRate("/orders", 1000)
+                .endpointRate("orders/import/", 1, 1)
+                .maxWaitTime(Duration.ofMillis(100))
+                .build();
+
+        client.execute(DummySphereRequest.of(HttpMethod.GET, "/orders/import"));
+        final CompletionStage<String> rejected = client.execute(DummySphereRequest.of(HttpMethod.GET, "/orders/import?foo=bar"));
+        client.execute(DummySphereRequest.of(HttpMethod.GET, "/orders/a"));
+        client.execute(DummySphereRequest.of(HttpMethod.GET, "/orders-other"));
+
+        assertThatThrownBy(() -> rejected.toCompletableFuture().join()).hasCauseInstanceOf(RequestRejectedException.class);
+        assertThat(executedPaths).containsExactly("/orders/import", "/orders/a", "/orders-other");
+        final List<RateLimitStatistics> statistics = client.getStatistics();
+        assertThat(statistics).extracting(RateLimitStatistics::getName).containsExactly("/orders/import", "/orders");
+        assertThat(statistics.get(0).getRequests()).isEqualTo(1);
+        assertThat(statistics.get(0).getRejectedRequests()).isEqualTo(1);
+        assertThat(statistics.get(1).getRequests()).isEqualTo(1);
+        client.close();
+    }
+}
@@ -18,6 +18,9 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
@@ -44,6 +47,7 @@ public class SphereClientTest {
             when(sphereApiConfig.getProjectKey()).thenReturn(projectKey);
             when(sphereApiConfig.getApiUrl()).thenReturn("http://api.commercetools.de");
             when(sphereApiConfig.getCorrelationIdGenerator()).thenReturn(CorrelationIdGenerator.of(projectKey));
+            when(sphereApiConfig.getExecutor()).thenReturn(Runnable::run);
             when(httpClient.getUserAgent()).thenReturn("user-agent");
             when(sphereAccessTokenSupplier.get()).thenReturn(CompletableFutureUtils.successful("token"));
 
@@ -83,6 +87,7 @@ public class SphereClientTest {
             when(sphereApiConfig.getProjectKey()).thenReturn(projectKey);
             when(sphereApiConfig.getApiUrl()).thenReturn("http://api.commercetools.de");
             when(sphereApiConfig.getCorrelationIdGenerator()).thenReturn(() -> "custom-id");
+            when(sphereApiConfig.getExecutor()).thenReturn(Runnable::run);
             when(httpClient.getUserAgent()).thenReturn("user-agent");
             when(sphereAccessTokenSupplier.get()).thenReturn(CompletableFutureUtils.successful("token"));
 
@@ -103,4 +108,42 @@ public class SphereClientTest {
             assertThat(correlationId).isPresent().contains("custom-id");
         }
     }
+
+    @Test
+    public void deserializesWithTheConfiguredExecutorForOtherHttpClients() throws Exception {
+        final AtomicInteger executedTasks = new AtomicInteger();
+        final Executor executor = command -> {
+            executedTasks.incrementAndGet();
+            command.run();
+        };
+        when(sphereApiConfig.getProjectKey()).thenReturn("my-project");
+        when(sphereApiConfig.getApiUrl()).thenReturn("http://api.commercetools.de");
+        when(sphereApiConfig.getExecutor()).thenReturn(executor);
+        when(httpClient.getUserAgent()).thenReturn("user-agent");
+        when(sphereAccessTokenSupplier.get()).thenReturn(CompletableFutureUtils.successful("token"));
+        when(httpClient.execute(httpRequestArgumentCaptor.capture()))
+                .thenReturn(CompletableFuture.completedFuture(HttpResponse.of(200, "ok")));
+        final SphereClient sphereClient = SphereClientImpl.of(sphereApiConfig, httpClient, sphereAccessTokenSupplier, () -> "id");
+
+        final String response = sphereClient.execute(DummySphereRequest.of()).toCompletableFuture().get();
+
+        assertThat(response).isEqualTo(DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+        assertThat(executedTasks.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void factoryShouldPassConfiguredExecutorToHttpClient() {
+        final Executor executor = Runnable::run;
+        final AtomicReference<Executor> executorOfHttpClient = new AtomicReference<>();
+        final SphereClientFactory factory = new SphereClientFactoryImpl(() -> httpClient, e -> {
+            executorOfHttpClient.set(e);
+            return httpClient;
+        });
+        when(httpClient.getUserAgent()).thenReturn("user-agent");
+        final SphereClientConfig config = SphereClientConfig.of("my-project", "client-id", "client-secret").withExecutor(executor);
+
+        factory.createClient(config, sphereAccessTokenSupplier);
+
+        assertThat(executorOfHttpClient.get()).isSameAs(executor);
+    }
 }
@@ -0,0 +1,48 @@
+package io.sphere.sdk.client;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void burstIsAvailableImmediately() throws Exception {
+        final TokenBucket bucket = new TokenBucket(10, 2, 0);
+
+        assertThat(bucket.reserve(0)).isEqualTo(0);
+        assertThat(bucket.reserve(0)).isEqualTo(0);
+        assertThat(bucket.reserve(0)).isEqualTo(SECOND / 10);
+        assertThat(bucket.reserve(0)).isEqualTo(2 * SECOND / 10);
+    }
+
+    @Test
+    public void refillsWithRate() throws Exception {
+        final TokenBucket bucket = new TokenBucket(10, 1, 0);
+        bucket.reserve(0);
+
+        assertThat(bucket.reserve(SECOND / 20)).isEqualTo(SECOND / 20);
+        assertThat(bucket.reserve(SECOND)).isEqualTo(0);
+    }
+
+    @Test
+    public void refillIsLimitedByCapacity() throws Exception {
+        final TokenBucket bucket = new TokenBucket(10, 1, 0);
+
+        assertThat(bucket.reserve(100 * SECOND)).isEqualTo(0);
+        assertThat(bucket.reserve(100 * SECOND)).isEqualTo(SECOND / 10);
+    }
+
+    @Test
+    public void cancelReturnsTheToken() throws Exception {
+        final TokenBucket bucket = new TokenBucket(10, 1, 0);
+        bucket.reserve(0);
+        bucket.reserve(0);
+        bucket.cancel();
+
+        assertThat(bucket.reserve(0)).isEqualTo(SECOND / 10);
+    }
+}
@@ -138,6 +138,30 @@ public interface CategoryTree {
      */
     List<Category> getSubtreeRoots();
 
+    /**
+     * Creates a new category tree which contains the changes of the given categories, this tree stays unchanged.
+     * Changed categories replace the categories with the same ID, new categories are added and deleted categories are removed.
+     * The changes can be obtained for example from {@link io.sphere.sdk.categories.messages.CategoryCreatedMessage}s
+     * or by querying the categories modified since the last update.
+     *
+     * <p>Unlike creating a new tree with {@link #of(List)}, only the lookup entries of the changed categories are recreated.
+     * If a category is moved the platform changes the ancestors of its descendants as well, so these
+     * descendants need to be included in {@code createdOrUpdatedCategories}.</p>
+     *
+     * @param createdOrUpdatedCategories new categories and new versions of existing categories
+     * @param deletedCategories the categories to remove, for example references from deletion messages
+     * @return the updated category tree
+     */
+    default CategoryTree withChanges(final List<Category> createdOrUpdatedCategories, final Collection<? extends Identifiable<Category>> deletedCategories) {
+        requireNonNull(createdOrUpdatedCategories);
+        requireNonNull(deletedCategories);
+        final Map<String, Category> categoriesById = new LinkedHashMap<>();
+        getAllAsFlatList().forEach(category -> categoriesById.put(category.getId(), category));
+        createdOrUpdatedCategories.forEach(category -> categoriesById.put(category.getId(), category));
+        deletedCategories.forEach(category -> categoriesById.remove(category.getId()));
+        return of(new ArrayList<>(categoriesById.values()));
+    }
+
     /**
      * Creates a category tree from a flat list of categories.
      *
@@ -3,13 +3,18 @@ package io.sphere.sdk.categories;
 import io.sphere.sdk.models.Identifiable;
 import io.sphere.sdk.models.LocalizedStringEntry;
 
+import javax.annotation.Nullable;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static io.sphere.sdk.categories.CategoryTreeUtils.getCategoryOrThrow;
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
 final class CategoryTreeFactory {
 
@@ -30,8 +35,162 @@ final class CategoryTreeFactory {
         final Map<LocalizedStringEntry, Category> categoriesByLocaleAndSlug = getLocalizedStringEntryCategoryMap(allCategoriesAsFlatList);
         final Map<String, Category> categoriesById = allCategoriesAsFlatList.stream().collect(toMap(Category::getId, Function.<Category>identity()));
         final Map<String, Category> categoriesByKey = allCategoriesAsFlatList.stream().filter(category -> category.getKey() != null).collect(toMap(Category::getKey, Function.<Category>identity()));
+        //the external ID is not guaranteed to be unique, so all categories with the same external ID are kept
+        final Map<String, List<Category>> categoriesByExternalId = allCategoriesAsFlatList.stream()
+                .filter(category -> category.getExternalId() != null)
+                .collect(groupingBy(Category::getExternalId, collectingAndThen(toList(), Collections::unmodifiableList)));
         final Map<String, List<Category>> childrenByParentId = getChildrenByParentIdMap(allCategoriesAsFlatList);
-        return new CategoryTreeImpl(roots, allAsFlatList, categoriesByLocaleAndSlug, categoriesById, categoriesByKey ,childrenByParentId, subtreeRoots);
+        return new CategoryTreeImpl(roots, allAsFlatList, LayeredMap.of(categoriesByLocaleAndSlug), LayeredMap.of(categoriesById),
+                LayeredMap.of(categoriesByKey), LayeredMap.of(categoriesByExternalId), LayeredMap.of(childrenByParentId), subtreeRoots);
+    }
+
+    /**
+     * Creates a new tree out of an existing one by applying changed and deleted categories. Only the index entries of the
+     * affected categories and the children lists of their old and new parents are recreated, the index maps of the
+     * new tree store these entries on top of the maps of the existing tree, all other entries are shared.
+     *
+     * <p>For a subtree only changed categories which are subtree roots or descendants of them are applied,
+     * categories which are moved out of the subtree are removed.</p>
+     *
+     * @param tree the tree to apply the changes on
+     * @param createdOrUpdatedCategories new categories and new versions of existing categories
+     * @param deletedCategories categories to remove
+     * @return the new tree
+     */
+    public CategoryTree createWithChanges(final CategoryTreeImpl tree, final List<Category> createdOrUpdatedCategories,
+                                          final Collection<? extends Identifiable<Category>> deletedCategories) {
+        final Predicate<Category> isTreeMember = treeMemberPredicate(tree);
+        final Set<String> deletedIds = deletedCategories.stream().map(Identifiable::getId).collect(toCollection(HashSet::new));
+        final Map<String, Category> changedById = new LinkedHashMap<>();
+        createdOrUpdatedCategories.stream()
+                .filter(category -> !deletedIds.contains(category.getId()))
+                .forEach(category -> changedById.put(category.getId(), category));
+        final LayeredMap<String, Category> oldCategoriesById = tree.getCategoriesById();
+        final List<String> nonMemberIds = changedById.values().stream()
+                .filter(isTreeMember.negate())
+                .map(Category::getId)
+                .collect(toList());
+        nonMemberIds.forEach(id -> {
+            changedById.remove(id);
+            if (oldCategoriesById.containsKey(id)) {
+                //moved out of the subtree
+                deletedIds.add(id);
+            }
+        });
+        if (changedById.isEmpty() && deletedIds.stream().noneMatch(oldCategoriesById::containsKey)) {
+            return tree;
+        }
+
+        final Map<String, Category> idChanges = new HashMap<>();
+        final Map<String, Category> keyChanges = new HashMap<>();
+        final Map<LocalizedStringEntry, Category> slugChanges = new HashMap<>();
+        final Set<String> affectedExternalIds = new HashSet<>();
+        final Set<String> affectedParentIds = new HashSet<>();
+
+        final Set<String> removedOrReplacedIds = new HashSet<>(deletedIds);
+        removedOrReplacedIds.addAll(changedById.keySet());
+        removedOrReplacedIds.forEach(id -> {
+            final Category oldCategory = oldCategoriesById.get(id);
+            if (oldCategory != null) {
+                idChanges.put(id, null);
+                removeIfMappedTo(tree.getCategoriesByKey(), keyChanges, oldCategory.getKey(), oldCategory);
+                oldCategory.getSlug().stream()
+                        .forEach(slugEntry -> removeIfMappedTo(tree.getCategoriesByLocaleAndSlug(), slugChanges, slugEntry, oldCategory));
+                Optional.ofNullable(oldCategory.getExternalId()).ifPresent(affectedExternalIds::add);
+                Optional.ofNullable(oldCategory.getParent()).ifPresent(parent -> affectedParentIds.add(parent.getId()));
+            }
+        });
+        changedById.values().forEach(category -> {
+            idChanges.put(category.getId(), category);
+            Optional.ofNullable(category.getKey()).ifPresent(key -> keyChanges.put(key, category));
+            category.getSlug().stream().forEach(slugEntry -> slugChanges.put(slugEntry, category));
+            Optional.ofNullable(category.getExternalId()).ifPresent(affectedExternalIds::add);
+            Optional.ofNullable(category.getParent()).ifPresent(parent -> affectedParentIds.add(parent.getId()));
+        });
+
+        final Map<String, List<Category>> externalIdChanges = new HashMap<>();
+        affectedExternalIds.forEach(externalId -> externalIdChanges.put(externalId,
+                applyChangesToListEntry(tree.getCategoriesByExternalId(), externalId, changedById, deletedIds,
+                        category -> externalId.equals(category.getExternalId()))));
+
+        final Map<String, List<Category>> childrenChanges = new HashMap<>();
+        affectedParentIds.forEach(parentId -> childrenChanges.put(parentId,
+                applyChangesToListEntry(tree.getChildrenByParentId(), parentId, changedById, deletedIds,
+                        category -> category.getParent() != null && category.getParent().getId().equals(parentId))));
+        deletedIds.stream()
+                .filter(tree.getChildrenByParentId()::containsKey)
+                .forEach(deletedId -> childrenChanges.put(deletedId, null));
+
+        final List<Category> allAsFlatList = applyChanges(tree.getAllAsFlatList(), changedById, deletedIds, category -> true);
+        final List<Category> roots = applyChanges(tree.getRoots(), changedById, deletedIds, category -> category.getParent() == null);
+        final List<Category> subtreeRoots = tree.getSubtreeRoots() == tree.getRoots()
+                ? roots
+                : tree.getSubtreeRoots().stream()
+                        .filter(category -> !deletedIds.contains(category.getId()))
+                        .map(category -> changedById.getOrDefault(category.getId(), category))
+                        .collect(toList());
+        return new CategoryTreeImpl(roots, allAsFlatList, tree.getCategoriesByLocaleAndSlug().withChanges(slugChanges),
+                oldCategoriesById.withChanges(idChanges), tree.getCategoriesByKey().withChanges(keyChanges),
+                tree.getCategoriesByExternalId().withChanges(externalIdChanges), tree.getChildrenByParentId().withChanges(childrenChanges),
+                subtreeRoots);
+    }
+
+    /**
+     * Tests if a category belongs to the tree, for a subtree these are the subtree roots and their descendants.
+     */
+    private static Predicate<Category> treeMemberPredicate(final CategoryTreeImpl tree) {
+        if (tree.getSubtreeRoots() == tree.getRoots()) {
+            return category -> true;
+        }
+        final Set<String> subtreeRootIds = tree.getSubtreeRoots().stream().map(Category::getId).collect(toSet());
+        return category -> subtreeRootIds.contains(category.getId())
+                || category.getAncestors().stream().anyMatch(ancestor -> subtreeRootIds.contains(ancestor.getId()));
+    }
+
+    /**
+     * Applies the changes to the list of a map entry.
+     *
+     * @return the new list or null if it is empty, so the entry is removed
+     */
+    @Nullable
+    private static List<Category> applyChangesToListEntry(final Map<String, List<Category>> map, final String key,
+                                                          final Map<String, Category> changedById, final Set<String> deletedIds,
+                                                          final Predicate<Category> belongsToList) {
+        final List<Category> categories = applyChanges(map.getOrDefault(key, Collections.emptyList()), changedById, deletedIds, belongsToList);
+        return categories.isEmpty() ? null : Collections.unmodifiableList(categories);
+    }
+
+    /**
+     * Applies changes to a list of categories: deleted categories are removed, changed categories are replaced at their position
+     * if they still belong to the list and all changed categories which belong to the list but were not contained are appended.
+     */
+    private static List<Category> applyChanges(final List<Category> categories, final Map<String, Category> changedById,
+                                               final Set<String> deletedIds, final Predicate<Category> belongsToList) {
+        final List<Category> result = new ArrayList<>(categories.size() + changedById.size());
+        final Set<String> containedChangedIds = new HashSet<>();
+        categories.forEach(category -> {
+            final String id = category.getId();
+            final Category changedCategory = changedById.get(id);
+            if (changedCategory != null) {
+                containedChangedIds.add(id);
+                if (belongsToList.test(changedCategory)) {
+                    result.add(changedCategory);
+                }
+            } else if (!deletedIds.contains(id)) {
+                result.add(category);
+            }
+        });
+        changedById.values().stream()
+                .filter(category -> !containedChangedIds.contains(category.getId()) && belongsToList.test(category))
+                .forEach(result::add);
+        return result;
+    }
+
+    private static <K> void removeIfMappedTo(final Map<K, Category> map, final Map<K, Category> changes,
+                                             @Nullable final K key, final Category category) {
+        if (key != null && map.get(key) == category) {
+            changes.put(key, null);
+        }
     }
 
     private Map<String, List<Category>> getChildrenByParentIdMap(final List<Category> allCategoriesAsFlatList) {
@@ -44,24 +203,20 @@ final class CategoryTreeFactory {
                 childrenByParentId.put(parentId, entries);
             })
         );
+        childrenByParentId.replaceAll((parentId, children) -> Collections.unmodifiableList(children));
         return childrenByParentId;
     }
 
     private Map<LocalizedStringEntry, Category> getLocalizedStringEntryCategoryMap(final List<Category> allCategoriesAsFlatList) {
         final Map<LocalizedStringEntry, Category> categoriesByLocaleAndSlug = new HashMap<>();
-        allCategoriesAsFlatList.forEach(category -> {
-            final Set<Locale> localesForTheCategory = category.getSlug().getLocales();
-            localesForTheCategory.forEach(locale -> {
-                final LocalizedStringEntry stringsEntry = LocalizedStringEntry.of(locale, category.getSlug().get(locale));
-                categoriesByLocaleAndSlug.put(stringsEntry, category);
-            });
-        });
+        allCategoriesAsFlatList.forEach(category ->
+                category.getSlug().stream().forEach(slugEntry -> categoriesByLocaleAndSlug.put(slugEntry, category)));
         return categoriesByLocaleAndSlug;
     }
 
     private List<Category> findRoots(final List<Category> allCategoriesAsFlatList) {
         final Predicate<Category> isRootCategory = c -> c.getParent() == null;
-        return allCategoriesAsFlatList.parallelStream().filter(isRootCategory).collect(toList());
+        return allCategoriesAsFlatList.stream().filter(isRootCategory).collect(toList());
     }
 
     private List<Category> getSubtreeAsFlatList(final CategoryTree categoryTree, final Collection<? extends Identifiable<Category>> parentCategories) {
@@ -79,7 +234,7 @@ final class CategoryTreeFactory {
                 .map(identifiable -> getCategoryOrThrow(identifiable, categoryTree))
                 .collect(toList());
 
-        final List<String> subtreeRootIds = subtreeRoots.parallelStream().map(Identifiable::getId).collect(toList());
+        final List<String> subtreeRootIds = subtreeRoots.stream().map(Identifiable::getId).collect(toList());
 
         subtreeRootsCategories.forEach(subtreeRoot -> {
             final Optional<String> rootAncestorOptional = subtreeRoot.getAncestors()
@@ -14,24 +14,27 @@ class CategoryTreeImpl extends Base implements CategoryTree {
     private final List<Category> roots;
     private final List<Category> subtreeRoots;
     private final List<Category> allAsFlatList;
-    private final Map<LocalizedStringEntry, Category> categoriesByLocaleAndSlug;
-    private final Map<String, Category> categoriesById;
-    private final Map<String, Category> categoriesByKey;
-    private final Map<String, List<Category>> childrenByParentId;
+    private final LayeredMap<LocalizedStringEntry, Category> categoriesByLocaleAndSlug;
+    private final LayeredMap<String, Category> categoriesById;
+    private final LayeredMap<String, Category> categoriesByKey;
+    private final LayeredMap<String, List<Category>> categoriesByExternalId;
+    private final LayeredMap<String, List<Category>> childrenByParentId;
 
     CategoryTreeImpl(final List<Category> roots,
                      final List<Category> allAsFlatList,
-                     final Map<LocalizedStringEntry, Category> categoriesByLocaleAndSlug,
-                     final Map<String, Category> categoriesById,
-                     final Map<String, Category> categoriesByKey,
-                     final Map<String, List<Category>> childrenByParentId, final List<Category> subtreeRoots) {
+                     final LayeredMap<LocalizedStringEntry, Category> categoriesByLocaleAndSlug,
+                     final LayeredMap<String, Category> categoriesById,
+                     final LayeredMap<String, Category> categoriesByKey,
+                     final LayeredMap<String, List<Category>> categoriesByExternalId,
+                     final LayeredMap<String, List<Category>> childrenByParentId, final List<Category> subtreeRoots) {
         this.childrenByParentId = childrenByParentId;
         this.roots = immutableCopyOf(roots);
         this.subtreeRoots = roots == subtreeRoots ? this.roots : immutableCopyOf(subtreeRoots);
         this.allAsFlatList = immutableCopyOf(allAsFlatList);
-        this.categoriesByLocaleAndSlug = immutableCopyOf(categoriesByLocaleAndSlug);
-        this.categoriesById = immutableCopyOf(categoriesById);
-        this.categoriesByKey = immutableCopyOf(categoriesByKey);
+        this.categoriesByLocaleAndSlug = categoriesByLocaleAndSlug;
+        this.categoriesById = categoriesById;
+        this.categoriesByKey = categoriesByKey;
+        this.categoriesByExternalId = categoriesByExternalId;
     }
 
     @Override
@@ -46,9 +49,8 @@ class CategoryTreeImpl extends Base implements CategoryTree {
 
     @Override
     public Optional<Category> findByExternalId(final String externalId) {
-        return getAllAsFlatList().parallelStream()
-                .filter(cat -> Optional.ofNullable(cat.getExternalId()).map(extIdElement -> extIdElement.equals(externalId)).orElse(false))
-                .findAny();//should be okay, since the externalId should be unique
+        //the external ID is not guaranteed to be unique, like a linear search any of the duplicates may be found
+        return Optional.ofNullable(categoriesByExternalId.get(externalId)).map(categories -> categories.get(0));
     }
 
     @Override
@@ -107,4 +109,31 @@ class CategoryTreeImpl extends Base implements CategoryTree {
     public List<Category> getSubtreeRoots() {
         return subtreeRoots;
     }
+
+    @Override
+    public CategoryTree withChanges(final List<Category> createdOrUpdatedCategories, final Collection<? extends Identifiable<Category>> deletedCategories) {
+        requireNonNull(createdOrUpdatedCategories);
+        requireNonNull(deletedCategories);
+        return CategoryTreeFactory.of().createWithChanges(this, createdOrUpdatedCategories, deletedCategories);
+    }
+
+    LayeredMap<LocalizedStringEntry, Category> getCategoriesByLocaleAndSlug() {
+        return categoriesByLocaleAndSlug;
+    }
+
+    LayeredMap<String, Category> getCategoriesById() {
+        return categoriesById;
+    }
+
+    LayeredMap<String, Category> getCategoriesByKey() {
+        return categoriesByKey;
+    }
+
+    LayeredMap<String, List<Category>> getCategoriesByExternalId() {
+        return categoriesByExternalId;
+    }
+
+    LayeredMap<String, List<Category>> getChildrenByParentId() {
+        return childrenByParentId;
+    }
 }
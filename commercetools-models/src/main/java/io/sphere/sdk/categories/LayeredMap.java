@@ -0,0 +1,87 @@
+package io.sphere.sdk.categories;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Immutable map which keeps the changes of an update on top of a shared base map, so an updated copy only costs
+ * the changed entries instead of a copy of all entries. Once the changes grow large compared to the base map they
+ * are merged into a new base map, so a lookup needs at most two hash lookups.
+ *
+ * <p>The values must not be null.</p>
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+final class LayeredMap<K, V> extends AbstractMap<K, V> {
+    private static final int MIN_CHANGES_TO_MERGE = 32;
+    private static final int MERGE_DIVISOR = 8;
+
+    private final Map<K, V> base;
+    /**
+     * Changed entries, a null value marks a removed entry.
+     */
+    private final Map<K, V> changes;
+
+    private LayeredMap(final Map<K, V> base, final Map<K, V> changes) {
+        this.base = base;
+        this.changes = changes;
+    }
+
+    @Override
+    @Nullable
+    public V get(final Object key) {
+        return changes.containsKey(key) ? changes.get(key) : base.get(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return Collections.unmodifiableMap(changes.isEmpty() ? base : merge(base, changes)).entrySet();
+    }
+
+    /**
+     * Creates a new map with the given changes, this map stays unchanged.
+     *
+     * @param newChanges the changed entries, a null value removes the entry
+     * @return the changed map
+     */
+    LayeredMap<K, V> withChanges(final Map<K, V> newChanges) {
+        if (newChanges.isEmpty()) {
+            return this;
+        }
+        final Map<K, V> allChanges = new HashMap<>(changes);
+        allChanges.putAll(newChanges);
+        return allChanges.size() >= MIN_CHANGES_TO_MERGE && allChanges.size() >= base.size() / MERGE_DIVISOR
+                ? new LayeredMap<>(merge(base, allChanges), Collections.emptyMap())
+                : new LayeredMap<>(base, allChanges);
+    }
+
+    private static <K, V> Map<K, V> merge(final Map<K, V> base, final Map<K, V> changes) {
+        final Map<K, V> merged = new HashMap<>(base);
+        changes.forEach((key, value) -> {
+            if (value == null) {
+                merged.remove(key);
+            } else {
+                merged.put(key, value);
+            }
+        });
+        return merged;
+    }
+
+    /**
+     * Creates a layered map with the given entries, the map is not copied, so it must not be changed afterwards.
+     *
+     * @param base the entries
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     * @return map
+     */
+    static <K, V> LayeredMap<K, V> of(final Map<K, V> base) {
+        return new LayeredMap<>(base, Collections.emptyMap());
+    }
+}
@@ -0,0 +1,87 @@
+package io.sphere.sdk.models;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.sphere.sdk.carts.LineItem;
+import io.sphere.sdk.client.LazyJsonSphereRequest;
+import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.json.JsonException;
+import io.sphere.sdk.json.LazyJsonModule;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.products.ProductData;
+import io.sphere.sdk.products.ProductVariant;
+import io.sphere.sdk.products.attributes.Attribute;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static io.sphere.sdk.utils.SphereInternalUtils.asSet;
+
+/**
+ * Utility class to read the models with big subtrees deserialized on demand, see {@link LazyJsonModule}.
+ *
+ * <p>The following subtrees are only deserialized if they are accessed:</p>
+ * <ul>
+ * <li>the current and staged {@link ProductData} of a product</li>
+ * <li>the lists of {@link ProductVariant}s of products and product projections</li>
+ * <li>the lists of {@link Attribute}s of product variants</li>
+ * <li>the lists of {@link LineItem}s of carts and orders</li>
+ * </ul>
+ *
+ * <p>A query which only uses the ids, versions, keys and the master variants of the products doesn't create the objects of the other variants,
+ * of their prices, images and attributes:</p>
+ * <pre>{@code
+ * final SphereRequest<PagedQueryResult<Product>> request = LazyModelJsonUtils.lazy(ProductQuery.of(), ProductQuery.resultTypeReference());
+ * }</pre>
+ */
+public final class LazyModelJsonUtils {
+    private static final ObjectMapper objectMapper = SphereJsonUtils.newObjectMapper().registerModule(newLazyJsonModule());
+
+    private LazyModelJsonUtils() {
+    }
+
+    /**
+     * Creates the module which deserializes the big subtrees of the models on demand.
+     *
+     * @return new module
+     */
+    public static LazyJsonModule newLazyJsonModule() {
+        return LazyJsonModule.of(Collections.singleton(ProductData.class), asSet(ProductVariant.class, Attribute.class, LineItem.class));
+    }
+
+    /**
+     * Decorates a request to deserialize the big subtrees of its result on demand.
+     *
+     * @param request the request to decorate
+     * @param resultTypeReference the type of the result of the request
+     * @param <T> the type of the result
+     * @return the decorated request
+     */
+    public static <T> SphereRequest<T> lazy(final SphereRequest<T> request, final TypeReference<T> resultTypeReference) {
+        return LazyJsonSphereRequest.of(request, objectMapper.readerFor(resultTypeReference));
+    }
+
+    /**
+     * Reads a Java object from JSON string and deserializes the big subtrees on demand.
+     *
+     * @param jsonAsString the JSON
+     * @param typeReference the full generic type information about the object to create
+     * @param <T> the type of the result
+     * @return the created object
+     */
+    public static <T> T readObject(final String jsonAsString, final TypeReference<T> typeReference) {
+        try {
+            return objectMapper.readValue(jsonAsString, typeReference);
+        } catch (final IOException e) {
+            throw new JsonException(e);
+        }
+    }
+
+    public static <T> T readObject(final String jsonAsString, final Class<T> clazz) {
+        try {
+            return objectMapper.readValue(jsonAsString, clazz);
+        } catch (final IOException e) {
+            throw new JsonException(e);
+        }
+    }
+}
@@ -6,32 +6,100 @@ import io.sphere.sdk.products.attributes.Attribute;
 import io.sphere.sdk.products.attributes.AttributeMapper;
 import io.sphere.sdk.products.attributes.NamedAttributeAccess;
 
-import java.util.Objects;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 
 abstract class AttributeContainerBase extends Base implements AttributeContainer {
+    /**
+     * Index of the attributes by name, built on the first lookup. It is transient to be excluded from
+     * equals, hashCode, toString and the JSON representation.
+     */
+    @Nullable
+    private transient volatile AttributeIndex attributeIndex;
 
     @Override
     public <T> Optional<T> findAttribute(final NamedAttributeAccess<T> accessor) {
         final String attributeName = accessor.getName();
-        final Optional<Attribute> attributeOption = getAttributes().stream()
-                .filter(a -> Objects.equals(attributeName, a.getName()))
-                .findFirst();
+        final Attribute attribute = attributeIndex().get(attributeName);
+        if (attribute == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(attribute.getValue(accessor));
+        } catch (final JsonException e) {
+            throw transformError(e, attributeName, accessor.attributeMapper());
+        }
+    }
 
-        return attributeOption.map(attribute -> {
-            final AttributeMapper<T> mapper = accessor.attributeMapper();
+    @Override
+    public boolean hasAttribute(final String attributeName) {
+        return attributeIndex().get(attributeName) != null;
+    }
 
-            try {
-                return attribute.getValue(accessor);
-            } catch (final JsonException e) {
-                throw transformError(e, attributeName, mapper);
-            }
-        });
+    @Override
+    public boolean hasAttribute(final NamedAttributeAccess<?> namedAccess) {
+        return hasAttribute(namedAccess.getName());
+    }
+
+    @Nullable
+    @Override
+    public Attribute getAttribute(final String attributeName) {
+        requireNonNull(attributeName);
+        return attributeIndex().get(attributeName);
     }
 
     protected JsonException transformError(JsonException e, String attributeName, AttributeMapper<?> mapper) {
         return new JsonException(format("AttributeContainer does not contain an attribute '%s' which can be mapped with %s.", attributeName, mapper), e.getCause());
     }
+
+    private AttributeIndex attributeIndex() {
+        final List<Attribute> attributes = getAttributes();
+        final AttributeIndex index = attributeIndex;
+        if (index != null && index.isIndexOf(attributes)) {
+            return index;
+        }
+        final AttributeIndex newIndex = new AttributeIndex(attributes);
+        attributeIndex = newIndex;
+        return newIndex;
+    }
+
+    private static final class AttributeIndex {
+        @Nullable
+        private final List<Attribute> attributes;
+        private final int size;
+        private final Map<String, Attribute> attributesByName;
+
+        private AttributeIndex(@Nullable final List<Attribute> attributes) {
+            this.attributes = attributes;
+            if (attributes == null || attributes.isEmpty()) {
+                this.size = 0;
+                this.attributesByName = Collections.emptyMap();
+            } else {
+                this.size = attributes.size();
+                this.attributesByName = new HashMap<>(size * 4 / 3 + 1);
+                //the first attribute of a name wins, like with a linear search
+                attributes.forEach(attribute -> attributesByName.putIfAbsent(attribute.getName(), attribute));
+            }
+        }
+
+        /**
+         * Checks if this index is still valid, the list of attributes can be replaced or, for containers
+         * created from a mutable list, changed after the index has been built.
+         */
+        private boolean isIndexOf(@Nullable final List<Attribute> attributes) {
+            return this.attributes == attributes && (attributes == null || attributes.size() == size);
+        }
+
+        @Nullable
+        private Attribute get(final String attributeName) {
+            return attributesByName.get(attributeName);
+        }
+    }
 }
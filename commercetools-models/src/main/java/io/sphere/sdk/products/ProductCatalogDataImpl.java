@@ -2,6 +2,7 @@ package io.sphere.sdk.products;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.sphere.sdk.json.LazyJsonModule;
 
 import javax.annotation.Nullable;
 import java.util.Collections;
@@ -32,8 +33,10 @@ class ProductCatalogDataImpl extends ProductCatalogDataImplBase {
     // https://github.com/commercetools/commercetools-jvm-sdk/issues/239
     void setProductId(final String id) {
         final List<ProductData> currentAsList = Optional.ofNullable(getCurrent()).map(c -> Collections.singletonList(c)).orElse(Collections.emptyList());
-        listOf(currentAsList, getStaged()).stream()
-                .filter(x -> x instanceof ProductDataImpl)
-                .forEach(x -> ((ProductDataImpl)x).setProductId(id));
+        listOf(currentAsList, getStaged()).forEach(data -> LazyJsonModule.afterMaterialization(data, x -> {
+            if (x instanceof ProductDataImpl) {
+                ((ProductDataImpl) x).setProductId(id);
+            }
+        }));
     }
 }
@@ -21,8 +21,6 @@ class ProductDataImpl extends ProductDataImplBase {
 
     // https://github.com/commercetools/commercetools-jvm-sdk/issues/239
     void setProductId(final String id) {
-        getAllVariants().stream()
-                .filter(v -> v instanceof ProductVariantImpl)
-                .forEach(variant -> ((ProductVariantImpl) variant).setProductId(id));
+        ProductsPackage.setProductId(this, id);
     }
 }
@@ -81,9 +81,7 @@ class ProductProjectionImpl extends ResourceViewImpl<ProductProjection, Product>
         this.categoryOrderHints = categoryOrderHints;
         this.reviewRatingStatistics = reviewRatingStatistics;
         this.key = key;
-        getAllVariants().stream()
-                .filter(v -> v instanceof ProductVariantImpl)
-                .forEach(variant -> ((ProductVariantImpl)variant).setProductId(getId()));
+        ProductsPackage.setProductId(this, getId());
     }
 
     public Boolean hasStagedChanges() {
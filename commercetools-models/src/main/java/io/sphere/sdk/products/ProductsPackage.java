@@ -1,5 +1,8 @@
 package io.sphere.sdk.products;
 
+import io.sphere.sdk.json.LazyJsonModule;
+
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -35,4 +38,16 @@ final class ProductsPackage {
         result.addAll(nonMasterVariants);
         return result;
     }
+
+    // https://github.com/commercetools/commercetools-jvm-sdk/issues/239
+    static void setProductId(final ProductDataLike product, final String productId) {
+        setProductId(product.getMasterVariant(), productId);
+        LazyJsonModule.afterMaterialization(product.getVariants(), variants -> variants.forEach(variant -> setProductId(variant, productId)));
+    }
+
+    private static void setProductId(@Nullable final ProductVariant variant, final String productId) {
+        if (variant instanceof ProductVariantImpl) {
+            ((ProductVariantImpl) variant).setProductId(productId);
+        }
+    }
 }
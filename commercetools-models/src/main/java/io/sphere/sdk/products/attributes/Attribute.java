@@ -28,6 +28,15 @@ import java.util.Set;
 public interface Attribute {
     String getName();
 
+    /**
+     * Decodes the value of this attribute. The decoded value is cached for the {@link AttributeMapper} of {@code access},
+     * so repeated calls with the same access, for example a constant {@link NamedAttributeAccess}, don't decode the JSON again
+     * and return the same instance, which should not be modified.
+     *
+     * @param access the strategy to decode the value
+     * @param <T> the type of the value
+     * @return the decoded value
+     */
     <T> T getValue(final AttributeAccess<T> access);
 
     static Attribute of(final String name, final JsonNode jsonNode) {
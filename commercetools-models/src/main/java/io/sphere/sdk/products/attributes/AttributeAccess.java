@@ -1,10 +1,8 @@
 package io.sphere.sdk.products.attributes;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.sphere.sdk.categories.Category;
 import io.sphere.sdk.channels.Channel;
-import io.sphere.sdk.json.TypeReferences;
 import io.sphere.sdk.models.LocalizedEnumValue;
 import io.sphere.sdk.models.LocalizedString;
 import io.sphere.sdk.models.EnumValue;
@@ -19,8 +17,6 @@ import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.util.Set;
 
-import static io.sphere.sdk.json.TypeReferences.*;
-
 /**
  * Container which has strategies to serialize/deserialize attribute values.
  *
@@ -37,21 +33,19 @@ public interface AttributeAccess<T> {
     boolean canHandle(AttributeDefinition attributeDefinition);
 
     static AttributeAccess<Boolean> ofBoolean() {
-        return AttributeAccessImpl.ofPrimitive(booleanTypeReference(), BooleanAttributeType.class);
+        return AttributeAccesses.BOOLEAN;
     }
 
     static AttributeAccess<Set<Boolean>> ofBooleanSet() {
-        return AttributeAccessImpl.ofSet(BooleanAttributeType.class, new TypeReference<Set<Boolean>>() {
-        });
+        return AttributeAccesses.BOOLEAN_SET;
     }
 
     static AttributeAccess<String> ofString() {
-        return AttributeAccessImpl.ofPrimitive(stringTypeReference(), StringAttributeType.class);
+        return AttributeAccesses.STRING;
     }
 
     static AttributeAccess<Set<String>> ofStringSet() {
-        return AttributeAccessImpl.ofSet(StringAttributeType.class, new TypeReference<Set<String>>() {
-        });
+        return AttributeAccesses.STRING_SET;
     }
 
     static AttributeAccess<String> ofText() {
@@ -63,66 +57,59 @@ public interface AttributeAccess<T> {
     }
 
     static AttributeAccess<LocalizedString> ofLocalizedString() {
-        return AttributeAccessImpl.ofPrimitive(LocalizedString.typeReference(), LocalizedStringAttributeType.class);
+        return AttributeAccesses.LOCALIZED_STRING;
     }
 
     static AttributeAccess<Set<LocalizedString>> ofLocalizedStringSet() {
-        return AttributeAccessImpl.ofSet(LocalizedStringAttributeType.class, new TypeReference<Set<LocalizedString>>() {
-        });
+        return AttributeAccesses.LOCALIZED_STRING_SET;
     }
 
     static AttributeAccess<EnumValue> ofEnumValue() {
-        return AttributeAccessImpl.ofEnumLike(EnumValue.typeReference(), EnumAttributeType.class);
+        return AttributeAccesses.ENUM_VALUE;
     }
 
     static AttributeAccess<Set<EnumValue>> ofEnumValueSet() {
-        return AttributeAccessImpl.ofEnumLikeSet(EnumAttributeType.class, new TypeReference<Set<EnumValue>>() {
-        });
+        return AttributeAccesses.ENUM_VALUE_SET;
     }
 
     static AttributeAccess<LocalizedEnumValue> ofLocalizedEnumValue() {
-        return AttributeAccessImpl.ofEnumLike(LocalizedEnumValue.typeReference(), LocalizedEnumAttributeType.class);
+        return AttributeAccesses.LOCALIZED_ENUM_VALUE;
     }
 
     static AttributeAccess<Set<LocalizedEnumValue>> ofLocalizedEnumValueSet() {
-        return AttributeAccessImpl.ofEnumLikeSet(LocalizedEnumAttributeType.class, new TypeReference<Set<LocalizedEnumValue>>() {
-        });
+        return AttributeAccesses.LOCALIZED_ENUM_VALUE_SET;
     }
 
     static AttributeAccess<Double> ofDouble() {
-        return AttributeAccessImpl.ofPrimitive(doubleTypeReference(), NumberAttributeType.class);
+        return AttributeAccesses.DOUBLE;
     }
 
     static AttributeAccess<Set<Double>> ofDoubleSet() {
-        return AttributeAccessImpl.ofSet(NumberAttributeType.class, new TypeReference<Set<Double>>() {
-        });
+        return AttributeAccesses.DOUBLE_SET;
     }
 
     static AttributeAccess<Integer> ofInteger() {
-        return AttributeAccessImpl.ofPrimitive(integerTypeReference(), NumberAttributeType.class);
+        return AttributeAccesses.INTEGER;
     }
 
     static AttributeAccess<Set<Integer>> ofIntegerSet() {
-        return AttributeAccessImpl.ofSet(NumberAttributeType.class, new TypeReference<Set<Integer>>() {
-        });
+        return AttributeAccesses.INTEGER_SET;
     }
 
     static AttributeAccess<Long> ofLong() {
-        return AttributeAccessImpl.ofPrimitive(longTypeReference(), NumberAttributeType.class);
+        return AttributeAccesses.LONG;
     }
 
     static AttributeAccess<Set<Long>> ofLongSet() {
-        return AttributeAccessImpl.ofSet(NumberAttributeType.class, new TypeReference<Set<Long>>() {
-        });
+        return AttributeAccesses.LONG_SET;
     }
 
     static AttributeAccess<MonetaryAmount> ofMoney() {
-        return AttributeAccessImpl.ofPrimitive(monetaryAmountTypeReference(), MoneyAttributeType.class);
+        return AttributeAccesses.MONEY;
     }
 
     static AttributeAccess<Set<MonetaryAmount>> ofMoneySet() {
-        return AttributeAccessImpl.ofSet(MoneyAttributeType.class, new TypeReference<Set<MonetaryAmount>>() {
-        });
+        return AttributeAccesses.MONEY_SET;
     }
 
     static AttributeAccess<LocalDate> ofLocalDate() {
@@ -134,12 +121,11 @@ public interface AttributeAccess<T> {
     }
 
     static AttributeAccess<LocalDate> ofDate() {
-        return AttributeAccessImpl.ofPrimitive(localDateTypeReference(), DateAttributeType.class);
+        return AttributeAccesses.DATE;
     }
 
     static AttributeAccess<Set<LocalDate>> ofDateSet() {
-        return AttributeAccessImpl.ofSet(DateAttributeType.class, new TypeReference<Set<LocalDate>>() {
-        });
+        return AttributeAccesses.DATE_SET;
     }
 
     static AttributeAccess<LocalTime> ofLocalTime() {
@@ -151,21 +137,19 @@ public interface AttributeAccess<T> {
     }
 
     static AttributeAccess<LocalTime> ofTime() {
-        return AttributeAccessImpl.ofPrimitive(localTimeTypeReference(), TimeAttributeType.class);
+        return AttributeAccesses.TIME;
     }
 
     static AttributeAccess<Set<LocalTime>> ofTimeSet() {
-        return AttributeAccessImpl.ofSet(TimeAttributeType.class, new TypeReference<Set<LocalTime>>() {
-        });
+        return AttributeAccesses.TIME_SET;
     }
 
     static AttributeAccess<ZonedDateTime> ofDateTime() {
-        return AttributeAccessImpl.ofPrimitive(zonedDateTimeTypeReference(), DateTimeAttributeType.class);
+        return AttributeAccesses.DATE_TIME;
     }
 
     static AttributeAccess<Set<ZonedDateTime>> ofDateTimeSet() {
-        return AttributeAccessImpl.ofSet(DateTimeAttributeType.class, new TypeReference<Set<ZonedDateTime>>() {
-        });
+        return AttributeAccesses.DATE_TIME_SET;
     }
 
     static AttributeAccess<ZonedDateTime> ofZonedDateTime() {
@@ -177,71 +161,46 @@ public interface AttributeAccess<T> {
     }
 
     static AttributeAccess<Reference<Product>> ofProductReference() {
-        return AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofProduct());
+        return AttributeAccesses.PRODUCT_REFERENCE;
     }
 
     static AttributeAccess<Set<Reference<Product>>> ofProductReferenceSet() {
-        return AttributeAccessImpl.ofSet(ReferenceAttributeType.ofProduct(), new TypeReference<Set<Reference<Product>>>() {
-        });
+        return AttributeAccesses.PRODUCT_REFERENCE_SET;
     }
 
     static AttributeAccess<Reference<ProductType>> ofProductTypeReference() {
-        return AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofProductType());
+        return AttributeAccesses.PRODUCT_TYPE_REFERENCE;
     }
 
     static AttributeAccess<Set<Reference<ProductType>>> ofProductTypeReferenceSet() {
-        return AttributeAccessImpl.ofSet(ReferenceAttributeType.ofProductType(), new TypeReference<Set<Reference<ProductType>>>() {
-        });
+        return AttributeAccesses.PRODUCT_TYPE_REFERENCE_SET;
     }
 
     static AttributeAccess<Reference<Category>> ofCategoryReference() {
-        return AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofCategory());
+        return AttributeAccesses.CATEGORY_REFERENCE;
     }
 
     static AttributeAccess<Set<Reference<Category>>> ofCategoryReferenceSet() {
-        return AttributeAccessImpl.ofSet(ReferenceAttributeType.ofCategory(), new TypeReference<Set<Reference<Category>>>() {
-        });
+        return AttributeAccesses.CATEGORY_REFERENCE_SET;
     }
 
     static AttributeAccess<Reference<Channel>> ofChannelReference() {
-        return AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofChannel());
+        return AttributeAccesses.CHANNEL_REFERENCE;
     }
 
     static AttributeAccess<Set<Reference<Channel>>> ofChannelReferenceSet() {
-        return AttributeAccessImpl.ofSet(ReferenceAttributeType.ofChannel(), new TypeReference<Set<Reference<Channel>>>() {
-        });
+        return AttributeAccesses.CHANNEL_REFERENCE_SET;
     }
 
     static AttributeAccess<JsonNode> ofJsonNode() {
-        final AttributeMapper<JsonNode> attributeMapper = new AttributeMapper<JsonNode>() {
-            @Override
-            public JsonNode deserialize(final JsonNode value) {
-                return value;
-            }
-
-            @Override
-            public JsonNode serialize(final JsonNode value) {
-                return value;
-            }
-        };
-        return new AttributeAccessImpl<>(attributeMapper, TypeReferences.jsonNodeTypeReference(), ad -> true);
+        return AttributeAccesses.JSON_NODE;
     }
 
     static AttributeAccess<AttributeContainer> ofNested() {
-        return new AttributeAccessImpl<>(new NestedAttributeMapperImpl(), new TypeReference<AttributeContainer>() {
-            @Override
-            public String toString() {
-                return "TypeReference<AttributeContainer>";
-            }
-        }, attributeDefinition -> attributeDefinition.getAttributeType() instanceof NestedAttributeType);
+        return AttributeAccesses.NESTED;
     }
 
     static AttributeAccess<Set<AttributeContainer>> ofNestedSet() {
-        return AttributeAccessImpl.ofSet(NestedAttributeType.class, new TypeReference<Set<AttributeContainer>>() {
-            @Override
-            public String toString() {
-                return "TypeReference<Set<AttributeContainer>>";
-            }
-        }, new NestedSetAttributeMapperImpl());
+        return AttributeAccesses.NESTED_SET;
     }
 }
@@ -0,0 +1,102 @@
+package io.sphere.sdk.products.attributes;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.sphere.sdk.categories.Category;
+import io.sphere.sdk.channels.Channel;
+import io.sphere.sdk.json.TypeReferences;
+import io.sphere.sdk.models.EnumValue;
+import io.sphere.sdk.models.LocalizedEnumValue;
+import io.sphere.sdk.models.LocalizedString;
+import io.sphere.sdk.models.Reference;
+import io.sphere.sdk.products.AttributeContainer;
+import io.sphere.sdk.products.Product;
+import io.sphere.sdk.producttypes.ProductType;
+
+import javax.money.MonetaryAmount;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+import static io.sphere.sdk.json.TypeReferences.*;
+
+/**
+ * The built-in accesses of {@link AttributeAccess}, created once so that {@link AttributeImpl} can cache values by mapper identity.
+ */
+final class AttributeAccesses {
+    static final AttributeAccess<Boolean> BOOLEAN = AttributeAccessImpl.ofPrimitive(booleanTypeReference(), BooleanAttributeType.class);
+    static final AttributeAccess<Set<Boolean>> BOOLEAN_SET = AttributeAccessImpl.ofSet(BooleanAttributeType.class, new TypeReference<Set<Boolean>>() {
+    });
+    static final AttributeAccess<String> STRING = AttributeAccessImpl.ofPrimitive(stringTypeReference(), StringAttributeType.class);
+    static final AttributeAccess<Set<String>> STRING_SET = AttributeAccessImpl.ofSet(StringAttributeType.class, new TypeReference<Set<String>>() {
+    });
+    static final AttributeAccess<LocalizedString> LOCALIZED_STRING = AttributeAccessImpl.ofPrimitive(LocalizedString.typeReference(), LocalizedStringAttributeType.class);
+    static final AttributeAccess<Set<LocalizedString>> LOCALIZED_STRING_SET = AttributeAccessImpl.ofSet(LocalizedStringAttributeType.class, new TypeReference<Set<LocalizedString>>() {
+    });
+    static final AttributeAccess<EnumValue> ENUM_VALUE = AttributeAccessImpl.ofEnumLike(EnumValue.typeReference(), EnumAttributeType.class);
+    static final AttributeAccess<Set<EnumValue>> ENUM_VALUE_SET = AttributeAccessImpl.ofEnumLikeSet(EnumAttributeType.class, new TypeReference<Set<EnumValue>>() {
+    });
+    static final AttributeAccess<LocalizedEnumValue> LOCALIZED_ENUM_VALUE = AttributeAccessImpl.ofEnumLike(LocalizedEnumValue.typeReference(), LocalizedEnumAttributeType.class);
+    static final AttributeAccess<Set<LocalizedEnumValue>> LOCALIZED_ENUM_VALUE_SET = AttributeAccessImpl.ofEnumLikeSet(LocalizedEnumAttributeType.class, new TypeReference<Set<LocalizedEnumValue>>() {
+    });
+    static final AttributeAccess<Double> DOUBLE = AttributeAccessImpl.ofPrimitive(doubleTypeReference(), NumberAttributeType.class);
+    static final AttributeAccess<Set<Double>> DOUBLE_SET = AttributeAccessImpl.ofSet(NumberAttributeType.class, new TypeReference<Set<Double>>() {
+    });
+    static final AttributeAccess<Integer> INTEGER = AttributeAccessImpl.ofPrimitive(integerTypeReference(), NumberAttributeType.class);
+    static final AttributeAccess<Set<Integer>> INTEGER_SET = AttributeAccessImpl.ofSet(NumberAttributeType.class, new TypeReference<Set<Integer>>() {
+    });
+    static final AttributeAccess<Long> LONG = AttributeAccessImpl.ofPrimitive(longTypeReference(), NumberAttributeType.class);
+    static final AttributeAccess<Set<Long>> LONG_SET = AttributeAccessImpl.ofSet(NumberAttributeType.class, new TypeReference<Set<Long>>() {
+    });
+    static final AttributeAccess<MonetaryAmount> MONEY = AttributeAccessImpl.ofPrimitive(monetaryAmountTypeReference(), MoneyAttributeType.class);
+    static final AttributeAccess<Set<MonetaryAmount>> MONEY_SET = AttributeAccessImpl.ofSet(MoneyAttributeType.class, new TypeReference<Set<MonetaryAmount>>() {
+    });
+    static final AttributeAccess<LocalDate> DATE = AttributeAccessImpl.ofPrimitive(localDateTypeReference(), DateAttributeType.class);
+    static final AttributeAccess<Set<LocalDate>> DATE_SET = AttributeAccessImpl.ofSet(DateAttributeType.class, new TypeReference<Set<LocalDate>>() {
+    });
+    static final AttributeAccess<LocalTime> TIME = AttributeAccessImpl.ofPrimitive(localTimeTypeReference(), TimeAttributeType.class);
+    static final AttributeAccess<Set<LocalTime>> TIME_SET = AttributeAccessImpl.ofSet(TimeAttributeType.class, new TypeReference<Set<LocalTime>>() {
+    });
+    static final AttributeAccess<ZonedDateTime> DATE_TIME = AttributeAccessImpl.ofPrimitive(zonedDateTimeTypeReference(), DateTimeAttributeType.class);
+    static final AttributeAccess<Set<ZonedDateTime>> DATE_TIME_SET = AttributeAccessImpl.ofSet(DateTimeAttributeType.class, new TypeReference<Set<ZonedDateTime>>() {
+    });
+    static final AttributeAccess<Reference<Product>> PRODUCT_REFERENCE = AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofProduct());
+    static final AttributeAccess<Set<Reference<Product>>> PRODUCT_REFERENCE_SET = AttributeAccessImpl.ofSet(ReferenceAttributeType.ofProduct(), new TypeReference<Set<Reference<Product>>>() {
+    });
+    static final AttributeAccess<Reference<ProductType>> PRODUCT_TYPE_REFERENCE = AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofProductType());
+    static final AttributeAccess<Set<Reference<ProductType>>> PRODUCT_TYPE_REFERENCE_SET = AttributeAccessImpl.ofSet(ReferenceAttributeType.ofProductType(), new TypeReference<Set<Reference<ProductType>>>() {
+    });
+    static final AttributeAccess<Reference<Category>> CATEGORY_REFERENCE = AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofCategory());
+    static final AttributeAccess<Set<Reference<Category>>> CATEGORY_REFERENCE_SET = AttributeAccessImpl.ofSet(ReferenceAttributeType.ofCategory(), new TypeReference<Set<Reference<Category>>>() {
+    });
+    static final AttributeAccess<Reference<Channel>> CHANNEL_REFERENCE = AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofChannel());
+    static final AttributeAccess<Set<Reference<Channel>>> CHANNEL_REFERENCE_SET = AttributeAccessImpl.ofSet(ReferenceAttributeType.ofChannel(), new TypeReference<Set<Reference<Channel>>>() {
+    });
+    static final AttributeAccess<JsonNode> JSON_NODE = new AttributeAccessImpl<>(new AttributeMapper<JsonNode>() {
+        @Override
+        public JsonNode deserialize(final JsonNode value) {
+            return value;
+        }
+
+        @Override
+        public JsonNode serialize(final JsonNode value) {
+            return value;
+        }
+    }, TypeReferences.jsonNodeTypeReference(), ad -> true);
+    static final AttributeAccess<AttributeContainer> NESTED = new AttributeAccessImpl<>(new NestedAttributeMapperImpl(), new TypeReference<AttributeContainer>() {
+        @Override
+        public String toString() {
+            return "TypeReference<AttributeContainer>";
+        }
+    }, attributeDefinition -> attributeDefinition.getAttributeType() instanceof NestedAttributeType);
+    static final AttributeAccess<Set<AttributeContainer>> NESTED_SET = AttributeAccessImpl.ofSet(NestedAttributeType.class, new TypeReference<Set<AttributeContainer>>() {
+        @Override
+        public String toString() {
+            return "TypeReference<Set<AttributeContainer>>";
+        }
+    }, new NestedSetAttributeMapperImpl());
+
+    private AttributeAccesses() {
+    }
+}
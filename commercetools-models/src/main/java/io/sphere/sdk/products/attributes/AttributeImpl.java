@@ -5,6 +5,16 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.sphere.sdk.json.JsonException;
 import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.EnumValue;
+import io.sphere.sdk.models.LocalizedEnumValue;
+import io.sphere.sdk.models.LocalizedString;
+import io.sphere.sdk.models.Reference;
+
+import javax.annotation.Nullable;
+import javax.money.MonetaryAmount;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
 
 import static java.lang.String.format;
 
@@ -14,6 +24,13 @@ final class AttributeImpl extends Base implements Attribute {
     @JsonSerialize
     private final JsonNode value;
 
+    /**
+     * The value decoded by the last used mapper, transient to be excluded from equals, hashCode and toString.
+     * Only immutable values are cached since the cached value is shared by all callers.
+     */
+    @Nullable
+    private transient volatile DecodedValue decodedValue;
+
     @JsonCreator
     public AttributeImpl(final String name, final JsonNode value) {
         this.name = name;
@@ -25,11 +42,43 @@ final class AttributeImpl extends Base implements Attribute {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T getValue(final AttributeAccess<T> access) {
+        final AttributeMapper<T> attributeMapper = access.attributeMapper();
+        final DecodedValue cached = decodedValue;
+        if (cached != null && cached.attributeMapper == attributeMapper) {
+            return (T) cached.value;
+        }
         try {
-            return access.attributeMapper().deserialize(value);
+            final T decoded = attributeMapper.deserialize(value);
+            if (isImmutable(decoded)) {
+                decodedValue = new DecodedValue(attributeMapper, decoded);
+            }
+            return decoded;
         } catch (final JsonException e) {
-            throw new JsonException(format("Cannot parse attribute %s with mapper %s.", getName(), access.attributeMapper()), e.getCause());
+            throw new JsonException(format("Cannot parse attribute %s with mapper %s.", getName(), attributeMapper), e.getCause());
+        }
+    }
+
+    /**
+     * Checks if the value is of an immutable type of the built-in accesses, sets and JSON nodes for example are mutable,
+     * so every call gets its own instance.
+     */
+    private static boolean isImmutable(@Nullable final Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Integer || value instanceof Long
+                || value instanceof Double || value instanceof LocalDate || value instanceof LocalTime || value instanceof ZonedDateTime
+                || value instanceof MonetaryAmount || value instanceof LocalizedString || value instanceof EnumValue
+                || value instanceof LocalizedEnumValue || value instanceof Reference;
+    }
+
+    private static final class DecodedValue {
+        private final AttributeMapper<?> attributeMapper;
+        @Nullable
+        private final Object value;
+
+        private DecodedValue(final AttributeMapper<?> attributeMapper, @Nullable final Object value) {
+            this.attributeMapper = attributeMapper;
+            this.value = value;
         }
     }
 }
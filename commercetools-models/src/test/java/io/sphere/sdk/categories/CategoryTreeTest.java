@@ -298,6 +298,114 @@ public class CategoryTreeTest {
         assertThat(tree.findBySlug(absentLocale, "slug-0bu")).isEqualTo(Optional.empty());
     }
 
+    @Test
+    public void withChanges() throws Exception {
+        final CategoryTree tree = createAbcCategoryTree();
+        final Category a = tree.findById("A").get();
+        final Category b = tree.findById("B").get();
+        final Category movedA1 = CategoryBuilder.of(tree.findById("A-1").get())
+                .slug(en("new-slug-A-1"))
+                .parent(b)
+                .ancestors(singletonList(b.toReference()))
+                .build();
+        final Category d = CategoryBuilder.of("D", en("name D"), en("slug-D")).externalId("external-id-D").build();
+        final Category d1 = CategoryBuilder.of("D-1", en("name D-1"), en("slug-D-1")).parent(d).ancestors(singletonList(d.toReference())).build();
+        final Category c33 = tree.findById("C-3-3").get();
+
+        final CategoryTree updatedTree = tree.withChanges(asList(movedA1, d, d1), singletonList(c33.toReference()));
+
+        assertThat(updatedTree.getAllAsFlatList()).hasSize(40);
+        assertThat(extractIdList(updatedTree.getRoots())).containsExactly("A", "B", "C", "D");
+        assertThat(updatedTree.findById("A-1")).contains(movedA1);
+        assertThat(updatedTree.findBySlug(Locale.ENGLISH, "slug-A-1")).isEmpty();
+        assertThat(updatedTree.findBySlug(Locale.ENGLISH, "new-slug-A-1")).contains(movedA1);
+        assertThat(extractIdList(updatedTree.findChildren(a))).containsExactly("A-2", "A-3");
+        assertThat(extractIdList(updatedTree.findChildren(b))).containsExactly("B-1", "B-2", "B-3", "A-1");
+        assertThat(updatedTree.findChildren(d)).containsExactly(d1);
+        assertThat(updatedTree.findByExternalId("external-id-D")).contains(d);
+        assertThat(updatedTree.findById("C-3-3")).isEmpty();
+        assertThat(updatedTree.findByExternalId("external-id-C-3-3")).isEmpty();
+        assertThat(extractIdList(updatedTree.findChildren(tree.findById("C-3").get()))).containsExactly("C-3-1", "C-3-2");
+        assertThat(updatedTree.findChildren(tree.findById("C-1").get()))
+                .as("children lists of unchanged categories are shared")
+                .isSameAs(tree.findChildren(tree.findById("C-1").get()));
+
+        assertThat(tree.getAllAsFlatList()).as("the original tree is unchanged").hasSize(39);
+        assertThat(tree.findById("C-3-3")).isPresent();
+        assertThat(extractIdList(tree.findChildren(a))).containsExactly("A-1", "A-2", "A-3");
+
+        final CategoryTree rebuiltTree = CategoryTree.of(updatedTree.getAllAsFlatList());
+        updatedTree.getAllAsFlatList().forEach(category ->
+                assertThat(extractIdSet(updatedTree.findChildren(category))).isEqualTo(extractIdSet(rebuiltTree.findChildren(category))));
+    }
+
+    @Test
+    public void withoutChanges() throws Exception {
+        final CategoryTree tree = createAbcCategoryTree();
+        assertThat(tree.withChanges(Collections.emptyList(), singletonList(Reference.of(Category.referenceTypeId(), "not-present")))).isSameAs(tree);
+    }
+
+    @Test
+    public void withChangesKeepsOtherCategoriesWithTheSameExternalId() throws Exception {
+        final CategoryTree tree = createAbcCategoryTree();
+        final Category duplicate = CategoryBuilder.of("D", en("name D"), en("slug-D")).externalId("external-id-A").build();
+        final Category a = tree.findById("A").get();
+
+        final CategoryTree treeWithDuplicate = tree.withChanges(singletonList(duplicate), Collections.emptyList());
+        assertThat(treeWithDuplicate.findByExternalId("external-id-A")).contains(a);
+
+        final CategoryTree treeWithoutA = treeWithDuplicate.withChanges(Collections.emptyList(), singletonList(a.toReference()));
+        assertThat(treeWithoutA.findByExternalId("external-id-A")).contains(duplicate);
+
+        final Category changedDuplicate = CategoryBuilder.of(duplicate).externalId("external-id-D").build();
+        final CategoryTree treeWithChangedDuplicate = treeWithoutA.withChanges(singletonList(changedDuplicate), Collections.emptyList());
+        assertThat(treeWithChangedDuplicate.findByExternalId("external-id-A")).isEmpty();
+        assertThat(treeWithChangedDuplicate.findByExternalId("external-id-D")).contains(changedDuplicate);
+    }
+
+    @Test
+    public void withChangesRemovesTheChildrenOfDeletedParents() throws Exception {
+        final CategoryTree tree = createAbcCategoryTree();
+        final Category c3 = tree.findById("C-3").get();
+
+        final CategoryTree updatedTree = tree.withChanges(Collections.emptyList(), singletonList(c3.toReference()));
+
+        assertThat(updatedTree.findChildren(c3)).isEmpty();
+        assertThat(((CategoryTreeImpl) updatedTree).getChildrenByParentId()).doesNotContainKey("C-3");
+        assertThat(extractIdList(updatedTree.findChildren(tree.findById("C").get()))).containsExactly("C-1", "C-2");
+    }
+
+    @Test
+    public void withChangesOnSubtree() throws Exception {
+        final CategoryTree tree = createAbcCategoryTree();
+        final Category a = tree.findById("A").get();
+        final Category b = tree.findById("B").get();
+        final Category a1 = tree.findById("A-1").get();
+        final CategoryTree subtree = tree.getSubtree(asList(a1, b));
+        final Category a11 = tree.findById("A-1-1").get();
+        final Category newInA1 = CategoryBuilder.of("A-1-4", en("name A-1-4"), en("slug-A-1-4"))
+                .parent(a1).ancestors(asList(a.toReference(), a1.toReference())).build();
+        final Category newInA = CategoryBuilder.of("A-4", en("name A-4"), en("slug-A-4"))
+                .parent(a).ancestors(singletonList(a.toReference())).build();
+        final Category newRoot = CategoryBuilder.of("D", en("name D"), en("slug-D")).build();
+        final Category movedOutB1 = CategoryBuilder.of(tree.findById("B-1").get())
+                .parent(a).ancestors(singletonList(a.toReference())).build();
+        final Category updatedA = CategoryBuilder.of(a).slug(en("new-slug-A")).build();
+
+        final CategoryTree updatedSubtree = subtree.withChanges(asList(newInA1, newInA, newRoot, movedOutB1, updatedA), singletonList(a11.toReference()));
+
+        assertThat(extractIdList(updatedSubtree.getAllAsFlatList()))
+                .containsOnly("A-1", "A-1-2", "A-1-3", "A-1-4", "B", "B-2", "B-2-1", "B-2-2", "B-2-3", "B-3", "B-3-1", "B-3-2", "B-3-3", "B-1-1", "B-1-2", "B-1-3");
+        assertThat(extractIdList(updatedSubtree.getRoots())).containsExactly("B");
+        assertThat(extractIdList(updatedSubtree.getSubtreeRoots())).containsExactly("A-1", "B");
+        assertThat(extractIdList(updatedSubtree.findChildren(a1))).containsExactly("A-1-2", "A-1-3", "A-1-4");
+        assertThat(extractIdList(updatedSubtree.findChildren(a))).containsExactly("A-1");
+        assertThat(extractIdList(updatedSubtree.findChildren(b))).containsExactly("B-2", "B-3");
+        assertThat(updatedSubtree.findById("B-1")).isEmpty();
+        assertThat(updatedSubtree.findById("D")).isEmpty();
+        assertThat(updatedSubtree.findBySlug(Locale.ENGLISH, "new-slug-A")).isEmpty();
+    }
+
     @Test
     public void siblingsOfShoulderBags() throws Exception {
         test(singletonList(satchels.toReference()),
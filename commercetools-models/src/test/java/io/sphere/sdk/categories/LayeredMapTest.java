@@ -0,0 +1,45 @@
+package io.sphere.sdk.categories;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LayeredMapTest {
+    @Test
+    public void withChanges() throws Exception {
+        final Map<String, Integer> base = new HashMap<>();
+        base.put("a", 1);
+        base.put("b", 2);
+        final LayeredMap<String, Integer> map = LayeredMap.of(base);
+        final Map<String, Integer> changes = new HashMap<>();
+        changes.put("a", null);
+        changes.put("b", 3);
+        changes.put("c", 4);
+
+        final LayeredMap<String, Integer> changedMap = map.withChanges(changes);
+
+        assertThat(changedMap.get("a")).isNull();
+        assertThat(changedMap.containsKey("a")).isFalse();
+        assertThat(changedMap).hasSize(2).containsEntry("b", 3).containsEntry("c", 4);
+        assertThat(map).hasSize(2).containsEntry("a", 1).containsEntry("b", 2);
+    }
+
+    @Test
+    public void mergesManyChanges() throws Exception {
+        LayeredMap<Integer, Integer> map = LayeredMap.of(new HashMap<>());
+        for (int i = 0; i < 100; i++) {
+            final Map<Integer, Integer> changes = new HashMap<>();
+            changes.put(i, i);
+            changes.put(i - 1, null);
+            map = map.withChanges(changes);
+        }
+
+        assertThat(map).hasSize(1).containsEntry(99, 99);
+        assertThat(map).isEqualTo(IntStream.of(99).boxed().collect(toMap(i -> i, i -> i)));
+    }
+}
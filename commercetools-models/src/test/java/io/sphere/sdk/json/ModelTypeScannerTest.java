@@ -0,0 +1,34 @@
+package io.sphere.sdk.json;
+
+import io.sphere.sdk.products.ProductProjection;
+import io.sphere.sdk.products.queries.ProductProjectionQuery;
+import io.sphere.sdk.queries.PagedQueryResult;
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModelTypeScannerTest {
+    @Test
+    public void findsModelImplementationsAndTheirInterfaces() throws Exception {
+        final List<Class<?>> modelTypes = ModelTypeScanner.findModelTypes(getClass().getClassLoader());
+        final List<String> names = modelTypes.stream().map(Class::getName).collect(toList());
+
+        assertThat(names).contains("io.sphere.sdk.products.ProductProjectionImpl", ProductProjection.class.getName());
+        assertThat(names.indexOf(ProductProjection.class.getName())).isEqualTo(names.indexOf("io.sphere.sdk.products.ProductProjectionImpl") + 1);
+        assertThat(names).doesNotContain("io.sphere.sdk.client.SphereClientImpl");
+    }
+
+    @Test
+    public void preResolvedTypesAreDeserialized() throws Exception {
+        assertThat(SphereJsonUtils.preResolveModelTypes()).isGreaterThan(100);
+
+        final ProductProjection productProjection = SphereJsonUtils.readObjectFromResource("product-projection1.json", ProductProjection.class);
+        final String page = "{\"offset\":0,\"count\":1,\"total\":1,\"results\":[" + SphereJsonUtils.toJsonString(productProjection) + "]}";
+        final PagedQueryResult<ProductProjection> result = SphereJsonUtils.readObject(page, ProductProjectionQuery.resultTypeReference());
+
+        assertThat(result.getResults()).extracting(ProductProjection::getId).containsExactly(productProjection.getId());
+    }
+}
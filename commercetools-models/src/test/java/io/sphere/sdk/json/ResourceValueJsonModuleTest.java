@@ -0,0 +1,71 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.sphere.sdk.carts.Cart;
+import io.sphere.sdk.categories.Category;
+import io.sphere.sdk.orders.Order;
+import io.sphere.sdk.orders.ParcelMeasurements;
+import org.junit.Test;
+
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceValueJsonModuleTest {
+    private final ObjectMapper generatedMapper = SphereJsonUtils.newObjectMapper();
+    private final ObjectMapper beanMapper = SphereJsonUtils.configureObjectMapper(new ObjectMapper(), false);
+
+    @Test
+    public void generatedModuleIsRegistered() throws Exception {
+        assertThat(generatedMapper.getRegisteredModuleIds()).contains("io.sphere.sdk.ResourceValueJsonModuleImpl");
+
+        final Cart cart = readResource(generatedMapper, "carts/cart-with-taxes.json", Cart.class);
+        assertThat(generatedMapper.getSerializerProviderInstance().findValueSerializer(cart.getClass()))
+                .isInstanceOf(ResourceValueJsonSerializer.class);
+    }
+
+    @Test
+    public void mapsCartsLikeJackson() throws Exception {
+        assertSameMapping("carts/cart-empty.json", Cart.class);
+        assertSameMapping("carts/cart-with-gift-line-item.json", Cart.class);
+        assertSameMapping("carts/cart-with-refused-gifts.json", Cart.class);
+        assertSameMapping("carts/cart-with-standard-line-item.json", Cart.class);
+        assertSameMapping("carts/cart-with-taxes.json", Cart.class);
+        assertSameMapping("carts/cart-without-taxes.json", Cart.class);
+    }
+
+    @Test
+    public void mapsOrdersAndCategoriesLikeJackson() throws Exception {
+        assertSameMapping("order/order-with-refused-gift.json", Order.class);
+        assertSameMapping("category1.json", Category.class);
+        assertSameMapping("category2.json", Category.class);
+    }
+
+    @Test
+    public void readsNullsAndIgnoresUnknownFields() throws Exception {
+        final String json = "{\"unknown\":{\"nested\":[1,2]},\"heightInMillimeter\":1,\"items\":null,\"lengthInMillimeter\":2,\"weightInGram\":3}";
+
+        final ParcelMeasurements measurements = generatedMapper.readValue(json, ParcelMeasurements.class);
+
+        assertThat(measurements).isEqualTo(beanMapper.readValue(json, ParcelMeasurements.class));
+        assertThat(measurements.getItems()).isNull();
+        assertThat(measurements.getWidthInMillimeter()).isNull();
+        assertThat(generatedMapper.writeValueAsString(measurements))
+                .isEqualTo("{\"heightInMillimeter\":1,\"lengthInMillimeter\":2,\"weightInGram\":3}");
+    }
+
+    private <T> void assertSameMapping(final String resource, final Class<T> type) throws Exception {
+        final T generated = readResource(generatedMapper, resource, type);
+        final T bean = readResource(beanMapper, resource, type);
+
+        //the samples contain references without ID which can't be compared with equals
+        assertThat(generated.toString()).isEqualTo(bean.toString());
+        assertThat(generatedMapper.writeValueAsString(generated)).isEqualTo(beanMapper.writeValueAsString(bean));
+    }
+
+    private <T> T readResource(final ObjectMapper objectMapper, final String resource, final Class<T> type) throws Exception {
+        try (final InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            return objectMapper.readValue(inputStream, type);
+        }
+    }
+}
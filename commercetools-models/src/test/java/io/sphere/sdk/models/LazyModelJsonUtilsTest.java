@@ -0,0 +1,87 @@
+package io.sphere.sdk.models;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.orders.Order;
+import io.sphere.sdk.products.Product;
+import io.sphere.sdk.products.ProductData;
+import io.sphere.sdk.products.ProductVariant;
+import io.sphere.sdk.products.queries.ProductByIdGet;
+import org.junit.Test;
+
+import static io.sphere.sdk.json.LazyJsonModule.isMaterialized;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LazyModelJsonUtilsTest {
+
+    @Test
+    public void readsProductDataOnDemand() throws Exception {
+        final String json = productWithVariants();
+        final Product product = LazyModelJsonUtils.readObject(json, Product.class);
+        final Product eagerProduct = SphereJsonUtils.readObject(json, Product.class);
+
+        assertThat(product.getId()).isEqualTo(eagerProduct.getId());
+        final ProductData current = product.getMasterData().getCurrent();
+        final ProductData staged = product.getMasterData().getStaged();
+        assertThat(isMaterialized(current)).isFalse();
+        assertThat(isMaterialized(staged)).isFalse();
+
+        assertThat(staged.getMasterVariant().getSku()).isEqualTo(eagerProduct.getMasterData().getStaged().getMasterVariant().getSku());
+        assertThat(isMaterialized(staged)).isTrue();
+        assertThat(isMaterialized(current)).isFalse();
+        assertThat(isMaterialized(staged.getVariants())).isFalse();
+        assertThat(isMaterialized(staged.getMasterVariant().getAttributes())).isFalse();
+
+        final ProductVariant variant = staged.getVariants().get(0);
+        assertThat(isMaterialized(staged.getVariants())).isTrue();
+        assertThat(isMaterialized(variant.getAttributes())).isFalse();
+        assertThat(variant.getIdentifier()).isEqualTo(eagerProduct.getMasterData().getStaged().getVariants().get(0).getIdentifier());
+        assertThat(staged.getMasterVariant().getIdentifier()).isEqualTo(eagerProduct.getMasterData().getStaged().getMasterVariant().getIdentifier());
+
+        assertThat(product).isEqualTo(eagerProduct);
+        assertThat(SphereJsonUtils.toJsonString(product)).isEqualTo(SphereJsonUtils.toJsonString(eagerProduct));
+    }
+
+    @Test
+    public void readsOrderLineItemsOnDemand() throws Exception {
+        final String json = SphereJsonUtils.toJsonString(SphereJsonUtils.readObjectFromResource("order/order-with-refused-gift.json", JsonNode.class));
+        final Order order = LazyModelJsonUtils.readObject(json, Order.class);
+        final Order eagerOrder = SphereJsonUtils.readObject(json, Order.class);
+
+        assertThat(isMaterialized(order.getLineItems())).isFalse();
+        assertThat(order.getLineItems()).hasSameSizeAs(eagerOrder.getLineItems());
+        assertThat(isMaterialized(order.getLineItems())).isTrue();
+        //the sample contains references without ID which can't be compared with equals
+        assertThat(order.toString()).isEqualTo(eagerOrder.toString());
+        assertThat(SphereJsonUtils.toJsonString(order)).isEqualTo(SphereJsonUtils.toJsonString(eagerOrder));
+    }
+
+    @Test
+    public void lazyRequest() throws Exception {
+        final SphereRequest<Product> request = LazyModelJsonUtils.lazy(ProductByIdGet.of("product-id"), new TypeReference<Product>() {
+        });
+
+        final Product product = request.deserialize(HttpResponse.of(200, productWithVariants()));
+
+        assertThat(isMaterialized(product.getMasterData().getStaged())).isFalse();
+        assertThat(product.getMasterData().getStaged().getVariants()).hasSize(1);
+        assertThat(request.canDeserialize(HttpResponse.of(404))).isTrue();
+        assertThat(request.deserialize(HttpResponse.of(404))).isNull();
+    }
+
+    private static String productWithVariants() {
+        final ObjectNode product = SphereJsonUtils.readObjectFromResource("product1.json", ObjectNode.class);
+        for (final String data : new String[]{"current", "staged"}) {
+            final ObjectNode productData = (ObjectNode) product.get("masterData").get(data);
+            final ObjectNode variant = productData.get("masterVariant").deepCopy();
+            variant.put("id", 2).put("sku", "sku-2");
+            ((ArrayNode) productData.get("variants")).add(variant);
+        }
+        return SphereJsonUtils.toJsonString(product);
+    }
+}
@@ -81,6 +81,45 @@ public class ProductAttributeAccessTest {
         assertThat(variant.hasAttribute(NOT_PRESENT)).isFalse();
     }
 
+    @Test
+    public void repeatedAccessReusesDecodedValue() throws Exception {
+        final LocalizedString first = variant.findAttribute(localizedStringNamedAttributeAccess).get();
+        final LocalizedString second = variant.findAttribute(localizedStringNamedAttributeAccess).get();
+        assertThat(second).isSameAs(first);
+        assertThat(variant.findAttribute(LOC_STRING_ATTRIBUTE, ofJsonNode()).get())
+                .isEqualTo(SphereJsonUtils.parse("{\"de\":\"val-loc-string-de\",\"en\":\"val-loc-string-en\"}"));
+    }
+
+    @Test
+    public void builtInAccessesReuseDecodedValue() throws Exception {
+        final Attribute attribute = Attribute.of(STRING_ATTRIBUTE, ofString(), "foo");
+        assertThat(ofString()).isSameAs(ofString());
+        assertThat(attribute.getValue(ofString())).isSameAs(attribute.getValue(ofString()));
+    }
+
+    @Test
+    public void mutableValuesAreDecodedForEveryCall() throws Exception {
+        final Attribute attribute = Attribute.of("set", ofStringSet(), new HashSet<>(asList("a", "b")));
+        final Set<String> first = attribute.getValue(ofStringSet());
+        first.add("c");
+        assertThat(attribute.getValue(ofStringSet())).containsOnly("a", "b");
+    }
+
+    @Test
+    public void attributeLookupFollowsChangedAttributeList() throws Exception {
+        final List<Attribute> attributes = new ArrayList<>();
+        attributes.add(Attribute.of(STRING_ATTRIBUTE, ofString(), "first"));
+        attributes.add(Attribute.of(STRING_ATTRIBUTE, ofString(), "second"));
+        final AttributeContainer container = AttributeContainer.of(attributes);
+        assertThat(container.findAttribute(STRING_ATTRIBUTE, ofString())).contains("first");
+        assertThat(container.hasAttribute(NOT_PRESENT)).isFalse();
+
+        attributes.add(Attribute.of(NOT_PRESENT, ofBoolean(), true));
+
+        assertThat(container.hasAttribute(NOT_PRESENT)).isTrue();
+        assertThat(container.getAttribute(NOT_PRESENT).getValueAsBoolean()).isTrue();
+    }
+
     @Test
     public void mapMatchingAttributeWithIfIs() throws Exception {
         final Attribute attr = variant.getAttribute(LOC_STRING_ATTRIBUTE);
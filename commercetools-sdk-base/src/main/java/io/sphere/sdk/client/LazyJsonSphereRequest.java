@@ -0,0 +1,49 @@
+package io.sphere.sdk.client;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.json.JsonException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decorates a {@link SphereRequest} to deserialize successful responses with an {@link ObjectReader} whose object mapper has
+ * a {@link io.sphere.sdk.json.LazyJsonModule} registered, so that big subtrees of the result are only created if they are accessed.
+ * Other responses are handled by the decorated request.
+ *
+ * @param <T> the type of the result of this request
+ */
+public final class LazyJsonSphereRequest<T> extends SphereRequestDecorator<T> {
+    private final ObjectReader objectReader;
+
+    private LazyJsonSphereRequest(final SphereRequest<T> delegate, final ObjectReader objectReader) {
+        super(delegate);
+        this.objectReader = objectReader;
+    }
+
+    /**
+     * Creates a lazy request.
+     *
+     * @param delegate the request to decorate
+     * @param objectReader the reader for the result type of the request
+     * @param <T> the type of the result of this request
+     * @return request
+     */
+    public static <T> LazyJsonSphereRequest<T> of(final SphereRequest<T> delegate, final ObjectReader objectReader) {
+        return new LazyJsonSphereRequest<>(delegate, objectReader);
+    }
+
+    @Override
+    public T deserialize(final HttpResponse httpResponse) {
+        final InputStream responseBody = httpResponse.hasSuccessResponseCode() ? httpResponse.getResponseBodyAsStream() : null;
+        if (responseBody == null) {
+            return delegate.deserialize(httpResponse);
+        }
+        try (final InputStream inputStream = responseBody) {
+            return objectReader.readValue(inputStream);
+        } catch (final IOException e) {
+            throw new JsonException(e);
+        }
+    }
+}
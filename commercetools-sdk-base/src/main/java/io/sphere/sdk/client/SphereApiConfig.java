@@ -1,5 +1,8 @@
 package io.sphere.sdk.client;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 import static io.sphere.sdk.client.ClientPackage.API_URL;
 
 /**
@@ -10,6 +13,19 @@ public interface SphereApiConfig extends SphereCorrelationIdConfig {
 
     String getProjectKey();
 
+    /**
+     * Gets the executor which the client uses to convert and deserialize the responses, so the futures returned by the client complete in its threads.
+     * The HTTP clients created by {@code SphereClientFactory} already convert the responses with this executor, so the client deserializes
+     * directly in their threads. For other HTTP clients the client switches to this executor to deserialize, so the parsing
+     * does not run in the I/O threads of the HTTP client.
+     * Cheap steps like creating requests or handing over results run in the thread which completed the previous step.
+     *
+     * @return executor, by default the common pool
+     */
+    default Executor getExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
     static SphereApiConfig of(final String projectKey) {
         return of(projectKey, API_URL);
     }
@@ -2,9 +2,12 @@ package io.sphere.sdk.client;
 
 import io.sphere.sdk.models.Base;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import static io.sphere.sdk.client.ClientPackage.*;
@@ -37,8 +40,13 @@ public final class SphereClientConfig extends Base implements SphereAuthConfig,
     private final String apiUrl;
     private final List<String> scopes;
     private final CorrelationIdGenerator correlationIdGenerator;
+    private final Executor executor;
 
     SphereClientConfig(final String projectKey, final String clientId, final String clientSecret, final String authUrl, final String apiUrl, final List<String> scopes, final CorrelationIdGenerator correlationIdGenerator) {
+        this(projectKey, clientId, clientSecret, authUrl, apiUrl, scopes, correlationIdGenerator, null);
+    }
+
+    SphereClientConfig(final String projectKey, final String clientId, final String clientSecret, final String authUrl, final String apiUrl, final List<String> scopes, final CorrelationIdGenerator correlationIdGenerator, @Nullable final Executor executor) {
         this.scopes = new ArrayList<>(scopes);
         this.apiUrl = requireNonBlank(apiUrl, "apiUrl");
         this.projectKey = requireNonBlank(projectKey, "projectKey");
@@ -46,6 +54,7 @@ public final class SphereClientConfig extends Base implements SphereAuthConfig,
         this.clientSecret = requireNonBlank(clientSecret, "clientSecret");
         this.authUrl = requireNonBlank(authUrl, "authUrl");
         this.correlationIdGenerator = correlationIdGenerator;
+        this.executor = executor != null ? executor : ForkJoinPool.commonPool();
     }
 
     public static SphereClientConfig of(final String projectKey, final String clientId, final String clientSecret) {
@@ -90,6 +99,16 @@ public final class SphereClientConfig extends Base implements SphereAuthConfig,
         return correlationIdGenerator;
     }
 
+    /**
+     * Gets the executor which the client uses to convert and deserialize the responses, so the futures returned by the client complete in its threads.
+     *
+     * @return the executor set with {@link #withExecutor(Executor)} or the common pool
+     */
+    @Override
+    public Executor getExecutor() {
+        return executor;
+    }
+
     /**
      * Gets the scopes which are permitted.
      *
@@ -108,11 +127,23 @@ public final class SphereClientConfig extends Base implements SphereAuthConfig,
     }
 
     public SphereClientConfig withApiUrl(final String apiUrl) {
-        return new SphereClientConfig(getProjectKey(), getClientId(), getClientSecret(), getAuthUrl(), apiUrl, getScopes(), getCorrelationIdGenerator());
+        return new SphereClientConfig(getProjectKey(), getClientId(), getClientSecret(), getAuthUrl(), apiUrl, getScopes(), getCorrelationIdGenerator(), executor);
     }
 
     public SphereClientConfig withAuthUrl(final String authUrl) {
-        return new SphereClientConfig(getProjectKey(), getClientId(), getClientSecret(), authUrl, getApiUrl(), getScopes(), getCorrelationIdGenerator());
+        return new SphereClientConfig(getProjectKey(), getClientId(), getClientSecret(), authUrl, getApiUrl(), getScopes(), getCorrelationIdGenerator(), executor);
+    }
+
+    /**
+     * Creates a copy of this config which uses {@code executor} to deserialize responses and to complete the futures
+     * returned by clients created with {@code SphereClientFactory}. Several clients can share one executor, for example a bounded thread pool
+     * or on newer Java versions a virtual-thread-per-task executor. The executor is not shut down by closing the client.
+     *
+     * @param executor the executor to use
+     * @return new config
+     */
+    public SphereClientConfig withExecutor(final Executor executor) {
+        return new SphereClientConfig(getProjectKey(), getClientId(), getClientSecret(), getAuthUrl(), getApiUrl(), getScopes(), getCorrelationIdGenerator(), executor);
     }
 
     /**
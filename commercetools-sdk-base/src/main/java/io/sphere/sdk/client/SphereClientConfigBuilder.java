@@ -3,7 +3,9 @@ package io.sphere.sdk.client;
 import io.sphere.sdk.models.Base;
 import io.sphere.sdk.models.Builder;
 
+import javax.annotation.Nullable;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static io.sphere.sdk.client.ClientPackage.transformEnumScopeListToStringList;
 
@@ -15,6 +17,8 @@ public final class SphereClientConfigBuilder extends Base implements Builder<Sph
     private String apiUrl = ClientPackage.API_URL;
     private List<String> scopes = ClientPackage.DEFAULT_SCOPES;
     private CorrelationIdGenerator correlationIdGenerator;
+    @Nullable
+    private Executor executor;
 
     private SphereClientConfigBuilder() {
     }
@@ -24,7 +28,8 @@ public final class SphereClientConfigBuilder extends Base implements Builder<Sph
                 .authUrl(config.getAuthUrl())
                 .apiUrl(config.getApiUrl())
                 .scopeStrings(config.getScopes())
-                .correlationIdGenerator(config.getCorrelationIdGenerator());
+                .correlationIdGenerator(config.getCorrelationIdGenerator())
+                .executor(config.getExecutor());
     }
 
     public static SphereClientConfigBuilder ofKeyIdSecret(final String projectKey, final String clientId, final String clientSecret) {
@@ -75,8 +80,13 @@ public final class SphereClientConfigBuilder extends Base implements Builder<Sph
         return this;
     }
 
+    public SphereClientConfigBuilder executor(@Nullable final Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
     @Override
     public SphereClientConfig build() {
-        return new SphereClientConfig(projectKey, clientId, clientSecret, authUrl, apiUrl, scopes, correlationIdGenerator);
+        return new SphereClientConfig(projectKey, clientId, clientSecret, authUrl, apiUrl, scopes, correlationIdGenerator, executor);
     }
 }
@@ -6,6 +6,7 @@ import io.sphere.sdk.http.HttpResponse;
 import io.sphere.sdk.json.JsonException;
 import io.sphere.sdk.json.SphereJsonUtils;
 
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -19,12 +20,34 @@ public final class SphereRequestUtils {
     private SphereRequestUtils() {
     }
 
+    /**
+     * Deserializes the body of an {@link HttpResponse}. If the response provides its body as stream
+     * (see {@link HttpResponse#ofStreaming(Integer, InputStream, io.sphere.sdk.http.HttpRequest, io.sphere.sdk.http.HttpHeaders)})
+     * it is parsed directly from the stream without buffering it, otherwise the already buffered body is parsed.
+     *
+     * @param httpResponse the response containing the JSON body
+     * @param typeReference the full generic type information about the object to create
+     * @param <T> the type of the result
+     * @return the created object
+     */
     public static <T> T deserialize(final HttpResponse httpResponse, final TypeReference<T> typeReference) {
-        return SphereJsonUtils.readObject(Optional.ofNullable(httpResponse.getResponseBody()).orElseThrow(() -> new JsonException(httpResponse)), typeReference);
+        return httpResponse.isStreaming()
+                ? SphereJsonUtils.readObject(responseBodyAsStream(httpResponse), typeReference)
+                : SphereJsonUtils.readObject(responseBody(httpResponse), typeReference);
     }
 
     public static <T> T deserialize(final HttpResponse httpResponse, final JavaType javaType) {
-        return SphereJsonUtils.readObject(Optional.ofNullable(httpResponse.getResponseBody()).orElseThrow(() -> new JsonException(httpResponse)), javaType);
+        return httpResponse.isStreaming()
+                ? SphereJsonUtils.readObject(responseBodyAsStream(httpResponse), javaType)
+                : SphereJsonUtils.readObject(responseBody(httpResponse), javaType);
+    }
+
+    private static byte[] responseBody(final HttpResponse httpResponse) {
+        return Optional.ofNullable(httpResponse.getResponseBody()).orElseThrow(() -> new JsonException(httpResponse));
+    }
+
+    private static InputStream responseBodyAsStream(final HttpResponse httpResponse) {
+        return Optional.ofNullable(httpResponse.getResponseBodyAsStream()).orElseThrow(() -> new JsonException(httpResponse));
     }
 
     public static String getBodyAsString(final HttpResponse httpResponse) {
@@ -0,0 +1,20 @@
+package io.sphere.sdk.client;
+
+/**
+ * HTTP code 429 response from the platform.
+ *
+ * Probable error cause: The rate limit of the project or of the API client has been exceeded. Reduce the number of requests
+ * or retry the request later.
+ */
+public class TooManyRequestsException extends ClientErrorException {
+    private static final long serialVersionUID = 0L;
+    private static final int STATUS_CODE = 429;
+
+    public TooManyRequestsException(final String message) {
+        super(message, STATUS_CODE);
+    }
+
+    public TooManyRequestsException() {
+        super(STATUS_CODE);
+    }
+}
@@ -0,0 +1,120 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Holds the JSON tokens of a lazy subtree and creates its value on first access.
+ * Serves as {@link InvocationHandler} of the proxies of lazy values.
+ *
+ * @param <T> the type of the value
+ */
+final class LazyJsonContent<T> implements InvocationHandler {
+    @Nullable
+    private TokenBuffer tokens;
+    @Nullable
+    private ObjectCodec codec;
+    @Nullable
+    private JavaType type;
+    @Nullable
+    private List<Consumer<? super T>> listeners;
+    @Nullable
+    private T value;
+    private volatile boolean materialized = false;
+
+    LazyJsonContent(final TokenBuffer tokens, final ObjectCodec codec, final JavaType type) {
+        this.tokens = tokens;
+        this.codec = codec;
+        this.type = type;
+    }
+
+    T get() {
+        if (!materialized) {
+            materialize();
+        }
+        return value;
+    }
+
+    boolean isMaterialized() {
+        return materialized;
+    }
+
+    synchronized void afterMaterialization(final Consumer<? super T> action) {
+        if (materialized) {
+            action.accept(value);
+        } else {
+            if (listeners == null) {
+                listeners = new ArrayList<>(1);
+            }
+            listeners.add(action);
+        }
+    }
+
+    private synchronized void materialize() {
+        if (!materialized) {
+            try (final JsonParser parser = tokens.asParser(codec)) {
+                parser.nextToken();
+                value = readerFor(codec).forType(type)
+                        .withAttribute(LazyJsonDeserializer.MATERIALIZATION, Boolean.TRUE)
+                        .readValue(parser);
+            } catch (final IOException e) {
+                throw new JsonException(e);
+            }
+            if (listeners != null) {
+                listeners.forEach(listener -> listener.accept(value));
+            }
+            tokens = null;
+            codec = null;
+            type = null;
+            listeners = null;
+            materialized = true;
+        }
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class && method.getName().equals("equals")) {
+            final LazyJsonContent<Object> other = find(args[0]);
+            return get().equals(other != null ? other.get() : args[0]);
+        }
+        try {
+            return method.invoke(get(), args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    static Object proxy(final Class<?> valueInterface, final LazyJsonContent<?> content) {
+        return Proxy.newProxyInstance(valueInterface.getClassLoader(), new Class<?>[]{valueInterface, LazyJsonValue.class}, content);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    static <T> LazyJsonContent<T> find(@Nullable final Object value) {
+        if (value instanceof LazyJsonList) {
+            return (LazyJsonContent<T>) ((LazyJsonList<?>) value).getContent();
+        } else if (value instanceof LazyJsonValue && Proxy.isProxyClass(value.getClass())) {
+            final InvocationHandler handler = Proxy.getInvocationHandler(value);
+            return handler instanceof LazyJsonContent ? (LazyJsonContent<T>) handler : null;
+        }
+        return null;
+    }
+
+    static ObjectReader readerFor(final ObjectCodec codec) {
+        return codec instanceof ObjectReader ? (ObjectReader) codec : ((ObjectMapper) codec).reader();
+    }
+}
@@ -0,0 +1,84 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+
+/**
+ * Wraps the deserializer of a lazy value or list and buffers the JSON tokens instead of deserializing them.
+ *
+ * <p>The subtree is materialized with a reader which carries the {@link #MATERIALIZATION} attribute, the first lazy deserializer
+ * which sees the attribute removes it and deserializes eagerly, so the nested lazy subtrees stay lazy.</p>
+ */
+final class LazyJsonDeserializer extends DelegatingDeserializer {
+    private static final long serialVersionUID = 0L;
+    static final String MATERIALIZATION = LazyJsonDeserializer.class.getName() + ".materialization";
+
+    private final JavaType type;
+    @Nullable
+    private final Class<?> valueInterface;
+
+    LazyJsonDeserializer(final JsonDeserializer<?> delegate, final JavaType type, @Nullable final Class<?> valueInterface) {
+        super(delegate);
+        this.type = type;
+        this.valueInterface = valueInterface;
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(final JsonDeserializer<?> newDelegatee) {
+        return new LazyJsonDeserializer(newDelegatee, type, valueInterface);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (ctxt.getAttribute(MATERIALIZATION) != null) {
+            ctxt.setAttribute(MATERIALIZATION, null);
+            return _delegatee.deserialize(p, ctxt);
+        }
+        final ObjectCodec codec = p.getCodec();
+        final boolean startsSubtree = valueInterface != null ? p.isExpectedStartObjectToken() : p.isExpectedStartArrayToken();
+        if (!startsSubtree || !(codec instanceof ObjectMapper || codec instanceof ObjectReader)) {
+            return _delegatee.deserialize(p, ctxt);
+        }
+        final LazyJsonContent<Object> content = new LazyJsonContent<>(copySubtree(p, ctxt), codec, type);
+        return valueInterface != null
+                ? LazyJsonContent.proxy(valueInterface, content)
+                : new LazyJsonList<>((LazyJsonContent) content);
+    }
+
+    /**
+     * Copies the tokens like {@link TokenBuffer#copyCurrentStructure(JsonParser)} but keeps floating point numbers as doubles,
+     * the token buffer would otherwise store them as {@link java.math.BigDecimal} and JSON nodes would differ from the eager ones.
+     */
+    private static TokenBuffer copySubtree(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        final TokenBuffer tokens = new TokenBuffer(p, ctxt);
+        final boolean keepDoubles = !ctxt.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        int depth = 0;
+        do {
+            final JsonToken token = p.currentToken();
+            if (keepDoubles && token == JsonToken.VALUE_NUMBER_FLOAT && p.getNumberType() == JsonParser.NumberType.DOUBLE) {
+                tokens.writeNumber(p.getDoubleValue());
+            } else {
+                tokens.copyCurrentEvent(p);
+            }
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+        } while (depth > 0 && p.nextToken() != null);
+        return tokens;
+    }
+}
@@ -0,0 +1,49 @@
+package io.sphere.sdk.json;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable list which deserializes its elements on first access.
+ *
+ * @param <E> the type of the elements
+ */
+final class LazyJsonList<E> extends AbstractList<E> implements RandomAccess {
+    private final LazyJsonContent<List<E>> content;
+
+    LazyJsonList(final LazyJsonContent<List<E>> content) {
+        this.content = content;
+    }
+
+    @Override
+    public E get(final int index) {
+        return content.get().get(index);
+    }
+
+    @Override
+    public int size() {
+        return content.get().size();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        final Iterator<E> iterator = content.get().iterator();
+        return new Iterator<E>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    LazyJsonContent<List<E>> getContent() {
+        return content;
+    }
+}
@@ -0,0 +1,134 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.CollectionType;
+
+import javax.annotation.Nullable;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static java.lang.String.format;
+
+/**
+ * Jackson module which deserializes selected subtrees of a JSON document on demand.
+ *
+ * <p>Instead of creating the Java objects of a subtree, the module keeps its JSON tokens and creates the objects
+ * with the same {@link com.fasterxml.jackson.databind.ObjectMapper} when they are accessed for the first time:</p>
+ * <ul>
+ * <li>values of the lazy value types are replaced by a proxy of the interface which implements {@link LazyJsonValue}</li>
+ * <li>lists of the lazy list element types are replaced by an unmodifiable list</li>
+ * </ul>
+ *
+ * <p>Only the subtrees which are accessed allocate their objects, so reading big documents of which only a few fields are used
+ * is a lot cheaper. Nested lazy subtrees stay lazy if the enclosing subtree is materialized.
+ * Serializing a lazy subtree materializes it. A materialized proxy is equal to the value it delegates to but not the other way round,
+ * so compare the lazy object with the eager one.</p>
+ *
+ * <p>Code which needs to post-process a lazy subtree without materializing it can use {@link #afterMaterialization(Object, Consumer)}.</p>
+ */
+public final class LazyJsonModule extends SimpleModule {
+    private static final long serialVersionUID = 0L;
+
+    private final Set<Class<?>> lazyValueTypes;
+    private final Set<Class<?>> lazyListElementTypes;
+
+    private LazyJsonModule(final Set<Class<?>> lazyValueTypes, final Set<Class<?>> lazyListElementTypes) {
+        super(LazyJsonModule.class.getName());
+        this.lazyValueTypes = lazyValueTypes;
+        this.lazyListElementTypes = lazyListElementTypes;
+    }
+
+    /**
+     * Creates a module which deserializes the given value types and lists on demand.
+     *
+     * @param lazyValueTypes the interfaces whose values should be deserialized on demand
+     * @param lazyListElementTypes the element types of the lists which should be deserialized on demand
+     * @return module
+     */
+    public static LazyJsonModule of(final Set<Class<?>> lazyValueTypes, final Set<Class<?>> lazyListElementTypes) {
+        lazyValueTypes.stream()
+                .filter(type -> !type.isInterface())
+                .findFirst()
+                .ifPresent(type -> {
+                    throw new IllegalArgumentException(format("%s is not an interface, only interfaces can be deserialized on demand.", type.getName()));
+                });
+        return new LazyJsonModule(new LinkedHashSet<>(lazyValueTypes), new LinkedHashSet<>(lazyListElementTypes));
+    }
+
+    public Set<Class<?>> getLazyValueTypes() {
+        return lazyValueTypes;
+    }
+
+    public Set<Class<?>> getLazyListElementTypes() {
+        return lazyListElementTypes;
+    }
+
+    @Override
+    public void setupModule(final SetupContext context) {
+        super.setupModule(context);
+        context.addBeanDeserializerModifier(new LazyDeserializerModifier());
+    }
+
+    /**
+     * Applies an action to a value once it is materialized. If the value is not a lazy subtree of this module
+     * or already materialized the action is applied immediately.
+     *
+     * @param value the value which may be lazy, a lazy list or null
+     * @param action the action which receives the materialized value
+     * @param <T> the type of the value
+     */
+    public static <T> void afterMaterialization(@Nullable final T value, final Consumer<? super T> action) {
+        final LazyJsonContent<T> content = LazyJsonContent.find(value);
+        if (content != null) {
+            content.afterMaterialization(action);
+        } else {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Checks if a value is materialized.
+     *
+     * @param value the value which may be lazy, a lazy list or null
+     * @return false if the value is a lazy subtree which has not been accessed yet, otherwise true
+     */
+    public static boolean isMaterialized(@Nullable final Object value) {
+        final LazyJsonContent<Object> content = LazyJsonContent.find(value);
+        return content == null || content.isMaterialized();
+    }
+
+    private final class LazyDeserializerModifier extends BeanDeserializerModifier {
+        @Override
+        public JsonDeserializer<?> modifyDeserializer(final DeserializationConfig config, final BeanDescription beanDesc, final JsonDeserializer<?> deserializer) {
+            final Class<?> beanClass = beanDesc.getBeanClass();
+            if (!beanClass.isInterface()) {
+                for (final Class<?> lazyValueType : lazyValueTypes) {
+                    if (lazyValueType.isAssignableFrom(beanClass)) {
+                        return new LazyJsonDeserializer(deserializer, beanDesc.getType(), lazyValueType);
+                    }
+                }
+            }
+            return deserializer;
+        }
+
+        @Override
+        public JsonDeserializer<?> modifyCollectionDeserializer(final DeserializationConfig config, final CollectionType type,
+                                                                final BeanDescription beanDesc, final JsonDeserializer<?> deserializer) {
+            if (List.class.isAssignableFrom(type.getRawClass())) {
+                final Class<?> elementClass = type.getContentType().getRawClass();
+                for (final Class<?> lazyListElementType : lazyListElementTypes) {
+                    if (lazyListElementType.isAssignableFrom(elementClass)) {
+                        return new LazyJsonDeserializer(deserializer, type, null);
+                    }
+                }
+            }
+            return deserializer;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Marker interface of the proxies which {@link LazyJsonModule} creates for values deserialized on demand.
+ * The proxies are serialized like the value they delegate to. This interface is not intended to be implemented by other classes.
+ */
+@JsonSerialize(using = LazyJsonValueSerializer.class)
+public interface LazyJsonValue {
+}
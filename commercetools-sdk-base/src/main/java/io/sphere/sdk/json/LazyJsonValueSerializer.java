@@ -0,0 +1,39 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Serializes the proxies of lazy values with the serializer of the materialized value.
+ */
+final class LazyJsonValueSerializer extends StdSerializer<LazyJsonValue> {
+    private static final long serialVersionUID = 0L;
+
+    LazyJsonValueSerializer() {
+        super(LazyJsonValue.class);
+    }
+
+    @Override
+    public void serialize(final LazyJsonValue value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+        final Object materialized = materialize(value);
+        provider.findValueSerializer(materialized.getClass()).serialize(materialized, gen, provider);
+    }
+
+    @Override
+    public void serializeWithType(final LazyJsonValue value, final JsonGenerator gen, final SerializerProvider provider, final TypeSerializer typeSer) throws IOException {
+        final Object materialized = materialize(value);
+        provider.findValueSerializer(materialized.getClass()).serializeWithType(materialized, gen, provider, typeSer);
+    }
+
+    private static Object materialize(final LazyJsonValue value) {
+        final LazyJsonContent<Object> content = LazyJsonContent.find(value);
+        if (content == null) {
+            throw new IllegalStateException(value.getClass().getName() + " is not a proxy of " + LazyJsonModule.class.getSimpleName() + ".");
+        }
+        return content.get();
+    }
+}
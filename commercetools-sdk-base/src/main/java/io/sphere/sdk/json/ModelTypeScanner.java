@@ -0,0 +1,117 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Finds the model classes of the SDK on the classpath, see {@link SphereJsonUtils#preResolveModelTypes()}.
+ */
+final class ModelTypeScanner {
+    private static final String BASE_PATH = "io/sphere/sdk/";
+    private static final String CLASS_SUFFIX = "Impl.class";
+
+    private ModelTypeScanner() {
+    }
+
+    /**
+     * Finds the model implementations and the interfaces which are deserialized as them.
+     *
+     * @param classLoader the class loader to search and to load the classes with
+     * @return the model types, the interfaces directly after their implementation
+     */
+    static List<Class<?>> findModelTypes(final ClassLoader classLoader) {
+        final Set<String> classNames = new LinkedHashSet<>();
+        try {
+            final Enumeration<URL> roots = classLoader.getResources(BASE_PATH);
+            while (roots.hasMoreElements()) {
+                collectClassNames(roots.nextElement(), classNames);
+            }
+        } catch (final IOException e) {
+            throw new JsonException(e);
+        }
+        final List<Class<?>> modelTypes = new ArrayList<>();
+        for (final String className : classNames) {
+            try {
+                final Class<?> clazz = Class.forName(className, false, classLoader);
+                if (isModelImplementation(clazz)) {
+                    modelTypes.add(clazz);
+                    for (final Class<?> modelInterface : clazz.getInterfaces()) {
+                        final JsonDeserialize jsonDeserialize = modelInterface.getAnnotation(JsonDeserialize.class);
+                        if (jsonDeserialize != null && jsonDeserialize.as() == clazz) {
+                            modelTypes.add(modelInterface);
+                        }
+                    }
+                }
+            } catch (final ClassNotFoundException | LinkageError e) {
+                //the class depends on an optional library which is not present
+            }
+        }
+        return modelTypes;
+    }
+
+    private static boolean isModelImplementation(final Class<?> clazz) {
+        if (Modifier.isAbstract(clazz.getModifiers()) || clazz.getTypeParameters().length > 0) {
+            return false;
+        }
+        for (final Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+            if (constructor.isAnnotationPresent(JsonCreator.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void collectClassNames(final URL root, final Set<String> classNames) throws IOException {
+        if ("jar".equals(root.getProtocol())) {
+            final JarURLConnection connection = (JarURLConnection) root.openConnection();
+            connection.setUseCaches(false);
+            try (final JarFile jarFile = connection.getJarFile()) {
+                final Enumeration<JarEntry> entries = jarFile.entries();
+                while (entries.hasMoreElements()) {
+                    addIfModelCandidate(entries.nextElement().getName(), classNames);
+                }
+            }
+        } else if ("file".equals(root.getProtocol())) {
+            try {
+                final File directory = new File(root.toURI());
+                collectClassNames(directory, BASE_PATH, classNames);
+            } catch (final URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    private static void collectClassNames(final File directory, final String path, final Set<String> classNames) {
+        final File[] files = directory.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                if (file.isDirectory()) {
+                    collectClassNames(file, path + file.getName() + "/", classNames);
+                } else {
+                    addIfModelCandidate(path + file.getName(), classNames);
+                }
+            }
+        }
+    }
+
+    private static void addIfModelCandidate(final String path, final Set<String> classNames) {
+        if (path.startsWith(BASE_PATH) && path.endsWith(CLASS_SUFFIX) && path.indexOf('$') < 0) {
+            classNames.add(path.substring(0, path.length() - ".class".length()).replace('/', '.'));
+        }
+    }
+}
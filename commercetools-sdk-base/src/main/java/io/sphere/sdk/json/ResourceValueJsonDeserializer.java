@@ -0,0 +1,112 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+
+/**
+ * Base class of the deserializers generated for interfaces annotated with {@link io.sphere.sdk.annotations.ResourceValue}.
+ *
+ * <p>The generated subclass reads the fields of the JSON object in a switch on the field name and calls the constructor of the
+ * implementation class directly. The deserializers of the properties are resolved once per {@link com.fasterxml.jackson.databind.ObjectMapper}.</p>
+ *
+ * @param <T> the type of the model interface
+ * @see ResourceValueJsonModule
+ */
+public abstract class ResourceValueJsonDeserializer<T> extends StdDeserializer<T> implements ResolvableDeserializer {
+    private static final long serialVersionUID = 0L;
+
+    private final Class<? extends T> implementationClass;
+    private transient JsonDeserializer<Object>[] deserializers;
+
+    protected ResourceValueJsonDeserializer(final Class<T> valueClass, final Class<? extends T> implementationClass) {
+        super(valueClass);
+        this.implementationClass = implementationClass;
+    }
+
+    /**
+     * Provides the types of the properties in the order of the property indexes used in {@link #readProperty(int, JsonParser, DeserializationContext)}.
+     *
+     * @param typeFactory the type factory of the object mapper
+     * @return the property types
+     */
+    protected abstract JavaType[] propertyTypes(final TypeFactory typeFactory);
+
+    public final Class<? extends T> getImplementationClass() {
+        return implementationClass;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+        final JavaType[] propertyTypes = propertyTypes(ctxt.getTypeFactory());
+        final JsonDeserializer<Object>[] resolved = new JsonDeserializer[propertyTypes.length];
+        for (int i = 0; i < propertyTypes.length; i++) {
+            resolved[i] = ctxt.findRootValueDeserializer(propertyTypes[i]);
+        }
+        deserializers = resolved;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    /**
+     * Moves the parser to the first field of the object.
+     *
+     * @param p the parser positioned at the start of the object or at its first field
+     * @param ctxt the deserialization context
+     * @return the name of the first field or null if the object is empty
+     * @throws IOException if the parser is not positioned at an object
+     */
+    @Nullable
+    protected final String firstFieldName(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.isExpectedStartObjectToken()) {
+            return p.nextFieldName();
+        } else if (p.hasToken(JsonToken.FIELD_NAME)) {
+            return p.getCurrentName();
+        } else if (p.hasToken(JsonToken.END_OBJECT)) {
+            return null;
+        }
+        throw ctxt.wrongTokenException(p, handledType(), JsonToken.START_OBJECT, null);
+    }
+
+    /**
+     * Reads the value of a property, the parser is positioned at the first token of the value.
+     *
+     * @param index the index of the property type
+     * @param p the parser
+     * @param ctxt the deserialization context
+     * @return the value, for a JSON null the null value of the deserializer
+     * @throws IOException if the value can't be read
+     */
+    @Nullable
+    protected final Object readProperty(final int index, final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        final JsonDeserializer<Object> deserializer = deserializers[index];
+        return p.hasToken(JsonToken.VALUE_NULL) ? deserializer.getNullValue(ctxt) : deserializer.deserialize(p, ctxt);
+    }
+
+    /**
+     * Reads the value of a String property without a lookup of the deserializer for JSON strings.
+     *
+     * @param index the index of the property type
+     * @param p the parser
+     * @param ctxt the deserialization context
+     * @return the value
+     * @throws IOException if the value can't be read
+     */
+    @Nullable
+    protected final String readString(final int index, final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        return p.hasToken(JsonToken.VALUE_STRING) ? p.getText() : (String) readProperty(index, p, ctxt);
+    }
+}
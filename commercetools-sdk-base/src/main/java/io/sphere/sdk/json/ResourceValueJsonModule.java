@@ -0,0 +1,43 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Base class of the Jackson modules generated by the annotation processor for the interfaces annotated with {@link io.sphere.sdk.annotations.ResourceValue}.
+ *
+ * <p>A generated module registers a {@link ResourceValueJsonDeserializer} and a {@link ResourceValueJsonSerializer} for each supported model
+ * and is listed in {@code META-INF/services/io.sphere.sdk.json.ResourceValueJsonModule}. {@link SphereJsonUtils#configureObjectMapper(com.fasterxml.jackson.databind.ObjectMapper)}
+ * registers all modules found with the {@link ServiceLoader}, models without a generated module are mapped by the bean (de)serializers of Jackson.</p>
+ */
+public abstract class ResourceValueJsonModule extends SimpleModule {
+    private static final long serialVersionUID = 0L;
+
+    protected ResourceValueJsonModule() {
+    }
+
+    /**
+     * Registers the deserializer for the model interface and its implementation class and the serializer for the implementation class.
+     *
+     * @param deserializer the deserializer of the model
+     * @param serializer the serializer of the model
+     * @param <T> the type of the model interface
+     */
+    @SuppressWarnings("unchecked")
+    protected final <T> void addResourceValue(final ResourceValueJsonDeserializer<T> deserializer, final ResourceValueJsonSerializer<T> serializer) {
+        final Class<T> type = (Class<T>) deserializer.handledType();
+        final Class<T> implementationClass = (Class<T>) deserializer.getImplementationClass();
+        addDeserializer(type, deserializer);
+        addDeserializer(implementationClass, deserializer);
+        addSerializer(implementationClass, serializer);
+    }
+
+    static List<ResourceValueJsonModule> loadModules() {
+        final List<ResourceValueJsonModule> modules = new ArrayList<>();
+        ServiceLoader.load(ResourceValueJsonModule.class, ResourceValueJsonModule.class.getClassLoader()).forEach(modules::add);
+        return modules;
+    }
+}
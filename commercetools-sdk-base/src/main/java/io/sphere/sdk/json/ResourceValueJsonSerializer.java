@@ -0,0 +1,164 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+
+/**
+ * Base class of the serializers generated for interfaces annotated with {@link io.sphere.sdk.annotations.ResourceValue}.
+ *
+ * <p>The generated subclass writes the properties with the getters of the interface in the order of the constructor parameters,
+ * which is the order of the bean serializer of Jackson. The serializers of the values are looked up by their runtime class and cached per property.
+ * The default property inclusion of the object mapper is honored for {@code ALWAYS}, {@code NON_NULL} and {@code NON_EMPTY},
+ * other inclusions omit null values.</p>
+ *
+ * @param <T> the type of the model interface
+ * @see ResourceValueJsonModule
+ */
+public abstract class ResourceValueJsonSerializer<T> extends StdSerializer<T> implements ResolvableSerializer {
+    private static final long serialVersionUID = 0L;
+
+    private final SerializedString[] names;
+    private transient JavaType[] types;
+    private transient TypeSerializer[] typeSerializers;
+    private transient PropertySerializerMap[] serializerMaps;
+    private transient boolean includingNulls;
+    private transient boolean includingEmptyValues;
+
+    protected ResourceValueJsonSerializer(final Class<T> valueClass, final String... propertyNames) {
+        super(valueClass);
+        this.names = new SerializedString[propertyNames.length];
+        for (int i = 0; i < propertyNames.length; i++) {
+            names[i] = new SerializedString(propertyNames[i]);
+        }
+    }
+
+    /**
+     * Provides the declared types of the properties in the order of the property names.
+     *
+     * @param typeFactory the type factory of the object mapper
+     * @return the property types
+     */
+    protected abstract JavaType[] propertyTypes(final TypeFactory typeFactory);
+
+    /**
+     * Writes the properties of the value, the object is already started.
+     *
+     * @param value the value to serialize
+     * @param gen the generator
+     * @param provider the serializer provider
+     * @throws IOException if a property can't be written
+     */
+    protected abstract void serializeProperties(final T value, final JsonGenerator gen, final SerializerProvider provider) throws IOException;
+
+    @Override
+    public void resolve(final SerializerProvider provider) throws JsonMappingException {
+        final JavaType[] propertyTypes = propertyTypes(provider.getTypeFactory());
+        final TypeSerializer[] resolvedTypeSerializers = new TypeSerializer[propertyTypes.length];
+        final PropertySerializerMap[] resolvedSerializerMaps = new PropertySerializerMap[propertyTypes.length];
+        for (int i = 0; i < propertyTypes.length; i++) {
+            resolvedTypeSerializers[i] = provider.findTypeSerializer(propertyTypes[i]);
+            resolvedSerializerMaps[i] = PropertySerializerMap.emptyForProperties();
+        }
+        final JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(handledType()).getValueInclusion();
+        includingNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        includingEmptyValues = inclusion != JsonInclude.Include.NON_EMPTY;
+        types = propertyTypes;
+        typeSerializers = resolvedTypeSerializers;
+        serializerMaps = resolvedSerializerMaps;
+    }
+
+    @Override
+    public final void serialize(final T value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        serializeProperties(value, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public final void serializeWithType(final T value, final JsonGenerator gen, final SerializerProvider provider, final TypeSerializer typeSer) throws IOException {
+        final WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+        serializeProperties(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    /**
+     * Writes a property with the serializer for the runtime class of the value.
+     *
+     * @param index the index of the property
+     * @param value the value of the property
+     * @param gen the generator
+     * @param provider the serializer provider
+     * @throws IOException if the property can't be written
+     */
+    protected final void writeProperty(final int index, @Nullable final Object value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+        if (value == null) {
+            writeNull(index, gen, provider);
+            return;
+        }
+        final JsonSerializer<Object> serializer = serializerFor(index, value.getClass(), provider);
+        if (!includingEmptyValues && serializer.isEmpty(provider, value)) {
+            return;
+        }
+        gen.writeFieldName(names[index]);
+        final TypeSerializer typeSerializer = typeSerializers[index];
+        if (typeSerializer == null) {
+            serializer.serialize(value, gen, provider);
+        } else {
+            serializer.serializeWithType(value, gen, provider, typeSerializer);
+        }
+    }
+
+    /**
+     * Writes a String property without a lookup of the serializer.
+     *
+     * @param index the index of the property
+     * @param value the value of the property
+     * @param gen the generator
+     * @param provider the serializer provider
+     * @throws IOException if the property can't be written
+     */
+    protected final void writeString(final int index, @Nullable final String value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+        if (value == null) {
+            writeNull(index, gen, provider);
+        } else if (includingEmptyValues || !value.isEmpty()) {
+            gen.writeFieldName(names[index]);
+            gen.writeString(value);
+        }
+    }
+
+    private void writeNull(final int index, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+        if (includingNulls) {
+            gen.writeFieldName(names[index]);
+            provider.defaultSerializeNull(gen);
+        }
+    }
+
+    private JsonSerializer<Object> serializerFor(final int index, final Class<?> valueClass, final SerializerProvider provider) throws JsonMappingException {
+        final PropertySerializerMap serializerMap = serializerMaps[index];
+        final JsonSerializer<Object> serializer = serializerMap.serializerFor(valueClass);
+        if (serializer != null) {
+            return serializer;
+        }
+        final JavaType type = types[index];
+        final PropertySerializerMap.SerializerAndMapResult result = type.hasGenericTypes()
+                ? serializerMap.findAndAddPrimarySerializer(provider.constructSpecializedType(type, valueClass), provider, null)
+                : serializerMap.findAndAddPrimarySerializer(valueClass, provider, null);
+        serializerMaps[index] = result.map;
+        return result.serializer;
+    }
+}
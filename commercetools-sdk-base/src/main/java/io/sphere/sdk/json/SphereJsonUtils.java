@@ -9,17 +9,22 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.SimpleType;
 import com.fasterxml.jackson.databind.type.TypeBindings;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.LRUMap;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import io.sphere.sdk.models.KeyReference;
 import io.sphere.sdk.models.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -29,9 +34,17 @@ import java.util.Set;
  * <p>If an error occurs, the {@link JsonException} (a {@link RuntimeException}) will be thrown:</p>
  * <p>
  * {@include.example io.sphere.sdk.json.SphereJsonUtilsTest#exceptionHandling()}
+ *
+ * <p>The {@link JavaType}s of the type references and the {@link ObjectReader}s of the types are cached, so reading an object
+ * does not resolve its generic type again. Like the type cache of Jackson the caches are bounded, if one exceeds
+ * {@value #MAX_CACHED_TYPES} entries it is cleared. The deserializers of all models can be created at startup with {@link #preResolveModelTypes()}.</p>
  */
 public final class SphereJsonUtils {
+    private static final Logger logger = LoggerFactory.getLogger(SphereJsonUtils.class);
     private static final ObjectMapper objectMapper = newObjectMapper();
+    private static final int MAX_CACHED_TYPES = 4096;
+    private static final LRUMap<Type, JavaType> javaTypes = new LRUMap<>(64, MAX_CACHED_TYPES);
+    private static final LRUMap<JavaType, ObjectReader> readers = new LRUMap<>(64, MAX_CACHED_TYPES);
 
     private SphereJsonUtils() {
     }
@@ -61,12 +74,20 @@ public final class SphereJsonUtils {
      * <li>commercetools Time, Date, DateTime</li>
      * <li>commercetools Money for Java MonetaryAmount</li>
      * <li>commercetools Enum</li>
+     * <li>generated deserializers and serializers of the models, see {@link ResourceValueJsonModule}</li>
      * </ul>
      *
      * @param objectMapper the object mapper to configure
      * @return the given object mapper with additional configuration and modules
      */
     public static ObjectMapper configureObjectMapper(final ObjectMapper objectMapper) {
+        return configureObjectMapper(objectMapper, true);
+    }
+
+    static ObjectMapper configureObjectMapper(final ObjectMapper objectMapper, final boolean withResourceValueModules) {
+        if (withResourceValueModules) {
+            objectMapper.registerModules(ResourceValueJsonModule.loadModules());
+        }
         return objectMapper
                 .registerModule(new LocaleModule())
                 .registerModule(new ParameterNamesModule())
@@ -204,11 +225,11 @@ public final class SphereJsonUtils {
      * @return the created objected
      */
     public static <T> T readObject(final String jsonAsString, final TypeReference<T> typeReference) {
-        return executing(() -> objectMapper.readValue(jsonAsString, typeReference));
+        return executing(() -> readerFor(typeReference).readValue(jsonAsString));
     }
 
     public static <T> T readObject(final String jsonAsString, final Class<T> clazz) {
-        return executing(() -> objectMapper.readValue(jsonAsString, clazz));
+        return executing(() -> readerFor(clazz).readValue(jsonAsString));
     }
 
     /**
@@ -222,8 +243,7 @@ public final class SphereJsonUtils {
      * @return the created objected
      */
     public static <T> T readObject(final JsonNode jsonNode, final TypeReference<T> typeReference) {
-        return executing(() -> objectMapper.readerFor(typeReference)
-                .readValue(jsonNode));
+        return executing(() -> readerFor(typeReference).readValue(jsonNode));
     }
 
     /**
@@ -237,11 +257,11 @@ public final class SphereJsonUtils {
      * @return the created objected
      */
     public static <T> T readObject(final JsonNode jsonNode, final Class<T> clazz) {
-        return executing(() -> objectMapper.readerFor(clazz).readValue(jsonNode));
+        return executing(() -> readerFor(clazz).readValue(jsonNode));
     }
 
     public static <T> T readObject(final JsonNode jsonNode, final JavaType javaType) {
-        return executing(() -> objectMapper.readerFor(javaType).readValue(jsonNode));
+        return executing(() -> readerFor(javaType).readValue(jsonNode));
     }
 
     /**
@@ -255,11 +275,28 @@ public final class SphereJsonUtils {
      * @return the created objected
      */
     public static <T> T readObject(final byte[] jsonAsBytes, final TypeReference<T> typeReference) {
-        return executing(() -> objectMapper.readValue(jsonAsBytes, typeReference));
+        return executing(() -> readerFor(typeReference).readValue(jsonAsBytes));
     }
 
     public static <T> T readObject(final byte[] jsonAsBytes, final JavaType javaType) {
-        return executing(() -> objectMapper.readValue(jsonAsBytes, javaType));
+        return executing(() -> readerFor(javaType).readValue(jsonAsBytes));
+    }
+
+    /**
+     * Reads a Java object from a stream of JSON data encoded as UTF-8 without buffering the whole input.
+     * The stream gets closed after reading.
+     *
+     * @param jsonAsStream  the JSON data which represents sth. of type {@code <T>}
+     * @param typeReference the full generic type information about the object to create
+     * @param <T>           the type of the result
+     * @return the created objected
+     */
+    public static <T> T readObject(final InputStream jsonAsStream, final TypeReference<T> typeReference) {
+        return executing(() -> readerFor(typeReference).readValue(jsonAsStream));
+    }
+
+    public static <T> T readObject(final InputStream jsonAsStream, final JavaType javaType) {
+        return executing(() -> readerFor(javaType).readValue(jsonAsStream));
     }
 
     /**
@@ -273,6 +310,31 @@ public final class SphereJsonUtils {
         return objectMapper.createObjectNode();
     }
 
+    /**
+     * Creates the deserializers of all model implementations of the SDK on the classpath and caches their {@link JavaType}s,
+     * so that the first responses are not slowed down by the introspection of the model classes.
+     * The models are the classes in the {@code io.sphere.sdk} packages whose name ends with {@code Impl} and which have a
+     * {@link com.fasterxml.jackson.annotation.JsonCreator} constructor, together with their interfaces which are deserialized as them.
+     *
+     * <p>This is opt-in since it loads several hundred classes which takes some seconds, it is meant to be called once at the startup
+     * of a service which mainly deserializes API responses.</p>
+     *
+     * @return the number of types whose deserializers have been created
+     */
+    public static int preResolveModelTypes() {
+        final List<Class<?>> modelTypes = ModelTypeScanner.findModelTypes(SphereJsonUtils.class.getClassLoader());
+        int resolved = 0;
+        for (final Class<?> modelType : modelTypes) {
+            try {
+                readerFor(modelType);
+                resolved++;
+            } catch (final RuntimeException e) {
+                logger.debug("Cannot create the deserializer of {}.", modelType, e);
+            }
+        }
+        return resolved;
+    }
+
     public static <T> JavaType convertToJavaType(final TypeReference<T> typeReference) {
         final TypeFactory typeFactory = TypeFactory.defaultInstance();
         return typeFactory.constructType(typeReference);
@@ -316,6 +378,29 @@ public final class SphereJsonUtils {
         return typeFactory.uncheckedSimpleType(clazz);
     }
 
+    private static ObjectReader readerFor(final TypeReference<?> typeReference) {
+        final Type type = typeReference.getType();
+        JavaType javaType = javaTypes.get(type);
+        if (javaType == null) {
+            javaType = objectMapper.getTypeFactory().constructType(type);
+            javaTypes.putIfAbsent(type, javaType);
+        }
+        return readerFor(javaType);
+    }
+
+    private static ObjectReader readerFor(final Class<?> clazz) {
+        return readerFor(objectMapper.getTypeFactory().constructType(clazz));
+    }
+
+    private static ObjectReader readerFor(final JavaType javaType) {
+        ObjectReader reader = readers.get(javaType);
+        if (reader == null) {
+            reader = objectMapper.readerFor(javaType);
+            readers.putIfAbsent(javaType, reader);
+        }
+        return reader;
+    }
+
     @FunctionalInterface
     private interface SupplierThrowingIOException<T> {
         T get() throws IOException;
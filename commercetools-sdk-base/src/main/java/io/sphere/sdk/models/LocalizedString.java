@@ -1,10 +1,9 @@
 package io.sphere.sdk.models;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
-import com.fasterxml.jackson.annotation.JsonAnySetter;
-import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.sphere.sdk.utils.SphereInternalUtils;
 
 import javax.annotation.Nonnull;
@@ -26,7 +25,11 @@ import static java.util.stream.Collectors.joining;
  * and the values are the corresponding strings used for that language.
  *
  * {@include.example io.sphere.sdk.models.LocalizedStringTest#defaultUseCases()}
+ *
+ * <p>Instances with up to five translations store them compactly in one array, the locales are shared between the instances.
+ * The strings read from JSON can be deduplicated with a {@link StringDeduplicator}.</p>
  */
+@JsonDeserialize(using = LocalizedStringDeserializer.class)
 public final class LocalizedString extends Base {
 
     private static final Comparator<Map.Entry<Locale, String>> BY_LOCALE_COMPARATOR = (left, right) -> left.getKey().toString().compareTo(right.getKey().toString());
@@ -34,10 +37,8 @@ public final class LocalizedString extends Base {
     @JsonIgnore
     private final Map<Locale, String> translations;
 
-    @JsonCreator
     private LocalizedString(final Map<Locale, String> translations) {
-        //the Jackson mapper may passes null here and it is not possible to use an immutable map
-        this.translations = immutableCopyOf(Optional.ofNullable(translations).orElse(Collections.emptyMap()));
+        this.translations = translations;
     }
 
     /**
@@ -102,7 +103,11 @@ public final class LocalizedString extends Base {
     @JsonIgnore
     public static LocalizedString of(final Map<Locale, String> translations) {
         requireNonNull(translations);
-        return new LocalizedString(translations);
+        return new LocalizedString(LocalizedStringMap.copyOf(translations));
+    }
+
+    static LocalizedString of(final Locale[] locales, final String[] values, final int size) {
+        return new LocalizedString(LocalizedStringMap.of(locales, values, size));
     }
 
     /**
@@ -118,7 +123,7 @@ public final class LocalizedString extends Base {
         requireNonNull(translations);
         return translations.entrySet().stream()
                 .map(localeEntry -> {
-                    final Locale locale = Locale.forLanguageTag(localeEntry.getKey());
+                    final Locale locale = LocalizedStringMap.forLanguageTag(localeEntry.getKey());
                     return LocalizedStringEntry.of(locale, localeEntry.getValue());
                 })
                 .collect(LocalizedString.streamCollector());
@@ -142,7 +147,7 @@ public final class LocalizedString extends Base {
         final Map<Locale, String> newMap = new HashMap<>();
         newMap.putAll(translations);
         newMap.put(locale, value);
-        return new LocalizedString(newMap);
+        return of(newMap);
     }
 
     /**
@@ -180,7 +185,7 @@ public final class LocalizedString extends Base {
      */
     @Nullable
     public String get(final String languageTag){
-        final Locale locale = Locale.forLanguageTag(languageTag);
+        final Locale locale = LocalizedStringMap.forLanguageTag(languageTag);
         return get(locale);
     }
 
@@ -194,8 +199,12 @@ public final class LocalizedString extends Base {
      */
     @Nonnull
     public Optional<String> find(final Iterable<Locale> locales) {
-        final Optional<Locale> firstFoundLocale = toStream(locales).filter(locale -> translations.containsKey(locale)).findFirst();
-        return firstFoundLocale.map(foundLocale -> get(foundLocale));
+        for (final Locale locale : locales) {
+            if (translations.containsKey(locale)) {
+                return Optional.ofNullable(translations.get(locale));
+            }
+        }
+        return Optional.empty();
     }
 
     /**
@@ -321,7 +330,7 @@ public final class LocalizedString extends Base {
      */
     @JsonAnyGetter//@JsonUnwrap supports not maps, but this construct puts map content on top level
     private Map<Locale, String> getTranslations() {
-        return immutableCopyOf(translations);
+        return translations;
     }
 
     @Override
@@ -336,12 +345,6 @@ public final class LocalizedString extends Base {
                 + ")";
     }
 
-    @SuppressWarnings("unused")//used by Jackson JSON mapper
-    @JsonAnySetter
-    private void set(final String languageTag, final String value) {
-        translations.put(Locale.forLanguageTag(languageTag), value);
-    }
-
     /**
      * Creates a container which contains the full Java type information to deserialize this class from JSON.
      *
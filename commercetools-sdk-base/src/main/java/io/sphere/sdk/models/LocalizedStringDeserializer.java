@@ -0,0 +1,68 @@
+package io.sphere.sdk.models;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Reads the translations of a {@link LocalizedString} directly into the arrays of its compact map
+ * instead of creating an intermediate {@link java.util.Map}. Duplicate language tags keep the last value like a map does.
+ */
+final class LocalizedStringDeserializer extends StdDeserializer<LocalizedString> {
+    private static final long serialVersionUID = 0L;
+
+    LocalizedStringDeserializer() {
+        super(LocalizedString.class);
+    }
+
+    @Override
+    public LocalizedString deserialize(final JsonParser jsonParser, final DeserializationContext deserializationContext) throws IOException {
+        final String firstFieldName;
+        if (jsonParser.isExpectedStartObjectToken()) {
+            firstFieldName = jsonParser.nextFieldName();
+        } else if (jsonParser.hasToken(JsonToken.FIELD_NAME) || jsonParser.hasToken(JsonToken.END_OBJECT)) {
+            firstFieldName = jsonParser.getCurrentName();
+        } else {
+            return (LocalizedString) deserializationContext.handleUnexpectedToken(LocalizedString.class, jsonParser);
+        }
+        final StringDeduplicator deduplicator = StringDeduplicator.find(deserializationContext);
+        Locale[] locales = new Locale[LocalizedStringMap.MAX_ARRAY_SIZE];
+        String[] values = new String[LocalizedStringMap.MAX_ARRAY_SIZE];
+        int size = 0;
+        for (String languageTag = firstFieldName; languageTag != null; languageTag = jsonParser.nextFieldName()) {
+            final Locale locale = LocalizedStringMap.forLanguageTag(languageTag);
+            final JsonToken token = jsonParser.nextToken();
+            String value = token == JsonToken.VALUE_NULL ? null : _parseString(jsonParser, deserializationContext);
+            if (deduplicator != null) {
+                value = deduplicator.deduplicate(value);
+            }
+            final int index = indexOf(locales, size, locale);
+            if (index >= 0) {
+                values[index] = value;
+            } else {
+                if (size == locales.length) {
+                    locales = Arrays.copyOf(locales, size * 2);
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                locales[size] = locale;
+                values[size] = value;
+                size++;
+            }
+        }
+        return LocalizedString.of(locales, values, size);
+    }
+
+    private static int indexOf(final Locale[] locales, final int size, final Locale locale) {
+        for (int i = 0; i < size; i++) {
+            if (locales[i].equals(locale)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
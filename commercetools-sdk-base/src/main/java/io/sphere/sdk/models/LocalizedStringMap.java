@@ -0,0 +1,179 @@
+package io.sphere.sdk.models;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable map of the translations of a {@link LocalizedString} which stores up to {@value #MAX_ARRAY_SIZE} entries
+ * in one array of alternating locales and values and keeps the insertion order.
+ *
+ * <p>The locales are interned, so the instances of the same locale share one {@link Locale} object
+ * and most lookups are decided by an identity comparison.</p>
+ */
+final class LocalizedStringMap extends AbstractMap<Locale, String> {
+    static final int MAX_ARRAY_SIZE = 5;
+    private static final int MAX_INTERNED_LOCALES = 1000;
+    private static final ConcurrentHashMap<Locale, Locale> internedLocales = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Locale> localesByLanguageTag = new ConcurrentHashMap<>();
+
+    private final Object[] entries;
+
+    private LocalizedStringMap(final Object[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Creates an immutable copy of the translations with interned locales.
+     *
+     * @param translations the translations to copy
+     * @return the compact map for up to {@value #MAX_ARRAY_SIZE} entries, otherwise an unmodifiable {@link LinkedHashMap}
+     */
+    static Map<Locale, String> copyOf(final Map<Locale, String> translations) {
+        final int size = translations.size();
+        if (size == 0) {
+            return Collections.emptyMap();
+        } else if (translations instanceof LocalizedStringMap) {
+            return translations;
+        } else if (size <= MAX_ARRAY_SIZE) {
+            final Object[] entries = new Object[size * 2];
+            int i = 0;
+            for (final Map.Entry<Locale, String> entry : translations.entrySet()) {
+                entries[i++] = intern(entry.getKey());
+                entries[i++] = entry.getValue();
+            }
+            return new LocalizedStringMap(entries);
+        } else {
+            final Map<Locale, String> copy = new LinkedHashMap<>(size * 2);
+            translations.forEach((locale, value) -> copy.put(intern(locale), value));
+            return Collections.unmodifiableMap(copy);
+        }
+    }
+
+    /**
+     * Creates an immutable map of the translations with interned locales.
+     *
+     * @param locales the distinct locales, the array is not copied
+     * @param values the values of the locales, the array is not copied
+     * @param size the number of entries
+     * @return the compact map for up to {@value #MAX_ARRAY_SIZE} entries, otherwise an unmodifiable {@link LinkedHashMap}
+     */
+    static Map<Locale, String> of(final Locale[] locales, final String[] values, final int size) {
+        if (size == 0) {
+            return Collections.emptyMap();
+        } else if (size <= MAX_ARRAY_SIZE) {
+            final Object[] entries = new Object[size * 2];
+            for (int i = 0; i < size; i++) {
+                entries[2 * i] = intern(locales[i]);
+                entries[2 * i + 1] = values[i];
+            }
+            return new LocalizedStringMap(entries);
+        } else {
+            final Map<Locale, String> copy = new LinkedHashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                copy.put(intern(locales[i]), values[i]);
+            }
+            return Collections.unmodifiableMap(copy);
+        }
+    }
+
+    /**
+     * Provides the shared instance of a locale. The number of interned locales is limited, other locales are returned as they are.
+     *
+     * @param locale the locale
+     * @return the interned locale
+     */
+    static Locale intern(final Locale locale) {
+        final Locale interned = internedLocales.get(locale);
+        if (interned != null) {
+            return interned;
+        } else if (internedLocales.size() < MAX_INTERNED_LOCALES) {
+            final Locale previous = internedLocales.putIfAbsent(locale, locale);
+            return previous != null ? previous : locale;
+        }
+        return locale;
+    }
+
+    /**
+     * Provides the interned locale of a language tag without parsing the tag again.
+     *
+     * @param languageTag the IETF BCP 47 language tag
+     * @return the interned locale as created by {@link Locale#forLanguageTag(String)}
+     */
+    static Locale forLanguageTag(final String languageTag) {
+        final Locale cached = localesByLanguageTag.get(languageTag);
+        if (cached != null) {
+            return cached;
+        }
+        final Locale locale = intern(Locale.forLanguageTag(languageTag));
+        if (localesByLanguageTag.size() < MAX_INTERNED_LOCALES) {
+            localesByLanguageTag.putIfAbsent(languageTag, locale);
+        }
+        return locale;
+    }
+
+    @Override
+    public int size() {
+        return entries.length / 2;
+    }
+
+    @Override
+    public boolean containsKey(@Nullable final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    @Nullable
+    public String get(@Nullable final Object key) {
+        final int index = indexOf(key);
+        return index >= 0 ? (String) entries[index + 1] : null;
+    }
+
+    private int indexOf(@Nullable final Object key) {
+        for (int i = 0; i < entries.length; i += 2) {
+            if (entries[i] == key) {
+                return i;
+            }
+        }
+        if (key != null) {
+            for (int i = 0; i < entries.length; i += 2) {
+                if (entries[i].equals(key)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Set<Entry<Locale, String>> entrySet() {
+        return new AbstractSet<Entry<Locale, String>>() {
+            @Override
+            public Iterator<Entry<Locale, String>> iterator() {
+                return new Iterator<Entry<Locale, String>>() {
+                    private int index = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < entries.length;
+                    }
+
+                    @Override
+                    public Entry<Locale, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final Entry<Locale, String> entry = new SimpleImmutableEntry<>((Locale) entries[index], (String) entries[index + 1]);
+                        index += 2;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return LocalizedStringMap.this.size();
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package io.sphere.sdk.models;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares equal strings of {@link LocalizedString}s read from JSON, so that labels repeated in many objects,
+ * like the labels of enum values, are kept in memory only once.
+ *
+ * <p>The deduplication is optional and enabled for an {@link ObjectMapper} or {@link ObjectReader} with {@link #configure(ObjectMapper)}
+ * or {@link #configure(ObjectReader)}. It remembers up to {@code maxSize} strings, further strings are not deduplicated.</p>
+ *
+ * {@include.example io.sphere.sdk.models.LocalizedStringTest#stringDeduplication()}
+ */
+public final class StringDeduplicator {
+    private static final int DEFAULT_MAX_SIZE = 10000;
+
+    private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    private StringDeduplicator(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Creates a deduplicator which remembers up to {@value #DEFAULT_MAX_SIZE} strings.
+     *
+     * @return new deduplicator
+     */
+    public static StringDeduplicator of() {
+        return of(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a deduplicator.
+     *
+     * @param maxSize the maximum number of strings to remember
+     * @return new deduplicator
+     */
+    public static StringDeduplicator of(final int maxSize) {
+        return new StringDeduplicator(maxSize);
+    }
+
+    /**
+     * Provides the shared instance of a string.
+     *
+     * @param value the string
+     * @return a string equal to {@code value}, the same instance for equal strings while the limit is not reached
+     */
+    @Nullable
+    public String deduplicate(@Nullable final String value) {
+        if (value == null) {
+            return null;
+        }
+        final String shared = strings.get(value);
+        if (shared != null) {
+            return shared;
+        } else if (strings.size() < maxSize) {
+            final String previous = strings.putIfAbsent(value, value);
+            return previous != null ? previous : value;
+        }
+        return value;
+    }
+
+    /**
+     * Configures an object mapper to deduplicate the strings of the {@link LocalizedString}s it reads with this deduplicator.
+     *
+     * @param objectMapper the object mapper
+     * @return the given object mapper
+     */
+    public ObjectMapper configure(final ObjectMapper objectMapper) {
+        return objectMapper.setConfig(objectMapper.getDeserializationConfig().withAttribute(StringDeduplicator.class, this));
+    }
+
+    /**
+     * Creates an object reader which deduplicates the strings of the {@link LocalizedString}s it reads with this deduplicator.
+     *
+     * @param objectReader the object reader
+     * @return new object reader
+     */
+    public ObjectReader configure(final ObjectReader objectReader) {
+        return objectReader.withAttribute(StringDeduplicator.class, this);
+    }
+
+    @Nullable
+    static StringDeduplicator find(final DeserializationContext deserializationContext) {
+        return (StringDeduplicator) deserializationContext.getAttribute(StringDeduplicator.class);
+    }
+}
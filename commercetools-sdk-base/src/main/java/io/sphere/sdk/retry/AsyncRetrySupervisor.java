@@ -21,4 +21,8 @@ public interface AsyncRetrySupervisor extends AutoCloseable {
     static AsyncRetrySupervisor of(final List<RetryRule> retryRules) {
         return new AsyncRetrySupervisorImpl(retryRules);
     }
+
+    static AsyncRetrySupervisor of(final List<RetryRule> retryRules, final RetrySupervisorConfig config) {
+        return new AsyncRetrySupervisorImpl(retryRules, config);
+    }
 }
@@ -3,6 +3,7 @@ package io.sphere.sdk.retry;
 import io.sphere.sdk.models.Base;
 import io.sphere.sdk.models.SphereException;
 import io.sphere.sdk.retry.RetryStrategy.StrategyType;
+import io.sphere.sdk.utils.SharedScheduler;
 import io.sphere.sdk.utils.SphereInternalLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,10 +21,20 @@ import static java.lang.String.format;
 final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySupervisor {
     private static final SphereInternalLogger logger = SphereInternalLogger.getLogger(AsyncRetrySupervisor.class);
     private final List<RetryRule> retryRules;
-    private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+    private final RetrySupervisorConfig config;
+    @Nullable
+    private final RetryBudget retryBudget;
+    private final ScheduledExecutorService executor;
 
     AsyncRetrySupervisorImpl(final List<RetryRule> retryRules) {
+        this(retryRules, RetrySupervisorConfig.of());
+    }
+
+    AsyncRetrySupervisorImpl(final List<RetryRule> retryRules, final RetrySupervisorConfig config) {
         this.retryRules = retryRules;
+        this.config = config;
+        this.retryBudget = config.getRetryBudget().orElse(null);
+        this.executor = config.isSharedScheduler() ? SharedScheduler.getInstance() : new ScheduledThreadPoolExecutor(1);
     }
 
     @Override
@@ -31,9 +42,12 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
                                                final Function<P, CompletionStage<R>> f,
                                                @Nullable final P parameterObject) {
         final CompletableFuture<R> result = new CompletableFuture<>();
+        if (retryBudget != null) {
+            retryBudget.onCall();
+        }
         try {
             final CompletionStage<R> initialCompletionStage = f.apply(parameterObject);
-            initialCompletionStage.whenCompleteAsync((res, firstError) -> {
+            initialCompletionStage.whenComplete((res, firstError) -> {
                 final boolean isErrorCase = firstError != null;
                 if (isErrorCase) {
                     final RetryContextImpl<P, R> retryOperationContext = createFirstRetryOperationContext(firstError, result, f, parameterObject, service);
@@ -41,7 +55,7 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
                 } else {
                     result.complete(res);
                 }
-            }, executor);
+            });
         } catch (final Throwable e) {//necessary if f.apply() throws directly an exception
             result.completeExceptionally(e);
         }
@@ -50,7 +64,9 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
 
     @Override
     public void close() {
-        executor.shutdownNow();
+        if (executor != SharedScheduler.getInstance()) {
+            executor.shutdownNow();
+        }
     }
 
     private <P, R> RetryContextImpl<P, R> createFirstRetryOperationContext(final Throwable throwable, final CompletableFuture<R> result, final Function<P, CompletionStage<R>> f, final P parameterObject, final AutoCloseable service) {
@@ -60,7 +76,7 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
     }
 
     private void schedule(final Runnable r, final Duration d) {
-        executor.schedule(r, d.toMillis(), TimeUnit.MILLISECONDS);
+        executor.schedule(r, d.toNanos(), TimeUnit.NANOSECONDS);
     }
 
     private <P, R> void handle(final RetryContextImpl<P, R> retryContext) {
@@ -74,24 +90,47 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
         } else {
             final Function<P, CompletionStage<R>> function = retryContext.getFunction();
             final Object parameter = retryStrategy.getParameter();
+            final Duration duration;
             if (strategyType == StrategyType.RETRY_IMMEDIATELY) {
-                retry(retryContext, function, parameter);
+                duration = Duration.ZERO;
             } else if (strategyType == StrategyType.RETRY_SCHEDULED) {
-                final Duration duration = retryStrategy.getDuration();
-                retryContext.schedule(() -> retry(retryContext, function, parameter), duration);
+                duration = retryStrategy.getDuration();
             } else {
                 throw new IllegalStateException("illegal state for " + retryStrategy);
             }
+            final Duration retryAfter = config.isHonoringRetryAfter() ? RetryAfter.of(retryContext.getLatestError(), Instant.now()) : null;
+            if (retryAfter != null && retryAfter.compareTo(config.getMaxRetryAfter()) > 0) {
+                logger.debug(() -> format("Giving up since the platform requested to retry after %s.", retryAfter));
+                retryContext.getResult().completeExceptionally(retryContext.getLatestError());
+            } else if (retryBudget != null && !retryBudget.tryRetry()) {
+                logger.debug(() -> "Giving up since the retry budget is exhausted.");
+                retryContext.getResult().completeExceptionally(retryContext.getLatestError());
+            } else {
+                final Duration delay = retryAfter != null && retryAfter.compareTo(duration) > 0 ? retryAfter : duration;
+                if (delay.isZero()) {
+                    retry(retryContext, function, parameter, delay);
+                } else {
+                    try {
+                        retryContext.schedule(() -> retry(retryContext, function, parameter, delay), delay);
+                    } catch (final RejectedExecutionException e) {
+                        retryContext.getResult().completeExceptionally(retryContext.getLatestError());
+                    }
+                }
+            }
         }
     }
 
-    private <P, R> void retry(final RetryContextImpl<P, R> retryContext, final Function<P, CompletionStage<R>> function, final Object parameter) {
+    private <P, R> void retry(final RetryContextImpl<P, R> retryContext, final Function<P, CompletionStage<R>> function, final Object parameter, final Duration delay) {
         logRetry(retryContext);
-        final CompletionStage<R> completionStage = forceApply(function, parameter);
-        handleResultAndEnqueueErrorHandlingAgain(completionStage, parameter, retryContext);
+        try {
+            final CompletionStage<R> completionStage = forceApply(function, parameter);
+            handleResultAndEnqueueErrorHandlingAgain(completionStage, parameter, delay, retryContext);
+        } catch (final Throwable e) {
+            retryContext.getResult().completeExceptionally(e);
+        }
     }
 
-    private <P, R>  void logRetry(final RetryContextImpl<P, R> retryContext) {
+    private <P, R> void logRetry(final RetryContextImpl<P, R> retryContext) {
         logger.info(() -> {
             final String output;
             final Throwable error = retryContext.getLatestError();
@@ -118,16 +157,16 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
         return function.apply((P) parameter);
     }
 
-    private <P, R> void handleResultAndEnqueueErrorHandlingAgain(final CompletionStage<R> completionStage, final Object parameter, final RetryContextImpl<P, R> retryOperationContext) {
-        completionStage.whenCompleteAsync((res, error) -> {
+    private <P, R> void handleResultAndEnqueueErrorHandlingAgain(final CompletionStage<R> completionStage, final Object parameter, final Duration delay, final RetryContextImpl<P, R> retryOperationContext) {
+        completionStage.whenComplete((res, error) -> {
             final boolean isErrorCase = error != null;
             if (isErrorCase) {
-                final RetryContextImpl<P, R> nextContext = retryOperationContext.withNewFailedAttempt(error, parameter);
+                final RetryContextImpl<P, R> nextContext = retryOperationContext.withNewFailedAttempt(error, parameter, delay);
                 handle(nextContext);
             } else {
                 retryOperationContext.getResult().complete(res);
             }
-        }, executor);
+        });
     }
 
     private RetryStrategy applyContext(final RetryContext retryContext) {
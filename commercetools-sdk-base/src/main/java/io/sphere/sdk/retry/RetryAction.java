@@ -2,6 +2,7 @@ package io.sphere.sdk.retry;
 
 import javax.annotation.Nullable;
 import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 
 import static io.sphere.sdk.retry.RetryActions.validateMaxAttempts;
@@ -160,6 +161,34 @@ public interface RetryAction extends Function<RetryContext, RetryStrategy> {
         return ofScheduledRetry(maxAttempts, c -> calculateDurationWithExponentialRandomBackoff(c.getAttempt(), initialRetryDelay, maxDelay));
     }
 
+    /**
+     * Retry in the future with exponential backoff and full jitter. The waiting time is a random value between zero and the
+     * exponentially growing delay, so clients which failed at the same time do not retry at the same time.
+     *
+     * @param maxAttempts maximum amount of attempts until giving up and throwing the latest Exception
+     * @param initialRetryDelay initial time to wait before retrying in milliseconds
+     * @param maxDelay maximum time to wait before retrying in milliseconds
+     * @return action
+     * @see #calculateDurationWithFullJitter(long, long, long)
+     */
+    static RetryAction ofExponentialBackoffWithFullJitter(final long maxAttempts, final long initialRetryDelay, final long maxDelay) {
+        return ofScheduledRetry(maxAttempts, c -> calculateDurationWithFullJitter(c.getAttempt(), initialRetryDelay, maxDelay));
+    }
+
+    /**
+     * Retry in the future with decorrelated jitter. The waiting time is a random value between the initial delay and three times
+     * the previous waiting time, so it grows like an exponential backoff but spreads the retries of different clients.
+     *
+     * @param maxAttempts maximum amount of attempts until giving up and throwing the latest Exception
+     * @param initialRetryDelay initial time to wait before retrying in milliseconds
+     * @param maxDelay maximum time to wait before retrying in milliseconds
+     * @return action
+     * @see #calculateDurationWithDecorrelatedJitter(Duration, long, long)
+     */
+    static RetryAction ofDecorrelatedJitter(final long maxAttempts, final long initialRetryDelay, final long maxDelay) {
+        return ofScheduledRetry(maxAttempts, c -> calculateDurationWithDecorrelatedJitter(c.getLatestDelay(), initialRetryDelay, maxDelay));
+    }
+
     /**
      * Computes a exponential backoff time delay in milliseconds to be used in retries, the delay grows with failed
      * retry attempts count with a randomness interval.
@@ -179,4 +208,38 @@ public interface RetryAction extends Function<RetryContext, RetryStrategy> {
         final long delay = (long)Math.min(initialRetryDelay * exponentialFactor * jitter, maxDelay);
         return Duration.ofMillis(delay);
     }
+
+    /**
+     * Computes a random delay between zero and the exponential backoff for the attempt.
+     * (see: <a href="https://aws.amazon.com/blogs/architecture/exponential-backoff-and-jitter"/>)
+     *
+     * @param retryAttempt the number of attempts already tried by the client.
+     * @param initialRetryDelay the initial Retry delay in milliseconds.
+     * @param maxDelay the maxDelay in milliseconds.
+     * @return a duration in milliseconds, whose upper bound grows with the number of failed attempts.
+     */
+    static Duration calculateDurationWithFullJitter(final long retryAttempt,
+                                                    final long initialRetryDelay,
+                                                    final long maxDelay) {
+        final double exponentialFactor = Math.pow(2, retryAttempt - 1);
+        final long upperBound = (long) Math.min(initialRetryDelay * exponentialFactor, maxDelay);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(Math.max(0, upperBound) + 1));
+    }
+
+    /**
+     * Computes a random delay between the initial delay and three times the previous delay.
+     * (see: <a href="https://aws.amazon.com/blogs/architecture/exponential-backoff-and-jitter"/>)
+     *
+     * @param previousDelay the delay before the latest attempt, zero for the first attempt.
+     * @param initialRetryDelay the initial Retry delay in milliseconds.
+     * @param maxDelay the maxDelay in milliseconds.
+     * @return a duration in milliseconds between the initial delay and the max delay.
+     */
+    static Duration calculateDurationWithDecorrelatedJitter(final Duration previousDelay,
+                                                            final long initialRetryDelay,
+                                                            final long maxDelay) {
+        final long upperBound = Math.max(initialRetryDelay, previousDelay.toMillis()) * 3;
+        final long delay = initialRetryDelay + ThreadLocalRandom.current().nextLong(upperBound - initialRetryDelay + 1);
+        return Duration.ofMillis(Math.min(delay, maxDelay));
+    }
 }
@@ -0,0 +1,55 @@
+package io.sphere.sdk.retry;
+
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.models.SphereException;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Reads the Retry-After header of the response of a failed request.
+ */
+final class RetryAfter {
+    static final String HEADER_NAME = "Retry-After";
+
+    private RetryAfter() {
+    }
+
+    /**
+     * Finds the time to wait requested by the response of the error.
+     *
+     * @param error the error of the latest attempt
+     * @param now the current time to calculate the wait time for an HTTP date
+     * @return the wait time or null if the error has no valid Retry-After header
+     */
+    @Nullable
+    static Duration of(final Throwable error, final Instant now) {
+        if (error instanceof SphereException) {
+            final HttpResponse httpResponse = ((SphereException) error).getHttpResponse();
+            if (httpResponse != null && httpResponse.getHeaders() != null) {
+                return httpResponse.getHeaders().findFlatHeader(HEADER_NAME)
+                        .map(value -> parse(value.trim(), now))
+                        .orElse(null);
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Duration parse(final String value, final Instant now) {
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (final NumberFormatException e) {
+            try {
+                final Duration untilDate = Duration.between(now, ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (final DateTimeParseException e2) {
+                return null;
+            }
+        }
+    }
+}
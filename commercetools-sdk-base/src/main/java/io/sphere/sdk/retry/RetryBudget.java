@@ -0,0 +1,115 @@
+package io.sphere.sdk.retry;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the share of retries in the traffic, so that retries do not multiply the load of a platform which is already overloaded.
+ *
+ * <p>Every supervised call deposits {@code retryRatio} tokens and every retry withdraws one token. If there is no complete token
+ * left the retry is not executed and the call fails with the latest error. The balance starts with the reserve and never exceeds it,
+ * so a few retries are possible after a quiet period, but in the long run at most {@code retryRatio} retries per call are executed.</p>
+ *
+ * <p>A budget can be shared by multiple {@link AsyncRetrySupervisor}s to limit the retries of all of them together.
+ * It is also used to limit the hedged requests of the {@code HedgingSphereClientDecorator}.</p>
+ *
+ * @see RetrySupervisorConfigBuilder#retryBudget(RetryBudget)
+ */
+public final class RetryBudget {
+    public static final int DEFAULT_RESERVE = 10;
+
+    private final double retryRatio;
+    private final double reserve;
+    private double balance;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder rejectedRetries = new LongAdder();
+
+    private RetryBudget(final double retryRatio, final int reserve) {
+        if (retryRatio < 0) {
+            throw new IllegalArgumentException("The retry ratio must not be negative but was " + retryRatio);
+        }
+        if (reserve < 1) {
+            throw new IllegalArgumentException("The reserve must be positive but was " + reserve);
+        }
+        this.retryRatio = retryRatio;
+        this.reserve = reserve;
+        this.balance = reserve;
+    }
+
+    /**
+     * Creates a budget with a reserve of {@value #DEFAULT_RESERVE} retries.
+     *
+     * @param retryRatio the maximum number of retries per call, for example 0.1 to allow retries for at most 10% of the calls
+     * @return budget
+     */
+    public static RetryBudget of(final double retryRatio) {
+        return of(retryRatio, DEFAULT_RESERVE);
+    }
+
+    /**
+     * Creates a budget.
+     *
+     * @param retryRatio the maximum number of retries per call, for example 0.1 to allow retries for at most 10% of the calls
+     * @param reserve the maximum number of retries which can be saved up
+     * @return budget
+     */
+    public static RetryBudget of(final double retryRatio, final int reserve) {
+        return new RetryBudget(retryRatio, reserve);
+    }
+
+    /**
+     * Records a call and deposits {@link #getRetryRatio()} tokens. Used by the supervisors, or by other components which
+     * limit extra requests with a budget.
+     */
+    public synchronized void onCall() {
+        calls.increment();
+        balance = Math.min(reserve, balance + retryRatio);
+    }
+
+    /**
+     * Withdraws one token for a retry if available.
+     *
+     * @return true if the retry may be executed, false if the budget is exhausted
+     */
+    public synchronized boolean tryRetry() {
+        if (balance >= 1) {
+            balance -= 1;
+            retries.increment();
+            return true;
+        }
+        rejectedRetries.increment();
+        return false;
+    }
+
+    public double getRetryRatio() {
+        return retryRatio;
+    }
+
+    /**
+     * Number of supervised calls, without the retries.
+     *
+     * @return number of calls
+     */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * Number of retries which have not been executed because the budget was exhausted.
+     *
+     * @return number of rejected retries
+     */
+    public long getRejectedRetries() {
+        return rejectedRetries.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "RetryBudget[retryRatio=" + retryRatio + ", calls=" + getCalls() + ", retries=" + getRetries()
+                + ", rejectedRetries=" + getRejectedRetries() + "]";
+    }
+}
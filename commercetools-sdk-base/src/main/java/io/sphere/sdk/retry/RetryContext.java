@@ -1,6 +1,7 @@
 package io.sphere.sdk.retry;
 
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.time.Instant;
 
 /**
@@ -48,4 +49,13 @@ public interface RetryContext {
      * @return attempt
      */
     Long getAttempt();
+
+    /**
+     * The time waited before the latest attempt. For the first attempt and for immediate retries the value is zero.
+     *
+     * @return delay of the latest attempt
+     */
+    default Duration getLatestDelay() {
+        return Duration.ZERO;
+    }
 }
@@ -20,6 +20,7 @@ final class RetryContextImpl<P, R> extends Base implements RetryContext {
     @Nullable
     private final Object latestParameter;
     private final Long attempt;
+    private final Duration latestDelay;
 
     private final CompletableFuture<R> result;
     private final Function<P, CompletionStage<R>> f;
@@ -27,12 +28,17 @@ final class RetryContextImpl<P, R> extends Base implements RetryContext {
     private final BiConsumer<Runnable, Duration> scheduler;
 
     public RetryContextImpl(final Instant startTimestamp, final Long attempt, final Throwable firstError, final Object firstParameter, final Throwable latestError, final Object latestParameter, final CompletableFuture<R> result, final Function<P, CompletionStage<R>> f, final AutoCloseable closeable, final BiConsumer<Runnable, Duration> scheduler) {
+        this(startTimestamp, attempt, firstError, firstParameter, latestError, latestParameter, Duration.ZERO, result, f, closeable, scheduler);
+    }
+
+    RetryContextImpl(final Instant startTimestamp, final Long attempt, final Throwable firstError, final Object firstParameter, final Throwable latestError, final Object latestParameter, final Duration latestDelay, final CompletableFuture<R> result, final Function<P, CompletionStage<R>> f, final AutoCloseable closeable, final BiConsumer<Runnable, Duration> scheduler) {
         this.attempt = attempt;
         this.startTimestamp = startTimestamp;
         this.firstError = filterOutCompletionException(firstError);
         this.latestError = filterOutCompletionException(latestError);
         this.firstParameter = firstParameter;
         this.latestParameter = latestParameter;
+        this.latestDelay = latestDelay;
         this.result = result;
         this.f = f;
         this.closeable = closeable;
@@ -70,6 +76,11 @@ final class RetryContextImpl<P, R> extends Base implements RetryContext {
         return latestParameter;
     }
 
+    @Override
+    public Duration getLatestDelay() {
+        return latestDelay;
+    }
+
     @Override
     public Instant getStartTimestamp() {
         return startTimestamp;
@@ -91,8 +102,8 @@ final class RetryContextImpl<P, R> extends Base implements RetryContext {
         scheduler.accept(runnable, durationToWaitBeforeStarting);
     }
 
-    RetryContextImpl<P, R> withNewFailedAttempt(final Throwable error, final Object parameter) {
+    RetryContextImpl<P, R> withNewFailedAttempt(final Throwable error, final Object parameter, final Duration delay) {
         final long attemptCount = getAttempt() + 1;
-        return new RetryContextImpl<>(getStartTimestamp(), attemptCount, getFirstError(), getFirstParameter(), error, parameter, getResult(), getFunction(), getService(), this::schedule);
+        return new RetryContextImpl<>(getStartTimestamp(), attemptCount, getFirstError(), getFirstParameter(), error, parameter, delay, getResult(), getFunction(), getService(), this::schedule);
     }
 }
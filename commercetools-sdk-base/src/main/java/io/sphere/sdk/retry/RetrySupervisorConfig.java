@@ -0,0 +1,53 @@
+package io.sphere.sdk.retry;
+
+import io.sphere.sdk.models.Base;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Configuration of an {@link AsyncRetrySupervisor} which applies to all of its {@link RetryRule}s.
+ *
+ * @see RetrySupervisorConfigBuilder
+ */
+public final class RetrySupervisorConfig extends Base {
+    @Nullable
+    private final RetryBudget retryBudget;
+    private final boolean sharedScheduler;
+    private final boolean honoringRetryAfter;
+    private final Duration maxRetryAfter;
+
+    RetrySupervisorConfig(@Nullable final RetryBudget retryBudget, final boolean sharedScheduler,
+                          final boolean honoringRetryAfter, final Duration maxRetryAfter) {
+        this.retryBudget = retryBudget;
+        this.sharedScheduler = sharedScheduler;
+        this.honoringRetryAfter = honoringRetryAfter;
+        this.maxRetryAfter = maxRetryAfter;
+    }
+
+    /**
+     * Creates the default configuration: no retry budget, an own scheduler and honoring Retry-After headers.
+     *
+     * @return config
+     */
+    public static RetrySupervisorConfig of() {
+        return RetrySupervisorConfigBuilder.of().build();
+    }
+
+    public Optional<RetryBudget> getRetryBudget() {
+        return Optional.ofNullable(retryBudget);
+    }
+
+    public boolean isSharedScheduler() {
+        return sharedScheduler;
+    }
+
+    public boolean isHonoringRetryAfter() {
+        return honoringRetryAfter;
+    }
+
+    public Duration getMaxRetryAfter() {
+        return maxRetryAfter;
+    }
+}
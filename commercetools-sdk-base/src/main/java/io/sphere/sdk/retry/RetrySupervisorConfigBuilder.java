@@ -0,0 +1,84 @@
+package io.sphere.sdk.retry;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Builds {@link RetrySupervisorConfig} instances.
+ *
+ * <pre>{@code final RetrySupervisorConfig config = RetrySupervisorConfigBuilder.of()
+ *         .retryBudget(RetryBudget.of(0.1))
+ *         .sharedScheduler(true)
+ *         .build();}</pre>
+ */
+public final class RetrySupervisorConfigBuilder extends Base implements Builder<RetrySupervisorConfig> {
+    public static final Duration DEFAULT_MAX_RETRY_AFTER = Duration.ofMinutes(1);
+
+    @Nullable
+    private RetryBudget retryBudget;
+    private boolean sharedScheduler = false;
+    private boolean honoringRetryAfter = true;
+    private Duration maxRetryAfter = DEFAULT_MAX_RETRY_AFTER;
+
+    private RetrySupervisorConfigBuilder() {
+    }
+
+    public static RetrySupervisorConfigBuilder of() {
+        return new RetrySupervisorConfigBuilder();
+    }
+
+    /**
+     * Limits the retries to a share of the supervised calls.
+     *
+     * @param retryBudget the budget, it can be shared with other supervisors, or null for unlimited retries
+     * @return this builder
+     */
+    public RetrySupervisorConfigBuilder retryBudget(@Nullable final RetryBudget retryBudget) {
+        this.retryBudget = retryBudget;
+        return this;
+    }
+
+    /**
+     * Uses the {@link io.sphere.sdk.utils.SharedScheduler} to schedule the retries of all supervisors with this option instead of a thread per supervisor.
+     * The shared thread is not stopped if the supervisor is closed.
+     *
+     * @param sharedScheduler true to use the shared scheduler, false by default
+     * @return this builder
+     */
+    public RetrySupervisorConfigBuilder sharedScheduler(final boolean sharedScheduler) {
+        this.sharedScheduler = sharedScheduler;
+        return this;
+    }
+
+    /**
+     * Defines if a retry waits at least the time of the Retry-After header of the latest error response.
+     * The header can contain seconds or an HTTP date.
+     *
+     * @param honoringRetryAfter true to wait for the Retry-After time, true by default
+     * @return this builder
+     */
+    public RetrySupervisorConfigBuilder honoringRetryAfter(final boolean honoringRetryAfter) {
+        this.honoringRetryAfter = honoringRetryAfter;
+        return this;
+    }
+
+    /**
+     * Sets the longest Retry-After time to wait for. If the platform requests a longer pause, the supervisor gives up and provides the latest error.
+     *
+     * @param maxRetryAfter the maximum wait time, by default one minute
+     * @return this builder
+     */
+    public RetrySupervisorConfigBuilder maxRetryAfter(final Duration maxRetryAfter) {
+        this.maxRetryAfter = Objects.requireNonNull(maxRetryAfter, "maxRetryAfter");
+        return this;
+    }
+
+    @Override
+    public RetrySupervisorConfig build() {
+        return new RetrySupervisorConfig(retryBudget, sharedScheduler, honoringRetryAfter, maxRetryAfter);
+    }
+}
@@ -0,0 +1,104 @@
+package io.sphere.sdk.utils;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the scheduler for delayed tasks which is shared by the SDK components, like retries with a shared scheduler,
+ * hedged requests or rate limited requests, so not every component instance needs its own thread.
+ *
+ * <p>The scheduler has one daemon thread, so the scheduled tasks must be short and must not block.
+ * The scheduler is used by all clients, so it cannot be shut down or reconfigured by its users.</p>
+ */
+public final class SharedScheduler {
+    private static final ScheduledExecutorService INSTANCE = new NonClosingScheduledExecutorService(createSharedScheduler());
+
+    private SharedScheduler() {
+    }
+
+    /**
+     * Gets the shared scheduler, cancelled tasks are removed from its queue immediately.
+     * {@link ScheduledExecutorService#shutdown()} and {@link ScheduledExecutorService#shutdownNow()} throw an {@link UnsupportedOperationException}.
+     *
+     * @return scheduler
+     */
+    public static ScheduledExecutorService getInstance() {
+        return INSTANCE;
+    }
+
+    private static ScheduledExecutorService createSharedScheduler() {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "SphereSharedScheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Passes the tasks to the underlying scheduler but does not allow to shut it down.
+     */
+    private static final class NonClosingScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+        private final ScheduledExecutorService delegate;
+
+        private NonClosingScheduledExecutorService(final ScheduledExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+            return delegate.schedule(command, delay, unit);
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
+            return delegate.schedule(callable, delay, unit);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay, final long period, final TimeUnit unit) {
+            return delegate.scheduleAtFixedRate(command, initialDelay, period, unit);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay, final long delay, final TimeUnit unit) {
+            return delegate.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            delegate.execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+            throw new UnsupportedOperationException("The shared scheduler cannot be shut down.");
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            throw new UnsupportedOperationException("The shared scheduler cannot be shut down.");
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -2,6 +2,9 @@ package io.sphere.sdk.client;
 
 import org.junit.Test;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.*;
 
@@ -15,4 +18,22 @@ public class SphereClientConfigBuilderTest {
         assertThat(config.getScopes()).containsExactly("manage_customers", "view_orders");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void executor() {
+        final Executor executor = Runnable::run;
+        final SphereClientConfig config = SphereClientConfigBuilder
+                .ofKeyIdSecret("projectKey", "clientId", "clientSecret")
+                .executor(executor)
+                .build();
+        assertThat(config.getExecutor()).isSameAs(executor);
+        assertThat(config.withApiUrl("http://localhost").getExecutor()).isSameAs(executor);
+        assertThat(SphereClientConfigBuilder.ofClientConfig(config).build()).isEqualTo(config);
+    }
+
+    @Test
+    public void defaultExecutor() {
+        final SphereClientConfig config = SphereClientConfig.of("projectKey", "clientId", "clientSecret");
+        assertThat(config.getExecutor()).isSameAs(ForkJoinPool.commonPool());
+        assertThat(SphereClientConfigBuilder.ofClientConfig(config).build()).isEqualTo(config);
+    }
+}
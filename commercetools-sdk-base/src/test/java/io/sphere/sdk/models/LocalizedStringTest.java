@@ -1,5 +1,6 @@
 package io.sphere.sdk.models;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.sphere.sdk.json.SphereJsonUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.Test;
@@ -216,6 +217,48 @@ public class LocalizedStringTest {
         assertThat(SphereJsonUtils.newObjectMapper().readValue(DOG_FOOD_JSON, LocalizedString.class)).isEqualTo(LocalizedString.of(Locale.GERMAN, "Hundefutter", Locale.ENGLISH, "dog food"));
     }
 
+    @Test
+    public void jsonDeserializeManyLocalesDuplicatesAndNulls() throws Exception {
+        final String json = "{\"de\":\"a\",\"en\":\"b\",\"fr\":\"c\",\"it\":\"d\",\"es\":null,\"nl\":\"f\",\"de\":\"g\"}";
+
+        final LocalizedString localizedString = SphereJsonUtils.newObjectMapper().readValue(json, LocalizedString.class);
+
+        assertThat(localizedString.getLocales()).containsExactly(Locale.GERMAN, Locale.ENGLISH, Locale.FRENCH, Locale.ITALIAN, new Locale("es"), new Locale("nl"));
+        assertThat(localizedString.get(Locale.GERMAN)).isEqualTo("g");
+        assertThat(localizedString.get("nl")).isEqualTo("f");
+        assertThat(localizedString.find(asList(new Locale("es"), Locale.ENGLISH))).isEmpty();
+        assertThat(SphereJsonUtils.toJsonString(localizedString)).isEqualTo("{\"de\":\"g\",\"en\":\"b\",\"fr\":\"c\",\"it\":\"d\",\"nl\":\"f\"}");
+        assertThat(SphereJsonUtils.readObject("{}", LocalizedString.class)).isEqualTo(LocalizedString.of());
+    }
+
+    @Test
+    public void compactRepresentationEqualsMapRepresentation() throws Exception {
+        final Map<Locale, String> translations = new LinkedHashMap<>();
+        translations.put(Locale.forLanguageTag("de-DE"), "Hundefutter");
+        translations.put(Locale.US, "dog food");
+        final LocalizedString compact = SphereJsonUtils.readObject("{\"de-DE\":\"Hundefutter\",\"en-US\":\"dog food\"}", LocalizedString.class);
+
+        assertThat(compact).isEqualTo(LocalizedString.of(translations));
+        assertThat(compact.hashCode()).isEqualTo(LocalizedString.of(new HashMap<>(translations)).hashCode());
+        assertThat(compact.get(new Locale("en", "US"))).isEqualTo("dog food");
+        assertThat(compact.find(asList(Locale.ENGLISH, new Locale("de", "DE")))).contains("Hundefutter");
+        assertThat(compact.getLocales()).containsExactly(Locale.GERMANY, Locale.US);
+        assertThatThrownBy(() -> compact.getLocales().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void stringDeduplication() throws Exception {
+        final StringDeduplicator deduplicator = StringDeduplicator.of();
+        final ObjectMapper objectMapper = deduplicator.configure(SphereJsonUtils.newObjectMapper());
+
+        final LocalizedString first = objectMapper.readValue(DOG_FOOD_JSON, LocalizedString.class);
+        final LocalizedString second = objectMapper.readValue(DOG_FOOD_JSON, LocalizedString.class);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(second.get(Locale.GERMAN)).isSameAs(first.get(Locale.GERMAN));
+        assertThat(second.getLocales().iterator().next()).isSameAs(first.getLocales().iterator().next());
+    }
+
     @Test
     public void slugify() throws Exception {
         final LocalizedString actual = LocalizedString.of(Locale.GERMAN, "Aa -A_", Locale.ENGLISH, "dog food").slugified();
@@ -1,11 +1,17 @@
 package io.sphere.sdk.retry;
 
+import io.sphere.sdk.client.ServiceUnavailableException;
+import io.sphere.sdk.http.HttpHeaders;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.utils.CompletableFutureUtils;
 import org.junit.Test;
 
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.*;
@@ -101,6 +107,75 @@ public class AsyncRetrySupervisorTest {
         }
     }
 
+    @Test
+    public void scheduledRetryWithSharedScheduler() throws Exception {
+        final RetrySupervisorConfig config = RetrySupervisorConfigBuilder.of().sharedScheduler(true).build();
+        final List<RetryRule> retryRules = singletonList(RetryRule.of(RetryPredicate.ofAlwaysTrue(), RetryAction.ofScheduledRetry(3, Duration.ofMillis(10))));
+        AsyncRetrySupervisor.of(retryRules, config).close();
+        try (final Service service = new Failing2TimesServiceImpl()) {
+            try(final AsyncRetrySupervisor supervisor = AsyncRetrySupervisor.of(retryRules, config)) {
+                final CompletionStage<Integer> bar = supervisor.supervise(service, service::apply, "bar");
+                assertThat(waitAndGet(bar)).isEqualTo(3);
+            }
+        }
+    }
+
+    @Test
+    public void retryBudgetLimitsRetries() throws Exception {
+        final RetryBudget retryBudget = RetryBudget.of(0, 1);
+        final RetrySupervisorConfig config = RetrySupervisorConfigBuilder.of().retryBudget(retryBudget).build();
+        try (final Service service = new Failing2TimesServiceImpl()) {
+            final List<RetryRule> retryRules = singletonList(RetryRule.of(RetryPredicate.ofAlwaysTrue(), RetryAction.ofImmediateRetries(3)));
+            try(final AsyncRetrySupervisor supervisor = AsyncRetrySupervisor.of(retryRules, config)) {
+                final CompletionStage<Integer> bar = supervisor.supervise(service, service::apply, "bar");
+                final Throwable throwable = catchThrowable(() -> waitAndGet(bar));
+                assertThat(throwable.getCause()).hasMessage(Failing2TimesServiceImpl.ERROR_MESSAGE);
+                assertThat(retryBudget.getCalls()).isEqualTo(1);
+                assertThat(retryBudget.getRetries()).isEqualTo(1);
+                assertThat(retryBudget.getRejectedRetries()).isEqualTo(1);
+            }
+        }
+    }
+
+    @Test
+    public void retryAfterDelaysTheRetry() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        try (final Service service = new ServiceImpl()) {
+            final List<RetryRule> retryRules = singletonList(RetryRule.of(RetryPredicate.ofAlwaysTrue(), RetryAction.ofImmediateRetries(1)));
+            try(final AsyncRetrySupervisor supervisor = AsyncRetrySupervisor.of(retryRules)) {
+                final long start = System.nanoTime();
+                final CompletionStage<Integer> bar = supervisor.supervise(service, s -> calls.incrementAndGet() == 1
+                        ? CompletableFutureUtils.failed(serviceUnavailable("1")) : CompletableFuture.completedFuture(3), "bar");
+                assertThat(waitAndGet(bar)).isEqualTo(3);
+                assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+            }
+        }
+    }
+
+    @Test
+    public void giveUpIfRetryAfterIsTooLong() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final RetrySupervisorConfig config = RetrySupervisorConfigBuilder.of().maxRetryAfter(Duration.ofSeconds(30)).build();
+        try (final Service service = new ServiceImpl()) {
+            final List<RetryRule> retryRules = singletonList(RetryRule.of(RetryPredicate.ofAlwaysTrue(), RetryAction.ofImmediateRetries(3)));
+            try(final AsyncRetrySupervisor supervisor = AsyncRetrySupervisor.of(retryRules, config)) {
+                final CompletionStage<Integer> bar = supervisor.supervise(service, s -> {
+                    calls.incrementAndGet();
+                    return CompletableFutureUtils.failed(serviceUnavailable("120"));
+                }, "bar");
+                final Throwable throwable = catchThrowable(() -> waitAndGet(bar));
+                assertThat(throwable.getCause()).isInstanceOf(ServiceUnavailableException.class);
+                assertThat(calls.get()).isEqualTo(1);
+            }
+        }
+    }
+
+    private static ServiceUnavailableException serviceUnavailable(final String retryAfter) {
+        final ServiceUnavailableException exception = new ServiceUnavailableException();
+        exception.setUnderlyingHttpResponse(HttpResponse.of(503, HttpHeaders.of("Retry-After", retryAfter)));
+        return exception;
+    }
+
     private Integer waitAndGet(final CompletionStage<Integer> bar) {
         return bar.toCompletableFuture().join();
     }
@@ -0,0 +1,28 @@
+package io.sphere.sdk.retry;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RetryActionTest {
+
+    @Test
+    public void fullJitterStaysBelowTheExponentialBackoff() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            assertThat(RetryAction.calculateDurationWithFullJitter(1, 100, 1000).toMillis()).isBetween(0L, 100L);
+            assertThat(RetryAction.calculateDurationWithFullJitter(3, 100, 1000).toMillis()).isBetween(0L, 400L);
+            assertThat(RetryAction.calculateDurationWithFullJitter(10, 100, 1000).toMillis()).isBetween(0L, 1000L);
+        }
+    }
+
+    @Test
+    public void decorrelatedJitterGrowsWithThePreviousDelay() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            assertThat(RetryAction.calculateDurationWithDecorrelatedJitter(Duration.ZERO, 100, 1000).toMillis()).isBetween(100L, 300L);
+            assertThat(RetryAction.calculateDurationWithDecorrelatedJitter(Duration.ofMillis(250), 100, 1000).toMillis()).isBetween(100L, 750L);
+            assertThat(RetryAction.calculateDurationWithDecorrelatedJitter(Duration.ofMillis(900), 100, 1000).toMillis()).isBetween(100L, 1000L);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.sphere.sdk.retry;
+
+import io.sphere.sdk.client.ServiceUnavailableException;
+import io.sphere.sdk.http.HttpHeaders;
+import io.sphere.sdk.http.HttpResponse;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RetryAfterTest {
+    private static final Instant NOW = Instant.parse("2015-10-21T07:28:00Z");
+
+    @Test
+    public void seconds() throws Exception {
+        assertThat(RetryAfter.of(withRetryAfter("120"), NOW)).isEqualTo(Duration.ofMinutes(2));
+    }
+
+    @Test
+    public void httpDate() throws Exception {
+        assertThat(RetryAfter.of(withRetryAfter("Wed, 21 Oct 2015 07:28:30 GMT"), NOW)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(RetryAfter.of(withRetryAfter("Wed, 21 Oct 2015 07:27:00 GMT"), NOW)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void missingOrInvalidHeader() throws Exception {
+        assertThat(RetryAfter.of(withRetryAfter("soon"), NOW)).isNull();
+        assertThat(RetryAfter.of(new ServiceUnavailableException(), NOW)).isNull();
+        assertThat(RetryAfter.of(new ServiceException(), NOW)).isNull();
+    }
+
+    private static ServiceUnavailableException withRetryAfter(final String value) {
+        final ServiceUnavailableException exception = new ServiceUnavailableException();
+        exception.setUnderlyingHttpResponse(HttpResponse.of(503, HttpHeaders.of("Retry-After", value)));
+        return exception;
+    }
+}
@@ -0,0 +1,28 @@
+package io.sphere.sdk.utils;
+
+import org.junit.Test;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SharedSchedulerTest {
+
+    @Test
+    public void schedulesTasks() throws Exception {
+        final String result = SharedScheduler.getInstance().schedule(() -> "done", 1, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS);
+
+        assertThat(result).isEqualTo("done");
+    }
+
+    @Test
+    public void cannotBeShutDown() throws Exception {
+        final ScheduledExecutorService scheduler = SharedScheduler.getInstance();
+
+        assertThatThrownBy(() -> scheduler.shutdown()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> scheduler.shutdownNow()).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(scheduler.isShutdown()).isFalse();
+    }
+}
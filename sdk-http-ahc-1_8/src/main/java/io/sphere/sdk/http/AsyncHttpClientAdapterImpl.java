@@ -26,12 +26,18 @@ final class AsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
         userAgent = new AsyncHttpClientConfig.Builder().build().getUserAgent();
     }
 
+    AsyncHttpClientAdapterImpl(final AsyncHttpClient asyncHttpClient, final Executor executor) {
+        super(executor);
+        this.asyncHttpClient = asyncHttpClient;
+        userAgent = new AsyncHttpClientConfig.Builder().build().getUserAgent();
+    }
+
     @Override
     protected CompletionStage<HttpResponse> executeDelegate(final HttpRequest httpRequest) {
         final Request request = asAhcRequest(httpRequest);
         try {
             final CompletionStage<Response> future = wrap(asyncHttpClient.executeRequest(request));
-            return future.thenApplyAsync(response -> convert(httpRequest, response), threadPool());
+            return future.thenApplyAsync(response -> convert(httpRequest, response), executor());
         } catch (final IOException e) {
             final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
             future.completeExceptionally(new HttpException(e));
@@ -67,7 +73,7 @@ final class AsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
                 .setUrl(request.getUrl())
                 .setMethod(request.getHttpMethod().toString());
 
-        request.getHeaders().getHeadersAsMap().forEach((name, values) -> values.forEach(value -> builder.addHeader(name, value)));
+        request.getHeaders().forEach(builder::addHeader);
 
         Optional.ofNullable(request.getBody()).ifPresent(body -> {
             if (body instanceof StringHttpRequestBody) {
@@ -120,6 +126,6 @@ final class AsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
     }
 
     private CompletionStage<Response> wrap(final ListenableFuture<Response> listenableFuture) {
-        return wrap(listenableFuture, threadPool());
+        return wrap(listenableFuture, executor());
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package io.sphere.sdk.http;
 
 import com.ning.http.client.*;
 
+import java.util.concurrent.Executor;
+
 /**
  * Adapter to use {@code AsyncHttpClient} (version 1.9.x) as {@code HttpClient}.
  */
@@ -10,4 +12,16 @@ public interface AsyncHttpClientAdapter extends HttpClient {
     static HttpClient of(final AsyncHttpClient asyncHttpClient) {
         return new DefaultAsyncHttpClientAdapterImpl(asyncHttpClient);
     }
+
+    /**
+     * Creates an adapter which converts the responses with {@code executor} instead of the thread pool shared by all adapters.
+     * The executor is not shut down by closing the adapter.
+     *
+     * @param asyncHttpClient the underlying client
+     * @param executor the executor to convert the responses
+     * @return http client
+     */
+    static HttpClient of(final AsyncHttpClient asyncHttpClient, final Executor executor) {
+        return new DefaultAsyncHttpClientAdapterImpl(asyncHttpClient, executor);
+    }
 }
\ No newline at end of file
@@ -9,12 +9,11 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Executor;
 
 final class DefaultAsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpClient.class);
     private final AsyncHttpClient asyncHttpClient;
-    private final ForkJoinPool threadPool = new ForkJoinPool();
     private String userAgent;
 
     DefaultAsyncHttpClientAdapterImpl(final AsyncHttpClient asyncHttpClient) {
@@ -22,6 +21,12 @@ final class DefaultAsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
         userAgent = new AsyncHttpClientConfig.Builder().build().getUserAgent();
     }
 
+    DefaultAsyncHttpClientAdapterImpl(final AsyncHttpClient asyncHttpClient, final Executor executor) {
+        super(executor);
+        this.asyncHttpClient = asyncHttpClient;
+        userAgent = new AsyncHttpClientConfig.Builder().build().getUserAgent();
+    }
+
     @Override
     protected CompletableFuture<HttpResponse> executeDelegate(final HttpRequest httpRequest) {
         if (LOGGER.isTraceEnabled()) {
@@ -57,7 +62,7 @@ final class DefaultAsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
                 LOGGER.debug("response " + httpResponse);
             }
             return httpResponse;
-        }, threadPool);
+        }, executor());
     }
 
     private byte[] getResponseBodyAsBytes(final Response response) {
@@ -74,7 +79,7 @@ final class DefaultAsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
                 .setUrl(request.getUrl())
                 .setMethod(request.getHttpMethod().toString());
 
-        request.getHeaders().getHeadersAsMap().forEach((name, values) -> values.forEach(value -> builder.addHeader(name, value)));
+        request.getHeaders().forEach(builder::addHeader);
 
         Optional.ofNullable(request.getBody()).ifPresent(body -> {
             if (body instanceof StringHttpRequestBody) {
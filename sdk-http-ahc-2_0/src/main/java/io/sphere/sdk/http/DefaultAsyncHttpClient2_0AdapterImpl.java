@@ -6,6 +6,7 @@ import javax.annotation.Nullable;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 final class DefaultAsyncHttpClient2_0AdapterImpl extends HttpClientAdapterBase {
     private final AsyncHttpClient asyncHttpClient;
@@ -16,12 +17,18 @@ final class DefaultAsyncHttpClient2_0AdapterImpl extends HttpClientAdapterBase {
         userAgent = new DefaultAsyncHttpClientConfig.Builder().build().getUserAgent();
     }
 
+    DefaultAsyncHttpClient2_0AdapterImpl(final AsyncHttpClient asyncHttpClient, final Executor executor) {
+        super(executor);
+        this.asyncHttpClient = asyncHttpClient;
+        userAgent = new DefaultAsyncHttpClientConfig.Builder().build().getUserAgent();
+    }
+
     @Override
     protected CompletionStage<HttpResponse> executeDelegate(final HttpRequest httpRequest) {
         final Request request = asAhcRequest(httpRequest);
         final CompletableFuture<Response> future = new CompletableFuture<>();
         asyncHttpClient.executeRequest(request, new ResponseAsyncCompletionHandler(future));
-        return future.thenApplyAsync(response -> convert(httpRequest, response), threadPool());
+        return future.thenApplyAsync(response -> convert(httpRequest, response), executor());
     }
 
     private HttpResponse convert(final HttpRequest httpRequest, final Response response) {
@@ -41,7 +48,7 @@ final class DefaultAsyncHttpClient2_0AdapterImpl extends HttpClientAdapterBase {
                 .setUrl(request.getUrl())
                 .setMethod(request.getHttpMethod().toString());
 
-        request.getHeaders().getHeadersAsMap().forEach((name, values) -> values.forEach(value -> builder.addHeader(name, value)));
+        request.getHeaders().forEach(builder::addHeader);
 
         Optional.ofNullable(request.getBody()).ifPresent(body -> {
             if (body instanceof StringHttpRequestBody) {
@@ -2,6 +2,9 @@ package io.sphere.sdk.http;
 
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
 /**
  * Adapter to use a {@link CloseableHttpAsyncClient} as {@link HttpClient}.
  *
@@ -12,4 +15,64 @@ public interface ApacheHttpClientAdapter extends HttpClient {
     static HttpClient of(final CloseableHttpAsyncClient client) {
         return ApacheHttpClientAdapterImpl.of(client);
     }
+
+    /**
+     * Creates an adapter which optionally does not buffer the decoded response body.
+     * If {@code streamResponseBody} is true the responses provide the body via {@link HttpResponse#getResponseBodyAsStream()}
+     * and a gzipped body is decompressed while it is received and provided from its chunks instead of being copied into one byte array.
+     *
+     * @param client the Apache client to use
+     * @param streamResponseBody true to create streaming responses
+     * @return http client
+     */
+    static HttpClient of(final CloseableHttpAsyncClient client, final boolean streamResponseBody) {
+        return ApacheHttpClientAdapterImpl.of(client, streamResponseBody);
+    }
+
+    /**
+     * Creates an adapter which converts the responses with {@code executor} instead of the thread pool shared by all adapters.
+     * The executor is not shut down by closing the adapter.
+     *
+     * @param client the Apache client to use
+     * @param executor the executor to convert the responses
+     * @return http client
+     */
+    static HttpClient of(final CloseableHttpAsyncClient client, final Executor executor) {
+        return ApacheHttpClientAdapterImpl.of(client, executor);
+    }
+
+    /**
+     * Creates an Apache client tuned for the API: one pool for all connections to the API host, the configured number of
+     * I/O threads and eviction of idle connections. With {@link ApacheHttpClientConfig#isHttp2()} the requests are multiplexed
+     * over a single HTTP/2 connection per host.
+     *
+     * <pre>{@code final ApacheHttpClientAdapter httpClient = ApacheHttpClientAdapter.of(ApacheHttpClientConfigBuilder.of()
+     *         .maxConnections(128)
+     *         .build());
+     * final ApacheHttpClientPoolStatistics statistics = httpClient.getPoolStatistics().get();}</pre>
+     *
+     * @param config the settings of the client
+     * @return http client
+     */
+    static ApacheHttpClientAdapter of(final ApacheHttpClientConfig config) {
+        return ApacheHttpClientAdapterImpl.of(config);
+    }
+
+    /**
+     * Creates an Apache client like {@link #of(ApacheHttpClientConfig)} which converts the responses with {@code executor}.
+     *
+     * @param config the settings of the client
+     * @param executor the executor to convert the responses, it is not shut down by closing the adapter
+     * @return http client
+     */
+    static ApacheHttpClientAdapter of(final ApacheHttpClientConfig config, final Executor executor) {
+        return ApacheHttpClientAdapterImpl.of(config, executor);
+    }
+
+    /**
+     * Provides the connection usage of HTTP/1.1 clients created with {@link #of(ApacheHttpClientConfig)}.
+     *
+     * @return statistics or empty if the Apache client has been created outside of the SDK or uses HTTP/2
+     */
+    Optional<ApacheHttpClientPoolStatistics> getPoolStatistics();
 }
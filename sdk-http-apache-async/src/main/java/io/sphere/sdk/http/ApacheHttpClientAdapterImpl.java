@@ -1,45 +1,104 @@
 package io.sphere.sdk.http;
 
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.io.input.AutoCloseInputStream;
-import org.apache.hc.client5.http.async.methods.*;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 import org.apache.hc.core5.http.nio.AsyncRequestProducer;
 import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
 import org.apache.hc.core5.http.nio.support.AsyncRequestBuilder;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
 import org.apache.hc.core5.net.WWWFormCodec;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.reactor.IOReactorConfig;
 import org.apache.hc.core5.reactor.IOReactorStatus;
+import org.apache.hc.core5.util.TimeValue;
 
 import javax.annotation.Nullable;
-import java.io.*;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.function.Function;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPInputStream;
 
-import static java.util.Arrays.asList;
-
-final class ApacheHttpClientAdapterImpl extends HttpClientAdapterBase {
+final class ApacheHttpClientAdapterImpl extends HttpClientAdapterBase implements ApacheHttpClientAdapter {
     private final CloseableHttpAsyncClient apacheHttpClient;
+    private final boolean streamResponseBody;
+    @Nullable
+    private final PoolingAsyncClientConnectionManager connectionManager;
 
-    private ApacheHttpClientAdapterImpl(final CloseableHttpAsyncClient apacheHttpClient) {
+    private ApacheHttpClientAdapterImpl(final CloseableHttpAsyncClient apacheHttpClient, final boolean streamResponseBody,
+                                        @Nullable final PoolingAsyncClientConnectionManager connectionManager, @Nullable final Executor executor) {
+        super(executor);
         this.apacheHttpClient = apacheHttpClient;
+        this.streamResponseBody = streamResponseBody;
+        this.connectionManager = connectionManager;
         if (!(apacheHttpClient.getStatus() == IOReactorStatus.ACTIVE)) {
             apacheHttpClient.start();
         }
     }
 
     public static HttpClient of(final CloseableHttpAsyncClient client) {
-        return new ApacheHttpClientAdapterImpl(client);
+        return of(client, false);
+    }
+
+    public static HttpClient of(final CloseableHttpAsyncClient client, final boolean streamResponseBody) {
+        return new ApacheHttpClientAdapterImpl(client, streamResponseBody, null, null);
+    }
+
+    public static HttpClient of(final CloseableHttpAsyncClient client, final Executor executor) {
+        return new ApacheHttpClientAdapterImpl(client, false, null, executor);
+    }
+
+    public static ApacheHttpClientAdapter of(final ApacheHttpClientConfig config) {
+        return of(config, null);
+    }
+
+    public static ApacheHttpClientAdapter of(final ApacheHttpClientConfig config, @Nullable final Executor executor) {
+        final IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+                .setIoThreadCount(config.getIoThreads())
+                .setTcpNoDelay(true)
+                .build();
+        final TimeValue maxIdleTime = TimeValue.ofMilliseconds(config.getMaxIdleTime().toMillis());
+        if (config.isHttp2()) {
+            final CloseableHttpAsyncClient client = HttpAsyncClients.customHttp2()
+                    .setIOReactorConfig(ioReactorConfig)
+                    .evictIdleConnections(maxIdleTime)
+                    .disableCookieManagement()
+                    .build();
+            return new ApacheHttpClientAdapterImpl(client, config.isStreamResponseBody(), null, executor);
+        }
+        final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(config.getMaxConnections())
+                .setMaxConnPerRoute(config.getMaxConnections())
+                .setConnectionTimeToLive(TimeValue.ofMilliseconds(config.getConnectionTimeToLive().toMillis()))
+                .build();
+        final CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setIOReactorConfig(ioReactorConfig)
+                .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+                .evictIdleConnections(maxIdleTime)
+                .evictExpiredConnections()
+                .disableCookieManagement()
+                .build();
+        return new ApacheHttpClientAdapterImpl(client, config.isStreamResponseBody(), connectionManager, executor);
+    }
+
+    @Override
+    public Optional<ApacheHttpClientPoolStatistics> getPoolStatistics() {
+        if (connectionManager != null) {
+            final PoolStats stats = connectionManager.getTotalStats();
+            return Optional.of(new ApacheHttpClientPoolStatistics(stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax()));
+        }
+        //HTTP/2 clients have no connection pool with statistics
+        return Optional.empty();
     }
 
     @Override
@@ -49,42 +108,23 @@ final class ApacheHttpClientAdapterImpl extends HttpClientAdapterBase {
 
     @Override
     protected CompletionStage<HttpResponse> executeDelegate(final HttpRequest httpRequest) throws Throwable {
-        final CompletableFuture<SimpleHttpResponse> apacheResponseFuture = new CompletableFuture<>();
-        apacheHttpClient.execute(toApacheRequest(httpRequest), SimpleResponseConsumer.create(), new CompletableFutureCallbackAdapter<>(apacheResponseFuture));
-        return apacheResponseFuture.thenApply(apacheResponse -> convertApacheToSphereResponse(apacheResponse, httpRequest));
+        final CompletableFuture<InflatingResponseConsumer.DecodedResponse> apacheResponseFuture = new CompletableFuture<>();
+        apacheHttpClient.execute(toApacheRequest(httpRequest), new InflatingResponseConsumer(), new CompletableFutureCallbackAdapter<>(apacheResponseFuture));
+        return apacheResponseFuture.thenApplyAsync(apacheResponse -> convertApacheToSphereResponse(apacheResponse, httpRequest), executor());
     }
 
-    private HttpResponse convertApacheToSphereResponse(final SimpleHttpResponse apacheResponse, final HttpRequest httpRequest) {
-
-        final byte[] bodyNullable = Optional.ofNullable(apacheResponse.getBody())
-                .map((SimpleBody entity) -> {
-                    try {
-                        final boolean gzipEncoded =
-                                Optional.ofNullable(apacheResponse.getFirstHeader(HttpHeaders.CONTENT_ENCODING))
-                                .map(Header::getValue)
-                                .map(v -> v.equalsIgnoreCase("gzip"))
-                                .orElse(false);
-                        final InputStream body = new ByteArrayInputStream(entity.getBodyBytes());
-                        final InputStream content = gzipEncoded ? new GZIPInputStream(body): body;
-                        final AutoCloseInputStream autoCloseInputStream = new AutoCloseInputStream(content);
-                        final byte[] bytes = IOUtils.toByteArray(autoCloseInputStream);
-                        return bytes;
-                    } catch (final IOException e) {
-                        throw new HttpException(e);
-                    }
-                }).orElse(null);
-        final Integer statusCode = apacheResponse.getCode();
-        final Map<String, List<Header>> apacheHeaders = Arrays.stream(apacheResponse.getHeaders())
-                                                              .collect(Collectors.groupingBy(Header::getName));
-        final Function<Map.Entry<String, List<Header>>, String> keyMapper = e -> e.getKey();
-        final Map<String, List<String>> headers = apacheHeaders.entrySet().stream()
-                .collect(Collectors.toMap(
-                                keyMapper,
-                        e -> e.getValue().stream().map(Header::getValue).collect(Collectors.toList())
-                        )
-                );
-
-        return HttpResponse.of(statusCode, bodyNullable, httpRequest, HttpHeaders.of(headers));
+    private HttpResponse convertApacheToSphereResponse(final InflatingResponseConsumer.DecodedResponse apacheResponse, final HttpRequest httpRequest) {
+        final Integer statusCode = apacheResponse.getResponse().getCode();
+        final Header[] apacheHeaders = apacheResponse.getResponse().getHeaders();
+        final List<NameValuePair> headers = new ArrayList<>(apacheHeaders.length);
+        for (final Header header : apacheHeaders) {
+            headers.add(NameValuePair.of(header.getName(), header.getValue()));
+        }
+        final ResponseBodyBuffer body = apacheResponse.getBody();
+        if (streamResponseBody) {
+            return HttpResponse.ofStreaming(statusCode, body != null ? body.toInputStream() : null, httpRequest, HttpHeaders.of(headers));
+        }
+        return HttpResponse.of(statusCode, body != null ? body.toByteArray() : null, httpRequest, HttpHeaders.of(headers));
     }
 
     private AsyncRequestProducer toApacheRequest(final HttpRequest httpRequest) {
@@ -92,7 +132,7 @@ final class ApacheHttpClientAdapterImpl extends HttpClientAdapterBase {
         final String uri = httpRequest.getUrl();
         final AsyncRequestBuilder builder = AsyncRequestBuilder.create(method);
         builder.setUri(uri);
-        httpRequest.getHeaders().getHeadersAsMap().forEach((name, values) -> values.forEach(value -> builder.addHeader(name, value)));
+        httpRequest.getHeaders().forEach(builder::addHeader);
 
         if (httpRequest.getBody() != null) {
             final HttpRequestBody body = httpRequest.getBody();
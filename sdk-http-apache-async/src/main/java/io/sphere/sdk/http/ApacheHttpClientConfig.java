@@ -0,0 +1,76 @@
+package io.sphere.sdk.http;
+
+import java.time.Duration;
+
+/**
+ * Settings of the connections, the I/O reactor and the HTTP protocol of an Apache client created by {@link ApacheHttpClientAdapter#of(ApacheHttpClientConfig)}.
+ *
+ * @see ApacheHttpClientConfigBuilder
+ */
+public final class ApacheHttpClientConfig extends Base {
+    private final int maxConnections;
+    private final int ioThreads;
+    private final Duration maxIdleTime;
+    private final Duration connectionTimeToLive;
+    private final boolean http2;
+    private final boolean streamResponseBody;
+
+    ApacheHttpClientConfig(final int maxConnections, final int ioThreads, final Duration maxIdleTime, final Duration connectionTimeToLive,
+                           final boolean http2, final boolean streamResponseBody) {
+        this.maxConnections = maxConnections;
+        this.ioThreads = ioThreads;
+        this.maxIdleTime = maxIdleTime;
+        this.connectionTimeToLive = connectionTimeToLive;
+        this.http2 = http2;
+        this.streamResponseBody = streamResponseBody;
+    }
+
+    /**
+     * Creates the default configuration, see {@link ApacheHttpClientConfigBuilder} for the values.
+     *
+     * @return config
+     */
+    public static ApacheHttpClientConfig of() {
+        return ApacheHttpClientConfigBuilder.of().build();
+    }
+
+    /**
+     * Maximum number of HTTP/1.1 connections. All of them can be used for the same host, since the SDK talks to one API host.
+     *
+     * @return maximum number of connections
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public int getIoThreads() {
+        return ioThreads;
+    }
+
+    /**
+     * Time after which an unused connection is closed.
+     *
+     * @return maximum idle time
+     */
+    public Duration getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    /**
+     * Time after which a connection is not reused anymore, so that new API hosts from DNS changes are picked up.
+     * Only applies to HTTP/1.1 connections.
+     *
+     * @return time to live of a connection
+     */
+    public Duration getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public boolean isStreamResponseBody() {
+        return streamResponseBody;
+    }
+}
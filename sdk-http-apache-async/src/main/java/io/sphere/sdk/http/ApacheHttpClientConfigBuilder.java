@@ -0,0 +1,111 @@
+package io.sphere.sdk.http;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Builds {@link ApacheHttpClientConfig} instances.
+ *
+ * <pre>{@code final HttpClient httpClient = ApacheHttpClientAdapter.of(ApacheHttpClientConfigBuilder.of()
+ *         .maxConnections(128)
+ *         .ioThreads(4)
+ *         .build());}</pre>
+ */
+public final class ApacheHttpClientConfigBuilder extends Base {
+    public static final int DEFAULT_MAX_CONNECTIONS = 64;
+    public static final Duration DEFAULT_MAX_IDLE_TIME = Duration.ofSeconds(60);
+    public static final Duration DEFAULT_CONNECTION_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+    private int ioThreads = Runtime.getRuntime().availableProcessors();
+    private Duration maxIdleTime = DEFAULT_MAX_IDLE_TIME;
+    private Duration connectionTimeToLive = DEFAULT_CONNECTION_TIME_TO_LIVE;
+    private boolean http2 = false;
+    private boolean streamResponseBody = false;
+
+    private ApacheHttpClientConfigBuilder() {
+    }
+
+    public static ApacheHttpClientConfigBuilder of() {
+        return new ApacheHttpClientConfigBuilder();
+    }
+
+    /**
+     * Sets the size of the HTTP/1.1 connection pool. Requests which do not get a connection wait in the pool until one is released.
+     *
+     * @param maxConnections the maximum number of connections, {@value #DEFAULT_MAX_CONNECTIONS} by default
+     * @return this builder
+     */
+    public ApacheHttpClientConfigBuilder maxConnections(final int maxConnections) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("maxConnections must be positive but was " + maxConnections);
+        }
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads of the I/O reactor which read and write the sockets.
+     *
+     * @param ioThreads the number of I/O threads, the number of available processors by default
+     * @return this builder
+     */
+    public ApacheHttpClientConfigBuilder ioThreads(final int ioThreads) {
+        if (ioThreads < 1) {
+            throw new IllegalArgumentException("ioThreads must be positive but was " + ioThreads);
+        }
+        this.ioThreads = ioThreads;
+        return this;
+    }
+
+    /**
+     * Sets the time after which an unused connection is evicted by a background thread of the client.
+     *
+     * @param maxIdleTime the maximum idle time, 60 seconds by default
+     * @return this builder
+     */
+    public ApacheHttpClientConfigBuilder maxIdleTime(final Duration maxIdleTime) {
+        this.maxIdleTime = Objects.requireNonNull(maxIdleTime, "maxIdleTime");
+        return this;
+    }
+
+    /**
+     * Sets the time after which an HTTP/1.1 connection is closed instead of being reused.
+     *
+     * @param connectionTimeToLive the time to live, 5 minutes by default
+     * @return this builder
+     */
+    public ApacheHttpClientConfigBuilder connectionTimeToLive(final Duration connectionTimeToLive) {
+        this.connectionTimeToLive = Objects.requireNonNull(connectionTimeToLive, "connectionTimeToLive");
+        return this;
+    }
+
+    /**
+     * Uses HTTP/2 and multiplexes all requests to a host over one TLS connection instead of using a connection pool.
+     * The number of concurrent requests is limited by the SETTINGS_MAX_CONCURRENT_STREAMS value the server announces,
+     * to limit it further on the client side use a {@code QueueSphereClientDecorator}.
+     * HTTP/2 needs ALPN support of the JVM which is available since Java 8u252.
+     *
+     * @param http2 true to use HTTP/2, false by default
+     * @return this builder
+     */
+    public ApacheHttpClientConfigBuilder http2(final boolean http2) {
+        this.http2 = http2;
+        return this;
+    }
+
+    /**
+     * Creates streaming responses, see {@link ApacheHttpClientAdapter#of(org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient, boolean)}.
+     *
+     * @param streamResponseBody true to create streaming responses, false by default
+     * @return this builder
+     */
+    public ApacheHttpClientConfigBuilder streamResponseBody(final boolean streamResponseBody) {
+        this.streamResponseBody = streamResponseBody;
+        return this;
+    }
+
+    public ApacheHttpClientConfig build() {
+        return new ApacheHttpClientConfig(maxConnections, ioThreads, maxIdleTime, connectionTimeToLive, http2, streamResponseBody);
+    }
+}
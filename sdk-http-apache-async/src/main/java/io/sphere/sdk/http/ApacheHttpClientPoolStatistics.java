@@ -0,0 +1,49 @@
+package io.sphere.sdk.http;
+
+/**
+ * Snapshot of the connection pool of an HTTP/1.1 Apache client created by {@link ApacheHttpClientAdapter#of(ApacheHttpClientConfig)}.
+ */
+public final class ApacheHttpClientPoolStatistics extends Base {
+    private final int leased;
+    private final int pending;
+    private final int available;
+    private final int max;
+
+    ApacheHttpClientPoolStatistics(final int leased, final int pending, final int available, final int max) {
+        this.leased = leased;
+        this.pending = pending;
+        this.available = available;
+        this.max = max;
+    }
+
+    /**
+     * Number of connections currently used by a request.
+     *
+     * @return leased connections
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * Number of requests waiting for a connection.
+     *
+     * @return pending requests
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * Number of idle connections which can be reused.
+     *
+     * @return available connections
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    public int getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,224 @@
+package io.sphere.sdk.http;
+
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Decompresses a gzip stream which arrives in arbitrary pieces, like the network buffers of a response.
+ * Unlike {@link java.util.zip.GZIPInputStream} it is fed with the data instead of pulling it, so the compressed body does not need to be buffered.
+ *
+ * <p>Decoders are pooled, since an {@link Inflater} holds native memory. A decoder is not thread-safe and must be used by one response at a time.</p>
+ */
+final class GzipDecoder {
+    static final int INPUT_BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_POOLED_DECODERS = 64;
+    private static final Queue<GzipDecoder> pool = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger pooledDecoders = new AtomicInteger();
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private static final int FIXED_HEADER = 0;
+    private static final int EXTRA_LENGTH = 1;
+    private static final int EXTRA = 2;
+    private static final int NAME = 3;
+    private static final int COMMENT = 4;
+    private static final int HEADER_CRC = 5;
+    private static final int DATA = 6;
+    private static final int TRAILER = 7;
+    private static final int DONE = 8;
+
+    private final Inflater inflater = new Inflater(true);
+    private final CRC32 crc = new CRC32();
+    private final byte[] input = new byte[INPUT_BUFFER_SIZE];
+    private final byte[] trailer = new byte[8];
+    private int state;
+    private int count;
+    private int flags;
+    private int extraLength;
+
+    private GzipDecoder() {
+    }
+
+    static GzipDecoder acquire() {
+        final GzipDecoder decoder = pool.poll();
+        if (decoder != null) {
+            pooledDecoders.decrementAndGet();
+            return decoder;
+        }
+        return new GzipDecoder();
+    }
+
+    /**
+     * Resets this decoder and returns it to the pool. It must not be used anymore afterwards.
+     */
+    void release() {
+        reset();
+        if (pooledDecoders.incrementAndGet() <= MAX_POOLED_DECODERS) {
+            pool.offer(this);
+        } else {
+            pooledDecoders.decrementAndGet();
+            inflater.end();
+        }
+    }
+
+    /**
+     * Decompresses all bytes of {@code src} into {@code out}. Bytes after the first gzip member are ignored like {@link java.util.zip.GZIPInputStream} ignores trailing garbage.
+     *
+     * @param src the next piece of the compressed stream
+     * @param out the buffer for the decompressed bytes
+     * @throws ZipException if the data is not a valid gzip stream
+     */
+    void decode(final ByteBuffer src, final ResponseBodyBuffer out) throws ZipException {
+        while (src.hasRemaining()) {
+            if (state == DATA) {
+                inflate(src, out);
+            } else if (state == TRAILER) {
+                trailer[count++] = src.get();
+                if (count == trailer.length) {
+                    verifyTrailer();
+                    state = DONE;
+                }
+            } else if (state == DONE) {
+                src.position(src.limit());
+            } else {
+                readHeader(src.get() & 0xff);
+            }
+        }
+    }
+
+    /**
+     * Checks that the stream is complete.
+     *
+     * @throws EOFException if the stream ended before the trailer of the last member
+     */
+    void finish() throws EOFException {
+        if (state != DONE) {
+            throw new EOFException("Unexpected end of the gzip response body");
+        }
+    }
+
+    private void inflate(final ByteBuffer src, final ResponseBodyBuffer out) throws ZipException {
+        final int length = Math.min(src.remaining(), input.length);
+        if (src.hasArray()) {
+            inflater.setInput(src.array(), src.arrayOffset() + src.position(), length);
+            src.position(src.position() + length);
+        } else {
+            src.get(input, 0, length);
+            inflater.setInput(input, 0, length);
+        }
+        try {
+            while (!inflater.finished() && !inflater.needsInput()) {
+                final byte[] chunk = out.writableChunk();
+                final int offset = out.writePosition();
+                final int inflated = inflater.inflate(chunk, offset, chunk.length - offset);
+                if (inflated == 0 && inflater.needsDictionary()) {
+                    throw new ZipException("The gzip response body requires a preset dictionary");
+                }
+                crc.update(chunk, offset, inflated);
+                out.advance(inflated);
+            }
+        } catch (final DataFormatException e) {
+            throw new ZipException(e.getMessage());
+        }
+        if (inflater.finished()) {
+            src.position(src.position() - inflater.getRemaining());
+            state = TRAILER;
+            count = 0;
+        }
+    }
+
+    private void readHeader(final int b) throws ZipException {
+        switch (state) {
+            case FIXED_HEADER:
+                if ((count == 0 && b != 0x1f) || (count == 1 && b != 0x8b) || (count == 2 && b != Deflater.DEFLATED)) {
+                    throw new ZipException("Not in gzip format");
+                }
+                if (count == 3) {
+                    flags = b;
+                }
+                if (++count == 10) {
+                    count = 0;
+                    state = (flags & FEXTRA) != 0 ? EXTRA_LENGTH : afterExtra();
+                }
+                break;
+            case EXTRA_LENGTH:
+                extraLength |= b << (8 * count);
+                if (++count == 2) {
+                    count = 0;
+                    state = extraLength > 0 ? EXTRA : afterExtra();
+                }
+                break;
+            case EXTRA:
+                if (--extraLength == 0) {
+                    state = afterExtra();
+                }
+                break;
+            case NAME:
+                if (b == 0) {
+                    state = afterName();
+                }
+                break;
+            case COMMENT:
+                if (b == 0) {
+                    state = afterComment();
+                }
+                break;
+            case HEADER_CRC:
+                if (++count == 2) {
+                    count = 0;
+                    state = DATA;
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unexpected state " + state);
+        }
+    }
+
+    private int afterExtra() {
+        return (flags & FNAME) != 0 ? NAME : afterName();
+    }
+
+    private int afterName() {
+        return (flags & FCOMMENT) != 0 ? COMMENT : afterComment();
+    }
+
+    private int afterComment() {
+        return (flags & FHCRC) != 0 ? HEADER_CRC : DATA;
+    }
+
+    private void verifyTrailer() throws ZipException {
+        if (readUnsignedInt(0) != crc.getValue()) {
+            throw new ZipException("Corrupt gzip trailer, the CRC32 does not match");
+        }
+        if (readUnsignedInt(4) != (inflater.getBytesWritten() & 0xffffffffL)) {
+            throw new ZipException("Corrupt gzip trailer, the size does not match");
+        }
+    }
+
+    private long readUnsignedInt(final int offset) {
+        return (trailer[offset] & 0xffL)
+                | (trailer[offset + 1] & 0xffL) << 8
+                | (trailer[offset + 2] & 0xffL) << 16
+                | (trailer[offset + 3] & 0xffL) << 24;
+    }
+
+    private void reset() {
+        inflater.reset();
+        crc.reset();
+        state = FIXED_HEADER;
+        count = 0;
+        flags = 0;
+        extraLength = 0;
+    }
+}
@@ -0,0 +1,108 @@
+package io.sphere.sdk.http;
+
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Consumes a response and decompresses a gzip encoded body while the network buffers arrive.
+ * In contrast to {@link org.apache.hc.client5.http.async.methods.SimpleResponseConsumer} the compressed body is never buffered
+ * and the decompressed body is collected in chunks without copying it when the buffer grows.
+ */
+final class InflatingResponseConsumer implements AsyncResponseConsumer<InflatingResponseConsumer.DecodedResponse> {
+    private org.apache.hc.core5.http.HttpResponse response;
+    private FutureCallback<DecodedResponse> resultCallback;
+    @Nullable
+    private ResponseBodyBuffer body;
+    @Nullable
+    private GzipDecoder gzipDecoder;
+
+    @Override
+    public void consumeResponse(final org.apache.hc.core5.http.HttpResponse response, @Nullable final EntityDetails entityDetails,
+                                final HttpContext context, final FutureCallback<DecodedResponse> resultCallback) {
+        if (entityDetails == null) {
+            resultCallback.completed(new DecodedResponse(response, null));
+        } else {
+            final Header contentEncoding = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+            final boolean gzipEncoded = contentEncoding != null && "gzip".equalsIgnoreCase(contentEncoding.getValue());
+            synchronized (this) {
+                this.response = response;
+                this.resultCallback = resultCallback;
+                this.body = new ResponseBodyBuffer(gzipEncoded ? -1 : entityDetails.getContentLength());
+                this.gzipDecoder = gzipEncoded ? GzipDecoder.acquire() : null;
+            }
+        }
+    }
+
+    @Override
+    public void informationResponse(final org.apache.hc.core5.http.HttpResponse response, final HttpContext context) {
+    }
+
+    @Override
+    public void updateCapacity(final CapacityChannel capacityChannel) throws IOException {
+        capacityChannel.update(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized void consume(final ByteBuffer src) throws IOException {
+        if (gzipDecoder != null) {
+            gzipDecoder.decode(src, body);
+        } else if (body != null) {
+            body.write(src);
+        }
+    }
+
+    @Override
+    public void streamEnd(final List<? extends Header> trailers) throws IOException {
+        final DecodedResponse result;
+        synchronized (this) {
+            if (gzipDecoder != null) {
+                gzipDecoder.finish();
+            }
+            result = new DecodedResponse(response, body);
+            releaseResources();
+        }
+        resultCallback.completed(result);
+    }
+
+    @Override
+    public void failed(final Exception cause) {
+        releaseResources();
+    }
+
+    @Override
+    public synchronized void releaseResources() {
+        if (gzipDecoder != null) {
+            gzipDecoder.release();
+            gzipDecoder = null;
+        }
+    }
+
+    static final class DecodedResponse {
+        private final org.apache.hc.core5.http.HttpResponse response;
+        @Nullable
+        private final ResponseBodyBuffer body;
+
+        private DecodedResponse(final org.apache.hc.core5.http.HttpResponse response, @Nullable final ResponseBodyBuffer body) {
+            this.response = response;
+            this.body = body;
+        }
+
+        org.apache.hc.core5.http.HttpResponse getResponse() {
+            return response;
+        }
+
+        @Nullable
+        ResponseBodyBuffer getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.sphere.sdk.http;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects a response body in chunks, so that growing the buffer does not copy the bytes received so far.
+ * The chunks grow with the body up to {@value #MAX_CHUNK_SIZE} bytes.
+ */
+final class ResponseBodyBuffer {
+    static final int MIN_CHUNK_SIZE = 8 * 1024;
+    static final int MAX_CHUNK_SIZE = 1024 * 1024;
+    private static final int MAX_PREALLOCATED_SIZE = 16 * 1024 * 1024;
+
+    private final List<byte[]> chunks = new ArrayList<>();
+    private byte[] current;
+    private int position;
+    private int size;
+
+    /**
+     * Creates a buffer.
+     *
+     * @param expectedSize the size of the body if known, for example from the Content-Length header, otherwise a negative value
+     */
+    ResponseBodyBuffer(final long expectedSize) {
+        current = new byte[expectedSize >= 0 ? (int) Math.min(expectedSize, MAX_PREALLOCATED_SIZE) : MIN_CHUNK_SIZE];
+        chunks.add(current);
+    }
+
+    void write(final ByteBuffer src) {
+        while (src.hasRemaining()) {
+            final byte[] chunk = writableChunk();
+            final int length = Math.min(src.remaining(), chunk.length - position);
+            src.get(chunk, position, length);
+            advance(length);
+        }
+    }
+
+    /**
+     * Provides the chunk to write into directly, it has free space from {@link #writePosition()} on.
+     *
+     * @return the current chunk
+     */
+    byte[] writableChunk() {
+        if (position == current.length) {
+            current = new byte[Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, size))];
+            chunks.add(current);
+            position = 0;
+        }
+        return current;
+    }
+
+    int writePosition() {
+        return position;
+    }
+
+    void advance(final int length) {
+        position += length;
+        size += length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Provides the body as one array. If the body fits exactly into the first chunk, which is the case if the Content-Length was known,
+     * the chunk is returned without copying it.
+     *
+     * @return the body
+     */
+    byte[] toByteArray() {
+        if (chunks.size() == 1 && position == current.length) {
+            return current;
+        }
+        final byte[] result = new byte[size];
+        int offset = 0;
+        for (final byte[] chunk : chunks) {
+            final int length = Math.min(chunk.length, size - offset);
+            System.arraycopy(chunk, 0, result, offset, length);
+            offset += length;
+        }
+        return result;
+    }
+
+    InputStream toInputStream() {
+        return new ChunkInputStream();
+    }
+
+    private final class ChunkInputStream extends InputStream {
+        private int chunkIndex;
+        private int chunkPosition;
+        private int remaining = size;
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            final byte[] chunk = nextReadableChunk();
+            remaining--;
+            return chunk[chunkPosition++] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining == 0) {
+                return -1;
+            }
+            final byte[] chunk = nextReadableChunk();
+            final int length = Math.min(len, Math.min(remaining, chunk.length - chunkPosition));
+            System.arraycopy(chunk, chunkPosition, b, off, length);
+            chunkPosition += length;
+            remaining -= length;
+            return length;
+        }
+
+        @Override
+        public long skip(final long n) {
+            long skipped = 0;
+            while (skipped < n && remaining > 0) {
+                final byte[] chunk = nextReadableChunk();
+                final int length = (int) Math.min(n - skipped, Math.min(remaining, chunk.length - chunkPosition));
+                chunkPosition += length;
+                remaining -= length;
+                skipped += length;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return remaining;
+        }
+
+        private byte[] nextReadableChunk() {
+            byte[] chunk = chunks.get(chunkIndex);
+            if (chunkPosition == chunk.length) {
+                chunkIndex++;
+                chunkPosition = 0;
+                chunk = chunks.get(chunkIndex);
+            }
+            return chunk;
+        }
+    }
+}
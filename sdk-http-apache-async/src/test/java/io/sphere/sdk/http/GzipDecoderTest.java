@@ -0,0 +1,148 @@
+package io.sphere.sdk.http;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class GzipDecoderTest {
+    private final Random random = new Random(42);
+
+    @Test
+    public void decodesSmallPiecesOfHeapBuffers() throws Exception {
+        final byte[] content = jsonLikeContent(200_000);
+
+        final ResponseBodyBuffer out = decode(gzip(content), 7, false);
+
+        assertThat(out.size()).isEqualTo(content.length);
+        assertThat(out.toByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    public void decodesLargePiecesOfDirectBuffers() throws Exception {
+        final byte[] content = jsonLikeContent(3_000_000);
+
+        final ResponseBodyBuffer out = decode(gzip(content), 64 * 1024, true);
+
+        assertThat(IOUtils.toByteArray(out.toInputStream())).isEqualTo(content);
+    }
+
+    @Test
+    public void skipsOptionalHeaderFields() throws Exception {
+        final byte[] content = jsonLikeContent(10_000);
+        final ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        gzip.write(new byte[]{0x1f, (byte) 0x8b, 8, 4 | 8 | 16 | 2, 0, 0, 0, 0, 0, (byte) 0xff});
+        gzip.write(new byte[]{3, 0, 'a', 'b', 'c'});
+        gzip.write("file.json\0".getBytes("UTF-8"));
+        gzip.write("a comment\0".getBytes("UTF-8"));
+        gzip.write(new byte[]{0, 0});
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try (final DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(gzip, deflater) {
+            @Override
+            public void close() throws java.io.IOException {
+                finish();
+            }
+        }) {
+            deflaterOutputStream.write(content);
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(content);
+        writeInt(gzip, (int) crc.getValue());
+        writeInt(gzip, content.length);
+
+        final ResponseBodyBuffer out = decode(gzip.toByteArray(), 3, false);
+
+        assertThat(out.toByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    public void detectsCorruptTrailer() throws Exception {
+        final byte[] gzip = gzip(jsonLikeContent(1000));
+        gzip[gzip.length - 8] ^= 1;
+
+        final Throwable throwable = catchThrowable(() -> decode(gzip, 100, false));
+
+        assertThat(throwable).isInstanceOf(ZipException.class);
+    }
+
+    @Test
+    public void detectsTruncatedStream() throws Exception {
+        final byte[] gzip = gzip(jsonLikeContent(1000));
+        final GzipDecoder decoder = GzipDecoder.acquire();
+        try {
+            decoder.decode(ByteBuffer.wrap(gzip, 0, gzip.length - 4), new ResponseBodyBuffer(-1));
+
+            assertThat(catchThrowable(decoder::finish)).isInstanceOf(EOFException.class);
+        } finally {
+            decoder.release();
+        }
+    }
+
+    @Test
+    public void rejectsPlainContent() throws Exception {
+        final Throwable throwable = catchThrowable(() -> decode("{}".getBytes("UTF-8"), 100, false));
+
+        assertThat(throwable).isInstanceOf(ZipException.class);
+    }
+
+    @Test
+    public void pooledDecoderCanBeReused() throws Exception {
+        final byte[] first = jsonLikeContent(5000);
+        final byte[] second = jsonLikeContent(7000);
+
+        assertThat(decode(gzip(first), 1000, false).toByteArray()).isEqualTo(first);
+        assertThat(decode(gzip(second), 1000, false).toByteArray()).isEqualTo(second);
+    }
+
+    private static ResponseBodyBuffer decode(final byte[] gzip, final int pieceSize, final boolean direct) throws Exception {
+        final ResponseBodyBuffer out = new ResponseBodyBuffer(-1);
+        final GzipDecoder decoder = GzipDecoder.acquire();
+        try {
+            for (int offset = 0; offset < gzip.length; offset += pieceSize) {
+                final int length = Math.min(pieceSize, gzip.length - offset);
+                final ByteBuffer piece = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+                piece.put(gzip, offset, length).flip();
+                decoder.decode(piece, out);
+                assertThat(piece.hasRemaining()).isFalse();
+            }
+            decoder.finish();
+        } finally {
+            decoder.release();
+        }
+        return out;
+    }
+
+    private byte[] jsonLikeContent(final int size) {
+        final StringBuilder builder = new StringBuilder(size);
+        while (builder.length() < size) {
+            builder.append("{\"id\":\"").append(random.nextLong()).append("\",\"version\":").append(random.nextInt(100)).append("},");
+        }
+        return builder.substring(0, size).getBytes();
+    }
+
+    private static byte[] gzip(final byte[] content) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(out)) {
+            gzipOutputStream.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeInt(final ByteArrayOutputStream out, final int value) {
+        out.write(value);
+        out.write(value >> 8);
+        out.write(value >> 16);
+        out.write(value >> 24);
+    }
+}
@@ -7,20 +7,37 @@ import javax.annotation.Nullable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 
 /**
  * Base class for implementing {@link HttpClient}s.
  *
+ * Work which should not run on the I/O threads of the underlying client, like converting responses, is executed
+ * with {@link #executor()}, so the futures returned by {@link #execute(HttpRequest)} complete in its threads.
+ * By default all adapters share one thread pool, so creating several clients does not create several pools.
  */
 public abstract class HttpClientAdapterBase extends Base implements HttpClient {
     protected static final Logger logger = LoggerFactory.getLogger(HttpClient.class);
-    private final ForkJoinPool threadPool = new ForkJoinPool();
+    private final Executor executor;
+
+    protected HttpClientAdapterBase() {
+        this(SharedThreadPoolHolder.THREAD_POOL);
+    }
+
+    /**
+     * Creates an adapter which uses the given executor instead of the shared thread pool.
+     * The executor is not shut down by {@link #close()}.
+     *
+     * @param executor the executor to convert responses or null to use the shared thread pool
+     */
+    protected HttpClientAdapterBase(@Nullable final Executor executor) {
+        this.executor = executor != null ? executor : SharedThreadPoolHolder.THREAD_POOL;
+    }
 
     @Override
     public final void close() {
         try {
-            threadPool.shutdown();
             closeDelegate();
         } catch (final Throwable e) {
             throw new HttpException(e);
@@ -71,11 +88,37 @@ public abstract class HttpClientAdapterBase extends Base implements HttpClient {
 
     protected abstract void closeDelegate() throws Throwable;
 
+    protected final Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Checks if the futures returned by {@link #execute(HttpRequest)} complete in the threads of the given executor.
+     * This relies on subclasses converting the responses with {@link #executor()}, as all adapters of the SDK do.
+     *
+     * @param executor the executor to check
+     * @return true if this adapter converts the responses with the given executor
+     */
+    public final boolean completesIn(final Executor executor) {
+        return this.executor == executor;
+    }
+
+    /**
+     * Gets the shared thread pool of the adapters.
+     *
+     * @return the executor of this adapter if it is a {@link ForkJoinPool}, otherwise the shared pool
+     * @deprecated use {@link #executor()} which also respects an executor passed to {@link #HttpClientAdapterBase(Executor)}
+     */
+    @Deprecated
     protected final ForkJoinPool threadPool() {
-        return threadPool;
+        return executor instanceof ForkJoinPool ? (ForkJoinPool) executor : SharedThreadPoolHolder.THREAD_POOL;
     }
 
     @Nullable
     @Override
     public abstract String getUserAgent();
+
+    private static final class SharedThreadPoolHolder {
+        private static final ForkJoinPool THREAD_POOL = new ForkJoinPool();
+    }
 }
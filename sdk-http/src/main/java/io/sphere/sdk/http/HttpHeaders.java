@@ -1,10 +1,9 @@
 package io.sphere.sdk.http;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 import static java.util.Collections.emptyList;
-import static java.util.Collections.unmodifiableList;
-import static java.util.stream.Collectors.toList;
 
 public final class HttpHeaders extends Base {
     public static final String ACCEPT_ENCODING = "Accept-Encoding";
@@ -15,27 +14,34 @@ public final class HttpHeaders extends Base {
     public static final String CONTENT_LENGTH = "Content-Length";
     public static final String X_CORRELATION_ID = "X-Correlation-ID";
 
-    private final List<NameValuePair> data;
+    private static final String[] NO_HEADERS = new String[0];
 
-    private HttpHeaders(final List<NameValuePair> data) {
-        this.data = unmodifiableList(data);
+    /**
+     * The names and values in alternating order, so the headers can be iterated and extended without creating
+     * intermediate objects.
+     */
+    private final String[] namesAndValues;
+
+    private HttpHeaders(final String[] namesAndValues) {
+        this.namesAndValues = namesAndValues;
     }
 
     public static HttpHeaders of(final List<NameValuePair> headers) {
-        return new HttpHeaders(headers);
+        final String[] namesAndValues = new String[headers.size() * 2];
+        int i = 0;
+        for (final NameValuePair header : headers) {
+            namesAndValues[i++] = header.getName();
+            namesAndValues[i++] = header.getValue();
+        }
+        return new HttpHeaders(namesAndValues);
     }
 
     public static HttpHeaders of(final Map<String, List<String>> headers) {
-        return new HttpHeaders(NameValuePair.convertStringListMapToList(headers));
+        return of(NameValuePair.convertStringListMapToList(headers));
     }
 
     public static HttpHeaders of(final String key, final String value) {
-        final NameValuePair nameValuePair = NameValuePair.of(key, value);
-        return of(nameValuePair);
-    }
-
-    private static HttpHeaders of(final NameValuePair nameValuePair) {
-        return new HttpHeaders(Collections.singletonList(nameValuePair));
+        return new HttpHeaders(new String[]{key, value});
     }
 
     public static HttpHeaders empty() {
@@ -43,7 +49,7 @@ public final class HttpHeaders extends Base {
     }
 
     public static HttpHeaders of() {
-        return new HttpHeaders(emptyList());
+        return new HttpHeaders(NO_HEADERS);
     }
 
     /**
@@ -52,10 +58,16 @@ public final class HttpHeaders extends Base {
      * @return empty or filled list of header values
      */
     public List<String> getHeader(final String key) {
-        return data.stream()
-                .filter(entry -> entry.getName().equalsIgnoreCase(key))
-                .map(entry -> entry.getValue())
-                .collect(toList());
+        List<String> values = emptyList();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            if (namesAndValues[i].equalsIgnoreCase(key)) {
+                if (values.isEmpty()) {
+                    values = new ArrayList<>(1);
+                }
+                values.add(namesAndValues[i + 1]);
+            }
+        }
+        return values;
     }
 
     /**
@@ -64,18 +76,56 @@ public final class HttpHeaders extends Base {
      * @return the header value as optional
      */
     public Optional<String> findFlatHeader(final String key) {
-        return getHeader(key).stream().findFirst();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            if (namesAndValues[i].equalsIgnoreCase(key)) {
+                return Optional.ofNullable(namesAndValues[i + 1]);
+            }
+        }
+        return Optional.empty();
     }
 
     public Map<String, List<String>> getHeadersAsMap() {
-        return NameValuePair.convertToStringListMap(data);
+        final Map<String, List<String>> map = new HashMap<>();
+        forEach((name, value) -> map.computeIfAbsent(name, key -> new LinkedList<>()).add(value));
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Passes every header in the order of their addition to the action, a header with multiple values is passed once per value.
+     * Other than {@link #getHeadersAsMap()} this does not create a copy of the headers.
+     * @param action consumer for the name and the value of a header
+     */
+    public void forEach(final BiConsumer<String, String> action) {
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            action.accept(namesAndValues[i], namesAndValues[i + 1]);
+        }
+    }
+
+    public boolean isEmpty() {
+        return namesAndValues.length == 0;
     }
 
     public HttpHeaders plus(final String key, final String value) {
-        final List<NameValuePair> list = new ArrayList<>(data.size() + 1);
-        list.addAll(data);
-        list.add(NameValuePair.of(key, value));
-        return HttpHeaders.of(list);
+        final String[] extended = Arrays.copyOf(namesAndValues, namesAndValues.length + 2);
+        extended[namesAndValues.length] = key;
+        extended[namesAndValues.length + 1] = value;
+        return new HttpHeaders(extended);
+    }
+
+    /**
+     * Creates headers containing these headers followed by the given ones.
+     * @param headers the headers to add
+     * @return headers with the values of both
+     */
+    public HttpHeaders plusAll(final HttpHeaders headers) {
+        if (headers.isEmpty()) {
+            return this;
+        } else if (isEmpty()) {
+            return headers;
+        }
+        final String[] extended = Arrays.copyOf(namesAndValues, namesAndValues.length + headers.namesAndValues.length);
+        System.arraycopy(headers.namesAndValues, 0, extended, namesAndValues.length, headers.namesAndValues.length);
+        return new HttpHeaders(extended);
     }
 
     @Override
@@ -89,9 +139,12 @@ public final class HttpHeaders extends Base {
     }
 
     public static HttpHeaders ofMapEntryList(final List<Map.Entry<String, String>> entries) {
-        final List<NameValuePair> nameValuePairList = entries.stream()
-                .map(element -> NameValuePair.of(element.getKey(), element.getValue()))
-                .collect(toList());
-        return HttpHeaders.of(nameValuePairList);
+        final String[] namesAndValues = new String[entries.size() * 2];
+        int i = 0;
+        for (final Map.Entry<String, String> entry : entries) {
+            namesAndValues[i++] = entry.getKey();
+            namesAndValues[i++] = entry.getValue();
+        }
+        return new HttpHeaders(namesAndValues);
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package io.sphere.sdk.http;
 
 import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
@@ -15,6 +17,37 @@ public interface HttpResponse {
     @Nullable
     byte[] getResponseBody();
 
+    /**
+     * Provides the response body as stream. For responses created with {@link #ofStreaming(Integer, InputStream, HttpRequest, HttpHeaders)}
+     * the underlying stream is handed out directly so the body does not need to be buffered in memory.
+     *
+     * @return the body as stream or null if there is no body
+     */
+    @Nullable
+    default InputStream getResponseBodyAsStream() {
+        final byte[] responseBody = getResponseBody();
+        return responseBody != null ? new ByteArrayInputStream(responseBody) : null;
+    }
+
+    /**
+     * Checks if this response has a body without the need to buffer it.
+     *
+     * @return true if a body is present
+     */
+    default boolean hasResponseBody() {
+        return getResponseBody() != null;
+    }
+
+    /**
+     * Checks if the body is provided as stream which has not been buffered, so {@link #getResponseBodyAsStream()} should be preferred
+     * over {@link #getResponseBody()}.
+     *
+     * @return true if the body has not been buffered so far
+     */
+    default boolean isStreaming() {
+        return false;
+    }
+
     @Nullable
     HttpRequest getAssociatedRequest();
 
@@ -70,6 +103,20 @@ public interface HttpResponse {
         return new HttpResponseImpl(status, body, associatedRequest, Optional.ofNullable(headers).orElseGet(() -> HttpHeaders.of()));
     }
 
+    /**
+     * Creates a response which reads its body from an {@link InputStream} on demand.
+     * The stream can be consumed only once, either by {@link #getResponseBodyAsStream()} or by buffering it with {@link #getResponseBody()}.
+     *
+     * @param status the http status code
+     * @param body the stream providing the already decoded body or null if there is no body
+     * @param associatedRequest the request which caused the response
+     * @param headers the response headers
+     * @return response
+     */
+    static HttpResponse ofStreaming(@Nullable final Integer status, @Nullable final InputStream body, @Nullable final HttpRequest associatedRequest, @Nullable final HttpHeaders headers) {
+        return new StreamingHttpResponseImpl(status, body, associatedRequest, Optional.ofNullable(headers).orElseGet(() -> HttpHeaders.of()));
+    }
+
     default HttpResponse withoutRequest() {
         return HttpResponse.of(getStatusCode(), getResponseBody(), null, getHeaders());
     }
@@ -61,20 +61,23 @@ class HttpResponseImpl extends Base implements HttpResponse {
         return actualResponseCodeAsString.startsWith(firstNumberAsString);
     }
 
-    @Override
-    public String toString() {
+    static String textInterpretedBody(@Nullable final byte[] responseBody) {
         String textInterpretedBody = "";
         try {
             textInterpretedBody = Optional.ofNullable(responseBody).map(b -> StringHttpRequestBody.tryToFilter(new String(b, StandardCharsets.UTF_8))).orElse("empty body");
         } catch (final Exception e) {
             textInterpretedBody = "not parseable: " + e;
         }
+        return textInterpretedBody;
+    }
 
+    @Override
+    public String toString() {
         return new ToStringBuilder(this)
                 .append("statusCode", statusCode)
                 .append("headers", headers)
                 .append("associatedRequest", associatedRequest)
-                .append("textInterpretedBody", textInterpretedBody)
+                .append("textInterpretedBody", textInterpretedBody(responseBody))
                 .toString();
     }
 
@@ -0,0 +1,120 @@
+package io.sphere.sdk.http;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Response which keeps the body as stream until it is consumed, so it can be deserialized without buffering it completely.
+ */
+final class StreamingHttpResponseImpl extends Base implements HttpResponse {
+    private static final int BUFFER_SIZE = 8192;
+    @Nullable
+    private final Integer statusCode;
+    private final HttpHeaders headers;
+    @Nullable
+    private final HttpRequest associatedRequest;
+    @Nullable
+    private InputStream responseBodyStream;
+    @Nullable
+    private byte[] responseBody;
+    private final boolean bodyPresent;
+
+    StreamingHttpResponseImpl(@Nullable final Integer statusCode, @Nullable final InputStream responseBodyStream, @Nullable final HttpRequest associatedRequest, final HttpHeaders headers) {
+        this.statusCode = statusCode;
+        this.responseBodyStream = responseBodyStream;
+        this.associatedRequest = associatedRequest;
+        this.headers = headers;
+        this.bodyPresent = responseBodyStream != null;
+    }
+
+    @Nullable
+    @Override
+    public Integer getStatusCode() {
+        return statusCode;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Buffers the body if the stream has not been consumed so far.
+     *
+     * @return the body or null if there is no body or the stream has already been consumed by {@link #getResponseBodyAsStream()}
+     */
+    @Nullable
+    @Override
+    public synchronized byte[] getResponseBody() {
+        if (responseBody == null && responseBodyStream != null) {
+            responseBody = readFully(responseBodyStream);
+            responseBodyStream = null;
+        }
+        return responseBody;
+    }
+
+    @Nullable
+    @Override
+    public synchronized InputStream getResponseBodyAsStream() {
+        final InputStream result;
+        if (responseBody != null) {
+            result = new ByteArrayInputStream(responseBody);
+        } else if (responseBodyStream != null) {
+            result = responseBodyStream;
+            responseBodyStream = null;
+        } else if (bodyPresent) {
+            throw new HttpException("The response body stream has already been consumed.");
+        } else {
+            result = null;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean hasResponseBody() {
+        return bodyPresent;
+    }
+
+    @Override
+    public synchronized boolean isStreaming() {
+        return bodyPresent && responseBody == null;
+    }
+
+    @Nullable
+    @Override
+    public HttpRequest getAssociatedRequest() {
+        return associatedRequest;
+    }
+
+    private static byte[] readFully(final InputStream inputStream) {
+        try (final InputStream in = inputStream) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(BUFFER_SIZE);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (final IOException e) {
+            throw new HttpException(e);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        final String textInterpretedBody = responseBody != null
+                ? HttpResponseImpl.textInterpretedBody(responseBody)
+                : (bodyPresent ? "streamed body" : "empty body");
+        return new ToStringBuilder(this)
+                .append("statusCode", statusCode)
+                .append("headers", headers)
+                .append("associatedRequest", associatedRequest)
+                .append("textInterpretedBody", textInterpretedBody)
+                .toString();
+    }
+}
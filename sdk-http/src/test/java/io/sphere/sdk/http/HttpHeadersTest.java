@@ -0,0 +1,50 @@
+package io.sphere.sdk.http;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpHeadersTest {
+    private final HttpHeaders headers = HttpHeaders.of("Accept", "application/json")
+            .plus("X-Foo", "a")
+            .plus("x-foo", "b");
+
+    @Test
+    public void findsHeadersIgnoringTheCase() throws Exception {
+        assertThat(headers.getHeader("X-FOO")).containsExactly("a", "b");
+        assertThat(headers.findFlatHeader("accept")).contains("application/json");
+        assertThat(headers.findFlatHeader("Authorization")).isEmpty();
+        assertThat(headers.getHeader("Authorization")).isEmpty();
+    }
+
+    @Test
+    public void forEachKeepsTheOrder() throws Exception {
+        final List<String> visited = new ArrayList<>();
+        headers.plusAll(HttpHeaders.of("Authorization", "Bearer token"))
+                .forEach((name, value) -> visited.add(name + ": " + value));
+
+        assertThat(visited).containsExactly("Accept: application/json", "X-Foo: a", "x-foo: b", "Authorization: Bearer token");
+    }
+
+    @Test
+    public void plusAllWithEmptyHeadersReturnsTheOtherHeaders() throws Exception {
+        assertThat(HttpHeaders.empty().plusAll(headers)).isSameAs(headers);
+        assertThat(headers.plusAll(HttpHeaders.of())).isSameAs(headers);
+        assertThat(HttpHeaders.of().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void equalsAndConversions() throws Exception {
+        final HttpHeaders fromPairs = HttpHeaders.of(asList(NameValuePair.of("Accept", "application/json"),
+                NameValuePair.of("X-Foo", "a"), NameValuePair.of("x-foo", "b")));
+
+        assertThat(fromPairs).isEqualTo(headers);
+        assertThat(fromPairs.hashCode()).isEqualTo(headers.hashCode());
+        assertThat(headers.getHeadersAsMap()).containsEntry("X-Foo", asList("a"));
+        assertThat(HttpHeaders.of("Authorization", "Bearer secret").toString()).doesNotContain("secret");
+    }
+}
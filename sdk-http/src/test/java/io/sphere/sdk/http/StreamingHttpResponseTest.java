@@ -0,0 +1,61 @@
+package io.sphere.sdk.http;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link HttpResponse#ofStreaming(Integer, InputStream, HttpRequest, HttpHeaders)}.
+ */
+public class StreamingHttpResponseTest {
+    private static final String BODY = "{\"id\":\"foo\"}";
+
+    @Test
+    public void streamIsHandedOutDirectly() throws Exception {
+        final InputStream body = stream(BODY);
+        final HttpResponse httpResponse = HttpResponse.ofStreaming(200, body, null, null);
+
+        assertThat(httpResponse.hasResponseBody()).isTrue();
+        assertThat(httpResponse.isStreaming()).isTrue();
+        assertThat(httpResponse.getResponseBodyAsStream()).isSameAs(body);
+    }
+
+    @Test
+    public void streamCanBeConsumedOnlyOnce() throws Exception {
+        final HttpResponse httpResponse = HttpResponse.ofStreaming(200, stream(BODY), null, null);
+        httpResponse.getResponseBodyAsStream();
+
+        assertThat(httpResponse.getResponseBody()).isNull();
+        assertThatThrownBy(() -> httpResponse.getResponseBodyAsStream()).isInstanceOf(HttpException.class);
+    }
+
+    @Test
+    public void bufferingKeepsTheBodyReadable() throws Exception {
+        final HttpResponse httpResponse = HttpResponse.ofStreaming(400, stream(BODY), null, null);
+
+        assertThat(new String(httpResponse.getResponseBody(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(httpResponse.isStreaming()).isFalse();
+        assertThat(IOUtils.toString(httpResponse.getResponseBodyAsStream(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(httpResponse.toString()).contains(BODY);
+    }
+
+    @Test
+    public void noBody() throws Exception {
+        final HttpResponse httpResponse = HttpResponse.ofStreaming(204, null, null, null);
+
+        assertThat(httpResponse.hasResponseBody()).isFalse();
+        assertThat(httpResponse.isStreaming()).isFalse();
+        assertThat(httpResponse.getResponseBodyAsStream()).isNull();
+        assertThat(httpResponse.getResponseBody()).isNull();
+    }
+
+    private static InputStream stream(final String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+}